@@ -5,16 +5,21 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.common.date.dto.DateResDto;
 import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindow;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindowRegistry;
 
 @Service
 @RequiredArgsConstructor
 public class QueryDateService {
 
     private final ScheduleEnvironment scheduleEnv;
+    private final ScheduleWindowRegistry scheduleWindowRegistry;
 
+    // 원서접수 기간은 Redis에서 바꾼 값이 있으면 그 값을 응답하여 요청 필터가 허용하는 기간과 맞춤
     public DateResDto execute() {
-        return DateResDto.builder().oneseoSubmissionStart(scheduleEnv.oneseoSubmissionStart())
-                .oneseoSubmissionEnd(scheduleEnv.oneseoSubmissionEnd())
+        ScheduleWindow oneseoSubmission = scheduleWindowRegistry.find(ScheduleWindowRegistry.ONESEO_SUBMISSION);
+        return DateResDto.builder().oneseoSubmissionStart(oneseoSubmission.startTime())
+                .oneseoSubmissionEnd(oneseoSubmission.endTime())
                 .firstResultsAnnouncement(scheduleEnv.firstResultsAnnouncement())
                 .competencyEvaluation(scheduleEnv.competencyEvaluation()).inDepthInterview(scheduleEnv.interview())
                 .finalResultsAnnouncement(scheduleEnv.finalResultsAnnouncement()).build();
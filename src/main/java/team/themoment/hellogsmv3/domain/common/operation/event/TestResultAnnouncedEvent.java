@@ -0,0 +1,11 @@
+package team.themoment.hellogsmv3.domain.common.operation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
+
+@Getter
+@AllArgsConstructor
+public class TestResultAnnouncedEvent {
+    private AnnouncementRound round;
+}
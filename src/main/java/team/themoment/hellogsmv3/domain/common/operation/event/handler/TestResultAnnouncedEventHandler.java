@@ -0,0 +1,28 @@
+package team.themoment.hellogsmv3.domain.common.operation.event.handler;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.common.operation.event.TestResultAnnouncedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.service.AnnouncedResultService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestResultAnnouncedEventHandler {
+
+    private final AnnouncedResultService announcedResultService;
+
+    // 발표가 커밋된 뒤에 만들어 발표되지 않은 결과가 조회되지 않도록 하며, 만들지 못하면 결과 조회는 DB를 사용함
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publishResults(TestResultAnnouncedEvent testResultAnnouncedEvent) {
+        try {
+            announcedResultService.publish(testResultAnnouncedEvent.getRound());
+        } catch (Exception e) {
+            log.error("발표 결과를 만들지 못했습니다. round: {}", testResultAnnouncedEvent.getRound(), e);
+        }
+    }
+}
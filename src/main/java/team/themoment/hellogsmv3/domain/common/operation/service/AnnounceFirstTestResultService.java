@@ -4,13 +4,16 @@ import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.*;
 
 import java.time.LocalDateTime;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.event.TestResultAnnouncedEvent;
 import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
 import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
@@ -22,6 +25,7 @@ public class AnnounceFirstTestResultService {
     private final OperationTestResultRepository operationTestResultRepository;
     private final EntranceTestResultRepository entranceTestResultRepository;
     private final ScheduleEnvironment scheduleEnv;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public void execute() {
@@ -34,6 +38,7 @@ public class AnnounceFirstTestResultService {
         testResult.announceFirstTestResult();
 
         operationTestResultRepository.save(testResult);
+        applicationEventPublisher.publishEvent(new TestResultAnnouncedEvent(AnnouncementRound.FIRST));
     }
 
     private void validateFirstTestResultAnnouncementPeriod() {
@@ -5,13 +5,16 @@ import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
 
 import java.time.LocalDateTime;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.event.TestResultAnnouncedEvent;
 import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
 import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
@@ -23,6 +26,7 @@ public class AnnounceSecondTestResultService {
     private final OperationTestResultRepository operationTestResultRepository;
     private final EntranceTestResultRepository entranceTestResultRepository;
     private final ScheduleEnvironment scheduleEnv;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public void execute() {
@@ -35,6 +39,7 @@ public class AnnounceSecondTestResultService {
         testResult.announceSecondTestResult();
 
         operationTestResultRepository.save(testResult);
+        applicationEventPublisher.publishEvent(new TestResultAnnouncedEvent(AnnouncementRound.SECOND));
     }
 
     private void validateSecondTestResultAnnouncementPeriod() {
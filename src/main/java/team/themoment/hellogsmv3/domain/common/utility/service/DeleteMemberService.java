@@ -5,6 +5,7 @@ import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.ONES
 import java.util.Optional;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import team.themoment.hellogsmv3.domain.member.entity.type.AuthCodeType;
 import team.themoment.hellogsmv3.domain.member.repository.CodeRepository;
 import team.themoment.hellogsmv3.domain.member.repository.MemberRepository;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 
@@ -28,6 +30,7 @@ public class DeleteMemberService {
     private final MemberRepository memberRepository;
     private final OneseoRepository oneseoRepository;
     private final CodeRepository codeRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(rollbackFor = Exception.class)
     @CacheEvict(value = ONESEO_CACHE_VALUE, key = "#result")
@@ -37,6 +40,7 @@ public class DeleteMemberService {
         Long memberId = member.getId();
         Optional<Oneseo> oneseo = oneseoRepository.findByMember(member);
         oneseo.ifPresent(oneseoRepository::delete);
+        applicationEventPublisher.publishEvent(new OneseoChangedEvent(memberId));
         deleteAuthenticationCodes(memberId);
         memberRepository.delete(member);
         return memberId;
@@ -3,12 +3,14 @@ package team.themoment.hellogsmv3.domain.common.utility.service;
 import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.ONESEO_CACHE_VALUE;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 
@@ -18,6 +20,7 @@ import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 public class DeleteOneseoService {
 
     private final OneseoRepository oneseoRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(rollbackFor = Exception.class)
     @CacheEvict(value = ONESEO_CACHE_VALUE, key = "#result")
@@ -25,6 +28,7 @@ public class DeleteOneseoService {
         Long memberId = oneseoRepository.findMemberIdByOneseoSubmitCode(submitCode)
                 .orElseThrow(() -> new ExpectedException("해당 접수 번호에 해당하는 원서가 존재하지 않습니다.", HttpStatus.NOT_FOUND));
         oneseoRepository.deleteByOneseoSubmitCode(submitCode);
+        applicationEventPublisher.publishEvent(new OneseoChangedEvent(memberId));
         return memberId;
     }
 }
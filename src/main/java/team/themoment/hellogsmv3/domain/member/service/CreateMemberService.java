@@ -5,6 +5,7 @@ import static team.themoment.hellogsmv3.domain.member.entity.type.Role.*;
 
 import java.time.LocalDateTime;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,9 +16,10 @@ import team.themoment.hellogsmv3.domain.member.dto.request.CreateMemberReqDto;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
 import team.themoment.hellogsmv3.domain.member.entity.type.Role;
 import team.themoment.hellogsmv3.domain.member.repository.MemberRepository;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
 import team.themoment.hellogsmv3.domain.oneseo.repository.*;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
-import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindowRegistry;
 
 @Service
 @Slf4j
@@ -27,10 +29,11 @@ public class CreateMemberService {
     private final MemberRepository memberRepository;
     private final MemberService memberService;
     private final CommonCodeService commonCodeService;
-    private final ScheduleEnvironment scheduleEnv;
+    private final ScheduleWindowRegistry scheduleWindowRegistry;
 
     private final OneseoRepository oneseoRepository;
     private final EntranceTestResultRepository entranceTestResultRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public Role execute(CreateMemberReqDto reqDto, Long memberId) {
@@ -51,7 +54,10 @@ public class CreateMemberService {
     }
 
     private void ifDuplicateMemberDeleteMemberInfo(String phoneNumber) {
-        if (LocalDateTime.now().isAfter(scheduleEnv.oneseoSubmissionEnd())
+        // 원서접수 기간을 연장하면 요청 필터와 같은 종료 시각을 적용
+        LocalDateTime oneseoSubmissionEnd = scheduleWindowRegistry.find(ScheduleWindowRegistry.ONESEO_SUBMISSION)
+                .endTime();
+        if (LocalDateTime.now().isAfter(oneseoSubmissionEnd)
                 || entranceTestResultRepository.existsByFirstTestPassYnIsNotNull())
             throw new ExpectedException("원서접수 기간 이후에는 기존 회원정보를 삭제하고 회원가입할 수 없습니다.", HttpStatus.BAD_REQUEST);
 
@@ -63,7 +69,10 @@ public class CreateMemberService {
     }
 
     private void deleteCascadeOneseo(Member duplicateMember) {
-        oneseoRepository.findByMember(duplicateMember).ifPresent(oneseoRepository::delete);
+        oneseoRepository.findByMember(duplicateMember).ifPresent(oneseo -> {
+            oneseoRepository.delete(oneseo);
+            applicationEventPublisher.publishEvent(new OneseoChangedEvent(duplicateMember.getId()));
+        });
     }
 
     private void deleteMember(Member duplicateMember) {
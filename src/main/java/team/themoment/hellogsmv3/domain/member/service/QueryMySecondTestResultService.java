@@ -1,12 +1,18 @@
 package team.themoment.hellogsmv3.domain.member.service;
 
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
+
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.member.dto.response.FoundMemberSecondTestResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.AnnouncedResultDto;
 import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
+import team.themoment.hellogsmv3.domain.oneseo.service.AnnouncedResultService;
 import team.themoment.hellogsmv3.domain.oneseo.service.OneseoService;
 
 @Service
@@ -15,10 +21,15 @@ public class QueryMySecondTestResultService {
 
     private final MemberService memberService;
     private final OneseoService oneseoService;
+    private final AnnouncedResultService announcedResultService;
 
-    @Transactional(readOnly = true)
+    // 발표된 결과는 메모리에서 바로 반환하며, 트랜잭션을 열지 않아 DB 연결도 사용하지 않음
     public FoundMemberSecondTestResDto execute(Long memberId) {
-        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId);
+        Optional<AnnouncedResultDto> announced = announcedResultService.find(AnnouncementRound.SECOND, memberId);
+        if (announced.isPresent())
+            return new FoundMemberSecondTestResDto(announced.get().passYn(), announced.get().decidedMajor());
+
+        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
 
         // no content response status
         if (oneseoService.validateSecondTestResultAnnouncement())
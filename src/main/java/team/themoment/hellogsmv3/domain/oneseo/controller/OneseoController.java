@@ -1,23 +1,32 @@
 package team.themoment.hellogsmv3.domain.oneseo.controller;
 
-import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
-import org.apache.poi.ss.usermodel.Workbook;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.*;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.*;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportFormat;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportSheet;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
 import team.themoment.hellogsmv3.domain.oneseo.service.*;
@@ -36,6 +45,8 @@ import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 @RequiredArgsConstructor
 public class OneseoController {
 
+    private static final String NEXT_CHANGED_SINCE_HEADER = "X-Next-Changed-Since";
+
     private final CreateOneseoService createOneseoService;
     private final ModifyOneseoService modifyOneseoService;
     private final ModifyRealOneseoArrivedYnService modifyRealOneseoArrivedYnService;
@@ -44,11 +55,24 @@ public class OneseoController {
     private final QueryAdmissionTicketsService queryAdmissionTicketsService;
     private final DownloadExcelService downloadExcelService;
     private final SearchOneseoService searchOneseoService;
+    private final SearchOneseoByCursorService searchOneseoByCursorService;
+    private final OneseoFacetCountService oneseoFacetCountService;
     private final QueryOneseoByIdService queryOneseoByIdService;
     private final OneseoTempStorageService oneseoTempStorageService;
     private final ModifyEntranceIntentionService modifyEntranceIntentionService;
     private final QueryOneseoEditabilityService queryOneseoEditabilityService;
     private final UploadExcelService uploadExcelService;
+    private final QueryScoringStatusService queryScoringStatusService;
+    private final StartRescoringService startRescoringService;
+    private final ResumeRescoringService resumeRescoringService;
+    private final QueryRescoringJobService queryRescoringJobService;
+    private final AssignExaminationNumberService assignExaminationNumberService;
+    private final DecideFirstTestResultService decideFirstTestResultService;
+    private final DecideFinalTestResultService decideFinalTestResultService;
+    private final StartExportService startExportService;
+    private final QueryExportJobService queryExportJobService;
+    private final DownloadExportService downloadExportService;
+    private final ExportApplicantDataService exportApplicantDataService;
 
     @Operation(summary = "내 원서 등록", description = "원서를 등록합니다.")
     @PostMapping("/oneseo/me")
@@ -114,6 +138,44 @@ public class OneseoController {
         }
     }
 
+    @Operation(summary = "원서 커서 검색", description = "조건을 파라미터로 받아 원서를 최신 순으로 검색합니다. 응답의 nextCursor를 cursor로 넘기면 다음 원서부터 조회하며, 전체 개수는 withTotalCount가 true일 때만 계산하며, size는 최대 100입니다.")
+    @GetMapping("/oneseo/search/cursor")
+    public SearchOneseoCursorResDto searchByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam("size") Integer size,
+            @Schema(description = "합격, 불합격 여부", defaultValue = "ALL", allowableValues = {"ALL", "FIRST_PASS",
+                    "FINAL_PASS", "FALL"}) @RequestParam(name = "testResultTag") String testResultParam,
+            @Schema(description = "지원 전형", defaultValue = "GENERAL", allowableValues = {"GENERAL", "SPECIAL",
+                    "EXTRA"}) @RequestParam(name = "screeningTag", required = false) String screeningParam,
+            @Schema(description = "서류 제출 여부", defaultValue = "YES", allowableValues = {"YES",
+                    "NO"}) @RequestParam(name = "isSubmitted", required = false) String isSubmittedParam,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "withTotalCount", defaultValue = "false") boolean withTotalCount) {
+        if (size <= 0 || size > SearchOneseoByCursorService.MAX_SIZE) {
+            throw new ExpectedException("size는 1 이상 " + SearchOneseoByCursorService.MAX_SIZE + " 이하만 가능합니다",
+                    HttpStatus.BAD_REQUEST);
+        }
+
+        TestResultTag tag;
+        ScreeningCategory screeningCategory;
+        YesNo isSubmitted;
+        try {
+            tag = TestResultTag.valueOf(testResultParam);
+            screeningCategory = (screeningParam != null) ? ScreeningCategory.valueOf(screeningParam) : null;
+            isSubmitted = (isSubmittedParam != null) ? YesNo.valueOf(isSubmittedParam) : null;
+        } catch (IllegalArgumentException e) {
+            throw new ExpectedException("유효하지 않은 매개변수 값입니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        return searchOneseoByCursorService.execute(cursor, size, tag, screeningCategory, isSubmitted, keyword,
+                withTotalCount);
+    }
+
+    @Operation(summary = "원서 검색 집계 조회", description = "지원 전형, 서류 제출 여부, 합격 여부 조합별 원서 수를 조회합니다.")
+    @GetMapping("/oneseo/search/facets")
+    public OneseoFacetCountsResDto searchFacets() {
+        return oneseoFacetCountService.execute();
+    }
+
     @Operation(summary = "내 원서 조회", description = "내 원서 정보를 조회합니다. 임시 저장된 원서가 있다면 임시 저장된 원서를 조회합니다.")
     @GetMapping("/oneseo/me")
     public FoundOneseoResDto find(@AuthRequest Long memberId) {
@@ -126,17 +188,68 @@ public class OneseoController {
         return queryOneseoByIdService.execute(memberId);
     }
 
+    @Operation(summary = "내 성적 계산 상태 조회", description = "원서 제출/수정 후 성적 계산 진행 상태(PENDING, PROCESSING, DONE, FAILED)를 조회합니다.")
+    @GetMapping("/scoring-status/me")
+    public ScoringStatusResDto findScoringStatus(@AuthRequest Long memberId) {
+        return queryScoringStatusService.execute(memberId);
+    }
+
+    @Operation(summary = "성적 계산 상태 조회", description = "맴버 id로 성적 계산 진행 상태를 조회합니다.")
+    @GetMapping("/scoring-status/{memberId}")
+    public ScoringStatusResDto findScoringStatusByAdmin(@PathVariable Long memberId) {
+        return queryScoringStatusService.execute(memberId);
+    }
+
+    @Operation(summary = "전체 성적 재계산", description = "성적이 계산된 모든 원서의 성적을 다시 계산합니다. dryRun이면 점수를 바꾸지 않고 달라지는 원서만 기록합니다.")
+    @PostMapping("/rescoring")
+    public RescoringJobResDto startRescoring(@RequestParam(name = "dryRun", defaultValue = "true") boolean dryRun) {
+        return startRescoringService.execute(dryRun);
+    }
+
+    @Operation(summary = "성적 재계산 이어서 실행", description = "중단되거나 실패한 성적 재계산 작업을 마지막으로 처리한 원서 다음부터 이어서 실행합니다.")
+    @PostMapping("/rescoring/{rescoringJobId}/resume")
+    public RescoringJobResDto resumeRescoring(@PathVariable Long rescoringJobId) {
+        return resumeRescoringService.execute(rescoringJobId);
+    }
+
+    @Operation(summary = "성적 재계산 작업 조회", description = "성적 재계산 작업의 진행 상태와 처리량, 점수가 달라진 원서(최대 100건)를 조회합니다.")
+    @GetMapping("/rescoring/{rescoringJobId}")
+    public RescoringJobResDto findRescoringJob(@PathVariable Long rescoringJobId) {
+        return queryRescoringJobService.execute(rescoringJobId);
+    }
+
+    @Operation(summary = "1차 합격 여부 산출", description = "전형별 모집 인원과 동점 비교 기준으로 1차 합격 여부를 산출합니다. preview가 true면 저장하지 않고 전형별 합격선만 반환합니다.")
+    @PostMapping("/first-test-result")
+    public FirstTestDecisionResDto decideFirstTestResult(@RequestBody(required = false) FirstTestDecisionReqDto reqDto,
+            @RequestParam(name = "preview", defaultValue = "false") boolean preview) {
+        return decideFirstTestResultService.execute(reqDto, preview);
+    }
+
+    @Operation(summary = "최종 합격 여부 및 학과 배정", description = "1차 합격자를 전형별 최종 점수 순으로 선발하고, 최종 점수 순으로 1지망부터 정원이 남은 학과에 배정합니다. preview가 true면 저장하지 않습니다.")
+    @PostMapping("/final-test-result")
+    public FinalTestDecisionResDto decideFinalTestResult(@RequestBody(required = false) FinalTestDecisionReqDto reqDto,
+            @RequestParam(name = "preview", defaultValue = "false") boolean preview) {
+        return decideFinalTestResultService.execute(reqDto, preview);
+    }
+
+    @Operation(summary = "수험번호 발급", description = "1차 합격자 전체에 전형, 접수번호 순으로 수험번호를 다시 발급합니다.")
+    @PostMapping("/examination-number")
+    public AssignExaminationNumberResDto assignExaminationNumber() {
+        return assignExaminationNumberService.execute();
+    }
+
     @Operation(summary = "수험표 출력", description = "모든 원서의 수험표 정보를 반환합니다.")
     @GetMapping("/admission-tickets")
     public List<AdmissionTicketsResDto> getAdmissionTickets() {
         return queryAdmissionTicketsService.execute();
     }
 
-    @Operation(summary = "원서 임시 저장", description = "원서 정보를 임시 저장합니다.")
+    @Operation(summary = "원서 임시 저장", description = "원서 정보를 단계별로 임시 저장합니다. 변경된 단계의 내용만 보내도 되며, null로 보낸 필드는 이전에 저장한 값을 비웁니다.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(schema = @Schema(implementation = OneseoTempReqDto.class)))
     @PostMapping("/temp-storage")
-    public CommonApiResponse temp(@RequestBody @Valid OneseoTempReqDto reqDto, @RequestParam Integer step,
+    public CommonApiResponse temp(@RequestBody ObjectNode body, @RequestParam Integer step,
             @AuthRequest Long memberId) {
-        oneseoTempStorageService.execute(reqDto, step, memberId);
+        oneseoTempStorageService.execute(body, step, memberId);
         return CommonApiResponse.success("임시저장되었습니다.");
     }
 
@@ -149,17 +262,52 @@ public class OneseoController {
 
     @Operation(summary = "엑셀 출력", description = "모든 원서의 정보를 엑셀 파일로 반환합니다.")
     @GetMapping("/excel")
-    public void downloadExcel(HttpServletResponse response) {
-        Workbook workbook = downloadExcelService.execute();
-        try {
-            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet;charset=UTF-8");
-            response.setHeader("Content-Disposition", "attachment;filename="
-                    + URLEncoder.encode("지원자 입학정보.xlsx", StandardCharsets.UTF_8).replace("+", "%20"));
-            workbook.write(response.getOutputStream());
-            workbook.close();
-        } catch (IOException ex) {
-            throw new RuntimeException("파일 작성과정에서 예외가 발생하였습니다.", ex);
-        }
+    public ResponseEntity<StreamingResponseBody> downloadExcel() {
+        return excelResponse().body(downloadExcelService::execute);
+    }
+
+    @Operation(summary = "엑셀 내보내기 시작", description = "모든 원서의 정보를 엑셀 파일로 만드는 작업을 시작합니다. 마지막 내보내기 이후 원서가 바뀌지 않았다면 저장된 파일의 작업을 바로 반환합니다.")
+    @PostMapping("/excel/export")
+    public ExportJobResDto startExport() {
+        return startExportService.execute();
+    }
+
+    @Operation(summary = "엑셀 내보내기 작업 조회", description = "엑셀 내보내기 작업의 상태와 완료한 시트 수, 기록한 행 수를 조회합니다.")
+    @GetMapping("/excel/export/{exportJobId}")
+    public ExportJobResDto findExportJob(@PathVariable Long exportJobId) {
+        return queryExportJobService.execute(exportJobId);
+    }
+
+    @Operation(summary = "엑셀 내보내기 파일 다운로드", description = "완료된 엑셀 내보내기 작업의 파일을 반환합니다.")
+    @GetMapping("/excel/export/{exportJobId}/file")
+    public ResponseEntity<Resource> downloadExport(@PathVariable Long exportJobId) {
+        return excelResponse().body(downloadExportService.execute(exportJobId));
+    }
+
+    @Operation(summary = "지원자 데이터 내보내기", description = "엑셀과 같은 열의 지원자 정보를 CSV 또는 NDJSON으로 반환합니다. sheet를 지정하면 해당 엑셀 시트(GENERAL, SPECIAL, EXTRA, FALLEN)의 지원자만, changedSince를 지정하면 그 시각 이후에 바뀐 지원자만 반환하고, gzip이 true면 gzip으로 압축합니다. 다음 변경분 조회에 사용할 기준 시각은 X-Next-Changed-Since 헤더로 반환합니다.")
+    @GetMapping("/applicant-data")
+    public ResponseEntity<StreamingResponseBody> exportApplicantData(
+            @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format,
+            @RequestParam(name = "sheet", required = false) ExportSheet sheet,
+            @RequestParam(name = "changedSince", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime changedSince,
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        String fileName = URLEncoder.encode("지원자 입학정보." + format.getExtension() + (gzip ? ".gz" : ""),
+                StandardCharsets.UTF_8).replace("+", "%20");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + fileName)
+                .header(NEXT_CHANGED_SINCE_HEADER, ExportApplicantDataService.nextChangedSince().toString())
+                .body(outputStream -> exportApplicantDataService.execute(outputStream, format, sheet, changedSince,
+                        gzip));
+    }
+
+    private ResponseEntity.BodyBuilder excelResponse() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename="
+                        + URLEncoder.encode("지원자 입학정보.xlsx", StandardCharsets.UTF_8).replace("+", "%20"));
     }
 
     @Operation(summary = "입학등록 동의서 제출여부 수정", description = "맴버 id로 원서의 입학등록 동의서 제출여부를 수정합니다.")
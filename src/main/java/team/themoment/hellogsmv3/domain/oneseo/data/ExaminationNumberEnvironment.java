@@ -0,0 +1,44 @@
+package team.themoment.hellogsmv3.domain.oneseo.data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+
+/**
+ * 수험번호 발급 규칙입니다. 수험번호는 전형 분류별 접두사 뒤에 전형 내 순번을 0으로 채워 4자리로 만듭니다.
+ *
+ * @param prefixes
+ *            전형 분류별 접두사 (기본값 일반 1, 특별 2, 정원 외 3)
+ */
+@ConfigurationProperties(prefix = "examination-number")
+public record ExaminationNumberEnvironment(Map<ScreeningCategory, String> prefixes) {
+
+    public static final int EXAMINATION_NUMBER_LENGTH = 4;
+
+    public ExaminationNumberEnvironment {
+        Map<ScreeningCategory, String> merged = new EnumMap<>(
+                Map.of(ScreeningCategory.GENERAL, "1", ScreeningCategory.SPECIAL, "2", ScreeningCategory.EXTRA, "3"));
+        if (prefixes != null) {
+            merged.putAll(prefixes);
+        }
+        merged.values().forEach(prefix -> {
+            if (prefix == null || prefix.isEmpty() || prefix.length() >= EXAMINATION_NUMBER_LENGTH) {
+                throw new IllegalArgumentException(
+                        "수험번호 접두사는 1자 이상 " + (EXAMINATION_NUMBER_LENGTH - 1) + "자 이하여야 합니다.");
+            }
+        });
+        prefixes = merged;
+    }
+
+    public String prefixOf(ScreeningCategory screeningCategory) {
+        return prefixes.get(screeningCategory);
+    }
+
+    /** 접두사를 제외하고 순번에 사용할 수 있는 자릿수입니다. */
+    public int sequenceWidthOf(ScreeningCategory screeningCategory) {
+        return EXAMINATION_NUMBER_LENGTH - prefixOf(screeningCategory).length();
+    }
+}
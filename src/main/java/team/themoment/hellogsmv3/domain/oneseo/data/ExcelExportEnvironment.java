@@ -0,0 +1,29 @@
+package team.themoment.hellogsmv3.domain.oneseo.data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 지원자 엑셀 내보내기 파일을 저장할 위치입니다.
+ *
+ * @param storage
+ *            저장소 종류. local이면 서버 디스크에, s3면 S3 버킷에 저장
+ * @param localDirectory
+ *            local 저장소에서 파일을 둘 디렉터리
+ * @param s3KeyPrefix
+ *            s3 저장소에서 객체 키 앞에 붙일 경로
+ */
+@ConfigurationProperties(prefix = "excel-export")
+public record ExcelExportEnvironment(String storage, String localDirectory, String s3KeyPrefix) {
+
+    public ExcelExportEnvironment {
+        if (storage == null) {
+            storage = "local";
+        }
+        if (localDirectory == null) {
+            localDirectory = System.getProperty("java.io.tmpdir") + "/hellogsm-excel-export";
+        }
+        if (s3KeyPrefix == null) {
+            s3KeyPrefix = "excel-export/";
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package team.themoment.hellogsmv3.domain.oneseo.data;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+/**
+ * 최종 합격자 선발과 학과 배정 기본값입니다. 요청에 값이 없을 때 사용합니다.
+ *
+ * @param quotas
+ *            전형별 최종 합격 인원
+ * @param majorCapacities
+ *            학과별 정원
+ */
+@ConfigurationProperties(prefix = "final-test")
+public record FinalTestEnvironment(Map<Screening, Integer> quotas, Map<Major, Integer> majorCapacities) {
+
+    public FinalTestEnvironment {
+        if (quotas == null) {
+            quotas = Map.of();
+        }
+        if (majorCapacities == null) {
+            majorCapacities = Map.of();
+        }
+    }
+}
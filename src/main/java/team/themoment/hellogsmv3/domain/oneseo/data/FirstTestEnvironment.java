@@ -0,0 +1,37 @@
+package team.themoment.hellogsmv3.domain.oneseo.data;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.FirstTestTieBreaker;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+/**
+ * 1차 전형 합격자 선발 기본값입니다. 요청에 값이 없을 때 사용합니다.
+ *
+ * @param quotas
+ *            전형별 1차 합격 인원
+ * @param tieBreakers
+ *            서류 평가 점수가 같을 때 순서대로 비교할 점수
+ * @param requireRealOneseoArrived
+ *            실물 원서가 도착한 지원자만 선발할지 여부
+ */
+@ConfigurationProperties(prefix = "first-test")
+public record FirstTestEnvironment(Map<Screening, Integer> quotas, List<FirstTestTieBreaker> tieBreakers,
+        Boolean requireRealOneseoArrived) {
+
+    public FirstTestEnvironment {
+        if (quotas == null) {
+            quotas = Map.of();
+        }
+        if (tieBreakers == null) {
+            tieBreakers = List.of(FirstTestTieBreaker.SCORE_3_2, FirstTestTieBreaker.SCORE_3_1,
+                    FirstTestTieBreaker.SCORE_2_2, FirstTestTieBreaker.SCORE_2_1, FirstTestTieBreaker.SCORE_1_2);
+        }
+        if (requireRealOneseoArrived == null) {
+            requireRealOneseoArrived = true;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+
+public record AnnouncedResultDto(YesNo passYn, Major decidedMajor) {
+}
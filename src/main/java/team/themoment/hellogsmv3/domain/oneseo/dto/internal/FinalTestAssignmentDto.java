@@ -0,0 +1,6 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+
+public record FinalTestAssignmentDto(long oneseoId, long entranceTestResultId, Major decidedMajor) {
+}
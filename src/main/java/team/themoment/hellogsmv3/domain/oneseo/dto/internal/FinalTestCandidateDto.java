@@ -0,0 +1,18 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import java.util.List;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+/**
+ * 최종 전형 선발 대상자입니다. rankKeys는 최종 점수, 서류 평가, 역량 평가, 면접 점수 순이며 점수가 없으면 Long.MIN_VALUE
+ * 입니다. desiredMajors는 1지망부터 순서대로 담습니다.
+ */
+public record FinalTestCandidateDto(long oneseoId, long entranceTestResultId, Screening screening,
+        List<Major> desiredMajors, long[] rankKeys) {
+
+    public boolean scored() {
+        return rankKeys[0] != Long.MIN_VALUE;
+    }
+}
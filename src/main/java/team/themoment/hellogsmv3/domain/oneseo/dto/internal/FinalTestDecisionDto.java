@@ -0,0 +1,15 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import java.util.List;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.MajorAllocationResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ScreeningCutoffResDto;
+
+/** passed 중 정원이 모두 차 학과를 배정받지 못한 지원자는 decidedMajor가 null 입니다. */
+public record FinalTestDecisionDto(List<ScreeningCutoffResDto> cutoffs, List<MajorAllocationResDto> majors,
+        List<FinalTestAssignmentDto> passed, List<FinalTestAssignmentDto> failed) {
+
+    public long unallocatedCount() {
+        return passed.stream().filter(assignment -> assignment.decidedMajor() == null).count();
+    }
+}
@@ -0,0 +1,15 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+/**
+ * 1차 전형 선발 대상자입니다. rankKeys는 서류 평가 점수와 동점 비교 점수를 소수점 셋째 자리까지 정수로 바꾼 값이며, 점수가 없으면
+ * Long.MIN_VALUE 입니다.
+ */
+public record FirstTestCandidateDto(long entranceTestResultId, Screening screening, boolean realOneseoArrived,
+        long[] rankKeys) {
+
+    public boolean scored() {
+        return rankKeys[0] != Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,8 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import java.util.List;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ScreeningCutoffResDto;
+
+public record FirstTestDecisionDto(List<ScreeningCutoffResDto> cutoffs, long[] passedIds, long[] failedIds) {
+}
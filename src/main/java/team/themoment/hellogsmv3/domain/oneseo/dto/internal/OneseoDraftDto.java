@@ -0,0 +1,7 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoTempReqDto;
+
+/** 단계별로 임시 저장한 내용을 합친 결과와 마지막으로 저장한 단계입니다. */
+public record OneseoDraftDto(OneseoTempReqDto reqDto, Integer step) {
+}
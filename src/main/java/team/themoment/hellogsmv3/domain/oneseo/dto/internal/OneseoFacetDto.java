@@ -0,0 +1,48 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.NO;
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+
+/**
+ * 원서 검색 집계의 가장 작은 단위입니다. 합격 여부 태그는 서로 겹치므로 1차, 2차 합격 여부를 그대로 집계하고, 태그별 개수는 조회할 때
+ * 합산합니다.
+ */
+public record OneseoFacetDto(ScreeningCategory screeningCategory, YesNo realOneseoArrivedYn, YesNo firstTestPassYn,
+        YesNo secondTestPassYn) {
+
+    private static final String DELIMITER = "|";
+    private static final String NONE = "NONE";
+
+    public String key() {
+        return String.join(DELIMITER, screeningCategory.name(), realOneseoArrivedYn.name(), nameOf(firstTestPassYn),
+                nameOf(secondTestPassYn));
+    }
+
+    public static OneseoFacetDto fromKey(String key) {
+        String[] values = key.split("\\" + DELIMITER);
+        return new OneseoFacetDto(ScreeningCategory.valueOf(values[0]), YesNo.valueOf(values[1]),
+                yesNoOf(values[2]), yesNoOf(values[3]));
+    }
+
+    // 원서 검색의 합격 여부 조건과 같은 기준으로 판단
+    public boolean matches(TestResultTag testResultTag) {
+        return switch (testResultTag) {
+            case ALL -> true;
+            case FIRST_PASS -> firstTestPassYn == YES;
+            case FINAL_PASS -> secondTestPassYn == YES;
+            case FALL -> firstTestPassYn == NO || secondTestPassYn == NO;
+        };
+    }
+
+    private static String nameOf(YesNo yesNo) {
+        return yesNo == null ? NONE : yesNo.name();
+    }
+
+    private static YesNo yesNoOf(String value) {
+        return NONE.equals(value) ? null : YesNo.valueOf(value);
+    }
+}
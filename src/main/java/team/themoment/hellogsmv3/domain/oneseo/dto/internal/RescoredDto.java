@@ -0,0 +1,9 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import java.util.List;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+
+public record RescoredDto(RescoringTargetDto target, CalculatedScoreResDto calculatedScore,
+        List<String> changedFields) {
+}
@@ -0,0 +1,8 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+
+public record RescoringTargetDto(Long oneseoId, Long memberId, Long entranceTestResultId,
+        Long entranceTestFactorsDetailId, LambdaScoreCalculatorReqDto reqDto, CalculatedScoreResDto currentScore) {
+}
@@ -2,5 +2,6 @@ package team.themoment.hellogsmv3.domain.oneseo.dto.internal;
 
 import java.math.BigDecimal;
 
-public record SecondTestResultDto(BigDecimal competencyEvaluationScore, BigDecimal interviewScore) {
+public record SecondTestResultDto(String examinationNumber, BigDecimal competencyEvaluationScore,
+        BigDecimal interviewScore) {
 }
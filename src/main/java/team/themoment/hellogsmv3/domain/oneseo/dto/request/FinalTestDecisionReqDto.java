@@ -0,0 +1,12 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.request;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+public record FinalTestDecisionReqDto(
+        @Schema(description = "전형별 최종 합격 인원, 없으면 설정값 사용") Map<Screening, Integer> quotas,
+        @Schema(description = "학과별 정원, 없으면 설정값 사용") Map<Major, Integer> majorCapacities) {
+}
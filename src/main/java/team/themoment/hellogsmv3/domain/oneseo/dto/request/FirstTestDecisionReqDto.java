@@ -0,0 +1,13 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.request;
+
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.FirstTestTieBreaker;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+public record FirstTestDecisionReqDto(
+        @Schema(description = "전형별 1차 합격 인원, 없으면 설정값 사용") Map<Screening, Integer> quotas,
+        @Schema(description = "동점일 때 순서대로 비교할 점수, 없으면 설정값 사용") List<FirstTestTieBreaker> tieBreakers) {
+}
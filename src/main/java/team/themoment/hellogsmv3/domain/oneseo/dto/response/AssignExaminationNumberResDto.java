@@ -0,0 +1,8 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.util.Map;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+
+public record AssignExaminationNumberResDto(int assignedCount, Map<ScreeningCategory, Long> assignedCountByScreening) {
+}
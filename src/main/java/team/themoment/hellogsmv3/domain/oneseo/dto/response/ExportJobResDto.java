@@ -0,0 +1,12 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus;
+
+@Builder
+public record ExportJobResDto(Long exportJobId, ExportJobStatus status, String dataVersion, Integer completedSheetCount,
+        Integer sheetCount, Long processedRowCount, String lastError, LocalDateTime createdTime,
+        LocalDateTime updatedTime) {
+}
@@ -0,0 +1,7 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.util.List;
+
+public record FinalTestDecisionResDto(boolean preview, int passCount, int failCount, long unallocatedCount,
+        List<ScreeningCutoffResDto> cutoffs, List<MajorAllocationResDto> majors) {
+}
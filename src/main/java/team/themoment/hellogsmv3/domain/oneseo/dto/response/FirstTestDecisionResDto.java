@@ -0,0 +1,7 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.util.List;
+
+public record FirstTestDecisionResDto(boolean preview, int passCount, int failCount,
+        List<ScreeningCutoffResDto> cutoffs) {
+}
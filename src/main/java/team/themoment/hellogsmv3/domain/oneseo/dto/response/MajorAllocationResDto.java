@@ -0,0 +1,11 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+
+@Builder
+public record MajorAllocationResDto(Major major, int capacity, int allocatedCount, int firstChoiceCount,
+        BigDecimal lowestFinalScore) {
+}
@@ -0,0 +1,11 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import lombok.Builder;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+
+@Builder
+public record OneseoFacetCountResDto(ScreeningCategory screeningCategory, YesNo realOneseoArrivedYn,
+        TestResultTag testResultTag, Long count) {
+}
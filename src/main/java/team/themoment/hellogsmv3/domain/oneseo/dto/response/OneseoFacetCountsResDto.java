@@ -0,0 +1,9 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record OneseoFacetCountsResDto(List<OneseoFacetCountResDto> facets) {
+}
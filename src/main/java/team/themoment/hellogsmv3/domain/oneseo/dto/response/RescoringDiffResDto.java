@@ -0,0 +1,10 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+
+@Builder
+public record RescoringDiffResDto(Long oneseoId, Long memberId, BigDecimal beforeScore, BigDecimal afterScore,
+        String changedFields) {
+}
@@ -0,0 +1,14 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus;
+
+@Builder
+public record RescoringJobResDto(Long rescoringJobId, RescoringJobStatus status, boolean dryRun,
+        String formulaVersion, Long lastOneseoId, Long processedCount, Long changedCount, Long failedCount,
+        Long skippedCount, Double throughputPerSecond, String lastError, LocalDateTime createdTime,
+        LocalDateTime updatedTime, List<RescoringDiffResDto> diffs) {
+}
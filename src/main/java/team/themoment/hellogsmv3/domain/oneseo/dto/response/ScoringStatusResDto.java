@@ -0,0 +1,6 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus;
+
+public record ScoringStatusResDto(ScoringStatus scoringStatus) {
+}
@@ -0,0 +1,11 @@
+package team.themoment.hellogsmv3.domain.oneseo.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+@Builder
+public record ScreeningCutoffResDto(Screening screening, int quota, int applicantCount, int passCount,
+        BigDecimal cutoffScore, int tiedAtCutoffCount) {
+}
@@ -0,0 +1,101 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.*;
+import lombok.*;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus;
+
+/**
+ * 지원자 엑셀 내보내기 작업입니다. 같은 데이터 버전으로 완료된 작업이 있으면 저장된 파일을 다시 사용합니다. 실행 중인 작업은
+ * running_data_version에 데이터 버전을 가지므로 유니크 제약으로 데이터 버전마다 하나만 실행됩니다.
+ */
+@Getter
+@Entity
+@Table(name = "tb_export_job", indexes = {
+        @Index(name = "idx_export_job_data_version", columnList = "data_version")}, uniqueConstraints = {
+                @UniqueConstraint(name = "uk_export_job_running_data_version", columnNames = "running_data_version")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ExportJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String ARTIFACT_EXTENSION = ".xlsx";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "export_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "export_job_status", nullable = false)
+    private ExportJobStatus status;
+
+    @Column(name = "data_version", nullable = false, length = 64)
+    private String dataVersion;
+
+    @Column(name = "artifact_key", nullable = false)
+    private String artifactKey;
+
+    @Column(name = "completed_sheet_count", nullable = false)
+    private int completedSheetCount;
+
+    @Column(name = "processed_row_count", nullable = false)
+    private long processedRowCount;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    @Column(name = "heartbeat_time")
+    private LocalDateTime heartbeatTime;
+
+    // 실행 중일 때만 data_version과 같은 값, 그 외에는 null (MySQL 유니크 인덱스는 null 중복을 허용)
+    @Column(name = "running_data_version", length = 64)
+    private String runningDataVersion;
+
+    @CreatedDate
+    @Column(name = "created_time", updatable = false, nullable = false)
+    private LocalDateTime createdTime;
+
+    @LastModifiedDate
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+
+    public static ExportJob start(String dataVersion, String ownerId) {
+        return ExportJob.builder().status(ExportJobStatus.RUNNING).dataVersion(dataVersion)
+                .artifactKey(dataVersion + ARTIFACT_EXTENSION).ownerId(ownerId).heartbeatTime(LocalDateTime.now())
+                .runningDataVersion(dataVersion).build();
+    }
+
+    public void progress(int completedSheetCount, long processedRowCount) {
+        this.completedSheetCount = completedSheetCount;
+        this.processedRowCount = processedRowCount;
+        this.heartbeatTime = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = ExportJobStatus.COMPLETED;
+        this.runningDataVersion = null;
+    }
+
+    public void fail(String error) {
+        this.status = ExportJobStatus.FAILED;
+        this.runningDataVersion = null;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+
+    public boolean isOwnedBy(String ownerId) {
+        return status == ExportJobStatus.RUNNING && ownerId.equals(this.ownerId);
+    }
+}
@@ -2,10 +2,13 @@ package team.themoment.hellogsmv3.domain.oneseo.entity;
 
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -20,11 +23,13 @@ import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
 @Entity
 @Table(name = "tb_oneseo", indexes = {
         @Index(name = "idx_applied_screening_and_real_oneseo_arrived_yn", columnList = "applied_screening, real_oneseo_arrived_yn"),
-        @Index(name = "idx_real_oneseo_arrived_yn", columnList = "real_oneseo_arrived_yn")})
+        @Index(name = "idx_real_oneseo_arrived_yn", columnList = "real_oneseo_arrived_yn"),
+        @Index(name = "idx_updated_time", columnList = "updated_time")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @DynamicUpdate
+@EntityListeners(AuditingEntityListener.class)
 public class Oneseo {
 
     @Id
@@ -83,6 +88,15 @@ public class Oneseo {
     @Column(name = "decided_major")
     private Major decidedMajor;
 
+    // 원서와 함께 바뀌는 하위 엔티티(성적, 인적 사항 등)가 바뀐 시각도 기록하여 변경분 내보내기의 기준으로 사용
+    @LastModifiedDate
+    @Column(name = "updated_time")
+    private LocalDateTime updatedTime;
+
+    // 관리자 키워드 검색용으로 이름, 출신 학교, 전화번호를 모아 둔 컬럼으로, ngram FULLTEXT 인덱스가 걸려 있어 SQL로만 갱신
+    @Column(name = "search_text", length = 300, insertable = false, updatable = false)
+    private String searchText;
+
     public void addWantedScreeningChangeHistory(WantedScreeningChangeHistory wantedScreeningChangeHistory) {
         this.wantedScreeningChangeHistory.add(wantedScreeningChangeHistory);
     }
@@ -109,6 +123,10 @@ public class Oneseo {
         this.entranceIntentionYn = yn;
     }
 
+    public void markUpdated() {
+        this.updatedTime = LocalDateTime.now();
+    }
+
     public void switchRealOneseoArrivedYn() {
         this.realOneseoArrivedYn = this.realOneseoArrivedYn == YES ? NO : YES;
     }
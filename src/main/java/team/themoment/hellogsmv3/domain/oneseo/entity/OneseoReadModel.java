@@ -0,0 +1,32 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 원서 조회 결과(FoundOneseoResDto)를 JSON으로 저장해 둔 읽기 모델입니다. 원서가 바뀌는 트랜잭션 안에서 다시 만들어지므로, 조회
+ * 시에는 member_id 기본키로 한 번만 읽습니다.
+ */
+@Getter
+@Entity
+@Table(name = "tb_oneseo_read_model")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OneseoReadModel {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "oneseo_id", nullable = false, unique = true)
+    private Long oneseoId;
+
+    @Column(name = "document", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String document;
+
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+}
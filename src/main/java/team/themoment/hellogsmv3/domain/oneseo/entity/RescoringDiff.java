@@ -0,0 +1,40 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/** 재계산 결과가 기존 점수와 다른 원서입니다. dry-run 작업에서는 점수를 바꾸지 않고 이 기록만 남깁니다. */
+@Getter
+@Entity
+@Table(name = "tb_rescoring_diff", indexes = {
+        @Index(name = "idx_rescoring_job_id", columnList = "rescoring_job_id")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RescoringDiff {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rescoring_diff_id")
+    private Long id;
+
+    @Column(name = "rescoring_job_id", nullable = false)
+    private Long rescoringJobId;
+
+    @Column(name = "oneseo_id", nullable = false)
+    private Long oneseoId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "before_score", precision = 6, scale = 3)
+    private BigDecimal beforeScore;
+
+    @Column(name = "after_score", precision = 6, scale = 3)
+    private BigDecimal afterScore;
+
+    @Column(name = "changed_fields")
+    private String changedFields;
+}
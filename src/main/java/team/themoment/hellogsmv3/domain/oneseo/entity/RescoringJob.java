@@ -0,0 +1,122 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.*;
+import lombok.*;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus;
+
+/**
+ * 전체 원서 성적 재계산 작업입니다. 청크가 끝날 때마다 마지막 원서 ID와 함께 실행 중인 서버의 생존 시각을 기록하여 중단된 지점부터
+ * 이어서 실행합니다. 실행 중인 작업은 running_slot에 같은 값을 가지므로 유니크 제약으로 동시에 하나만 실행됩니다.
+ */
+@Getter
+@Entity
+@Table(name = "tb_rescoring_job", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rescoring_job_running_slot", columnNames = "running_slot")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class RescoringJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rescoring_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rescoring_job_status", nullable = false)
+    private RescoringJobStatus status;
+
+    @Column(name = "dry_run", nullable = false)
+    private boolean dryRun;
+
+    @Column(name = "formula_version", nullable = false)
+    private String formulaVersion;
+
+    @Column(name = "last_oneseo_id", nullable = false)
+    private long lastOneseoId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "changed_count", nullable = false)
+    private long changedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    // 재계산하는 동안 성적 계산 outbox가 먼저 점수를 바꾸어 저장하지 않은 원서 수
+    @Column(name = "skipped_count", nullable = false)
+    private long skippedCount;
+
+    @Column(name = "elapsed_millis", nullable = false)
+    private long elapsedMillis;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    @Column(name = "heartbeat_time")
+    private LocalDateTime heartbeatTime;
+
+    // 실행 중일 때만 RUNNING_SLOT, 그 외에는 null (MySQL 유니크 인덱스는 null 중복을 허용)
+    @Column(name = "running_slot")
+    private Integer runningSlot;
+
+    @CreatedDate
+    @Column(name = "created_time", updatable = false, nullable = false)
+    private LocalDateTime createdTime;
+
+    @LastModifiedDate
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+
+    public static final int RUNNING_SLOT = 1;
+
+    public static RescoringJob start(boolean dryRun, String formulaVersion, String ownerId) {
+        return RescoringJob.builder().status(RescoringJobStatus.RUNNING).dryRun(dryRun).formulaVersion(formulaVersion)
+                .ownerId(ownerId).heartbeatTime(LocalDateTime.now()).runningSlot(RUNNING_SLOT).build();
+    }
+
+    public void checkpoint(long lastOneseoId, long processed, long changed, long failed, long skipped,
+            long elapsedMillis) {
+        this.lastOneseoId = lastOneseoId;
+        this.processedCount += processed;
+        this.changedCount += changed;
+        this.failedCount += failed;
+        this.skippedCount += skipped;
+        this.elapsedMillis += elapsedMillis;
+        this.heartbeatTime = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = RescoringJobStatus.COMPLETED;
+        this.runningSlot = null;
+    }
+
+    public void fail(String error) {
+        this.status = RescoringJobStatus.FAILED;
+        this.runningSlot = null;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+
+    public boolean isOwnedBy(String ownerId) {
+        return status == RescoringJobStatus.RUNNING && ownerId.equals(this.ownerId);
+    }
+
+    public boolean isResumable() {
+        return status == RescoringJobStatus.INTERRUPTED || status == RescoringJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,96 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.*;
+import lombok.*;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus;
+
+/** 원서 제출/수정 트랜잭션과 분리하여 성적을 계산하기 위한 outbox 입니다. 원서당 하나의 row를 유지합니다. */
+@Getter
+@Entity
+@Table(name = "tb_scoring_outbox", indexes = {
+        @Index(name = "idx_scoring_status_and_updated_time", columnList = "scoring_status, updated_time"),
+        @Index(name = "idx_scoring_status_and_enqueued_time", columnList = "scoring_status, enqueued_time")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ScoringOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "scoring_outbox_id")
+    private Long id;
+
+    @Column(name = "oneseo_id", nullable = false, unique = true)
+    private Long oneseoId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scoring_status", nullable = false)
+    private ScoringStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    // 원서가 다시 수정되어 대기열에 다시 들어간 시각. 기존 row에는 값이 없을 수 있어 nullable로 둠
+    @Column(name = "enqueued_time")
+    private LocalDateTime enqueuedTime;
+
+    @CreatedDate
+    @Column(name = "created_time", updatable = false, nullable = false)
+    private LocalDateTime createdTime;
+
+    @LastModifiedDate
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+
+    public static ScoringOutbox pending(Long oneseoId, Long memberId, String payload) {
+        return ScoringOutbox.builder().oneseoId(oneseoId).memberId(memberId).payload(payload)
+                .status(ScoringStatus.PENDING).attemptCount(0).enqueuedTime(LocalDateTime.now()).build();
+    }
+
+    public void requeue(String payload) {
+        this.payload = payload;
+        this.status = ScoringStatus.PENDING;
+        this.attemptCount = 0;
+        this.lastError = null;
+        this.enqueuedTime = LocalDateTime.now();
+    }
+
+    public void startProcessing() {
+        this.status = ScoringStatus.PROCESSING;
+        this.attemptCount++;
+    }
+
+    public void complete() {
+        this.status = ScoringStatus.DONE;
+        this.lastError = null;
+    }
+
+    public void fail(String error, int maxAttempts) {
+        this.status = attemptCount >= maxAttempts ? ScoringStatus.FAILED : ScoringStatus.PENDING;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -0,0 +1,5 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity.type;
+
+public enum AnnouncementRound {
+    FIRST, SECOND
+}
@@ -0,0 +1,13 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"), NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,13 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 지원자 엑셀의 시트입니다. 데이터 내보내기에서는 한 시트의 지원자만 고르는 필터로 사용합니다. */
+@Getter
+@AllArgsConstructor
+public enum ExportSheet {
+    GENERAL("일반전형"), SPECIAL("특별전형"), EXTRA("정원외 특별전형"), FALLEN("불합격");
+
+    private final String sheetName;
+}
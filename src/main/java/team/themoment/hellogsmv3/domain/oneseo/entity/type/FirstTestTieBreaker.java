@@ -0,0 +1,16 @@
+package team.themoment.hellogsmv3.domain.oneseo.entity.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 1차 전형에서 서류 평가 점수가 같을 때 비교할 점수입니다. 값이 높을수록 우선합니다. */
+@Getter
+@AllArgsConstructor
+public enum FirstTestTieBreaker {
+    SCORE_3_2("score_3_2"), SCORE_3_1("score_3_1"), SCORE_2_2("score_2_2"), SCORE_2_1("score_2_1"), SCORE_1_2(
+            "score_1_2"), GENERAL_SUBJECTS_SCORE("general_subjects_score"), ARTS_PHYSICAL_SUBJECTS_SCORE(
+                    "arts_physical_subjects_score"), TOTAL_SUBJECTS_SCORE("total_subjects_score"), ATTENDANCE_SCORE(
+                            "attendance_score"), VOLUNTEER_SCORE("volunteer_score");
+
+    private final String column;
+}
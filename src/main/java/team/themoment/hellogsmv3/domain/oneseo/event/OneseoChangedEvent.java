@@ -0,0 +1,11 @@
+package team.themoment.hellogsmv3.domain.oneseo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 원서 조회 결과(FoundOneseoResDto)에 포함되는 값이 바뀌었거나 원서가 삭제되었을 때 발행합니다. */
+@Getter
+@AllArgsConstructor
+public class OneseoChangedEvent {
+    private Long memberId;
+}
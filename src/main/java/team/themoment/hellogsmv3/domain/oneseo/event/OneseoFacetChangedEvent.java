@@ -0,0 +1,14 @@
+package team.themoment.hellogsmv3.domain.oneseo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 원서 검색 집계 조건(지원 전형, 서류 도착 여부, 합격 여부)이 바뀌었을 때 발행합니다. memberId가 없으면 여러 원서가 한 번에 바뀐
+ * 것으로 보고 전체를 다시 집계합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class OneseoFacetChangedEvent {
+    private Long memberId;
+}
@@ -0,0 +1,37 @@
+package team.themoment.hellogsmv3.domain.oneseo.event.handler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.domain.oneseo.service.OneseoReadModelService;
+import team.themoment.hellogsmv3.domain.oneseo.service.QueryOneseoByIdService;
+
+@Component
+@RequiredArgsConstructor
+public class OneseoChangedEventHandler {
+
+    private final OneseoRepository oneseoRepository;
+    private final QueryOneseoByIdService queryOneseoByIdService;
+    private final OneseoReadModelService oneseoReadModelService;
+
+    // 커밋 직전 같은 트랜잭션에서 다시 만들어, 원서와 읽기 모델이 함께 커밋되거나 함께 롤백되도록 함
+    // 하위 엔티티만 바뀐 경우에도 원서의 수정 시각과 검색 컬럼을 갱신
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void rebuildReadModel(OneseoChangedEvent oneseoChangedEvent) {
+        Long memberId = oneseoChangedEvent.getMemberId();
+
+        if (oneseoRepository.existsByMemberId(memberId)) {
+            oneseoRepository.updateUpdatedTimeByMemberId(memberId, LocalDateTime.now());
+            oneseoRepository.updateSearchTextByMemberId(memberId);
+            oneseoReadModelService.save(memberId, queryOneseoByIdService.assemble(memberId));
+        } else {
+            oneseoReadModelService.delete(memberId);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package team.themoment.hellogsmv3.domain.oneseo.event.handler;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.service.OneseoDraftService;
+
+@Component
+@RequiredArgsConstructor
+public class OneseoDraftEventHandler {
+
+    private final OneseoDraftService oneseoDraftService;
+
+    // 원서가 제출되었거나 삭제되면 임시 저장 내용은 더 이상 쓰이지 않음
+    // 롤백되면 임시 저장 내용을 그대로 두도록 커밋된 뒤 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void deleteDraft(OneseoChangedEvent oneseoChangedEvent) {
+        oneseoDraftService.delete(oneseoChangedEvent.getMemberId());
+    }
+}
@@ -0,0 +1,33 @@
+package team.themoment.hellogsmv3.domain.oneseo.event.handler;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoFacetChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.service.OneseoFacetCountService;
+
+@Component
+@RequiredArgsConstructor
+public class OneseoFacetEventHandler {
+
+    private final OneseoFacetCountService oneseoFacetCountService;
+
+    // 롤백된 변경이 집계에 반영되지 않도록 커밋된 뒤 DB에서 다시 읽음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void applyOneseoChanged(OneseoChangedEvent oneseoChangedEvent) {
+        oneseoFacetCountService.apply(oneseoChangedEvent.getMemberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void applyFacetChanged(OneseoFacetChangedEvent oneseoFacetChangedEvent) {
+        // 여러 회원의 원서를 한꺼번에 바꾼 경우 전체를 비교
+        if (oneseoFacetChangedEvent.getMemberId() == null) {
+            oneseoFacetCountService.requestReconcile();
+        } else {
+            oneseoFacetCountService.apply(oneseoFacetChangedEvent.getMemberId());
+        }
+    }
+}
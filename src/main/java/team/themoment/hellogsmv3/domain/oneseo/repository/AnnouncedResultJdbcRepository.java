@@ -0,0 +1,46 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.AnnouncedResultDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+
+@Repository
+@RequiredArgsConstructor
+public class AnnouncedResultJdbcRepository {
+
+    private static final String FIRST_TEST_RESULTS_SQL = """
+            SELECT o.member_id, r.first_test_pass_yn AS pass_yn, NULL AS decided_major
+            FROM tb_oneseo o
+            JOIN tb_entrance_test_result r ON r.oneseo_id = o.oneseo_id
+            """;
+
+    private static final String SECOND_TEST_RESULTS_SQL = """
+            SELECT o.member_id, r.second_test_pass_yn AS pass_yn, o.decided_major
+            FROM tb_oneseo o
+            JOIN tb_entrance_test_result r ON r.oneseo_id = o.oneseo_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 발표 차수의 합격 여부(2차라면 배정 학과 포함)를 회원 ID별로 읽어옵니다. */
+    public Map<Long, AnnouncedResultDto> findAll(AnnouncementRound round) {
+        String sql = round == AnnouncementRound.FIRST ? FIRST_TEST_RESULTS_SQL : SECOND_TEST_RESULTS_SQL;
+
+        Map<Long, AnnouncedResultDto> results = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            String passYn = rs.getString("pass_yn");
+            String decidedMajor = rs.getString("decided_major");
+            results.put(rs.getLong("member_id"), new AnnouncedResultDto(passYn == null ? null : YesNo.valueOf(passYn),
+                    decidedMajor == null ? null : Major.valueOf(decidedMajor)));
+        });
+        return results;
+    }
+}
@@ -0,0 +1,89 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.data.ExaminationNumberEnvironment;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+
+/** 1차 합격자 전체의 수험번호를 한 번의 UPDATE 문으로 다시 발급합니다. */
+@Repository
+@RequiredArgsConstructor
+public class ExaminationNumberJdbcRepository {
+
+    // 1차 합격 시 지정된 전형(applied_screening)이 없다면 지원 전형을 사용
+    private static final String SCREENING_CATEGORY_SQL = """
+            CASE COALESCE(o.applied_screening, o.wanted_screening)
+                WHEN 'GENERAL' THEN 'GENERAL'
+                WHEN 'SPECIAL' THEN 'SPECIAL'
+                ELSE 'EXTRA'
+            END
+            """;
+
+    private static final String COUNT_FIRST_PASS_SQL = """
+            SELECT %s AS screening_category, COUNT(*) AS applicant_count
+            FROM tb_oneseo o
+            JOIN tb_entrance_test_result r ON r.oneseo_id = o.oneseo_id
+            WHERE r.first_test_pass_yn = 'YES'
+            GROUP BY screening_category
+            """.formatted(SCREENING_CATEGORY_SQL);
+
+    private static final String CLEAR_SQL = """
+            UPDATE tb_oneseo SET examination_number = NULL, updated_time = ? WHERE examination_number IS NOT NULL
+            """;
+
+    // 전형 분류 안에서 전형, 접수번호 숫자 순으로 순번을 매기고 접두사 + 0으로 채운 순번으로 수험번호를 만듦
+    private static final String ASSIGN_SQL = """
+            UPDATE tb_oneseo target
+            JOIN (
+                SELECT o.oneseo_id, %s AS screening_category,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY %s
+                           ORDER BY COALESCE(o.applied_screening, o.wanted_screening),
+                                    CAST(SUBSTRING(o.oneseo_submit_code, 3) AS UNSIGNED), o.oneseo_id
+                       ) AS seq
+                FROM tb_oneseo o
+                JOIN tb_entrance_test_result r ON r.oneseo_id = o.oneseo_id
+                WHERE r.first_test_pass_yn = 'YES'
+            ) ranked ON ranked.oneseo_id = target.oneseo_id
+            SET target.examination_number = CASE ranked.screening_category
+                WHEN 'GENERAL' THEN CONCAT(?, LPAD(ranked.seq, ?, '0'))
+                WHEN 'SPECIAL' THEN CONCAT(?, LPAD(ranked.seq, ?, '0'))
+                ELSE CONCAT(?, LPAD(ranked.seq, ?, '0'))
+            END,
+                target.updated_time = ?
+            """.formatted(SCREENING_CATEGORY_SQL, SCREENING_CATEGORY_SQL);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<ScreeningCategory, Long> countFirstPassByScreeningCategory() {
+        Map<ScreeningCategory, Long> counts = new EnumMap<>(ScreeningCategory.class);
+        jdbcTemplate.query(COUNT_FIRST_PASS_SQL, rs -> {
+            counts.put(ScreeningCategory.valueOf(rs.getString("screening_category")), rs.getLong("applicant_count"));
+        });
+        return counts;
+    }
+
+    public int clearAll() {
+        return jdbcTemplate.update(CLEAR_SQL, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public int assignToFirstPassApplicants(ExaminationNumberEnvironment examinationNumberEnv) {
+        List<Object> params = new ArrayList<>();
+        for (ScreeningCategory screeningCategory : List.of(ScreeningCategory.GENERAL, ScreeningCategory.SPECIAL,
+                ScreeningCategory.EXTRA)) {
+            params.add(examinationNumberEnv.prefixOf(screeningCategory));
+            params.add(examinationNumberEnv.sequenceWidthOf(screeningCategory));
+        }
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.update(ASSIGN_SQL, params.toArray());
+    }
+}
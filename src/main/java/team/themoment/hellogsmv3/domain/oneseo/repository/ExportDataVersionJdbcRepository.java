@@ -0,0 +1,37 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.DigestUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엑셀 내보내기에 쓰이는 테이블의 체크섬으로 데이터 버전을 만듭니다. 행이 하나라도 바뀌면 체크섬이 달라지므로, 같은 데이터 버전의
+ * 내보내기 파일은 그대로 다시 사용할 수 있습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExportDataVersionJdbcRepository {
+
+    // 엑셀 열 구성이 바뀌면 올려서 이전 파일을 다시 사용하지 않도록 함
+    static final String EXPORT_FORMAT_VERSION = "v1";
+
+    private static final String CHECKSUM_SQL = """
+            CHECKSUM TABLE tb_oneseo, tb_member, tb_oneseo_privacy_detail, tb_entrance_test_result,
+                           tb_entrance_test_factors_detail
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public String findDataVersion() {
+        List<String> checksums = jdbcTemplate.query(CHECKSUM_SQL,
+                (rs, rowNum) -> rs.getString("Table") + ":" + rs.getString("Checksum"));
+
+        String source = EXPORT_FORMAT_VERSION + "|" + String.join("|", checksums);
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+}
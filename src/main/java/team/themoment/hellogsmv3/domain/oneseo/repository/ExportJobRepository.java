@@ -0,0 +1,34 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ExportJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus;
+
+public interface ExportJobRepository extends JpaRepository<ExportJob, Long> {
+
+    Optional<ExportJob> findFirstByDataVersionAndStatusInOrderByIdDesc(String dataVersion,
+            Collection<ExportJobStatus> statuses);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ExportJob j WHERE j.id = :id")
+    Optional<ExportJob> findByIdForUpdate(@Param("id") Long id);
+
+    /** 생존 시각이 staleBefore보다 오래된 실행 중 작업을 중단 상태로 바꿉니다. 다른 서버에서 실행 중인 작업은 건드리지 않습니다. */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.status = team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus.INTERRUPTED, "
+            + "j.runningDataVersion = NULL WHERE j.status = team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus.RUNNING "
+            + "AND (j.heartbeatTime IS NULL OR j.heartbeatTime < :staleBefore)")
+    int interruptStale(@Param("staleBefore") LocalDateTime staleBefore);
+}
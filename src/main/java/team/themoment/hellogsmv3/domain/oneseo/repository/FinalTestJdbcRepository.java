@@ -0,0 +1,83 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestAssignmentDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.service.FinalTestDecisionEngine;
+import team.themoment.hellogsmv3.domain.oneseo.service.FirstTestDecisionEngine;
+
+@Repository
+@RequiredArgsConstructor
+public class FinalTestJdbcRepository {
+
+    // 1차 합격 시 지정된 전형(applied_screening)이 없다면 지원 전형을 사용
+    private static final String FIND_CANDIDATES_SQL = """
+            SELECT o.oneseo_id, r.entrance_test_result_id,
+                   COALESCE(o.applied_screening, o.wanted_screening) AS screening,
+                   o.first_desired_major, o.second_desired_major, o.third_desired_major,
+                   r.document_evaluation_score, r.competency_evaluation_score, r.interview_score
+            FROM tb_entrance_test_result r
+            JOIN tb_oneseo o ON o.oneseo_id = r.oneseo_id
+            WHERE r.first_test_pass_yn = 'YES'
+            """;
+
+    private static final String UPDATE_SECOND_TEST_PASS_YN_SQL = """
+            UPDATE tb_entrance_test_result SET second_test_pass_yn = ? WHERE entrance_test_result_id = ?
+            """;
+
+    private static final String UPDATE_DECIDED_MAJOR_SQL = """
+            UPDATE tb_oneseo SET decided_major = ?, updated_time = ? WHERE oneseo_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 1차 합격자를 최종 점수, 서류 평가, 역량 평가, 면접 점수 순의 rankKeys로 조회합니다. */
+    public List<FinalTestCandidateDto> findCandidates() {
+        return jdbcTemplate.query(FIND_CANDIDATES_SQL, (rs, rowNum) -> {
+            BigDecimal documentEvaluationScore = rs.getBigDecimal("document_evaluation_score");
+            BigDecimal competencyEvaluationScore = rs.getBigDecimal("competency_evaluation_score");
+            BigDecimal interviewScore = rs.getBigDecimal("interview_score");
+            long[] rankKeys = {
+                    FirstTestDecisionEngine.toRankKey(FinalTestDecisionEngine
+                            .calculateFinalScore(documentEvaluationScore, competencyEvaluationScore, interviewScore)),
+                    FirstTestDecisionEngine.toRankKey(documentEvaluationScore),
+                    FirstTestDecisionEngine.toRankKey(competencyEvaluationScore),
+                    FirstTestDecisionEngine.toRankKey(interviewScore)};
+
+            return new FinalTestCandidateDto(rs.getLong("oneseo_id"), rs.getLong("entrance_test_result_id"),
+                    Screening.valueOf(rs.getString("screening")),
+                    List.of(Major.valueOf(rs.getString("first_desired_major")),
+                            Major.valueOf(rs.getString("second_desired_major")),
+                            Major.valueOf(rs.getString("third_desired_major"))),
+                    rankKeys);
+        });
+    }
+
+    public void updateResults(List<FinalTestAssignmentDto> passed, List<FinalTestAssignmentDto> failed) {
+        Timestamp updatedTime = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> passYnParams = new ArrayList<>(passed.size() + failed.size());
+        List<Object[]> majorParams = new ArrayList<>(passed.size() + failed.size());
+        passed.forEach(assignment -> {
+            passYnParams.add(new Object[]{"YES", assignment.entranceTestResultId()});
+            majorParams.add(new Object[]{assignment.decidedMajor().name(), updatedTime, assignment.oneseoId()});
+        });
+        failed.forEach(assignment -> {
+            passYnParams.add(new Object[]{"NO", assignment.entranceTestResultId()});
+            majorParams.add(new Object[]{null, updatedTime, assignment.oneseoId()});
+        });
+
+        jdbcTemplate.batchUpdate(UPDATE_SECOND_TEST_PASS_YN_SQL, passYnParams);
+        jdbcTemplate.batchUpdate(UPDATE_DECIDED_MAJOR_SQL, majorParams);
+    }
+}
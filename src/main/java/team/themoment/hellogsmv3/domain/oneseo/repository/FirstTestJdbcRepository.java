@@ -0,0 +1,69 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.FirstTestTieBreaker;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.service.FirstTestDecisionEngine;
+
+@Repository
+@RequiredArgsConstructor
+public class FirstTestJdbcRepository {
+
+    private static final String FIND_CANDIDATES_SQL = """
+            SELECT r.entrance_test_result_id, o.wanted_screening, o.real_oneseo_arrived_yn,
+                   r.document_evaluation_score%s
+            FROM tb_entrance_test_result r
+            JOIN tb_oneseo o ON o.oneseo_id = r.oneseo_id
+            JOIN tb_entrance_test_factors_detail d
+                ON d.entrance_test_factors_detail_id = r.entrance_test_factors_detail_id
+            """;
+
+    private static final String UPDATE_FIRST_TEST_PASS_YN_SQL = """
+            UPDATE tb_entrance_test_result r
+            JOIN tb_oneseo o ON o.oneseo_id = r.oneseo_id
+            SET r.first_test_pass_yn = ?, o.updated_time = ?
+            WHERE r.entrance_test_result_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 모든 지원자를 서류 평가 점수, tieBreakers 순의 rankKeys로 조회합니다. */
+    public List<FirstTestCandidateDto> findCandidates(List<FirstTestTieBreaker> tieBreakers) {
+        String tieBreakerColumns = tieBreakers.stream().map(tieBreaker -> ", d." + tieBreaker.getColumn())
+                .collect(Collectors.joining());
+
+        return jdbcTemplate.query(FIND_CANDIDATES_SQL.formatted(tieBreakerColumns), (rs, rowNum) -> {
+            long[] rankKeys = new long[tieBreakers.size() + 1];
+            rankKeys[0] = FirstTestDecisionEngine.toRankKey(rs.getBigDecimal("document_evaluation_score"));
+            for (int i = 0; i < tieBreakers.size(); i++) {
+                rankKeys[i + 1] = FirstTestDecisionEngine.toRankKey(rs.getBigDecimal(5 + i));
+            }
+
+            return new FirstTestCandidateDto(rs.getLong("entrance_test_result_id"),
+                    Screening.valueOf(rs.getString("wanted_screening")),
+                    "YES".equals(rs.getString("real_oneseo_arrived_yn")), rankKeys);
+        });
+    }
+
+    public void updateFirstTestPassYn(long[] passedIds, long[] failedIds) {
+        Timestamp updatedTime = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> params = new ArrayList<>(passedIds.length + failedIds.length);
+        for (long id : passedIds) {
+            params.add(new Object[]{"YES", updatedTime, id});
+        }
+        for (long id : failedIds) {
+            params.add(new Object[]{"NO", updatedTime, id});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_FIRST_TEST_PASS_YN_SQL, params);
+    }
+}
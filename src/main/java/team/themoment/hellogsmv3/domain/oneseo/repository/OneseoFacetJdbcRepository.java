@@ -0,0 +1,77 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.OneseoFacetDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+
+/**
+ * 원서 검색 집계에 쓰이는 값을 읽어옵니다. 원서 검색과 같이 인적 사항과 전형 결과가 있는 원서만 대상으로 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OneseoFacetJdbcRepository {
+
+    private static final String FACET_COLUMNS = """
+            o.wanted_screening, o.real_oneseo_arrived_yn, r.first_test_pass_yn, r.second_test_pass_yn
+            """;
+
+    private static final String FROM_SQL = """
+            FROM tb_oneseo o
+            JOIN tb_member m ON m.member_id = o.member_id
+            JOIN tb_oneseo_privacy_detail p ON p.oneseo_id = o.oneseo_id
+            JOIN tb_entrance_test_result r ON r.oneseo_id = o.oneseo_id
+            """;
+
+    private static final String FIND_BY_MEMBER_ID_SQL = "SELECT " + FACET_COLUMNS + FROM_SQL
+            + "WHERE o.member_id = ?";
+
+    private static final String FIND_ALL_SQL = "SELECT o.member_id, " + FACET_COLUMNS + FROM_SQL;
+
+    private static final String COUNT_SQL = "SELECT " + FACET_COLUMNS + ", COUNT(*) AS oneseo_count " + FROM_SQL
+            + "GROUP BY " + FACET_COLUMNS;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<OneseoFacetDto> findByMemberId(Long memberId) {
+        return jdbcTemplate.query(FIND_BY_MEMBER_ID_SQL, (rs, rowNum) -> toFacet(rs), memberId).stream()
+                .findFirst();
+    }
+
+    public Map<Long, OneseoFacetDto> findAll() {
+        Map<Long, OneseoFacetDto> facets = new HashMap<>();
+        jdbcTemplate.query(FIND_ALL_SQL, rs -> {
+            facets.put(rs.getLong("member_id"), toFacet(rs));
+        });
+        return facets;
+    }
+
+    // 같은 전형 분류의 지원 전형은 하나로 합산
+    public Map<OneseoFacetDto, Long> countAll() {
+        Map<OneseoFacetDto, Long> counts = new HashMap<>();
+        List<Map.Entry<OneseoFacetDto, Long>> rows = jdbcTemplate.query(COUNT_SQL,
+                (rs, rowNum) -> Map.entry(toFacet(rs), rs.getLong("oneseo_count")));
+        rows.forEach(row -> counts.merge(row.getKey(), row.getValue(), Long::sum));
+        return counts;
+    }
+
+    private OneseoFacetDto toFacet(ResultSet rs) throws SQLException {
+        return new OneseoFacetDto(Screening.valueOf(rs.getString("wanted_screening")).getScreeningCategory(),
+                YesNo.valueOf(rs.getString("real_oneseo_arrived_yn")), yesNoOf(rs.getString("first_test_pass_yn")),
+                yesNoOf(rs.getString("second_test_pass_yn")));
+    }
+
+    private YesNo yesNoOf(String value) {
+        return value == null ? null : YesNo.valueOf(value);
+    }
+}
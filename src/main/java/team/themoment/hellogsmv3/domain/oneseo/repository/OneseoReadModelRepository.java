@@ -0,0 +1,34 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.OneseoReadModel;
+
+public interface OneseoReadModelRepository extends JpaRepository<OneseoReadModel, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_oneseo_read_model (member_id, oneseo_id, document, updated_time)
+            VALUES (:memberId, :oneseoId, :document, NOW(6))
+            ON DUPLICATE KEY UPDATE oneseo_id = VALUES(oneseo_id), document = VALUES(document),
+                updated_time = VALUES(updated_time)
+            """, nativeQuery = true)
+    void upsert(@Param("memberId") Long memberId, @Param("oneseoId") Long oneseoId,
+            @Param("document") String document);
+
+    // 조회 중 만든 읽기 모델이 그 사이 커밋된 최신 읽기 모델을 덮어쓰지 않도록 없을 때만 저장
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO tb_oneseo_read_model (member_id, oneseo_id, document, updated_time)
+            VALUES (:memberId, :oneseoId, :document, NOW(6))
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("memberId") Long memberId, @Param("oneseoId") Long oneseoId,
+            @Param("document") String document);
+
+    @Modifying
+    @Query("DELETE FROM OneseoReadModel r WHERE r.memberId = :memberId")
+    void deleteByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,8 +1,10 @@
 package team.themoment.hellogsmv3.domain.oneseo.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,10 +15,27 @@ import team.themoment.hellogsmv3.domain.oneseo.repository.custom.CustomOneseoRep
 public interface OneseoRepository extends JpaRepository<Oneseo, Long>, CustomOneseoRepository {
     boolean existsByMember(Member member);
 
+    boolean existsByMemberId(Long memberId);
+
     Optional<Oneseo> findByMember(Member member);
 
     @Query("SELECT o.member.id FROM Oneseo o WHERE o.oneseoSubmitCode = :submitCode")
     Optional<Long> findMemberIdByOneseoSubmitCode(@Param("submitCode") String submitCode);
 
     void deleteByOneseoSubmitCode(String oneseoSubmitCode);
+
+    @Modifying
+    @Query("UPDATE Oneseo o SET o.updatedTime = :updatedTime WHERE o.member.id = :memberId")
+    int updateUpdatedTimeByMemberId(@Param("memberId") Long memberId, @Param("updatedTime") LocalDateTime updatedTime);
+
+    // 네이티브 쿼리 실행 전에 영속성 컨텍스트가 flush되므로 같은 트랜잭션에서 바뀐 출신 학교도 반영됨
+    @Modifying
+    @Query(value = """
+            UPDATE tb_oneseo o
+            JOIN tb_member m ON m.member_id = o.member_id
+            LEFT JOIN tb_oneseo_privacy_detail p ON p.oneseo_id = o.oneseo_id
+            SET o.search_text = CONCAT_WS(' ', m.name, p.school_name, m.phone_number)
+            WHERE o.member_id = :memberId
+            """, nativeQuery = true)
+    int updateSearchTextByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,50 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 키워드 검색에 쓰이는 tb_oneseo.search_text 컬럼의 ngram FULLTEXT 인덱스를 관리합니다. JPA 스키마 생성으로는
+ * FULLTEXT 인덱스를 만들 수 없으므로 information_schema를 확인하여 직접 만듭니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OneseoSearchTextJdbcRepository {
+
+    public static final String FULLTEXT_INDEX_NAME = "ftx_oneseo_search_text";
+
+    private static final String EXISTS_INDEX_SQL = """
+            SELECT COUNT(*)
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'tb_oneseo' AND index_name = ?
+            """;
+
+    private static final String CREATE_INDEX_SQL = "ALTER TABLE tb_oneseo ADD FULLTEXT INDEX "
+            + FULLTEXT_INDEX_NAME + " (search_text) WITH PARSER ngram";
+
+    private static final String FILL_MISSING_SQL = """
+            UPDATE tb_oneseo o
+            JOIN tb_member m ON m.member_id = o.member_id
+            LEFT JOIN tb_oneseo_privacy_detail p ON p.oneseo_id = o.oneseo_id
+            SET o.search_text = CONCAT_WS(' ', m.name, p.school_name, m.phone_number)
+            WHERE o.search_text IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean existsFullTextIndex() {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_INDEX_SQL, Integer.class, FULLTEXT_INDEX_NAME);
+        return count != null && count > 0;
+    }
+
+    public void createFullTextIndex() {
+        jdbcTemplate.execute(CREATE_INDEX_SQL);
+    }
+
+    // 검색 컬럼이 추가되기 전에 작성된 원서의 검색 컬럼을 채움
+    public int fillMissingSearchText() {
+        return jdbcTemplate.update(FILL_MISSING_SQL);
+    }
+}
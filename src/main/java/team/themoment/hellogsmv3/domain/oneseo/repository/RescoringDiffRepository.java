@@ -0,0 +1,12 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringDiff;
+
+public interface RescoringDiffRepository extends JpaRepository<RescoringDiff, Long> {
+
+    List<RescoringDiff> findTop100ByRescoringJobIdOrderByIdAsc(Long rescoringJobId);
+}
@@ -0,0 +1,192 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.RescoredDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.RescoringTargetDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.GeneralSubjectsScoreDetailResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.global.common.converter.IntegerListConverter;
+import team.themoment.hellogsmv3.global.common.converter.StringListConverter;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+
+/** 성적 재계산 작업에서 원서를 청크 단위로 읽고, 결과를 batch update로 저장합니다. */
+@Repository
+@RequiredArgsConstructor
+public class RescoringJdbcRepository {
+
+    private static final String FIND_TARGETS_SQL = """
+            SELECT o.oneseo_id, o.member_id, p.graduation_type,
+                   m.achievement_1_2, m.achievement_2_1, m.achievement_2_2, m.achievement_3_1, m.achievement_3_2,
+                   m.general_subjects, m.new_subjects, m.arts_physical_achievement, m.arts_physical_subjects,
+                   m.absent_days, m.attendance_days, m.volunteer_time, m.liberal_system, m.free_semester,
+                   m.ged_avg_score,
+                   r.entrance_test_result_id, r.document_evaluation_score,
+                   d.entrance_test_factors_detail_id, d.general_subjects_score, d.arts_physical_subjects_score,
+                   d.total_subjects_score, d.attendance_score, d.volunteer_score,
+                   d.score_1_2, d.score_2_1, d.score_2_2, d.score_3_1, d.score_3_2
+            FROM tb_oneseo o
+            JOIN tb_oneseo_privacy_detail p ON p.oneseo_id = o.oneseo_id
+            JOIN tb_middle_school_achievement m ON m.oneseo_id = o.oneseo_id
+            JOIN tb_entrance_test_result r ON r.oneseo_id = o.oneseo_id
+            JOIN tb_entrance_test_factors_detail d ON d.entrance_test_factors_detail_id = r.entrance_test_factors_detail_id
+            WHERE o.oneseo_id > ?
+              AND r.document_evaluation_score IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM tb_scoring_outbox s
+                              WHERE s.oneseo_id = o.oneseo_id AND s.scoring_status IN ('PENDING', 'PROCESSING'))
+            ORDER BY o.oneseo_id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_FACTORS_DETAIL_SQL = """
+            UPDATE tb_entrance_test_factors_detail
+            SET general_subjects_score = ?, arts_physical_subjects_score = ?, total_subjects_score = ?,
+                attendance_score = ?, volunteer_score = ?, total_non_subjects_score = ?,
+                score_1_2 = ?, score_2_1 = ?, score_2_2 = ?, score_3_1 = ?, score_3_2 = ?
+            WHERE entrance_test_factors_detail_id = ?
+            """;
+
+    private static final String LOCK_CURRENT_SCORES_SQL = """
+            SELECT r.entrance_test_result_id, r.document_evaluation_score
+            FROM tb_entrance_test_result r
+            WHERE r.entrance_test_result_id IN (%s)
+              AND NOT EXISTS (SELECT 1 FROM tb_scoring_outbox s
+                              WHERE s.oneseo_id = r.oneseo_id AND s.scoring_status IN ('PENDING', 'PROCESSING'))
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_DOCUMENT_EVALUATION_SCORE_SQL = """
+            UPDATE tb_entrance_test_result SET document_evaluation_score = ?
+            WHERE entrance_test_result_id = ? AND document_evaluation_score <=> ?
+            """;
+
+    private static final String INSERT_DIFF_SQL = """
+            INSERT INTO tb_rescoring_diff (rescoring_job_id, oneseo_id, member_id, before_score, after_score, changed_fields)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IntegerListConverter integerListConverter = new IntegerListConverter();
+    private final StringListConverter stringListConverter = new StringListConverter();
+
+    /** 성적 계산이 끝났고 outbox가 대기 중이거나 처리 중이 아닌 원서를 oneseo_id 순으로 lastOneseoId 다음부터 limit개 조회합니다. */
+    public List<RescoringTargetDto> findTargets(long lastOneseoId, int limit) {
+        return jdbcTemplate.query(FIND_TARGETS_SQL, (rs, rowNum) -> toTarget(rs), lastOneseoId, limit);
+    }
+
+    /**
+     * 재계산한 원서 중 읽은 뒤로 점수가 바뀌지 않았고 성적 계산 outbox가 대기 중이거나 처리 중이 아닌 원서만 반환하고, 트랜잭션이 끝날
+     * 때까지 해당 응시결과 행을 잠급니다. rewriteBatchedStatements 설정에 따라 드라이버가 행별 반영 수를 알려주지 않을 수
+     * 있으므로(SUCCESS_NO_INFO), 경합에서 진 원서는 반영 수가 아니라 이 조회로 걸러냅니다.
+     */
+    public List<RescoredDto> lockUnchangedSinceRead(List<RescoredDto> rescored) {
+        if (rescored.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(rescored.size(), "?"));
+        Map<Long, BigDecimal> currentScores = new HashMap<>();
+        jdbcTemplate.query(LOCK_CURRENT_SCORES_SQL.formatted(placeholders), (RowCallbackHandler) rs -> currentScores
+                .put(rs.getLong("entrance_test_result_id"), rs.getBigDecimal("document_evaluation_score")),
+                rescored.stream().map(result -> result.target().entranceTestResultId()).toArray());
+
+        return rescored.stream().filter(result -> {
+            Long entranceTestResultId = result.target().entranceTestResultId();
+            return currentScores.containsKey(entranceTestResultId) && isSameScore(
+                    currentScores.get(entranceTestResultId), result.target().currentScore().totalScore());
+        }).toList();
+    }
+
+    /** lockUnchangedSinceRead로 걸러낸 원서의 점수를 저장합니다. 총점은 읽은 점수와 같을 때만 바꿉니다. */
+    public void updateScores(List<RescoredDto> rescored) {
+        jdbcTemplate.batchUpdate(UPDATE_FACTORS_DETAIL_SQL, rescored, rescored.size(), (ps, result) -> {
+            CalculatedScoreResDto score = result.calculatedScore();
+            GeneralSubjectsScoreDetailResDto detail = score.generalSubjectsScoreDetail();
+            boolean isGed = score.generalSubjectsScore() == null;
+
+            ps.setBigDecimal(1, score.generalSubjectsScore());
+            ps.setBigDecimal(2, isGed ? null : score.artsPhysicalSubjectsScore());
+            ps.setBigDecimal(3, score.totalSubjectsScore() != null || isGed
+                    ? score.totalSubjectsScore()
+                    : score.generalSubjectsScore().add(score.artsPhysicalSubjectsScore()));
+            ps.setBigDecimal(4, score.attendanceScore());
+            ps.setBigDecimal(5, score.volunteerScore());
+            ps.setBigDecimal(6, score.attendanceScore().add(score.volunteerScore()));
+            ps.setBigDecimal(7, isGed || detail == null ? null : detail.score1_2());
+            ps.setBigDecimal(8, isGed || detail == null ? null : detail.score2_1());
+            ps.setBigDecimal(9, isGed || detail == null ? null : detail.score2_2());
+            ps.setBigDecimal(10, isGed || detail == null ? null : detail.score3_1());
+            ps.setBigDecimal(11, isGed || detail == null ? null : detail.score3_2());
+            ps.setLong(12, result.target().entranceTestFactorsDetailId());
+        });
+
+        jdbcTemplate.batchUpdate(UPDATE_DOCUMENT_EVALUATION_SCORE_SQL, rescored, rescored.size(), (ps, result) -> {
+            ps.setBigDecimal(1, result.calculatedScore().totalScore());
+            ps.setLong(2, result.target().entranceTestResultId());
+            ps.setBigDecimal(3, result.target().currentScore().totalScore());
+        });
+    }
+
+    public void insertDiffs(Long rescoringJobId, List<RescoredDto> rescored) {
+        jdbcTemplate.batchUpdate(INSERT_DIFF_SQL, rescored, rescored.size(), (ps, result) -> {
+            ps.setLong(1, rescoringJobId);
+            ps.setLong(2, result.target().oneseoId());
+            ps.setLong(3, result.target().memberId());
+            ps.setBigDecimal(4, result.target().currentScore().totalScore());
+            ps.setBigDecimal(5, result.calculatedScore().totalScore());
+            ps.setString(6, String.join(",", result.changedFields()));
+        });
+    }
+
+    private boolean isSameScore(BigDecimal current, BigDecimal read) {
+        return current == null ? read == null : read != null && current.compareTo(read) == 0;
+    }
+
+    private RescoringTargetDto toTarget(ResultSet rs) throws SQLException {
+        LambdaScoreCalculatorReqDto reqDto = new LambdaScoreCalculatorReqDto(null, integers(rs, "achievement_1_2"),
+                integers(rs, "achievement_2_1"), integers(rs, "achievement_2_2"), integers(rs, "achievement_3_1"),
+                integers(rs, "achievement_3_2"), strings(rs, "general_subjects"), strings(rs, "new_subjects"),
+                integers(rs, "arts_physical_achievement"), strings(rs, "arts_physical_subjects"),
+                integers(rs, "absent_days"), integers(rs, "attendance_days"), integers(rs, "volunteer_time"),
+                rs.getString("liberal_system"), rs.getString("free_semester"), rs.getBigDecimal("ged_avg_score"),
+                GraduationType.valueOf(rs.getString("graduation_type")));
+
+        BigDecimal generalSubjectsScore = rs.getBigDecimal("general_subjects_score");
+        GeneralSubjectsScoreDetailResDto detail = generalSubjectsScore == null
+                ? null
+                : GeneralSubjectsScoreDetailResDto.builder().score1_2(rs.getBigDecimal("score_1_2"))
+                        .score2_1(rs.getBigDecimal("score_2_1")).score2_2(rs.getBigDecimal("score_2_2"))
+                        .score3_1(rs.getBigDecimal("score_3_1")).score3_2(rs.getBigDecimal("score_3_2")).build();
+
+        CalculatedScoreResDto currentScore = CalculatedScoreResDto.builder().generalSubjectsScore(generalSubjectsScore)
+                .generalSubjectsScoreDetail(detail)
+                .artsPhysicalSubjectsScore(rs.getBigDecimal("arts_physical_subjects_score"))
+                .totalSubjectsScore(rs.getBigDecimal("total_subjects_score"))
+                .attendanceScore(rs.getBigDecimal("attendance_score"))
+                .volunteerScore(rs.getBigDecimal("volunteer_score"))
+                .totalScore(rs.getBigDecimal("document_evaluation_score")).build();
+
+        return new RescoringTargetDto(rs.getLong("oneseo_id"), rs.getLong("member_id"),
+                rs.getLong("entrance_test_result_id"), rs.getLong("entrance_test_factors_detail_id"), reqDto,
+                currentScore);
+    }
+
+    private List<Integer> integers(ResultSet rs, String column) throws SQLException {
+        return integerListConverter.convertToEntityAttribute(rs.getString(column));
+    }
+
+    private List<String> strings(ResultSet rs, String column) throws SQLException {
+        return stringListConverter.convertToEntityAttribute(rs.getString(column));
+    }
+}
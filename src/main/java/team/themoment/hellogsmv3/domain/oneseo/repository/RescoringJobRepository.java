@@ -0,0 +1,45 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus;
+
+public interface RescoringJobRepository extends JpaRepository<RescoringJob, Long> {
+
+    boolean existsByStatus(RescoringJobStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM RescoringJob j WHERE j.id = :id")
+    Optional<RescoringJob> findByIdForUpdate(@Param("id") Long id);
+
+    /** 생존 시각이 staleBefore보다 오래된 실행 중 작업을 중단 상태로 바꿉니다. 다른 서버에서 실행 중인 작업은 건드리지 않습니다. */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RescoringJob j SET j.status = team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus.INTERRUPTED, "
+            + "j.runningSlot = NULL WHERE j.status = team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus.RUNNING "
+            + "AND (j.heartbeatTime IS NULL OR j.heartbeatTime < :staleBefore)")
+    int interruptStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 중단되거나 실패한 작업을 이 서버에서 실행 중인 상태로 바꿉니다. 다른 요청이 먼저 바꾸었다면 0을 반환하며, 다른 작업이 실행 중이면
+     * 유니크 제약 위반이 발생합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RescoringJob j SET j.status = team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus.RUNNING, "
+            + "j.ownerId = :ownerId, j.heartbeatTime = :now, j.runningSlot = " + RescoringJob.RUNNING_SLOT
+            + ", j.lastError = NULL WHERE j.id = :id AND j.status IN ("
+            + "team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus.INTERRUPTED, "
+            + "team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus.FAILED)")
+    int resume(@Param("id") Long id, @Param("ownerId") String ownerId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,39 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ScoringOutbox;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus;
+
+public interface ScoringOutboxRepository extends JpaRepository<ScoringOutbox, Long> {
+
+    Optional<ScoringOutbox> findByOneseoId(Long oneseoId);
+
+    Optional<ScoringOutbox> findByMemberId(Long memberId);
+
+    long countByStatus(ScoringStatus status);
+
+    Optional<ScoringOutbox> findFirstByStatusOrderByEnqueuedTimeAscIdAsc(ScoringStatus status);
+
+    /**
+     * 처리할 outbox를 잠금과 함께 조회합니다. 다른 워커가 잠근 row는 건너뛰며(SKIP LOCKED), 처리 중 멈춘 row는
+     * staleBefore 이후 다시 대상이 됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM ScoringOutbox s WHERE s.status = team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus.PENDING "
+            + "OR (s.status = team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus.PROCESSING AND s.updatedTime < :staleBefore) "
+            + "ORDER BY s.enqueuedTime, s.id")
+    List<ScoringOutbox> findClaimable(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+}
@@ -0,0 +1,63 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.SecondTestResultDto;
+
+/** 2차 전형 점수를 수험번호 기준 batch update로 저장합니다. */
+@Repository
+@RequiredArgsConstructor
+public class SecondTestResultJdbcRepository {
+
+    private static final String UPDATE_SCORES_SQL = """
+            UPDATE tb_entrance_test_result r
+            JOIN tb_oneseo o ON o.oneseo_id = r.oneseo_id
+            SET r.competency_evaluation_score = ?, r.interview_score = ?, o.updated_time = ?
+            WHERE o.examination_number = ?
+            """;
+
+    private static final String FIND_EXISTING_SQL = """
+            SELECT o.examination_number
+            FROM tb_oneseo o
+            JOIN tb_entrance_test_result r ON r.oneseo_id = o.oneseo_id
+            WHERE o.examination_number IN (%s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 주어진 수험번호 중 응시결과가 있는 수험번호를 반환합니다. */
+    public Set<String> findExistingExaminationNumbers(List<String> examinationNumbers) {
+        if (examinationNumbers.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(examinationNumbers.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(FIND_EXISTING_SQL.formatted(placeholders), String.class,
+                examinationNumbers.toArray()));
+    }
+
+    /**
+     * 수험번호가 일치하는 응시결과의 점수를 저장합니다. rewriteBatchedStatements 설정에 따라 드라이버가 행별 반영 수를 알려주지 않을 수
+     * 있으므로(SUCCESS_NO_INFO), 응시결과가 있는지는 findExistingExaminationNumbers로 확인합니다.
+     */
+    public void updateScores(List<SecondTestResultDto> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        Timestamp updatedTime = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SCORES_SQL, results, results.size(), (ps, result) -> {
+            ps.setBigDecimal(1, result.competencyEvaluationScore());
+            ps.setBigDecimal(2, result.interviewScore());
+            ps.setTimestamp(3, updatedTime);
+            ps.setString(4, result.examinationNumber());
+        });
+    }
+}
@@ -1,17 +1,16 @@
 package team.themoment.hellogsmv3.domain.oneseo.repository.custom;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FoundMemberAndOneseoDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.AdmissionTicketsResDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.SearchOneseoResDto;
-import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
@@ -28,6 +27,17 @@ public interface CustomOneseoRepository {
     Page<SearchOneseoResDto> findAllByKeywordAndScreeningAndSubmissionStatusAndTestResult(String keyword,
             ScreeningCategory screening, YesNo isSubmitted, TestResultTag testResultTag, Pageable pageable);
 
+    /**
+     * 검색 조건에 맞는 원서를 oneseo_id 내림차순으로 lastOneseoId 다음부터 limit건 읽어옵니다. OFFSET 없이 기본 키 범위를
+     * 검색하므로 뒤쪽을 읽어도 느려지지 않으며, lastOneseoId가 없으면 처음부터 읽습니다.
+     */
+    List<SearchOneseoResDto> findAllByKeywordAndScreeningAndSubmissionStatusAndTestResultBefore(String keyword,
+            ScreeningCategory screening, YesNo isSubmitted, TestResultTag testResultTag, Long lastOneseoId,
+            int limit);
+
+    long countByKeywordAndScreeningAndSubmissionStatusAndTestResult(String keyword, ScreeningCategory screening,
+            YesNo isSubmitted, TestResultTag testResultTag);
+
     List<AdmissionTicketsResDto> findAdmissionTickets();
 
     Optional<Oneseo> findByGuardianOrTeacherPhoneNumberAndSubmitCode(String phoneNumber, String submitCode);
@@ -35,11 +45,26 @@ public interface CustomOneseoRepository {
     Optional<Oneseo> findByGuardianOrTeacherPhoneNumberAndExaminationNumber(String phoneNumber,
             String examinationNumber);
 
-    List<Oneseo> findAllByScreeningWithAllDetails(Screening screening);
+    boolean existsAppliedScreening();
+
+    /**
+     * 1차 합격 후 2차에서 떨어지지 않은 원서를 접수번호 순으로 한 행씩 읽어옵니다. 사용한 스트림은 반드시 닫아야 하며, 스트림이 열려
+     * 있는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없습니다.
+     */
+    default Stream<Oneseo> streamAllByScreeningWithAllDetails(Screening screening, boolean byAppliedScreening) {
+        return streamAllByScreeningWithAllDetails(screening, byAppliedScreening, null);
+    }
+
+    /** changedSince가 있으면 그 시각 이후에 바뀐 원서만 updated_time 인덱스로 골라 읽어옵니다. */
+    Stream<Oneseo> streamAllByScreeningWithAllDetails(Screening screening, boolean byAppliedScreening,
+            LocalDateTime changedSince);
 
-    List<Oneseo> findAllFailedWithAllDetails();
+    default Stream<Oneseo> streamAllFailedWithAllDetails() {
+        return streamAllFailedWithAllDetails(null);
+    }
 
-    Map<String, EntranceTestResult> findEntranceTestResultByExaminationNumbersIn(List<String> examinationNumbers);
+    Stream<Oneseo> streamAllFailedWithAllDetails(LocalDateTime changedSince);
 
-    FoundMemberAndOneseoDto findMemberAndOneseoByMemberId(Long memberId);
+    /** 회원 ID로 원서를 조회하며, 조회 계획에 포함된 연관 엔티티를 한 번의 쿼리로 함께 가져옵니다. */
+    Optional<Oneseo> findByMemberIdWithFetchPlan(Long memberId, OneseoFetchPlan fetchPlan);
 }
@@ -0,0 +1,20 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository.custom;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원서를 조회할 때 함께 fetch join할 연관 엔티티의 범위입니다. 전형 결과, 인적 사항, 중학교 성적은 원서가 1:1 관계의 주인이
+ * 아니어서 지연 로딩되지 않으므로, 별도의 조회가 발생하지 않도록 모든 계획에서 함께 가져옵니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OneseoFetchPlan {
+
+    /** 원서와 회원, 전형 결과 */
+    MEMBER_AND_RESULT(false),
+    /** MEMBER_AND_RESULT에 더해 성적 산출 상세까지 */
+    ALL(true);
+
+    private final boolean fetchScoreDetail;
+}
@@ -1,6 +1,5 @@
 package team.themoment.hellogsmv3.domain.oneseo.repository.custom.impl;
 
-import static com.querydsl.core.types.ExpressionUtils.anyOf;
 import static team.themoment.hellogsmv3.domain.member.entity.QMember.member;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.QEntranceTestFactorsDetail.entranceTestFactorsDetail;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.QEntranceTestResult.entranceTestResult;
@@ -9,38 +8,46 @@ import static team.themoment.hellogsmv3.domain.oneseo.entity.QOneseo.oneseo;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.QOneseoPrivacyDetail.oneseoPrivacyDetail;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.NO;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
+import static team.themoment.hellogsmv3.global.config.MySqlFunctionContributor.MATCH_AGAINST;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
-import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FoundMemberAndOneseoDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.AdmissionTicketsResDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.SearchOneseoResDto;
-import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
 import team.themoment.hellogsmv3.domain.oneseo.repository.custom.CustomOneseoRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan;
 
 @Repository
 @RequiredArgsConstructor
 public class CustomOneseoRepositoryImpl implements CustomOneseoRepository {
 
+    // MySQL ngram 파서의 기본 토큰 크기(ngram_token_size)
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -86,55 +93,81 @@ public class CustomOneseoRepositoryImpl implements CustomOneseoRepository {
 
         BooleanBuilder builder = createBooleanBuilder(keyword, screeningTag, isSubmitted, testResultTag);
 
-        List<SearchOneseoResDto> oneseos = queryFactory
-                .select(Projections.constructor(SearchOneseoResDto.class, oneseo.member.id, oneseo.oneseoSubmitCode,
-                        oneseo.realOneseoArrivedYn, oneseo.member.name, oneseo.wantedScreening,
-                        oneseo.oneseoPrivacyDetail.schoolName, oneseo.member.phoneNumber,
+        List<SearchOneseoResDto> oneseos = selectSearchOneseo(builder).orderBy(oneseo.oneseoSubmitCode.desc())
+                .offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
+
+        return PageableExecutionUtils.getPage(oneseos, pageable, () -> getTotalCount(builder));
+    }
+
+    @Override
+    public List<SearchOneseoResDto> findAllByKeywordAndScreeningAndSubmissionStatusAndTestResultBefore(
+            String keyword, ScreeningCategory screeningTag, YesNo isSubmitted, TestResultTag testResultTag,
+            Long lastOneseoId, int limit) {
+
+        BooleanBuilder builder = createBooleanBuilder(keyword, screeningTag, isSubmitted, testResultTag);
+        if (lastOneseoId != null) {
+            builder.and(oneseo.id.lt(lastOneseoId));
+        }
+
+        return selectSearchOneseo(builder).orderBy(oneseo.id.desc()).limit(limit).fetch();
+    }
+
+    @Override
+    public long countByKeywordAndScreeningAndSubmissionStatusAndTestResult(String keyword,
+            ScreeningCategory screeningTag, YesNo isSubmitted, TestResultTag testResultTag) {
+        return getTotalCount(createBooleanBuilder(keyword, screeningTag, isSubmitted, testResultTag));
+    }
+
+    private JPAQuery<SearchOneseoResDto> selectSearchOneseo(BooleanBuilder builder) {
+        return queryFactory
+                .select(Projections.constructor(SearchOneseoResDto.class, oneseo.id, oneseo.member.id,
+                        oneseo.oneseoSubmitCode, oneseo.realOneseoArrivedYn, oneseo.member.name,
+                        oneseo.wantedScreening, oneseo.oneseoPrivacyDetail.schoolName, oneseo.member.phoneNumber,
                         oneseo.oneseoPrivacyDetail.guardianPhoneNumber,
                         oneseo.oneseoPrivacyDetail.schoolTeacherPhoneNumber, oneseo.examinationNumber,
                         oneseo.entranceTestResult.firstTestPassYn, oneseo.entranceTestResult.competencyEvaluationScore,
                         oneseo.entranceTestResult.interviewScore, oneseo.entranceTestResult.secondTestPassYn,
                         oneseo.entranceIntentionYn))
                 .from(oneseo).join(oneseo.member, member).join(oneseo.oneseoPrivacyDetail, oneseoPrivacyDetail)
-                .join(oneseo.entranceTestResult, entranceTestResult).where(builder)
-                .orderBy(oneseo.oneseoSubmitCode.desc()).offset(pageable.getOffset()).limit(pageable.getPageSize())
-                .fetch();
-
-        return PageableExecutionUtils.getPage(oneseos, pageable, () -> getTotalCount(builder));
+                .join(oneseo.entranceTestResult, entranceTestResult).where(builder);
     }
 
     @Override
-    public List<Oneseo> findAllByScreeningWithAllDetails(Screening screening) {
-        boolean isExistAppliedScreening = queryFactory.selectOne().from(oneseo)
-                .where(oneseo.appliedScreening.isNotNull()).fetchFirst() != null;
+    public boolean existsAppliedScreening() {
+        return queryFactory.selectOne().from(oneseo).where(oneseo.appliedScreening.isNotNull()).fetchFirst() != null;
+    }
 
-        return queryFactory.selectFrom(oneseo).join(oneseo.member, member).fetchJoin()
-                .join(oneseo.oneseoPrivacyDetail, oneseoPrivacyDetail).fetchJoin()
-                .join(oneseo.entranceTestResult, entranceTestResult).fetchJoin()
-                .join(entranceTestResult.entranceTestFactorsDetail, entranceTestFactorsDetail).fetchJoin()
-                .leftJoin(oneseo.middleSchoolAchievement, middleSchoolAchievement).fetchJoin()
-                .where((isExistAppliedScreening
-                        ? oneseo.appliedScreening.eq(screening)
-                        : oneseo.wantedScreening.eq(screening))
-                        .and(entranceTestResult.firstTestPassYn.eq(YES))
-                        .and(entranceTestResult.secondTestPassYn.eq(YES)
-                                .or(entranceTestResult.secondTestPassYn.isNull())))
-                .orderBy(oneseo.oneseoSubmitCode.substring(0, 1).asc(),
-                        oneseo.oneseoSubmitCode.substring(2).castToNum(Integer.class).asc())
-                .fetch();
+    @Override
+    public Stream<Oneseo> streamAllByScreeningWithAllDetails(Screening screening, boolean byAppliedScreening,
+            LocalDateTime changedSince) {
+        return streamWithAllDetails((byAppliedScreening
+                ? oneseo.appliedScreening.eq(screening)
+                : oneseo.wantedScreening.eq(screening)).and(entranceTestResult.firstTestPassYn.eq(YES))
+                .and(entranceTestResult.secondTestPassYn.eq(YES).or(entranceTestResult.secondTestPassYn.isNull()))
+                .and(changedSince(changedSince)));
     }
 
     @Override
-    public List<Oneseo> findAllFailedWithAllDetails() {
+    public Stream<Oneseo> streamAllFailedWithAllDetails(LocalDateTime changedSince) {
+        return streamWithAllDetails(entranceTestResult.firstTestPassYn.eq(NO)
+                .or(entranceTestResult.secondTestPassYn.eq(NO)).and(changedSince(changedSince)));
+    }
+
+    private BooleanExpression changedSince(LocalDateTime changedSince) {
+        return changedSince != null ? oneseo.updatedTime.after(changedSince) : null;
+    }
+
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 미리 모두 받지 않고 한 행씩 가져옴
+    private Stream<Oneseo> streamWithAllDetails(Predicate condition) {
         return queryFactory.selectFrom(oneseo).join(oneseo.member, member).fetchJoin()
                 .join(oneseo.oneseoPrivacyDetail, oneseoPrivacyDetail).fetchJoin()
                 .join(oneseo.entranceTestResult, entranceTestResult).fetchJoin()
                 .join(entranceTestResult.entranceTestFactorsDetail, entranceTestFactorsDetail).fetchJoin()
-                .leftJoin(oneseo.middleSchoolAchievement, middleSchoolAchievement).fetchJoin()
-                .where(entranceTestResult.firstTestPassYn.eq(NO).or(entranceTestResult.secondTestPassYn.eq(NO)))
+                .leftJoin(oneseo.middleSchoolAchievement, middleSchoolAchievement).fetchJoin().where(condition)
                 .orderBy(oneseo.oneseoSubmitCode.substring(0, 1).asc(),
                         oneseo.oneseoSubmitCode.substring(2).castToNum(Integer.class).asc())
-                .fetch();
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true).stream();
     }
 
     private long getTotalCount(BooleanBuilder builder) {
@@ -153,13 +186,24 @@ public class CustomOneseoRepositoryImpl implements CustomOneseoRepository {
         return builder;
     }
 
+    // FULLTEXT 인덱스로 후보를 좁힌 뒤 LIKE로 다시 걸러 키워드를 그대로 포함한 원서만 반환
+    // ngram 토큰보다 짧은 단어가 있으면 인덱스로 찾을 수 없으므로 검색 컬럼만 LIKE로 검사
     private void applyKeyword(BooleanBuilder builder, String keyword) {
         if (keyword == null)
             return;
 
-        builder.and(anyOf(oneseo.member.name.like("%" + keyword + "%"),
-                oneseoPrivacyDetail.schoolName.like("%" + keyword + "%"),
-                oneseo.member.phoneNumber.like("%" + keyword + "%")));
+        builder.and(oneseo.searchText.like("%" + keyword + "%"));
+
+        String phrase = keyword.replace("\"", "").strip();
+        if (isFullTextSearchable(phrase)) {
+            builder.and(Expressions.numberTemplate(Double.class, "function('" + MATCH_AGAINST + "', {0}, {1})",
+                    oneseo.searchText, Expressions.constant("\"" + phrase + "\"")).gt(0));
+        }
+    }
+
+    private static boolean isFullTextSearchable(String phrase) {
+        return !phrase.isEmpty() && Arrays.stream(phrase.split("\\s+"))
+                .allMatch(word -> word.codePointCount(0, word.length()) >= NGRAM_TOKEN_SIZE);
     }
 
     private void applyScreeningTag(BooleanBuilder builder, ScreeningCategory screeningTag) {
@@ -195,21 +239,16 @@ public class CustomOneseoRepositoryImpl implements CustomOneseoRepository {
     }
 
     @Override
-    public Map<String, EntranceTestResult> findEntranceTestResultByExaminationNumbersIn(
-            List<String> examinationNumbers) {
-        return queryFactory.selectFrom(entranceTestResult).select(oneseo.examinationNumber, entranceTestResult)
-                .join(entranceTestResult.oneseo, oneseo).where(oneseo.examinationNumber.in(examinationNumbers)).fetch()
-                .stream().collect(Collectors.toMap(tuple -> tuple.get(oneseo.examinationNumber),
-                        tuple -> tuple.get(entranceTestResult)));
-    }
-
-    @Override
-    public FoundMemberAndOneseoDto findMemberAndOneseoByMemberId(Long memberId) {
-        Tuple result = queryFactory.select(member, oneseo).from(member).leftJoin(oneseo).on(oneseo.member.eq(member))
-                .where(member.id.eq(memberId)).fetchOne();
-        if (result == null)
-            return new FoundMemberAndOneseoDto(null, null);
+    public Optional<Oneseo> findByMemberIdWithFetchPlan(Long memberId, OneseoFetchPlan fetchPlan) {
+        JPAQuery<Oneseo> query = queryFactory.selectFrom(oneseo).join(oneseo.member, member).fetchJoin()
+                .leftJoin(oneseo.entranceTestResult, entranceTestResult).fetchJoin()
+                .leftJoin(oneseo.oneseoPrivacyDetail, oneseoPrivacyDetail).fetchJoin()
+                .leftJoin(oneseo.middleSchoolAchievement, middleSchoolAchievement).fetchJoin();
+
+        if (fetchPlan.isFetchScoreDetail()) {
+            query.leftJoin(entranceTestResult.entranceTestFactorsDetail, entranceTestFactorsDetail).fetchJoin();
+        }
 
-        return new FoundMemberAndOneseoDto(result.get(member), result.get(oneseo));
+        return Optional.ofNullable(query.where(member.id.eq(memberId)).fetchOne());
     }
 }
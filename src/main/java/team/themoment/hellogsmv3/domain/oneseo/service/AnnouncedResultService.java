@@ -0,0 +1,112 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.AnnouncedResultDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.repository.AnnouncedResultJdbcRepository;
+
+/**
+ * 결과를 발표할 때 회원별 합격 여부와 배정 학과를 Redis 해시에 한 번에 만들어 두고, 서버마다 메모리에 복사하여 조회합니다. 발표 후에는
+ * 결과가 바뀌지 않으므로 결과 조회가 DB에 접근하지 않으며, 발표 전이거나 Redis를 읽을 수 없으면 빈 값을 반환합니다.
+ */
+@Slf4j
+@Service
+public class AnnouncedResultService {
+
+    static final String KEY_PREFIX = "announced-result:";
+    private static final String REBUILD_KEY_SUFFIX = ":rebuild";
+    private static final String DELIMITER = "|";
+
+    // 다른 서버에서 결과를 지운 경우에도 잠시 뒤에는 반영되도록 주기적으로 Redis에서 다시 읽음
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1L);
+
+    private final AnnouncedResultJdbcRepository announcedResultJdbcRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<AnnouncementRound, Map<Long, AnnouncedResultDto>> localCache;
+
+    public AnnouncedResultService(AnnouncedResultJdbcRepository announcedResultJdbcRepository,
+            StringRedisTemplate redisTemplate) {
+        this.announcedResultJdbcRepository = announcedResultJdbcRepository;
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder().expireAfterWrite(LOCAL_TTL).build();
+    }
+
+    public Optional<AnnouncedResultDto> find(AnnouncementRound round, Long memberId) {
+        Map<Long, AnnouncedResultDto> results = localCache.get(round, this::loadFromRedis);
+        return results == null ? Optional.empty() : Optional.ofNullable(results.get(memberId));
+    }
+
+    public void publish(AnnouncementRound round) {
+        Map<Long, AnnouncedResultDto> results = announcedResultJdbcRepository.findAll(round);
+
+        Map<String, String> entries = new HashMap<>();
+        results.forEach((memberId, result) -> entries.put(String.valueOf(memberId), encode(result)));
+
+        String key = keyOf(round);
+        if (entries.isEmpty()) {
+            redisTemplate.delete(key);
+        } else {
+            // 임시 키에 모두 저장한 뒤 교체하여 일부만 저장된 결과를 읽지 않도록 함
+            String rebuildKey = key + REBUILD_KEY_SUFFIX;
+            redisTemplate.delete(rebuildKey);
+            redisTemplate.opsForHash().putAll(rebuildKey, entries);
+            redisTemplate.rename(rebuildKey, key);
+        }
+        localCache.put(round, results);
+    }
+
+    // 합격 여부를 다시 산출하면 이전에 발표한 결과를 더 이상 사용하지 않도록 지움
+    public void clear(AnnouncementRound round) {
+        try {
+            redisTemplate.delete(keyOf(round));
+        } catch (Exception e) {
+            log.warn("발표 결과를 Redis에서 지우지 못했습니다. round: {}", round, e);
+        }
+        localCache.invalidate(round);
+    }
+
+    // 발표 전이라면 null을 반환하여 캐시에 남기지 않음
+    private Map<Long, AnnouncedResultDto> loadFromRedis(AnnouncementRound round) {
+        try {
+            Map<String, String> entries = redisTemplate.<String, String>opsForHash().entries(keyOf(round));
+            if (entries.isEmpty()) {
+                return null;
+            }
+
+            Map<Long, AnnouncedResultDto> results = new HashMap<>();
+            entries.forEach((memberId, value) -> results.put(Long.valueOf(memberId), decode(value)));
+            return results;
+        } catch (Exception e) {
+            log.warn("Redis에서 발표 결과를 읽지 못했습니다. round: {}", round, e);
+            return null;
+        }
+    }
+
+    private static String keyOf(AnnouncementRound round) {
+        return KEY_PREFIX + round.name().toLowerCase();
+    }
+
+    static String encode(AnnouncedResultDto result) {
+        return (result.passYn() == null ? "" : result.passYn().name()) + DELIMITER
+                + (result.decidedMajor() == null ? "" : result.decidedMajor().name());
+    }
+
+    static AnnouncedResultDto decode(String value) {
+        String[] values = value.split("\\" + DELIMITER, -1);
+        return new AnnouncedResultDto(values[0].isEmpty() ? null : YesNo.valueOf(values[0]),
+                values[1].isEmpty() ? null : Major.valueOf(values[1]));
+    }
+}
@@ -0,0 +1,149 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening.EXTRA_VETERANS;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
+import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.OneseoPrivacyDetail;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+
+/** 지원자 엑셀과 데이터 내보내기가 같은 열을 쓰도록 원서 한 건을 내보내기 행으로 변환합니다. */
+public final class ApplicantExportRowMapper {
+
+    public static final List<String> HEADER_NAMES = List.of("순번", "접수번호", "수험번호", "성명", "1지망", "2지망", "3지망", "생년월일",
+            "성별", "집주소", "출신학교", "학교지역", "학번", "학력", "초기전형", "적용되는 전형", "일반교과점수", "예체능점수", "출석점수", "봉사점수", "1차전형총점",
+            "역량평가점수", "심층면접점수", "최종점수", "최종학과", "지원자연락처", "보호자연락처", "담임연락처", "1차전형결과", "2차전형결과");
+
+    private static final Map<Screening, String> SCREENING_DISPLAY_MAP = Map.of(Screening.GENERAL, "일반전형",
+            Screening.SPECIAL, "특별전형", EXTRA_VETERANS, "국가보훈대상자", Screening.EXTRA_ADMISSION, "특례입학대상자");
+
+    private static final Map<YesNo, String> PASS_YN_DISPLAY_MAP = Map.of(YesNo.YES, "합격", YesNo.NO, "불합격");
+
+    private ApplicantExportRowMapper() {
+    }
+
+    /** 순번을 포함해 {@link #HEADER_NAMES} 순서대로 원서 한 건의 값을 문자열로 만듭니다. 값이 없으면 빈 문자열입니다. */
+    public static List<String> toRow(Oneseo oneseo, int index) {
+        EntranceTestResult entranceTestResult = oneseo.getEntranceTestResult();
+        OneseoPrivacyDetail oneseoPrivacyDetail = oneseo.getOneseoPrivacyDetail();
+
+        BigDecimal finalScore = calculateFinalScore(entranceTestResult);
+
+        String firstDesiredMajor = convertMajorDisplayName(oneseo.getDesiredMajors().getFirstDesiredMajor());
+        String secondDesiredMajor = convertMajorDisplayName(oneseo.getDesiredMajors().getSecondDesiredMajor());
+        String thirdDesiredMajor = convertMajorDisplayName(oneseo.getDesiredMajors().getThirdDesiredMajor());
+
+        return List.of(String.valueOf(index), safeToString(oneseo.getOneseoSubmitCode()),
+                safeToString(oneseo.getExaminationNumber()), safeToString(oneseo.getMember().getName()),
+                firstDesiredMajor, secondDesiredMajor, thirdDesiredMajor, formatBirth(oneseo.getMember().getBirth()),
+                convertSex(oneseo.getMember().getSex()), buildAddress(oneseoPrivacyDetail),
+                safeToString(oneseoPrivacyDetail.getSchoolName()),
+                getMetropolitanName(oneseoPrivacyDetail.getSchoolAddress()),
+                formatStudentNumber(oneseoPrivacyDetail.getStudentNumber()),
+                convertGraduationType(oneseoPrivacyDetail.getGraduationType()),
+                convertScreening(oneseo.getWantedScreening()), convertScreening(oneseo.getAppliedScreening()),
+                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getGeneralSubjectsScore()),
+                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getArtsPhysicalSubjectsScore()),
+                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getAttendanceScore()),
+                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getVolunteerScore()),
+                getScoreString(entranceTestResult.getDocumentEvaluationScore()),
+                getScoreString(entranceTestResult.getCompetencyEvaluationScore()),
+                getScoreString(entranceTestResult.getInterviewScore()), getScoreString(finalScore),
+                safeToString(oneseo.getDecidedMajor()), safeToString(oneseo.getMember().getPhoneNumber()),
+                safeToString(oneseoPrivacyDetail.getGuardianPhoneNumber()),
+                safeToString(oneseoPrivacyDetail.getSchoolTeacherPhoneNumber()),
+                convertTestPassYn(entranceTestResult.getFirstTestPassYn()),
+                convertTestPassYn(entranceTestResult.getSecondTestPassYn()));
+    }
+
+    private static String safeToString(Object obj) {
+        return obj != null ? obj.toString() : "";
+    }
+
+    private static String convertMajorDisplayName(Major major) {
+        if (major == null)
+            return "";
+        return major == Major.IOT ? "IoT" : major.toString();
+    }
+
+    private static String formatBirth(LocalDate birth) {
+        return birth.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+
+    private static String getMetropolitanName(String address) {
+        if (address == null)
+            return "검정고시";
+        String[] parts = address.split(" ");
+        return parts[0];
+    }
+
+    private static String formatStudentNumber(String studentNumber) {
+        if (studentNumber == null)
+            return "검정고시";
+        return studentNumber;
+    }
+
+    private static String convertSex(team.themoment.hellogsmv3.domain.member.entity.type.Sex sex) {
+        if (sex == null)
+            return "";
+        return switch (sex) {
+            case MALE -> "남자";
+            case FEMALE -> "여자";
+        };
+    }
+
+    private static String buildAddress(OneseoPrivacyDetail privacyDetail) {
+        if (privacyDetail == null)
+            return "";
+        String address = privacyDetail.getAddress();
+        String detailAddress = privacyDetail.getDetailAddress();
+        return (address != null ? address : "") + (detailAddress != null ? " " + detailAddress : "");
+    }
+
+    private static String convertGraduationType(
+            team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType graduationType) {
+        if (graduationType == null)
+            return "";
+        return switch (graduationType) {
+            case CANDIDATE -> "졸업예정자";
+            case GRADUATE -> "졸업자";
+            case GED -> "검정고시";
+        };
+    }
+
+    private static String convertScreening(Screening screening) {
+        if (screening == null)
+            return "";
+        return SCREENING_DISPLAY_MAP.getOrDefault(screening, "");
+    }
+
+    private static String convertTestPassYn(YesNo yn) {
+        if (yn == null)
+            return "";
+        return PASS_YN_DISPLAY_MAP.getOrDefault(yn, "");
+    }
+
+    private static String getScoreString(BigDecimal score) {
+        return score != null ? score.toString() : "";
+    }
+
+    private static BigDecimal calculateFinalScore(EntranceTestResult entranceTestResult) {
+        if (entranceTestResult == null)
+            return null;
+
+        if (entranceTestResult.getSecondTestPassYn() == null) {
+            return null;
+        }
+
+        return FinalTestDecisionEngine.calculateFinalScore(entranceTestResult.getDocumentEvaluationScore(),
+                entranceTestResult.getCompetencyEvaluationScore(), entranceTestResult.getInterviewScore());
+    }
+}
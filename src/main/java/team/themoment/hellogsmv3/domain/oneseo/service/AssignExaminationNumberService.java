@@ -0,0 +1,53 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.data.ExaminationNumberEnvironment;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.AssignExaminationNumberResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExaminationNumberJdbcRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+/**
+ * 1차 합격자 전체에 수험번호를 발급합니다. 기존 수험번호를 모두 지운 뒤 같은 규칙으로 다시 발급하므로, 합격자가 바뀌지 않았다면
+ * 여러 번 실행해도 같은 결과가 나옵니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssignExaminationNumberService {
+
+    private final ExaminationNumberJdbcRepository examinationNumberJdbcRepository;
+    private final EntranceTestResultRepository entranceTestResultRepository;
+    private final ExaminationNumberEnvironment examinationNumberEnv;
+
+    @Transactional
+    public AssignExaminationNumberResDto execute() {
+        if (entranceTestResultRepository.existsByFirstTestPassYnIsNull()) {
+            throw new ExpectedException("1차 전형 결과가 산출되지 않은 원서가 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        Map<ScreeningCategory, Long> counts = examinationNumberJdbcRepository.countFirstPassByScreeningCategory();
+        counts.forEach(this::validateCapacity);
+
+        examinationNumberJdbcRepository.clearAll();
+        int assignedCount = examinationNumberJdbcRepository.assignToFirstPassApplicants(examinationNumberEnv);
+
+        return new AssignExaminationNumberResDto(assignedCount, counts);
+    }
+
+    private void validateCapacity(ScreeningCategory screeningCategory, Long applicantCount) {
+        long capacity = (long) Math.pow(10, examinationNumberEnv.sequenceWidthOf(screeningCategory)) - 1;
+        if (applicantCount > capacity) {
+            throw new ExpectedException(
+                    "%s 전형의 1차 합격자 수(%d)가 수험번호로 발급할 수 있는 수(%d)를 넘습니다.".formatted(screeningCategory,
+                            applicantCount, capacity),
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -6,7 +6,7 @@ import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.isVa
 
 import java.util.List;
 
-import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -23,10 +23,10 @@ import team.themoment.hellogsmv3.domain.oneseo.entity.*;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.DesiredMajors;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
 import team.themoment.hellogsmv3.domain.oneseo.event.OneseoApplyEvent;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
 import team.themoment.hellogsmv3.domain.oneseo.repository.*;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
-import team.themoment.hellogsmv3.global.thirdParty.feign.client.lambda.LambdaScoreCalculatorClient;
 
 @Service
 @RequiredArgsConstructor
@@ -38,12 +38,12 @@ public class CreateOneseoService {
     private final EntranceTestResultRepository entranceTestResultRepository;
     private final EntranceTestFactorsDetailRepository entranceTestFactorsDetailRepository;
     private final MemberService memberService;
-    private final LambdaScoreCalculatorClient lambdaScoreCalculatorClient;
+    private final ScoringOutboxService scoringOutboxService;
     private final OneseoService oneseoService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
-    @CachePut(value = OneseoService.ONESEO_CACHE_VALUE, key = "#memberId")
+    @CacheEvict(value = OneseoService.ONESEO_CACHE_VALUE, key = "#memberId")
     public FoundOneseoResDto execute(OneseoReqDto reqDto, Long memberId) {
 
         isValidMiddleSchoolInfo(reqDto);
@@ -60,8 +60,7 @@ public class CreateOneseoService {
 
         saveEntities(oneseo, oneseoPrivacyDetail, middleSchoolAchievement);
 
-        CalculatedScoreResDto calculatedScoreResDto = calculateMiddleSchoolAchievement(reqDto.graduationType(),
-                reqDto.middleSchoolAchievement(), oneseo);
+        requestScoring(reqDto.graduationType(), reqDto.middleSchoolAchievement(), oneseo);
 
         OneseoPrivacyDetailResDto oneseoPrivacyDetailResDto = buildOneseoPrivacyDetailResDto(currentMember,
                 oneseoPrivacyDetail);
@@ -69,9 +68,9 @@ public class CreateOneseoService {
                 middleSchoolAchievement);
 
         sendOneseoApplyEvent(currentMember, oneseo, oneseoPrivacyDetail);
+        applicationEventPublisher.publishEvent(new OneseoChangedEvent(memberId));
 
-        return buildOneseoResDto(oneseo, oneseoPrivacyDetailResDto, middleSchoolAchievementResDto,
-                calculatedScoreResDto);
+        return buildOneseoResDto(oneseo, oneseoPrivacyDetailResDto, middleSchoolAchievementResDto);
     }
 
     private void sendOneseoApplyEvent(Member currentMember, Oneseo oneseo, OneseoPrivacyDetail oneseoPrivacyDetail) {
@@ -122,7 +121,7 @@ public class CreateOneseoService {
     }
 
     private FoundOneseoResDto buildOneseoResDto(Oneseo oneseo, OneseoPrivacyDetailResDto oneseoPrivacyDetailResDto,
-            MiddleSchoolAchievementResDto middleSchoolAchievementResDto, CalculatedScoreResDto calculatedScoreResDto) {
+            MiddleSchoolAchievementResDto middleSchoolAchievementResDto) {
         DesiredMajors desiredMajors = oneseo.getDesiredMajors();
 
         return FoundOneseoResDto.builder().oneseoId(oneseo.getId()).submitCode(oneseo.getOneseoSubmitCode())
@@ -131,101 +130,20 @@ public class CreateOneseoService {
                         .secondDesiredMajor(desiredMajors.getSecondDesiredMajor())
                         .thirdDesiredMajor(desiredMajors.getThirdDesiredMajor()).build())
                 .privacyDetail(oneseoPrivacyDetailResDto).middleSchoolAchievement(middleSchoolAchievementResDto)
-                .calculatedScore(calculatedScoreResDto).build();
+                .build();
     }
 
-    private CalculatedScoreResDto calculateMiddleSchoolAchievement(GraduationType graduationType,
-            MiddleSchoolAchievementReqDto middleSchoolAchievement, Oneseo oneseo) {
-        LambdaScoreCalculatorReqDto lambdaRequest = LambdaScoreCalculatorReqDto.from(middleSchoolAchievement,
-                graduationType);
-        CalculatedScoreResDto calculatedScore = lambdaScoreCalculatorClient.calculateScore(lambdaRequest);
-
-        saveCalculatedScoreToDb(calculatedScore, oneseo);
+    private void requestScoring(GraduationType graduationType, MiddleSchoolAchievementReqDto middleSchoolAchievement,
+            Oneseo oneseo) {
+        // 성적은 커밋 이후 outbox 워커가 계산하므로, 조회 시 함께 읽히는 빈 결과 row만 미리 만들어 둠
+        EntranceTestFactorsDetail entranceTestFactorsDetail = EntranceTestFactorsDetail.builder().build();
+        EntranceTestResult entranceTestResult = new EntranceTestResult(oneseo, entranceTestFactorsDetail, null);
 
-        return calculatedScore;
-    }
+        oneseo.modifyEntranceTestResult(entranceTestResult);
+        entranceTestFactorsDetailRepository.save(entranceTestFactorsDetail);
+        entranceTestResultRepository.save(entranceTestResult);
 
-    private void saveCalculatedScoreToDb(CalculatedScoreResDto calculatedScore, Oneseo oneseo) {
-        EntranceTestResult findEntranceTestResult = entranceTestResultRepository.findByOneseo(oneseo);
-
-        if (findEntranceTestResult == null) {
-            EntranceTestFactorsDetail entranceTestFactorsDetail = EntranceTestFactorsDetail.builder()
-                    .generalSubjectsScore(calculatedScore.generalSubjectsScore())
-                    .artsPhysicalSubjectsScore(calculatedScore.artsPhysicalSubjectsScore())
-                    .totalSubjectsScore(calculatedScore.totalSubjectsScore() != null
-                            ? calculatedScore.totalSubjectsScore()
-                            : (calculatedScore.generalSubjectsScore() != null
-                                    && calculatedScore.artsPhysicalSubjectsScore() != null
-                                            ? calculatedScore.generalSubjectsScore()
-                                                    .add(calculatedScore.artsPhysicalSubjectsScore())
-                                            : null))
-                    .attendanceScore(calculatedScore.attendanceScore()).volunteerScore(calculatedScore.volunteerScore())
-                    .totalNonSubjectsScore(
-                            calculatedScore.attendanceScore() != null && calculatedScore.volunteerScore() != null
-                                    ? calculatedScore.attendanceScore().add(calculatedScore.volunteerScore())
-                                    : null)
-                    .score1_2(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score1_2()
-                            : null)
-                    .score2_1(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score2_1()
-                            : null)
-                    .score2_2(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score2_2()
-                            : null)
-                    .score3_1(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score3_1()
-                            : null)
-                    .score3_2(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score3_2()
-                            : null)
-                    .build();
-
-            EntranceTestResult entranceTestResult = new EntranceTestResult(oneseo, entranceTestFactorsDetail,
-                    calculatedScore.totalScore());
-
-            entranceTestFactorsDetailRepository.save(entranceTestFactorsDetail);
-            entranceTestResultRepository.save(entranceTestResult);
-        } else {
-            EntranceTestFactorsDetail findEntranceTestFactorsDetail = findEntranceTestResult
-                    .getEntranceTestFactorsDetail();
-
-            if (calculatedScore.generalSubjectsScore() != null) {
-                findEntranceTestFactorsDetail.updateGradeEntranceTestFactorsDetail(
-                        calculatedScore.generalSubjectsScore(), calculatedScore.artsPhysicalSubjectsScore(),
-                        calculatedScore.totalSubjectsScore() != null
-                                ? calculatedScore.totalSubjectsScore()
-                                : calculatedScore.generalSubjectsScore()
-                                        .add(calculatedScore.artsPhysicalSubjectsScore()),
-                        calculatedScore.attendanceScore(), calculatedScore.volunteerScore(),
-                        calculatedScore.attendanceScore().add(calculatedScore.volunteerScore()),
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score1_2()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score2_1()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score2_2()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score3_1()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score3_2()
-                                : null);
-            } else {
-                findEntranceTestFactorsDetail.updateGedEntranceTestFactorsDetail(calculatedScore.attendanceScore(),
-                        calculatedScore.volunteerScore(), calculatedScore.totalSubjectsScore(),
-                        calculatedScore.attendanceScore().add(calculatedScore.volunteerScore()));
-            }
-
-            findEntranceTestResult.modifyDocumentEvaluationScore(calculatedScore.totalScore());
-
-            oneseo.modifyEntranceTestResult(findEntranceTestResult);
-            entranceTestFactorsDetailRepository.save(findEntranceTestFactorsDetail);
-            entranceTestResultRepository.save(findEntranceTestResult);
-        }
+        scoringOutboxService.enqueue(oneseo, LambdaScoreCalculatorReqDto.from(middleSchoolAchievement, graduationType));
     }
 
     private void saveEntities(Oneseo oneseo, OneseoPrivacyDetail oneseoPrivacyDetail,
@@ -0,0 +1,100 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.data.FinalTestEnvironment;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestDecisionDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.FinalTestDecisionReqDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.FinalTestDecisionResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoFacetChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.FinalTestJdbcRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+/**
+ * 전형별 최종 합격 인원과 학과별 정원으로 최종 합격 여부와 배정 학과를 산출합니다. preview라면 결과를 저장하지 않고 전형별
+ * 합격선과 학과별 배정 현황만 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DecideFinalTestResultService {
+
+    private final FinalTestJdbcRepository finalTestJdbcRepository;
+    private final EntranceTestResultRepository entranceTestResultRepository;
+    private final OperationTestResultRepository operationTestResultRepository;
+    private final FinalTestEnvironment finalTestEnv;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AnnouncedResultService announcedResultService;
+
+    @Transactional
+    public FinalTestDecisionResDto execute(FinalTestDecisionReqDto reqDto, boolean preview) {
+        Map<Screening, Integer> quotas = reqDto != null && reqDto.quotas() != null
+                ? reqDto.quotas()
+                : finalTestEnv.quotas();
+        Map<Major, Integer> majorCapacities = reqDto != null && reqDto.majorCapacities() != null
+                ? reqDto.majorCapacities()
+                : finalTestEnv.majorCapacities();
+
+        if (!preview) {
+            validateNotAnnounced();
+            if (entranceTestResultRepository.existsByFirstTestPassYnIsNull()) {
+                throw new ExpectedException("1차 전형 결과가 산출되지 않은 원서가 있습니다.", HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        List<FinalTestCandidateDto> candidates = finalTestJdbcRepository.findCandidates();
+        if (!preview) {
+            validateAllScored(candidates);
+        }
+
+        FinalTestDecisionDto decision = FinalTestDecisionEngine.decide(candidates, quotas, majorCapacities);
+        if (!preview) {
+            validateAllAllocated(decision);
+            finalTestJdbcRepository.updateResults(decision.passed(), decision.failed());
+            applicationEventPublisher.publishEvent(new OneseoFacetChangedEvent(null));
+            announcedResultService.clear(AnnouncementRound.SECOND);
+        }
+
+        return new FinalTestDecisionResDto(preview, decision.passed().size(), decision.failed().size(),
+                decision.unallocatedCount(), decision.cutoffs(), decision.majors());
+    }
+
+    private void validateNotAnnounced() {
+        OperationTestResult testResult = operationTestResultRepository.findTestResult()
+                .orElseThrow(() -> new ExpectedException("시험 운영 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+        if (testResult.getSecondTestResultAnnouncementYn() == YES) {
+            throw new ExpectedException("이미 2차 결과를 발표하여 최종 합격 여부를 수정할 수 없습니다.", HttpStatus.FORBIDDEN);
+        }
+    }
+
+    private void validateAllScored(List<FinalTestCandidateDto> candidates) {
+        long unscoredCount = candidates.stream().filter(candidate -> !candidate.scored()).count();
+        if (unscoredCount > 0) {
+            throw new ExpectedException("역량 평가 또는 면접 점수가 입력되지 않은 1차 합격자가 %d명 있습니다.".formatted(unscoredCount),
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private void validateAllAllocated(FinalTestDecisionDto decision) {
+        long unallocatedCount = decision.unallocatedCount();
+        if (unallocatedCount > 0) {
+            throw new ExpectedException("학과 정원이 부족하여 학과를 배정받지 못한 합격자가 %d명 있습니다.".formatted(unallocatedCount),
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.data.FirstTestEnvironment;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestDecisionDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.FirstTestDecisionReqDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.FirstTestDecisionResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.FirstTestTieBreaker;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoFacetChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.repository.FirstTestJdbcRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+/**
+ * 전형별 모집 인원으로 1차 합격 여부를 산출합니다. preview라면 결과를 저장하지 않고 전형별 합격선만 반환하므로, 모집 인원을 바꿔가며
+ * 확인한 뒤 확정할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DecideFirstTestResultService {
+
+    private final FirstTestJdbcRepository firstTestJdbcRepository;
+    private final OperationTestResultRepository operationTestResultRepository;
+    private final FirstTestEnvironment firstTestEnv;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AnnouncedResultService announcedResultService;
+
+    @Transactional
+    public FirstTestDecisionResDto execute(FirstTestDecisionReqDto reqDto, boolean preview) {
+        Map<Screening, Integer> quotas = reqDto != null && reqDto.quotas() != null
+                ? reqDto.quotas()
+                : firstTestEnv.quotas();
+        List<FirstTestTieBreaker> tieBreakers = reqDto != null && reqDto.tieBreakers() != null
+                ? reqDto.tieBreakers()
+                : firstTestEnv.tieBreakers();
+
+        if (!preview) {
+            validateNotAnnounced();
+        }
+
+        List<FirstTestCandidateDto> candidates = firstTestJdbcRepository.findCandidates(tieBreakers);
+        if (!preview) {
+            validateAllScored(candidates);
+        }
+
+        FirstTestDecisionDto decision = FirstTestDecisionEngine.decide(candidates, quotas,
+                firstTestEnv.requireRealOneseoArrived());
+        if (!preview) {
+            firstTestJdbcRepository.updateFirstTestPassYn(decision.passedIds(), decision.failedIds());
+            applicationEventPublisher.publishEvent(new OneseoFacetChangedEvent(null));
+            announcedResultService.clear(AnnouncementRound.FIRST);
+            announcedResultService.clear(AnnouncementRound.SECOND);
+        }
+
+        return new FirstTestDecisionResDto(preview, decision.passedIds().length, decision.failedIds().length,
+                decision.cutoffs());
+    }
+
+    private void validateNotAnnounced() {
+        OperationTestResult testResult = operationTestResultRepository.findTestResult()
+                .orElseThrow(() -> new ExpectedException("시험 운영 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+        if (testResult.getFirstTestResultAnnouncementYn() == YES) {
+            throw new ExpectedException("이미 1차 결과를 발표하여 1차 합격 여부를 수정할 수 없습니다.", HttpStatus.FORBIDDEN);
+        }
+    }
+
+    private void validateAllScored(List<FirstTestCandidateDto> candidates) {
+        long unscoredCount = candidates.stream().filter(candidate -> !candidate.scored()).count();
+        if (unscoredCount > 0) {
+            throw new ExpectedException("서류 평가 점수가 산출되지 않은 원서가 %d건 있습니다.".formatted(unscoredCount),
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+}
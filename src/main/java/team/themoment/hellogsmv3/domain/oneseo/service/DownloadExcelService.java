@@ -2,14 +2,10 @@ package team.themoment.hellogsmv3.domain.oneseo.service;
 
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening.EXTRA_VETERANS;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
@@ -21,69 +17,82 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
-import team.themoment.hellogsmv3.domain.oneseo.entity.OneseoPrivacyDetail;
-import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportSheet;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
-import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 
+/**
+ * 시트마다 DB 커서로 원서를 한 행씩 읽어 바로 SXSSF 시트에 기록합니다. 기록이 끝난 행은 임시 파일로 내려가므로 지원자 수가 늘어도
+ * 사용하는 메모리는 일정합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class DownloadExcelService {
 
     private final OneseoRepository oneseoRepository;
+    private final EntityManager entityManager;
 
-    private static final int BATCH_SIZE = 1000; // 한 번에 처리할 원서 데이터의 배치 크기
+    private static final int CLEAR_INTERVAL = 1000; // 읽어 온 원서를 영속성 컨텍스트에서 비우는 행 간격
     private static final int ROW_ACCESS_WINDOW = 100; // SXSSFWorkbook의 메모리 사용 최적화를 위한 행 접근 윈도우 크기
 
-    private static final List<String> HEADER_NAMES = List.of("순번", "접수번호", "수험번호", "성명", "1지망", "2지망", "3지망", "생년월일",
-            "성별", "집주소", "출신학교", "학교지역", "학번", "학력", "초기전형", "적용되는 전형", "일반교과점수", "예체능점수", "출석점수", "봉사점수", "1차전형총점",
-            "역량평가점수", "심층면접점수", "최종점수", "최종학과", "지원자연락처", "보호자연락처", "담임연락처", "1차전형결과", "2차전형결과");
+    public static final int SHEET_COUNT = ExportSheet.values().length;
 
-    private static final Map<Screening, String> SCREENING_DISPLAY_MAP = Map.of(Screening.GENERAL, "일반전형",
-            Screening.SPECIAL, "특별전형", EXTRA_VETERANS, "국가보훈대상자", Screening.EXTRA_ADMISSION, "특례입학대상자");
+    /** 시트를 하나 다 쓰거나 일정 행 수를 쓸 때마다 완료한 시트 수와 지금까지 쓴 행 수를 전달받습니다. */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int completedSheetCount, long writtenRowCount);
+    }
 
-    private static final Map<YesNo, String> PASS_YN_DISPLAY_MAP = Map.of(YesNo.YES, "합격", YesNo.NO, "불합격");
+    @Transactional(readOnly = true)
+    public void execute(OutputStream outputStream) {
+        execute(outputStream, (completedSheetCount, writtenRowCount) -> {
+        });
+    }
 
     @Transactional(readOnly = true)
-    public Workbook execute() {
+    public void execute(OutputStream outputStream, ProgressListener progressListener) {
         SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        Progress progress = new Progress(progressListener);
 
         try {
             List<Sheet> sheets = createSheets(workbook);
-
-            List<List<String>> generalData = getOneseoDataOptimized(Screening.GENERAL);
-            populateSheet(sheets.get(0), generalData);
-
-            List<List<String>> specialData = getOneseoDataOptimized(Screening.SPECIAL);
-            populateSheet(sheets.get(1), specialData);
-
-            List<List<String>> extraData = getCombinedExtraScreeningDataOptimized();
-            populateSheet(sheets.get(2), extraData);
-
-            List<List<String>> fallenData = getFallenDataOptimized();
-            populateSheet(sheets.get(3), fallenData);
-            return workbook;
+            boolean byAppliedScreening = oneseoRepository.existsAppliedScreening();
+
+            writeRows(sheets.get(0), 1,
+                    oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL, byAppliedScreening),
+                    progress);
+            progress.sheetCompleted();
+            writeRows(sheets.get(1), 1,
+                    oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL, byAppliedScreening),
+                    progress);
+            progress.sheetCompleted();
+
+            int nextRowIndex = writeRows(sheets.get(2), 1,
+                    oneseoRepository.streamAllByScreeningWithAllDetails(EXTRA_VETERANS, byAppliedScreening), progress);
+            writeRows(sheets.get(2), nextRowIndex, oneseoRepository
+                    .streamAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION, byAppliedScreening), progress);
+            progress.sheetCompleted();
+
+            writeRows(sheets.get(3), 1, oneseoRepository.streamAllFailedWithAllDetails(), progress);
+            progress.sheetCompleted();
+
+            workbook.write(outputStream);
         } catch (Exception e) {
-            try {
-                workbook.close();
-            } catch (Exception closeEx) {
-                throw new ExpectedException("Excel 파일 닫기 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-            }
             throw new ExpectedException("Excel 파일 생성 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            closeWorkbook(workbook);
         }
     }
 
     private List<Sheet> createSheets(Workbook workbook) {
-        List<String> sheetNames = List.of("일반전형", "특별전형", "정원외 특별전형", "불합격");
         List<Sheet> sheets = new ArrayList<>();
 
-        for (String sheetName : sheetNames) {
-            Sheet sheet = workbook.createSheet(sheetName);
+        for (ExportSheet exportSheet : ExportSheet.values()) {
+            Sheet sheet = workbook.createSheet(exportSheet.getSheetName());
             createHeaderRow(sheet);
             sheets.add(sheet);
         }
@@ -93,197 +102,65 @@ public class DownloadExcelService {
 
     private void createHeaderRow(Sheet sheet) {
         Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < HEADER_NAMES.size(); i++) {
+        for (int i = 0; i < ApplicantExportRowMapper.HEADER_NAMES.size(); i++) {
             Cell cell = headerRow.createCell(i);
-            cell.setCellValue(HEADER_NAMES.get(i));
+            cell.setCellValue(ApplicantExportRowMapper.HEADER_NAMES.get(i));
         }
     }
 
-    private void populateSheet(Sheet sheet, List<List<String>> data) {
-        int rowIndex = 1;
+    // 순번은 머리글을 제외한 행 번호와 같으며, 다음에 기록할 행 번호를 반환
+    private int writeRows(Sheet sheet, int startRowIndex, Stream<Oneseo> oneseos, Progress progress) {
+        int rowIndex = startRowIndex;
+
+        try (oneseos) {
+            Iterator<Oneseo> iterator = oneseos.iterator();
+            while (iterator.hasNext()) {
+                Oneseo oneseo = iterator.next();
+                List<String> rowData = ApplicantExportRowMapper.toRow(oneseo, rowIndex);
 
-        for (List<String> rowData : data) {
-            Row row = sheet.createRow(rowIndex++);
-            for (int i = 0; i < rowData.size(); i++) {
-                Cell cell = row.createCell(i);
-                cell.setCellValue(rowData.get(i));
+                Row row = sheet.createRow(rowIndex);
+                for (int i = 0; i < rowData.size(); i++) {
+                    row.createCell(i).setCellValue(rowData.get(i));
+                }
+
+                if (rowIndex % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+                progress.rowWritten();
+                rowIndex++;
             }
         }
-    }
 
-    private List<List<String>> getOneseoDataOptimized(Screening screening) {
-        List<Oneseo> oneseoList = oneseoRepository.findAllByScreeningWithAllDetails(screening);
-        return processOneseoDataOptimized(oneseoList);
+        return rowIndex;
     }
 
-    private List<List<String>> getCombinedExtraScreeningDataOptimized() {
-        List<Oneseo> extraVeterans = oneseoRepository.findAllByScreeningWithAllDetails(EXTRA_VETERANS);
-        List<Oneseo> extraAdmission = oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION);
-
-        List<Oneseo> combinedList = Stream.concat(extraVeterans.stream(), extraAdmission.stream())
-                .collect(Collectors.toList());
-
-        return processOneseoDataOptimized(combinedList);
-    }
+    private static class Progress {
 
-    private List<List<String>> getFallenDataOptimized() {
-        List<Oneseo> fallenOneseoList = oneseoRepository.findAllFailedWithAllDetails();
-        return processOneseoDataOptimized(fallenOneseoList);
-    }
+        private final ProgressListener listener;
+        private int completedSheetCount;
+        private long writtenRowCount;
 
-    private List<List<String>> processOneseoDataOptimized(List<Oneseo> oneseoList) {
-        if (oneseoList.isEmpty()) {
-            return new ArrayList<>();
+        Progress(ProgressListener listener) {
+            this.listener = listener;
         }
-        List<List<String>> result = new ArrayList<>();
-
-        for (int i = 0; i < oneseoList.size(); i += BATCH_SIZE) {
-            int endIndex = Math.min(i + BATCH_SIZE, oneseoList.size());
-            List<Oneseo> batch = oneseoList.subList(i, endIndex);
 
-            List<List<String>> batchResult = processBatch(batch, i + 1);
-            result.addAll(batchResult);
+        void rowWritten() {
+            if (++writtenRowCount % CLEAR_INTERVAL == 0) {
+                listener.onProgress(completedSheetCount, writtenRowCount);
+            }
         }
 
-        return result;
-    }
-
-    private List<List<String>> processBatch(List<Oneseo> batchOneseoList, int startIndex) {
-        List<List<String>> batchResult = new ArrayList<>();
-
-        for (int i = 0; i < batchOneseoList.size(); i++) {
-            Oneseo oneseo = batchOneseoList.get(i);
-            EntranceTestResult entranceTestResult = oneseo.getEntranceTestResult();
-            OneseoPrivacyDetail privacyDetail = oneseo.getOneseoPrivacyDetail();
-
-            List<String> rowData = createRowData(oneseo, entranceTestResult, privacyDetail, startIndex + i);
-            batchResult.add(rowData);
+        void sheetCompleted() {
+            listener.onProgress(++completedSheetCount, writtenRowCount);
         }
-
-        return batchResult;
     }
 
-    private List<String> createRowData(Oneseo oneseo, EntranceTestResult entranceTestResult,
-            OneseoPrivacyDetail oneseoPrivacyDetail, int index) {
-
-        BigDecimal finalScore = calculateFinalScore(entranceTestResult);
-
-        String firstDesiredMajor = convertMajorDisplayName(oneseo.getDesiredMajors().getFirstDesiredMajor());
-        String secondDesiredMajor = convertMajorDisplayName(oneseo.getDesiredMajors().getSecondDesiredMajor());
-        String thirdDesiredMajor = convertMajorDisplayName(oneseo.getDesiredMajors().getThirdDesiredMajor());
-
-        return List.of(String.valueOf(index), safeToString(oneseo.getOneseoSubmitCode()),
-                safeToString(oneseo.getExaminationNumber()), safeToString(oneseo.getMember().getName()),
-                firstDesiredMajor, secondDesiredMajor, thirdDesiredMajor, formatBirth(oneseo.getMember().getBirth()),
-                convertSex(oneseo.getMember().getSex()), buildAddress(oneseoPrivacyDetail),
-                safeToString(oneseoPrivacyDetail.getSchoolName()),
-                getMetropolitanName(oneseoPrivacyDetail.getSchoolAddress()),
-                formatStudentNumber(oneseoPrivacyDetail.getStudentNumber()),
-                convertGraduationType(oneseoPrivacyDetail.getGraduationType()),
-                convertScreening(oneseo.getWantedScreening()), convertScreening(oneseo.getAppliedScreening()),
-                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getGeneralSubjectsScore()),
-                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getArtsPhysicalSubjectsScore()),
-                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getAttendanceScore()),
-                getScoreString(entranceTestResult.getEntranceTestFactorsDetail().getVolunteerScore()),
-                getScoreString(entranceTestResult.getDocumentEvaluationScore()),
-                getScoreString(entranceTestResult.getCompetencyEvaluationScore()),
-                getScoreString(entranceTestResult.getInterviewScore()), getScoreString(finalScore),
-                safeToString(oneseo.getDecidedMajor()), safeToString(oneseo.getMember().getPhoneNumber()),
-                safeToString(oneseoPrivacyDetail.getGuardianPhoneNumber()),
-                safeToString(oneseoPrivacyDetail.getSchoolTeacherPhoneNumber()),
-                convertTestPassYn(entranceTestResult.getFirstTestPassYn()),
-                convertTestPassYn(entranceTestResult.getSecondTestPassYn()));
-    }
-
-    private String safeToString(Object obj) {
-        return obj != null ? obj.toString() : "";
-    }
-
-    private String convertMajorDisplayName(Major major) {
-        if (major == null)
-            return "";
-        return major == Major.IOT ? "IoT" : major.toString();
-    }
-
-    private String formatBirth(LocalDate birth) {
-        return birth.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-    }
-
-    private String getMetropolitanName(String address) {
-        if (address == null)
-            return "검정고시";
-        String[] parts = address.split(" ");
-        return parts[0];
-    }
-
-    private String formatStudentNumber(String studentNumber) {
-        if (studentNumber == null)
-            return "검정고시";
-        return studentNumber;
-    }
-
-    private String convertSex(team.themoment.hellogsmv3.domain.member.entity.type.Sex sex) {
-        if (sex == null)
-            return "";
-        return switch (sex) {
-            case MALE -> "남자";
-            case FEMALE -> "여자";
-        };
-    }
-
-    private String buildAddress(OneseoPrivacyDetail privacyDetail) {
-        if (privacyDetail == null)
-            return "";
-        String address = privacyDetail.getAddress();
-        String detailAddress = privacyDetail.getDetailAddress();
-        return (address != null ? address : "") + (detailAddress != null ? " " + detailAddress : "");
-    }
-
-    private String convertGraduationType(
-            team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType graduationType) {
-        if (graduationType == null)
-            return "";
-        return switch (graduationType) {
-            case CANDIDATE -> "졸업예정자";
-            case GRADUATE -> "졸업자";
-            case GED -> "검정고시";
-        };
-    }
-
-    private String convertScreening(Screening screening) {
-        if (screening == null)
-            return "";
-        return SCREENING_DISPLAY_MAP.getOrDefault(screening, "");
-    }
-
-    private String convertTestPassYn(YesNo yn) {
-        if (yn == null)
-            return "";
-        return PASS_YN_DISPLAY_MAP.getOrDefault(yn, "");
-    }
-
-    private String getScoreString(BigDecimal score) {
-        return score != null ? score.toString() : "";
-    }
-
-    private BigDecimal calculateFinalScore(EntranceTestResult entranceTestResult) {
-        if (entranceTestResult == null)
-            return null;
-
-        BigDecimal competencyEvaluationScore = entranceTestResult.getCompetencyEvaluationScore();
-        BigDecimal interviewScore = entranceTestResult.getInterviewScore();
-        BigDecimal documentEvaluationScore = entranceTestResult.getDocumentEvaluationScore();
-
-        if (entranceTestResult.getSecondTestPassYn() == null || competencyEvaluationScore == null
-                || interviewScore == null || documentEvaluationScore == null) {
-            return null;
+    private void closeWorkbook(SXSSFWorkbook workbook) {
+        try {
+            workbook.dispose();
+            workbook.close();
+        } catch (Exception e) {
+            throw new ExpectedException("Excel 파일 닫기 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
-
-        BigDecimal adjustedDocumentScore = documentEvaluationScore.divide(BigDecimal.valueOf(3), 3,
-                RoundingMode.HALF_UP);
-
-        return adjustedDocumentScore.multiply(BigDecimal.valueOf(0.5))
-                .add(competencyEvaluationScore.multiply(BigDecimal.valueOf(0.3)))
-                .add(interviewScore.multiply(BigDecimal.valueOf(0.2))).setScale(3, RoundingMode.HALF_UP);
     }
 }
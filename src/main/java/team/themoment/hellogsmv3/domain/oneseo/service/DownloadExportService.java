@@ -0,0 +1,35 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ExportJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExportJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.storage.ExportArtifactStorage;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@Service
+@RequiredArgsConstructor
+public class DownloadExportService {
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportArtifactStorage exportArtifactStorage;
+
+    @Transactional(readOnly = true)
+    public Resource execute(Long exportJobId) {
+        ExportJob job = QueryExportJobService.findExportJob(exportJobRepository, exportJobId);
+
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new ExpectedException("완료되지 않은 엑셀 내보내기 작업입니다. 상태: " + job.getStatus(), HttpStatus.CONFLICT);
+        }
+        if (!exportArtifactStorage.exists(job.getArtifactKey())) {
+            throw new ExpectedException("내보낸 엑셀 파일을 찾을 수 없습니다. 내보내기를 다시 요청해주세요.", HttpStatus.NOT_FOUND);
+        }
+
+        return exportArtifactStorage.load(job.getArtifactKey());
+    }
+}
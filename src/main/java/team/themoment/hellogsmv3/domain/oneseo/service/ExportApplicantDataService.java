@@ -0,0 +1,199 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static team.themoment.hellogsmv3.domain.oneseo.service.ApplicantExportRowMapper.HEADER_NAMES;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportFormat;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportSheet;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+
+/**
+ * 지원자 엑셀과 같은 열을 CSV 또는 NDJSON으로 내보냅니다. DB 커서로 읽은 원서를 한 행씩 바로 응답에 쓰며, 순번은 출력 순서대로
+ * 매깁니다. 시트를 지정하면 엑셀의 해당 시트와 같은 지원자만, 기준 시각을 지정하면 그 뒤에 바뀐 지원자만 내보냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportApplicantDataService {
+
+    private static final int CLEAR_INTERVAL = 1000; // 읽어 온 원서를 영속성 컨텍스트에서 비우는 행 간격
+    private static final int BUFFER_SIZE = 8192;
+    // 조회가 시작된 뒤에 커밋된 변경을 놓치지 않도록 다음 기준 시각을 앞당기는 시간
+    private static final Duration CHANGED_SINCE_OVERLAP = Duration.ofMinutes(1);
+
+    private final OneseoRepository oneseoRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /** 이번 내보내기를 받은 뒤 다음 변경분 내보내기에 사용할 기준 시각입니다. 일부 지원자는 다음에 한 번 더 내보내질 수 있습니다. */
+    public static LocalDateTime nextChangedSince() {
+        return LocalDateTime.now().minus(CHANGED_SINCE_OVERLAP);
+    }
+
+    @Transactional(readOnly = true)
+    public void execute(OutputStream outputStream, ExportFormat format, ExportSheet sheet, LocalDateTime changedSince,
+            boolean gzip) throws IOException {
+        GZIPOutputStream gzipOutputStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        OutputStream target = gzip ? gzipOutputStream : outputStream;
+
+        RowWriter rowWriter = format == ExportFormat.CSV
+                ? new CsvRowWriter(target)
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(target, JsonEncoding.UTF8));
+
+        boolean byAppliedScreening = oneseoRepository.existsAppliedScreening();
+        List<ExportSheet> sheets = sheet == null ? List.of(ExportSheet.values()) : List.of(sheet);
+
+        rowWriter.writeHeader();
+        int rowIndex = 1;
+        for (ExportSheet exportSheet : sheets) {
+            rowIndex = writeSheet(rowWriter, exportSheet, byAppliedScreening, changedSince, rowIndex);
+        }
+        rowWriter.flush();
+
+        if (gzipOutputStream != null) {
+            gzipOutputStream.finish();
+        }
+    }
+
+    // 같은 연결에서 스트리밍 결과는 하나만 열 수 있으므로 앞의 커서를 다 읽은 뒤 다음 커서를 엶
+    private int writeSheet(RowWriter rowWriter, ExportSheet sheet, boolean byAppliedScreening,
+            LocalDateTime changedSince, int rowIndex) throws IOException {
+        return switch (sheet) {
+            case GENERAL -> writeRows(rowWriter, oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL,
+                    byAppliedScreening, changedSince), rowIndex);
+            case SPECIAL -> writeRows(rowWriter, oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL,
+                    byAppliedScreening, changedSince), rowIndex);
+            case EXTRA -> {
+                int nextRowIndex = writeRows(rowWriter, oneseoRepository.streamAllByScreeningWithAllDetails(
+                        Screening.EXTRA_VETERANS, byAppliedScreening, changedSince), rowIndex);
+                yield writeRows(rowWriter, oneseoRepository.streamAllByScreeningWithAllDetails(
+                        Screening.EXTRA_ADMISSION, byAppliedScreening, changedSince), nextRowIndex);
+            }
+            case FALLEN -> writeRows(rowWriter, oneseoRepository.streamAllFailedWithAllDetails(changedSince),
+                    rowIndex);
+        };
+    }
+
+    private int writeRows(RowWriter rowWriter, Stream<Oneseo> oneseos, int startRowIndex) throws IOException {
+        int rowIndex = startRowIndex;
+
+        try (oneseos) {
+            Iterator<Oneseo> iterator = oneseos.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeRow(ApplicantExportRowMapper.toRow(iterator.next(), rowIndex));
+
+                if (rowIndex % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+                rowIndex++;
+            }
+        }
+
+        return rowIndex;
+    }
+
+    private interface RowWriter {
+
+        void writeHeader() throws IOException;
+
+        void writeRow(List<String> values) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /** RFC 4180 형식으로 쓰며, 쉼표나 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감쌉니다. */
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream outputStream) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                    BUFFER_SIZE);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writeRow(HEADER_NAMES);
+        }
+
+        @Override
+        public void writeRow(List<String> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeValue(values.get(i));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeValue(String value) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /** 한 줄에 지원자 한 명을 머리글 이름을 키로 하는 JSON 객체로 씁니다. */
+    private static class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(List<String> values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.size(); i++) {
+                generator.writeStringField(HEADER_NAMES.get(i), values.get(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
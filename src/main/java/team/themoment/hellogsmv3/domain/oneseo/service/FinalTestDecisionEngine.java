@@ -0,0 +1,127 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestAssignmentDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestDecisionDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.MajorAllocationResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ScreeningCutoffResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+/**
+ * 1차 합격자를 전형별 최종 점수 순으로 선발한 뒤, 전체 합격자를 최종 점수 순으로 한 명씩 1지망부터 정원이 남은 학과에 배정합니다.
+ * 모든 학과가 같은 기준(최종 점수)으로 지원자를 평가하므로 이 순차 배정 결과는 지원자 제안 방식의 deferred acceptance 결과와
+ * 같으며, 더 높은 점수의 지원자가 원하는 학과를 낮은 점수의 지원자가 차지하는 경우가 없습니다.
+ */
+public final class FinalTestDecisionEngine {
+
+    private static final Comparator<FinalTestCandidateDto> RANK_ORDER = Comparator
+            .<FinalTestCandidateDto, long[]>comparing(FinalTestCandidateDto::rankKeys, (a, b) -> Arrays.compare(b, a))
+            .thenComparingLong(FinalTestCandidateDto::oneseoId);
+
+    private FinalTestDecisionEngine() {
+    }
+
+    /** 점수가 없는 지원자와 모집 인원이 없는 전형의 지원자는 불합격 처리합니다. */
+    public static FinalTestDecisionDto decide(List<FinalTestCandidateDto> candidates, Map<Screening, Integer> quotas,
+            Map<Major, Integer> majorCapacities) {
+        Map<Screening, List<FinalTestCandidateDto>> byScreening = new EnumMap<>(Screening.class);
+        List<FinalTestCandidateDto> passed = new ArrayList<>();
+        List<FinalTestAssignmentDto> failed = new ArrayList<>();
+
+        for (FinalTestCandidateDto candidate : candidates) {
+            if (candidate.scored()) {
+                byScreening.computeIfAbsent(candidate.screening(), screening -> new ArrayList<>()).add(candidate);
+            } else {
+                failed.add(toAssignment(candidate, null));
+            }
+        }
+
+        List<ScreeningCutoffResDto> cutoffs = new ArrayList<>();
+        for (Screening screening : Screening.values()) {
+            List<FinalTestCandidateDto> ranked = byScreening.getOrDefault(screening, new ArrayList<>());
+            int quota = quotas.getOrDefault(screening, 0);
+            ranked.sort(RANK_ORDER);
+
+            List<long[]> rankedKeys = ranked.stream().map(FinalTestCandidateDto::rankKeys).toList();
+            int passCount = FirstTestDecisionEngine.countPassed(rankedKeys, quota);
+            passed.addAll(ranked.subList(0, passCount));
+            ranked.subList(passCount, ranked.size()).forEach(candidate -> failed.add(toAssignment(candidate, null)));
+
+            cutoffs.add(FirstTestDecisionEngine.buildCutoff(screening, quota, rankedKeys, passCount));
+        }
+
+        passed.sort(RANK_ORDER);
+        return allocateMajors(cutoffs, passed, failed, majorCapacities);
+    }
+
+    private static FinalTestDecisionDto allocateMajors(List<ScreeningCutoffResDto> cutoffs,
+            List<FinalTestCandidateDto> passed, List<FinalTestAssignmentDto> failed,
+            Map<Major, Integer> majorCapacities) {
+        Map<Major, Integer> remaining = new EnumMap<>(Major.class);
+        Map<Major, Integer> firstChoiceCounts = new EnumMap<>(Major.class);
+        Map<Major, long[]> lowestKeys = new EnumMap<>(Major.class);
+        for (Major major : Major.values()) {
+            remaining.put(major, majorCapacities.getOrDefault(major, 0));
+            firstChoiceCounts.put(major, 0);
+        }
+
+        List<FinalTestAssignmentDto> assignments = new ArrayList<>(passed.size());
+        for (FinalTestCandidateDto candidate : passed) {
+            Major decidedMajor = null;
+            for (Major desiredMajor : candidate.desiredMajors()) {
+                if (remaining.get(desiredMajor) > 0) {
+                    decidedMajor = desiredMajor;
+                    break;
+                }
+            }
+
+            if (decidedMajor != null) {
+                remaining.merge(decidedMajor, -1, Integer::sum);
+                lowestKeys.put(decidedMajor, candidate.rankKeys());
+                if (decidedMajor == candidate.desiredMajors().get(0)) {
+                    firstChoiceCounts.merge(decidedMajor, 1, Integer::sum);
+                }
+            }
+            assignments.add(toAssignment(candidate, decidedMajor));
+        }
+
+        List<MajorAllocationResDto> majors = Arrays.stream(Major.values()).map(major -> {
+            int capacity = majorCapacities.getOrDefault(major, 0);
+            long[] keys = lowestKeys.get(major);
+            return MajorAllocationResDto.builder().major(major).capacity(capacity)
+                    .allocatedCount(capacity - remaining.get(major)).firstChoiceCount(firstChoiceCounts.get(major))
+                    .lowestFinalScore(keys == null ? null : FirstTestDecisionEngine.toScore(keys[0])).build();
+        }).toList();
+
+        return new FinalTestDecisionDto(cutoffs, majors, assignments, failed);
+    }
+
+    /** 최종 점수는 서류 평가 점수를 1/3로 환산하여 50%, 역량 평가 30%, 면접 20%를 반영합니다. */
+    public static BigDecimal calculateFinalScore(BigDecimal documentEvaluationScore,
+            BigDecimal competencyEvaluationScore, BigDecimal interviewScore) {
+        if (documentEvaluationScore == null || competencyEvaluationScore == null || interviewScore == null) {
+            return null;
+        }
+
+        BigDecimal adjustedDocumentScore = documentEvaluationScore.divide(BigDecimal.valueOf(3), 3,
+                RoundingMode.HALF_UP);
+
+        return adjustedDocumentScore.multiply(BigDecimal.valueOf(0.5))
+                .add(competencyEvaluationScore.multiply(BigDecimal.valueOf(0.3)))
+                .add(interviewScore.multiply(BigDecimal.valueOf(0.2))).setScale(3, RoundingMode.HALF_UP);
+    }
+
+    private static FinalTestAssignmentDto toAssignment(FinalTestCandidateDto candidate, Major decidedMajor) {
+        return new FinalTestAssignmentDto(candidate.oneseoId(), candidate.entranceTestResultId(), decidedMajor);
+    }
+}
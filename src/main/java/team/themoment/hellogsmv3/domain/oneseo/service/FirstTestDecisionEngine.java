@@ -0,0 +1,106 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestDecisionDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ScreeningCutoffResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+/**
+ * 전형별로 지원자를 서류 평가 점수와 동점 비교 점수 순으로 정렬하여 모집 인원만큼 1차 합격자를 선발합니다. 모집 인원 경계에서 모든
+ * 점수가 같은 지원자는 모두 합격 처리합니다. DB에 접근하지 않으므로 모집 인원을 바꿔가며 반복 실행할 수 있습니다.
+ */
+public final class FirstTestDecisionEngine {
+
+    static final int SCORE_SCALE = 3;
+
+    private static final Comparator<FirstTestCandidateDto> RANK_ORDER = (a, b) -> Arrays.compare(b.rankKeys(),
+            a.rankKeys());
+
+    private FirstTestDecisionEngine() {
+    }
+
+    /** 모집 인원이 없는 전형의 지원자와 실물 원서가 도착하지 않은 지원자는 불합격 처리합니다. */
+    public static FirstTestDecisionDto decide(List<FirstTestCandidateDto> candidates, Map<Screening, Integer> quotas,
+            boolean requireRealOneseoArrived) {
+        Map<Screening, List<FirstTestCandidateDto>> byScreening = new EnumMap<>(Screening.class);
+        List<Long> passed = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+
+        for (FirstTestCandidateDto candidate : candidates) {
+            if (requireRealOneseoArrived && !candidate.realOneseoArrived()) {
+                failed.add(candidate.entranceTestResultId());
+            } else {
+                byScreening.computeIfAbsent(candidate.screening(), screening -> new ArrayList<>()).add(candidate);
+            }
+        }
+
+        List<ScreeningCutoffResDto> cutoffs = new ArrayList<>();
+        for (Screening screening : Screening.values()) {
+            List<FirstTestCandidateDto> ranked = byScreening.getOrDefault(screening, new ArrayList<>());
+            int quota = quotas.getOrDefault(screening, 0);
+            ranked.sort(RANK_ORDER);
+
+            List<long[]> rankedKeys = ranked.stream().map(FirstTestCandidateDto::rankKeys).toList();
+            int passCount = countPassed(rankedKeys, quota);
+            for (int i = 0; i < ranked.size(); i++) {
+                (i < passCount ? passed : failed).add(ranked.get(i).entranceTestResultId());
+            }
+
+            cutoffs.add(buildCutoff(screening, quota, rankedKeys, passCount));
+        }
+
+        return new FirstTestDecisionDto(cutoffs, toArray(passed), toArray(failed));
+    }
+
+    // 모집 인원 경계의 지원자와 모든 점수가 같은 지원자까지 합격 인원에 포함
+    static int countPassed(List<long[]> rankedKeys, int quota) {
+        if (quota <= 0 || rankedKeys.isEmpty()) {
+            return 0;
+        }
+        if (rankedKeys.size() <= quota) {
+            return rankedKeys.size();
+        }
+
+        long[] lastPassedKeys = rankedKeys.get(quota - 1);
+        int passCount = quota;
+        while (passCount < rankedKeys.size() && Arrays.equals(rankedKeys.get(passCount), lastPassedKeys)) {
+            passCount++;
+        }
+        return passCount;
+    }
+
+    static ScreeningCutoffResDto buildCutoff(Screening screening, int quota, List<long[]> rankedKeys,
+            int passCount) {
+        BigDecimal cutoffScore = null;
+        int tiedAtCutoffCount = 0;
+
+        if (passCount > 0) {
+            long[] cutoffKeys = rankedKeys.get(passCount - 1);
+            cutoffScore = toScore(cutoffKeys[0]);
+            tiedAtCutoffCount = (int) rankedKeys.stream().filter(keys -> Arrays.equals(keys, cutoffKeys)).count();
+        }
+
+        return ScreeningCutoffResDto.builder().screening(screening).quota(quota).applicantCount(rankedKeys.size())
+                .passCount(passCount).cutoffScore(cutoffScore).tiedAtCutoffCount(tiedAtCutoffCount).build();
+    }
+
+    public static long toRankKey(BigDecimal score) {
+        return score == null ? Long.MIN_VALUE : score.movePointRight(SCORE_SCALE).longValue();
+    }
+
+    static BigDecimal toScore(long rankKey) {
+        return rankKey == Long.MIN_VALUE ? null : BigDecimal.valueOf(rankKey, SCORE_SCALE);
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,191 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.buildCalcDtoWithFillEmpty;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.MiddleSchoolAchievementCalcDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.MiddleSchoolAchievementReqDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.GeneralSubjectsScoreDetailResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+
+/**
+ * Lambda 성적 계산기와 동일한 규칙으로 서버 내부에서 성적을 계산합니다. 입력과 출력은 Lambda 계산기와 같은 DTO를
+ * 사용합니다.
+ */
+@Service
+public class LocalScoreCalculatorService {
+
+    private static final int SCALE = 3;
+    private static final BigDecimal MAX_ACHIEVEMENT = BigDecimal.valueOf(5);
+    private static final BigDecimal ARTS_PHYSICAL_MAX_SCORE = BigDecimal.valueOf(60);
+    private static final BigDecimal ATTENDANCE_MAX_SCORE = BigDecimal.valueOf(30);
+    private static final BigDecimal GED_SUBJECTS_MAX_SCORE = BigDecimal.valueOf(240);
+    private static final BigDecimal GED_VOLUNTEER_MAX_SCORE = BigDecimal.valueOf(30);
+    private static final BigDecimal GED_BASE_SCORE = BigDecimal.valueOf(50);
+    private static final int ABSENT_DAYS_LIMIT = 10;
+    private static final String FREE_YEAR_SYSTEM = "자유학년제";
+
+    public CalculatedScoreResDto execute(LambdaScoreCalculatorReqDto reqDto) {
+        if (reqDto.graduationType() == null) {
+            throw new ExpectedException("졸업 구분이 입력되지 않았습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        if (reqDto.graduationType() == GraduationType.GED) {
+            return calcGedScore(reqDto.gedAvgScore());
+        }
+
+        MiddleSchoolAchievementCalcDto calcDto = buildCalcDtoWithFillEmpty(toMiddleSchoolAchievementReqDto(reqDto),
+                reqDto.graduationType());
+
+        GeneralSubjectsScoreDetailResDto detail = calcGeneralSubjectsScoreDetail(calcDto, reqDto.graduationType());
+        BigDecimal generalSubjectsScore = sumOf(detail.score1_2(), detail.score2_1(), detail.score2_2(),
+                detail.score3_1(), detail.score3_2());
+        BigDecimal artsPhysicalSubjectsScore = calcArtsPhysicalSubjectsScore(calcDto.artsPhysicalAchievement());
+        BigDecimal totalSubjectsScore = generalSubjectsScore.add(artsPhysicalSubjectsScore);
+
+        BigDecimal attendanceScore = calcAttendanceScore(calcDto.absentDays(), calcDto.attendanceDays());
+        BigDecimal volunteerScore = calcVolunteerScore(calcDto.volunteerTime());
+
+        return CalculatedScoreResDto.builder().generalSubjectsScore(generalSubjectsScore)
+                .generalSubjectsScoreDetail(detail).artsPhysicalSubjectsScore(artsPhysicalSubjectsScore)
+                .totalSubjectsScore(totalSubjectsScore).attendanceScore(attendanceScore).volunteerScore(volunteerScore)
+                .totalScore(totalSubjectsScore.add(attendanceScore).add(volunteerScore)).build();
+    }
+
+    private CalculatedScoreResDto calcGedScore(BigDecimal gedAvgScore) {
+        if (gedAvgScore == null) {
+            throw new ExpectedException("검정고시 평균 점수가 입력되지 않았습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        // 검정고시는 평균 점수 50점 이상을 기준으로 교과 성적과 봉사 점수를 환산하고, 출석 점수는 만점으로 처리
+        BigDecimal ratio = gedAvgScore.subtract(GED_BASE_SCORE).max(BigDecimal.ZERO).divide(GED_BASE_SCORE, 10,
+                RoundingMode.HALF_UP);
+        BigDecimal totalSubjectsScore = scale(ratio.multiply(GED_SUBJECTS_MAX_SCORE));
+        BigDecimal attendanceScore = scale(ATTENDANCE_MAX_SCORE);
+        BigDecimal volunteerScore = scale(ratio.multiply(GED_VOLUNTEER_MAX_SCORE));
+
+        return CalculatedScoreResDto.builder().totalSubjectsScore(totalSubjectsScore).attendanceScore(attendanceScore)
+                .volunteerScore(volunteerScore)
+                .totalScore(totalSubjectsScore.add(attendanceScore).add(volunteerScore)).build();
+    }
+
+    private GeneralSubjectsScoreDetailResDto calcGeneralSubjectsScoreDetail(MiddleSchoolAchievementCalcDto calcDto,
+            GraduationType graduationType) {
+        GeneralSubjectsScoreDetailResDto.GeneralSubjectsScoreDetailResDtoBuilder builder = GeneralSubjectsScoreDetailResDto
+                .builder();
+
+        if (graduationType == GraduationType.GRADUATE) {
+            return builder.score1_2(scale(BigDecimal.ZERO))
+                    .score2_1(calcSemesterScore(calcDto.achievement2_1(), 18))
+                    .score2_2(calcSemesterScore(calcDto.achievement2_2(), 45))
+                    .score3_1(calcSemesterScore(calcDto.achievement3_1(), 45))
+                    .score3_2(calcSemesterScore(calcDto.achievement3_2(), 72)).build();
+        }
+
+        // 졸업예정자는 3학년 2학기 성적을 반영하지 않으며, 자유학년제는 1학년 성적을 반영하지 않음
+        if (FREE_YEAR_SYSTEM.equals(calcDto.liberalSystem())) {
+            return builder.score1_2(scale(BigDecimal.ZERO))
+                    .score2_1(calcSemesterScore(calcDto.achievement2_1(), 54))
+                    .score2_2(calcSemesterScore(calcDto.achievement2_2(), 54))
+                    .score3_1(calcSemesterScore(calcDto.achievement3_1(), 72)).score3_2(scale(BigDecimal.ZERO))
+                    .build();
+        }
+
+        return builder.score1_2(calcSemesterScore(calcDto.achievement1_2(), 18))
+                .score2_1(calcSemesterScore(calcDto.achievement2_1(), 45))
+                .score2_2(calcSemesterScore(calcDto.achievement2_2(), 45))
+                .score3_1(calcSemesterScore(calcDto.achievement3_1(), 72)).score3_2(scale(BigDecimal.ZERO)).build();
+    }
+
+    // 성취도 0(이수하지 않은 과목)은 제외하고, 평균 성취도 / 5 * 학기 배점으로 환산
+    private BigDecimal calcSemesterScore(List<Integer> achievements, int maxScore) {
+        if (achievements == null) {
+            return scale(BigDecimal.ZERO);
+        }
+
+        List<Integer> takenAchievements = achievements.stream().filter(achievement -> achievement != 0).toList();
+        if (takenAchievements.isEmpty()) {
+            return scale(BigDecimal.ZERO);
+        }
+
+        BigDecimal sum = BigDecimal.valueOf(takenAchievements.stream().mapToInt(Integer::intValue).sum());
+        BigDecimal max = MAX_ACHIEVEMENT.multiply(BigDecimal.valueOf(takenAchievements.size()));
+
+        return scale(sum.multiply(BigDecimal.valueOf(maxScore)).divide(max, 10, RoundingMode.HALF_UP));
+    }
+
+    private BigDecimal calcArtsPhysicalSubjectsScore(List<Integer> achievements) {
+        return calcSemesterScore(achievements, ARTS_PHYSICAL_MAX_SCORE.intValue());
+    }
+
+    // 결석 1일당 3점 감점, 지각/조퇴/결과 3회는 결석 1일로 환산, 환산 결석일이 10일 이상이면 0점
+    private BigDecimal calcAttendanceScore(List<Integer> absentDays, List<Integer> attendanceDays) {
+        Integer absentDaysCount = OneseoService.calcAbsentDaysCount(absentDays, attendanceDays);
+        if (absentDaysCount == null) {
+            throw new ExpectedException("결석 횟수나 지각, 조퇴, 결과 횟수가 입력되지 않았습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        if (absentDaysCount >= ABSENT_DAYS_LIMIT) {
+            return scale(BigDecimal.ZERO);
+        }
+
+        return scale(ATTENDANCE_MAX_SCORE.subtract(BigDecimal.valueOf(absentDaysCount * 3L)));
+    }
+
+    // 학년별 봉사시간 7시간 이상 10점, 6시간 8점, 5시간 6점, 4시간 4점, 3시간 이하 2점
+    private BigDecimal calcVolunteerScore(List<Integer> volunteerTime) {
+        if (volunteerTime == null) {
+            throw new ExpectedException("봉사시간이 입력되지 않았습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        int score = volunteerTime.stream().mapToInt(hours -> {
+            if (hours == null) {
+                throw new ExpectedException("봉사시간에 null 값이 포함되어 있습니다.", HttpStatus.BAD_REQUEST);
+            }
+            if (hours >= 7)
+                return 10;
+            if (hours == 6)
+                return 8;
+            if (hours == 5)
+                return 6;
+            if (hours == 4)
+                return 4;
+            return 2;
+        }).sum();
+
+        return scale(BigDecimal.valueOf(score));
+    }
+
+    private MiddleSchoolAchievementReqDto toMiddleSchoolAchievementReqDto(LambdaScoreCalculatorReqDto reqDto) {
+        return MiddleSchoolAchievementReqDto.builder().achievement1_1(reqDto.achievement1_1())
+                .achievement1_2(reqDto.achievement1_2()).achievement2_1(reqDto.achievement2_1())
+                .achievement2_2(reqDto.achievement2_2()).achievement3_1(reqDto.achievement3_1())
+                .achievement3_2(reqDto.achievement3_2()).generalSubjects(reqDto.generalSubjects())
+                .newSubjects(reqDto.newSubjects()).artsPhysicalAchievement(reqDto.artsPhysicalAchievement())
+                .artsPhysicalSubjects(reqDto.artsPhysicalSubjects()).absentDays(reqDto.absentDays())
+                .attendanceDays(reqDto.attendanceDays()).volunteerTime(reqDto.volunteerTime())
+                .liberalSystem(reqDto.liberalSystem()).freeSemester(reqDto.freeSemester())
+                .gedAvgScore(reqDto.gedAvgScore()).build();
+    }
+
+    private static BigDecimal sumOf(BigDecimal... scores) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal score : scores) {
+            sum = sum.add(score);
+        }
+        return scale(sum);
+    }
+
+    private static BigDecimal scale(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -1,5 +1,7 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
+
 import java.math.BigDecimal;
 
 import org.springframework.stereotype.Service;
@@ -22,7 +24,7 @@ public class ModifyCompetencyEvaluationScoreService {
 
     @Transactional
     public void execute(Long memberId, CompetencyEvaluationScoreReqDto competencyEvaluationScoreReqDto) {
-        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId);
+        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
 
         EntranceTestResult entranceTestResult = oneseo.getEntranceTestResult();
         OneseoService.isBeforeSecondTest(entranceTestResult.getSecondTestPassYn());
@@ -31,5 +33,6 @@ public class ModifyCompetencyEvaluationScoreService {
         entranceTestResult.modifyCompetencyEvaluationScore(competencyEvaluationScore);
 
         entranceTestResultRepository.save(entranceTestResult);
+        oneseo.markUpdated();
     }
 }
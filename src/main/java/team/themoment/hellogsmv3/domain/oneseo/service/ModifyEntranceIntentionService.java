@@ -1,5 +1,7 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +23,7 @@ public class ModifyEntranceIntentionService {
 
     @Transactional
     public void execute(Long memberId, EntranceIntentionReqDto reqDto) {
-        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId);
+        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
 
         isAfterFinalTest(oneseo);
 
@@ -1,15 +1,22 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.ALL;
 import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.buildCalcDtoWithFillEmpty;
 import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.isValidMiddleSchoolInfo;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
-import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
 import team.themoment.hellogsmv3.domain.member.service.MemberService;
@@ -21,57 +28,85 @@ import team.themoment.hellogsmv3.domain.oneseo.entity.*;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.DesiredMajors;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
 import team.themoment.hellogsmv3.domain.oneseo.repository.*;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
-import team.themoment.hellogsmv3.global.thirdParty.feign.client.lambda.LambdaScoreCalculatorClient;
 
 @Service
 @RequiredArgsConstructor
 public class ModifyOneseoService {
 
+    static final String MODIFY_METRIC_NAME = "oneseo.modify";
+
     private final OneseoRepository oneseoRepository;
     private final OneseoPrivacyDetailRepository oneseoPrivacyDetailRepository;
     private final MiddleSchoolAchievementRepository middleSchoolAchievementRepository;
     private final ScreeningChangeHistoryRepository screeningChangeHistoryRepository;
-    private final EntranceTestResultRepository entranceTestResultRepository;
-    private final EntranceTestFactorsDetailRepository entranceTestFactorsDetailRepository;
     private final OneseoService oneseoService;
     private final MemberService memberService;
-    private final LambdaScoreCalculatorClient lambdaScoreCalculatorClient;
-
+    private final ScoringOutboxService scoringOutboxService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 저장된 원서와 요청을 필드 단위로 비교해 달라진 엔티티만 저장합니다. 성적 입력이 이전 계산 요청과 같다면 성적 계산을 다시 요청하지
+     * 않습니다.
+     */
     @Transactional
-    @CachePut(value = OneseoService.ONESEO_CACHE_VALUE, key = "#memberId")
+    @CacheEvict(value = OneseoService.ONESEO_CACHE_VALUE, key = "#memberId")
     public FoundOneseoResDto execute(OneseoReqDto reqDto, Long memberId) {
 
         isValidMiddleSchoolInfo(reqDto);
 
-        Oneseo currentOneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId);
+        Oneseo currentOneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL);
 
         EntranceTestResult entranceTestResult = currentOneseo.getEntranceTestResult();
         OneseoService.isBeforeFirstTest(entranceTestResult.getFirstTestPassYn());
 
-        OneseoPrivacyDetail oneseoPrivacyDetail = oneseoPrivacyDetailRepository.findByOneseo(currentOneseo);
-        MiddleSchoolAchievement middleSchoolAchievement = middleSchoolAchievementRepository.findByOneseo(currentOneseo);
+        OneseoPrivacyDetail currentPrivacyDetail = currentOneseo.getOneseoPrivacyDetail();
+        MiddleSchoolAchievement currentAchievement = currentOneseo.getMiddleSchoolAchievement();
 
         Oneseo modifiedOneseo = buildOneseo(reqDto, currentOneseo);
-        oneseoService.assignSubmitCode(modifiedOneseo, currentOneseo.getWantedScreening());
+        boolean oneseoChanged = !findChangedFields(currentOneseo, modifiedOneseo).isEmpty();
+        Oneseo oneseo = oneseoChanged ? modifiedOneseo : currentOneseo;
 
-        saveOneseoPrivacyDetail(reqDto, oneseoPrivacyDetail, modifiedOneseo);
-        saveMiddleSchoolAchievement(reqDto, middleSchoolAchievement, modifiedOneseo);
-        saveHistoryIfWantedScreeningChange(reqDto.screening(), currentOneseo.getWantedScreening(), modifiedOneseo);
+        OneseoPrivacyDetail modifiedPrivacyDetail = buildOneseoPrivacyDetail(reqDto, currentPrivacyDetail, oneseo);
+        boolean privacyDetailChanged = !findChangedFields(currentPrivacyDetail, modifiedPrivacyDetail).isEmpty();
 
-        oneseoRepository.save(modifiedOneseo);
+        MiddleSchoolAchievement modifiedAchievement = buildMiddleSchoolAchievement(reqDto, currentAchievement, oneseo);
+        boolean achievementChanged = !findChangedFields(currentAchievement, modifiedAchievement).isEmpty();
+
+        if (oneseoChanged) {
+            oneseoService.assignSubmitCode(modifiedOneseo, currentOneseo.getWantedScreening());
+        }
+        if (privacyDetailChanged) {
+            oneseo.modifyOneseoPrivacyDetail(modifiedPrivacyDetail);
+            oneseoPrivacyDetailRepository.save(modifiedPrivacyDetail);
+        }
+        if (achievementChanged) {
+            oneseo.modifyMiddleSchoolAchievement(modifiedAchievement);
+            middleSchoolAchievementRepository.save(modifiedAchievement);
+        }
+        if (oneseoChanged) {
+            saveHistoryIfWantedScreeningChange(reqDto.screening(), currentOneseo.getWantedScreening(), modifiedOneseo);
+            oneseoRepository.save(modifiedOneseo);
+        }
+
+        boolean changed = oneseoChanged || privacyDetailChanged || achievementChanged;
+        boolean scoringRequested = requestScoring(reqDto.graduationType(), reqDto.middleSchoolAchievement(),
+                currentOneseo);
+        if (changed) {
+            applicationEventPublisher.publishEvent(new OneseoChangedEvent(memberId));
+        }
+        recordModifyResult(changed, scoringRequested);
 
-        CalculatedScoreResDto calculatedScoreResDto = calculateMiddleSchoolAchievement(reqDto.graduationType(),
-                reqDto.middleSchoolAchievement(), currentOneseo);
         OneseoPrivacyDetailResDto oneseoPrivacyDetailResDto = buildOneseoPrivacyDetailResDto(currentOneseo.getMember(),
-                oneseoPrivacyDetail);
+                privacyDetailChanged ? modifiedPrivacyDetail : currentPrivacyDetail);
         MiddleSchoolAchievementResDto middleSchoolAchievementResDto = buildMiddleSchoolAchievementResDto(
-                middleSchoolAchievement);
+                achievementChanged ? modifiedAchievement : currentAchievement);
 
-        return buildOneseoResDto(modifiedOneseo, oneseoPrivacyDetailResDto, middleSchoolAchievementResDto,
-                calculatedScoreResDto);
+        return buildOneseoResDto(oneseo, oneseoPrivacyDetailResDto, middleSchoolAchievementResDto);
     }
 
     private OneseoPrivacyDetailResDto buildOneseoPrivacyDetailResDto(Member member,
@@ -114,7 +149,7 @@ public class ModifyOneseoService {
     }
 
     private FoundOneseoResDto buildOneseoResDto(Oneseo oneseo, OneseoPrivacyDetailResDto oneseoPrivacyDetailResDto,
-            MiddleSchoolAchievementResDto middleSchoolAchievementResDto, CalculatedScoreResDto calculatedScoreResDto) {
+            MiddleSchoolAchievementResDto middleSchoolAchievementResDto) {
         DesiredMajors desiredMajors = oneseo.getDesiredMajors();
 
         return FoundOneseoResDto.builder().oneseoId(oneseo.getId()).submitCode(oneseo.getOneseoSubmitCode())
@@ -123,100 +158,18 @@ public class ModifyOneseoService {
                         .secondDesiredMajor(desiredMajors.getSecondDesiredMajor())
                         .thirdDesiredMajor(desiredMajors.getThirdDesiredMajor()).build())
                 .privacyDetail(oneseoPrivacyDetailResDto).middleSchoolAchievement(middleSchoolAchievementResDto)
-                .calculatedScore(calculatedScoreResDto).build();
+                .build();
     }
 
-    private CalculatedScoreResDto calculateMiddleSchoolAchievement(GraduationType graduationType,
+    private boolean requestScoring(GraduationType graduationType,
             MiddleSchoolAchievementReqDto middleSchoolAchievement, Oneseo oneseo) {
-        LambdaScoreCalculatorReqDto lambdaRequest = LambdaScoreCalculatorReqDto.from(middleSchoolAchievement,
-                graduationType);
-        CalculatedScoreResDto calculatedScore = lambdaScoreCalculatorClient.calculateScore(lambdaRequest);
-        saveCalculatedScoreToDb(calculatedScore, oneseo);
-
-        return calculatedScore;
+        return scoringOutboxService.enqueueIfChanged(oneseo,
+                LambdaScoreCalculatorReqDto.from(middleSchoolAchievement, graduationType));
     }
 
-    private void saveCalculatedScoreToDb(CalculatedScoreResDto calculatedScore, Oneseo oneseo) {
-        EntranceTestResult findEntranceTestResult = entranceTestResultRepository.findByOneseo(oneseo);
-
-        if (findEntranceTestResult == null) {
-            EntranceTestFactorsDetail entranceTestFactorsDetail = EntranceTestFactorsDetail.builder()
-                    .generalSubjectsScore(calculatedScore.generalSubjectsScore())
-                    .artsPhysicalSubjectsScore(calculatedScore.artsPhysicalSubjectsScore())
-                    .totalSubjectsScore(calculatedScore.totalSubjectsScore() != null
-                            ? calculatedScore.totalSubjectsScore()
-                            : (calculatedScore.generalSubjectsScore() != null
-                                    && calculatedScore.artsPhysicalSubjectsScore() != null
-                                            ? calculatedScore.generalSubjectsScore()
-                                                    .add(calculatedScore.artsPhysicalSubjectsScore())
-                                            : null))
-                    .attendanceScore(calculatedScore.attendanceScore()).volunteerScore(calculatedScore.volunteerScore())
-                    .totalNonSubjectsScore(
-                            calculatedScore.attendanceScore() != null && calculatedScore.volunteerScore() != null
-                                    ? calculatedScore.attendanceScore().add(calculatedScore.volunteerScore())
-                                    : null)
-                    .score1_2(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score1_2()
-                            : null)
-                    .score2_1(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score2_1()
-                            : null)
-                    .score2_2(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score2_2()
-                            : null)
-                    .score3_1(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score3_1()
-                            : null)
-                    .score3_2(calculatedScore.generalSubjectsScoreDetail() != null
-                            ? calculatedScore.generalSubjectsScoreDetail().score3_2()
-                            : null)
-                    .build();
-
-            EntranceTestResult entranceTestResult = new EntranceTestResult(oneseo, entranceTestFactorsDetail,
-                    calculatedScore.totalScore());
-
-            entranceTestFactorsDetailRepository.save(entranceTestFactorsDetail);
-            entranceTestResultRepository.save(entranceTestResult);
-        } else {
-            EntranceTestFactorsDetail findEntranceTestFactorsDetail = findEntranceTestResult
-                    .getEntranceTestFactorsDetail();
-
-            if (calculatedScore.generalSubjectsScore() != null) {
-                findEntranceTestFactorsDetail.updateGradeEntranceTestFactorsDetail(
-                        calculatedScore.generalSubjectsScore(), calculatedScore.artsPhysicalSubjectsScore(),
-                        calculatedScore.totalSubjectsScore() != null
-                                ? calculatedScore.totalSubjectsScore()
-                                : calculatedScore.generalSubjectsScore()
-                                        .add(calculatedScore.artsPhysicalSubjectsScore()),
-                        calculatedScore.attendanceScore(), calculatedScore.volunteerScore(),
-                        calculatedScore.attendanceScore().add(calculatedScore.volunteerScore()),
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score1_2()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score2_1()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score2_2()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score3_1()
-                                : null,
-                        calculatedScore.generalSubjectsScoreDetail() != null
-                                ? calculatedScore.generalSubjectsScoreDetail().score3_2()
-                                : null);
-            } else {
-                findEntranceTestFactorsDetail.updateGedEntranceTestFactorsDetail(calculatedScore.attendanceScore(),
-                        calculatedScore.volunteerScore(), calculatedScore.totalSubjectsScore(),
-                        calculatedScore.attendanceScore().add(calculatedScore.volunteerScore()));
-            }
-
-            findEntranceTestResult.modifyDocumentEvaluationScore(calculatedScore.totalScore());
-
-            oneseo.modifyEntranceTestResult(findEntranceTestResult);
-            entranceTestFactorsDetailRepository.save(findEntranceTestFactorsDetail);
-            entranceTestResultRepository.save(findEntranceTestResult);
-        }
+    private void recordModifyResult(boolean changed, boolean scoringRequested) {
+        String result = scoringRequested ? "rescored" : changed ? "scoring_skipped" : "unchanged";
+        meterRegistry.counter(MODIFY_METRIC_NAME, "result", result).increment();
     }
 
     private Oneseo buildOneseo(OneseoReqDto reqDto, Oneseo oneseo) {
@@ -233,28 +186,26 @@ public class ModifyOneseoService {
                 .build();
     }
 
-    private void saveOneseoPrivacyDetail(OneseoReqDto reqDto, OneseoPrivacyDetail oneseoPrivacyDetail, Oneseo oneseo) {
-        OneseoPrivacyDetail modifiedOneseoPrivacyDetail = OneseoPrivacyDetail.builder().id(oneseoPrivacyDetail.getId())
-                .oneseo(oneseo).graduationType(reqDto.graduationType()).graduationDate(reqDto.graduationDate())
+    private OneseoPrivacyDetail buildOneseoPrivacyDetail(OneseoReqDto reqDto, OneseoPrivacyDetail oneseoPrivacyDetail,
+            Oneseo oneseo) {
+        return OneseoPrivacyDetail.builder().id(oneseoPrivacyDetail.getId()).oneseo(oneseo)
+                .graduationType(reqDto.graduationType()).graduationDate(reqDto.graduationDate())
                 .address(reqDto.address()).detailAddress(reqDto.detailAddress()).profileImg(reqDto.profileImg())
                 .guardianName(reqDto.guardianName()).guardianPhoneNumber(reqDto.guardianPhoneNumber())
                 .relationshipWithGuardian(reqDto.relationshipWithGuardian()).schoolAddress(reqDto.schoolAddress())
                 .schoolName(reqDto.schoolName()).schoolTeacherName(reqDto.schoolTeacherName())
                 .schoolTeacherPhoneNumber(reqDto.schoolTeacherPhoneNumber()).studentNumber(reqDto.studentNumber())
                 .build();
-
-        oneseo.modifyOneseoPrivacyDetail(modifiedOneseoPrivacyDetail);
-        oneseoPrivacyDetailRepository.save(modifiedOneseoPrivacyDetail);
     }
 
-    private void saveMiddleSchoolAchievement(OneseoReqDto reqDto, MiddleSchoolAchievement middleSchoolAchievement,
-            Oneseo oneseo) {
+    private MiddleSchoolAchievement buildMiddleSchoolAchievement(OneseoReqDto reqDto,
+            MiddleSchoolAchievement middleSchoolAchievement, Oneseo oneseo) {
         MiddleSchoolAchievementReqDto updatedMiddleSchoolAchievement = reqDto.middleSchoolAchievement();
 
         MiddleSchoolAchievementCalcDto calcDto = buildCalcDtoWithFillEmpty(updatedMiddleSchoolAchievement,
                 reqDto.graduationType());
 
-        MiddleSchoolAchievement modifiedMiddleSchoolAchievement = MiddleSchoolAchievement.builder()
+        return MiddleSchoolAchievement.builder()
                 .id(middleSchoolAchievement.getId()).oneseo(oneseo)
                 .achievement1_2(validationGeneralAchievement(calcDto.achievement1_2()))
                 .achievement2_1(validationGeneralAchievement(calcDto.achievement2_1()))
@@ -268,9 +219,80 @@ public class ModifyOneseoService {
                 .absentDays(calcDto.absentDays()).attendanceDays(calcDto.attendanceDays())
                 .volunteerTime(calcDto.volunteerTime()).liberalSystem(calcDto.liberalSystem())
                 .freeSemester(calcDto.freeSemester()).gedAvgScore(calcDto.gedAvgScore()).build();
+    }
+
+    private List<String> findChangedFields(Oneseo before, Oneseo after) {
+        List<String> changedFields = new ArrayList<>();
+
+        compare(changedFields, "firstDesiredMajor", before, after,
+                oneseo -> oneseo.getDesiredMajors().getFirstDesiredMajor());
+        compare(changedFields, "secondDesiredMajor", before, after,
+                oneseo -> oneseo.getDesiredMajors().getSecondDesiredMajor());
+        compare(changedFields, "thirdDesiredMajor", before, after,
+                oneseo -> oneseo.getDesiredMajors().getThirdDesiredMajor());
+        compare(changedFields, "wantedScreening", before, after, Oneseo::getWantedScreening);
+
+        return changedFields;
+    }
+
+    private List<String> findChangedFields(OneseoPrivacyDetail before, OneseoPrivacyDetail after) {
+        List<String> changedFields = new ArrayList<>();
+
+        compare(changedFields, "graduationType", before, after, OneseoPrivacyDetail::getGraduationType);
+        compare(changedFields, "graduationDate", before, after, OneseoPrivacyDetail::getGraduationDate);
+        compare(changedFields, "address", before, after, OneseoPrivacyDetail::getAddress);
+        compare(changedFields, "detailAddress", before, after, OneseoPrivacyDetail::getDetailAddress);
+        compare(changedFields, "profileImg", before, after, OneseoPrivacyDetail::getProfileImg);
+        compare(changedFields, "guardianName", before, after, OneseoPrivacyDetail::getGuardianName);
+        compare(changedFields, "guardianPhoneNumber", before, after, OneseoPrivacyDetail::getGuardianPhoneNumber);
+        compare(changedFields, "relationshipWithGuardian", before, after,
+                OneseoPrivacyDetail::getRelationshipWithGuardian);
+        compare(changedFields, "schoolAddress", before, after, OneseoPrivacyDetail::getSchoolAddress);
+        compare(changedFields, "schoolName", before, after, OneseoPrivacyDetail::getSchoolName);
+        compare(changedFields, "schoolTeacherName", before, after, OneseoPrivacyDetail::getSchoolTeacherName);
+        compare(changedFields, "schoolTeacherPhoneNumber", before, after,
+                OneseoPrivacyDetail::getSchoolTeacherPhoneNumber);
+        compare(changedFields, "studentNumber", before, after, OneseoPrivacyDetail::getStudentNumber);
+
+        return changedFields;
+    }
 
-        oneseo.modifyMiddleSchoolAchievement(modifiedMiddleSchoolAchievement);
-        middleSchoolAchievementRepository.save(modifiedMiddleSchoolAchievement);
+    private List<String> findChangedFields(MiddleSchoolAchievement before, MiddleSchoolAchievement after) {
+        List<String> changedFields = new ArrayList<>();
+
+        compare(changedFields, "achievement1_2", before, after, MiddleSchoolAchievement::getAchievement1_2);
+        compare(changedFields, "achievement2_1", before, after, MiddleSchoolAchievement::getAchievement2_1);
+        compare(changedFields, "achievement2_2", before, after, MiddleSchoolAchievement::getAchievement2_2);
+        compare(changedFields, "achievement3_1", before, after, MiddleSchoolAchievement::getAchievement3_1);
+        compare(changedFields, "achievement3_2", before, after, MiddleSchoolAchievement::getAchievement3_2);
+        compare(changedFields, "generalSubjects", before, after, MiddleSchoolAchievement::getGeneralSubjects);
+        compare(changedFields, "newSubjects", before, after, MiddleSchoolAchievement::getNewSubjects);
+        compare(changedFields, "artsPhysicalAchievement", before, after,
+                MiddleSchoolAchievement::getArtsPhysicalAchievement);
+        compare(changedFields, "artsPhysicalSubjects", before, after,
+                MiddleSchoolAchievement::getArtsPhysicalSubjects);
+        compare(changedFields, "absentDays", before, after, MiddleSchoolAchievement::getAbsentDays);
+        compare(changedFields, "attendanceDays", before, after, MiddleSchoolAchievement::getAttendanceDays);
+        compare(changedFields, "volunteerTime", before, after, MiddleSchoolAchievement::getVolunteerTime);
+        compare(changedFields, "liberalSystem", before, after, MiddleSchoolAchievement::getLiberalSystem);
+        compare(changedFields, "freeSemester", before, after, MiddleSchoolAchievement::getFreeSemester);
+        compare(changedFields, "gedAvgScore", before, after, MiddleSchoolAchievement::getGedAvgScore);
+
+        return changedFields;
+    }
+
+    // 소수점 자릿수 차이(80 vs 80.00)는 같은 값으로 취급
+    private static <T> void compare(List<String> changedFields, String fieldName, T before, T after,
+            Function<T, ?> getter) {
+        Object beforeValue = getter.apply(before);
+        Object afterValue = getter.apply(after);
+
+        boolean same = beforeValue instanceof BigDecimal beforeDecimal && afterValue instanceof BigDecimal afterDecimal
+                ? beforeDecimal.compareTo(afterDecimal) == 0
+                : Objects.equals(beforeValue, afterValue);
+        if (!same) {
+            changedFields.add(fieldName);
+        }
     }
 
     private void saveHistoryIfWantedScreeningChange(Screening afterScreening, Screening beforeScreening,
@@ -1,5 +1,8 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -8,6 +11,7 @@ import team.themoment.hellogsmv3.domain.member.service.MemberService;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.ArrivedStatusResDto;
 import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoFacetChangedEvent;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 
 @Service
@@ -17,16 +21,18 @@ public class ModifyRealOneseoArrivedYnService {
     private final MemberService memberService;
     private final OneseoService oneseoService;
     private final OneseoRepository oneseoRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public ArrivedStatusResDto execute(Long memberId) {
-        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId);
+        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
 
         EntranceTestResult entranceTestResult = oneseo.getEntranceTestResult();
         OneseoService.isBeforeFirstTest(entranceTestResult.getFirstTestPassYn());
 
         oneseo.switchRealOneseoArrivedYn();
         Oneseo modifiedOneseo = oneseoRepository.save(oneseo);
+        applicationEventPublisher.publishEvent(new OneseoFacetChangedEvent(memberId));
 
         return new ArrivedStatusResDto(modifiedOneseo.getRealOneseoArrivedYn());
     }
@@ -0,0 +1,211 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.ONESEO_CACHE_VALUE;
+
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.OneseoDraftDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoTempReqDto;
+
+/**
+ * 임시 저장한 원서를 회원별 Redis 해시에 단계(step)별 필드로 보관합니다. 요청에 담긴 값만 해당 단계 필드에 저장하고, 조회할 때
+ * 단계 순서대로 합치되 마지막으로 저장한 단계를 가장 나중에 반영합니다. 요청에 null로 담긴 값은 그대로 저장하여 앞 단계에서 저장한
+ * 값을 비웁니다. 짧은 시간 동안 이어지는 자동 저장은 서버 메모리에서 합친 뒤 주기적으로 한 번에 Redis에 반영하므로, 반영 전 내용은
+ * 다른 서버에서 조회되지 않을 수 있습니다. 임시 저장 내용을 삭제하면 회원별 세대 번호를 올려, 삭제 전에 모인 내용을 다른 서버가 나중에
+ * 반영하지 못하도록 합니다.
+ */
+@Slf4j
+@Service
+public class OneseoDraftService {
+
+    static final String KEY_PREFIX = "oneseo-draft:";
+    static final String GENERATION_KEY_PREFIX = "oneseo-draft-generation:";
+    static final String STEP_FIELD = "step";
+    private static final String INITIAL_GENERATION = "0";
+    private static final Duration DRAFT_TTL = Duration.ofDays(4L);
+    private static final Set<String> DRAFT_FIELDS = Arrays.stream(OneseoTempReqDto.class.getRecordComponents())
+            .map(RecordComponent::getName).collect(Collectors.toUnmodifiableSet());
+
+    // 모으기 시작할 때 읽은 세대 번호가 그대로일 때만, 즉 그 사이에 임시 저장 내용이 삭제되지 않았을 때만 반영
+    private static final RedisScript<Long> FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or ARGV[3]
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Long, PendingDraft> pendingDrafts = new ConcurrentHashMap<>();
+
+    /** 반영을 기다리는 단계별 내용과, 모으기 시작할 때 읽은 세대 번호입니다. */
+    private record PendingDraft(String generation, Map<String, String> fields) {
+    }
+
+    public OneseoDraftService(StringRedisTemplate redisTemplate, CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /** sentFields는 요청 본문에 담겨 있던 필드 이름으로, 이 중 값이 null인 필드는 비운 것으로 저장합니다. */
+    public void save(Long memberId, Integer step, OneseoTempReqDto reqDto, Set<String> sentFields) {
+        String section = writeSection(reqDto, sentFields);
+        PendingDraft current = pendingDrafts.get(memberId);
+        String generation = current != null ? current.generation() : readGeneration(memberId);
+
+        // 반영 중인 스냅샷이 바뀌지 않도록 매번 새 Map으로 교체
+        pendingDrafts.compute(memberId, (id, pending) -> {
+            Map<String, String> merged = pending == null ? new HashMap<>() : new HashMap<>(pending.fields());
+            merged.put(String.valueOf(step), section);
+            merged.put(STEP_FIELD, String.valueOf(step));
+            return new PendingDraft(pending == null ? generation : pending.generation(), merged);
+        });
+    }
+
+    public Optional<OneseoDraftDto> find(Long memberId) {
+        Map<String, String> fields = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(KEY_PREFIX + memberId).forEach(fields::put);
+        PendingDraft pending = pendingDrafts.get(memberId);
+        if (pending != null) {
+            fields.putAll(pending.fields());
+        }
+
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String lastStep = fields.get(STEP_FIELD);
+        ObjectNode merged = objectMapper.createObjectNode();
+        fields.keySet().stream().filter(field -> !STEP_FIELD.equals(field) && !field.equals(lastStep))
+                .sorted(Comparator.comparingInt(Integer::parseInt))
+                .forEach(field -> merged.setAll(readSection(fields.get(field))));
+        if (lastStep != null && fields.containsKey(lastStep)) {
+            merged.setAll(readSection(fields.get(lastStep)));
+        }
+
+        try {
+            return Optional.of(new OneseoDraftDto(objectMapper.treeToValue(merged, OneseoTempReqDto.class),
+                    lastStep == null ? null : Integer.valueOf(lastStep)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("임시 저장된 원서를 읽을 수 없습니다. member ID: " + memberId, e);
+        }
+    }
+
+    /**
+     * 아직 반영하지 않은 내용을 포함해 회원의 임시 저장 내용을 삭제합니다. 세대 번호를 먼저 올리므로 다른 서버에 모여 있던 내용은
+     * 반영되지 않고 버려집니다.
+     */
+    public void delete(Long memberId) {
+        pendingDrafts.remove(memberId);
+        String generationKey = GENERATION_KEY_PREFIX + memberId;
+        redisTemplate.opsForValue().increment(generationKey);
+        redisTemplate.expire(generationKey, DRAFT_TTL);
+        redisTemplate.delete(KEY_PREFIX + memberId);
+    }
+
+    /** 서버 메모리에 모인 임시 저장 내용을 Redis에 반영합니다. 반영에 실패한 내용은 다음 주기에 다시 시도합니다. */
+    @Scheduled(fixedDelayString = "${oneseo-draft.flush-delay-millis:1000}")
+    @PreDestroy
+    public void flush() {
+        for (Map.Entry<Long, PendingDraft> entry : pendingDrafts.entrySet()) {
+            Long memberId = entry.getKey();
+            PendingDraft pending = entry.getValue();
+            try {
+                Long flushed = redisTemplate.execute(FLUSH_SCRIPT,
+                        List.of(KEY_PREFIX + memberId, GENERATION_KEY_PREFIX + memberId),
+                        flushArgs(pending).toArray());
+                if (Long.valueOf(1L).equals(flushed)) {
+                    evictLegacyDraft(memberId);
+                } else {
+                    log.info("삭제된 임시 저장 원서이므로 반영하지 않습니다. member ID: {}", memberId);
+                }
+                // 반영하는 동안 새로 저장된 내용이 있다면 다음 주기에 반영
+                pendingDrafts.remove(memberId, pending);
+            } catch (Exception e) {
+                log.warn("임시 저장된 원서를 Redis에 반영하지 못했습니다. member ID: {}", memberId, e);
+            }
+        }
+    }
+
+    private List<String> flushArgs(PendingDraft pending) {
+        List<String> args = new ArrayList<>();
+        args.add(pending.generation());
+        args.add(String.valueOf(DRAFT_TTL.toMillis()));
+        args.add(INITIAL_GENERATION);
+        pending.fields().forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        return args;
+    }
+
+    private String readGeneration(Long memberId) {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + memberId);
+        return generation != null ? generation : INITIAL_GENERATION;
+    }
+
+    // 이전에는 임시 저장 원서를 oneseo 캐시에 저장했으므로, 남아있는 항목이 새 임시 저장 내용을 가리지 않도록 제거
+    private void evictLegacyDraft(Long memberId) {
+        Cache cache = cacheManager.getCache(ONESEO_CACHE_VALUE);
+        if (cache != null) {
+            cache.evict(memberId);
+        }
+    }
+
+    private String writeSection(OneseoTempReqDto reqDto, Set<String> sentFields) {
+        ObjectNode section = objectMapper.valueToTree(reqDto);
+        // 요청에 null로 담겨 있던 필드는 이전 단계의 값을 덮어쓰도록 null로 남기고, 요청에 없던 필드는 저장하지 않음
+        for (String field : DRAFT_FIELDS) {
+            if (sentFields.contains(field) && !section.has(field)) {
+                section.putNull(field);
+            } else if (!sentFields.contains(field) && section.path(field).isNull()) {
+                section.remove(field);
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(section);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("임시 저장할 원서를 변환할 수 없습니다.", e);
+        }
+    }
+
+    private ObjectNode readSection(String section) {
+        try {
+            return (ObjectNode) objectMapper.readTree(section);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("임시 저장된 원서를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.OneseoFacetDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.OneseoFacetCountResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.OneseoFacetCountsResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoFacetJdbcRepository;
+
+/**
+ * 원서 검색 집계 단위별 원서 수를 Redis 해시에 보관하고, 원서가 바뀔 때마다 해당 회원의 원서를 이전 집계 단위에서 새 집계 단위로
+ * 옮깁니다. 주기적으로 GROUP BY 결과와 비교하여 어긋나 있으면 전체를 다시 집계합니다. 비교와 재집계는 Redis 잠금으로 한 서버에서만
+ * 실행하며, 여러 회원의 원서를 한꺼번에 바꾼 경우 다른 서버가 잠금을 쥐고 있으면 비교 요청을 남겨 그 서버가 끝난 뒤 다시 비교하도록
+ * 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OneseoFacetCountService {
+
+    static final String COUNTS_KEY = "oneseo-facet:counts";
+    static final String MEMBERS_KEY = "oneseo-facet:members";
+    static final String REBUILDING_KEY = "oneseo-facet:rebuilding";
+    static final String CHANGED_MEMBERS_KEY = "oneseo-facet:changed-members";
+    static final String RECONCILE_LOCK_KEY = "oneseo-facet:reconcile-lock";
+    static final String RECONCILE_REQUESTED_KEY = "oneseo-facet:reconcile-requested";
+    static final String REBUILD_KEY_SUFFIX = ":rebuild";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+    private static final String MISMATCH_METRIC_NAME = "oneseo.facet.mismatch";
+
+    // 이전 집계 단위를 읽고 옮기는 과정을 한 번에 실행하여 같은 회원의 원서가 동시에 바뀌어도 개수가 어긋나지 않도록 함
+    // 다시 집계하는 중이면 교체 후 다시 옮길 수 있도록 회원 ID를 기록
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('SADD', KEYS[4], ARGV[1])
+            end
+            local previous = redis.call('HGET', KEYS[2], ARGV[1])
+            if previous == ARGV[2] then
+                return 0
+            end
+            if previous then
+                redis.call('HINCRBY', KEYS[1], previous, -1)
+            end
+            if ARGV[2] == '' then
+                redis.call('HDEL', KEYS[2], ARGV[1])
+            else
+                redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+                redis.call('HINCRBY', KEYS[1], ARGV[2], 1)
+            end
+            return 1
+            """, Long.class);
+
+    // 회원별 집계 단위와 집계 단위별 개수를 함께 교체하여, 교체 도중 옮긴 원서가 한쪽에만 반영되지 않도록 함
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS, 2 do
+                if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+                    redis.call('RENAME', KEYS[i + 1], KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 비교하는 동안 남겨진 요청이 있으면 잠금을 놓지 않고 연장하여, 요청한 서버가 잠금을 얻지 못해 변경이 누락되지 않도록 함
+    private static final RedisScript<Long> RELEASE_LOCK_UNLESS_REQUESTED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return -1
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final OneseoFacetJdbcRepository oneseoFacetJdbcRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OneseoFacetCountsResDto execute() {
+        Map<OneseoFacetDto, Long> counts = findCounts();
+
+        List<OneseoFacetCountResDto> facets = new ArrayList<>();
+        for (ScreeningCategory screeningCategory : ScreeningCategory.values()) {
+            for (YesNo realOneseoArrivedYn : YesNo.values()) {
+                for (TestResultTag testResultTag : TestResultTag.values()) {
+                    long count = counts.entrySet().stream()
+                            .filter(entry -> entry.getKey().screeningCategory() == screeningCategory
+                                    && entry.getKey().realOneseoArrivedYn() == realOneseoArrivedYn
+                                    && entry.getKey().matches(testResultTag))
+                            .mapToLong(Map.Entry::getValue).sum();
+                    facets.add(OneseoFacetCountResDto.builder().screeningCategory(screeningCategory)
+                            .realOneseoArrivedYn(realOneseoArrivedYn).testResultTag(testResultTag).count(count)
+                            .build());
+                }
+            }
+        }
+
+        return OneseoFacetCountsResDto.builder().facets(facets).build();
+    }
+
+    // Redis 장애는 변경을 막지 않도록 기록만 하고, 어긋난 개수는 주기적인 비교에서 바로잡음
+    public void apply(Long memberId) {
+        try {
+            String facetKey = oneseoFacetJdbcRepository.findByMemberId(memberId).map(OneseoFacetDto::key).orElse("");
+            redisTemplate.execute(MOVE_SCRIPT, List.of(COUNTS_KEY, MEMBERS_KEY, REBUILDING_KEY, CHANGED_MEMBERS_KEY),
+                    String.valueOf(memberId), facetKey);
+        } catch (Exception e) {
+            log.warn("원서 검색 집계를 갱신하지 못했습니다. member ID: {}", memberId, e);
+        }
+    }
+
+    // 어느 회원의 원서가 바뀌었는지 모를 때 사용하며, 다른 서버가 비교하는 중이면 그 서버가 요청을 보고 다시 비교함
+    public void requestReconcile() {
+        try {
+            redisTemplate.opsForValue().set(RECONCILE_REQUESTED_KEY, "1");
+        } catch (Exception e) {
+            log.warn("원서 검색 집계 비교를 요청하지 못했습니다.", e);
+        }
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${oneseo-facet.reconcile-delay-millis:600000}")
+    public void reconcile() {
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            // 다른 서버가 비교하거나 다시 집계하는 중
+            if (!Boolean.TRUE.equals(
+                    redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, lockToken, RECONCILE_LOCK_TTL))) {
+                return;
+            }
+            boolean released = false;
+            try {
+                while (!released) {
+                    // 요청을 지운 뒤 DB를 읽으므로, 지우기 전에 남겨진 요청의 변경은 이번 비교에 반영됨
+                    redisTemplate.delete(RECONCILE_REQUESTED_KEY);
+                    compareAndRebuild();
+                    released = releaseLockUnlessRequested(lockToken);
+                }
+            } finally {
+                if (!released) {
+                    redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), lockToken);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("원서 검색 집계를 DB와 비교하지 못했습니다.", e);
+        }
+    }
+
+    private boolean releaseLockUnlessRequested(String lockToken) {
+        Long result = redisTemplate.execute(RELEASE_LOCK_UNLESS_REQUESTED_SCRIPT,
+                List.of(RECONCILE_LOCK_KEY, RECONCILE_REQUESTED_KEY), lockToken,
+                String.valueOf(RECONCILE_LOCK_TTL.toMillis()));
+        return !Long.valueOf(-1L).equals(result);
+    }
+
+    private void compareAndRebuild() {
+        Map<String, Long> expected = toKeyCounts(oneseoFacetJdbcRepository.countAll());
+        Map<String, Long> actual = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(COUNTS_KEY).forEach((key, value) -> {
+            if (Long.parseLong(value) != 0) {
+                actual.put(key, Long.parseLong(value));
+            }
+        });
+
+        if (!expected.equals(actual)) {
+            log.warn("원서 검색 집계가 DB와 달라 다시 집계합니다. DB: {}, Redis: {}", expected, actual);
+            meterRegistry.counter(MISMATCH_METRIC_NAME).increment();
+            rebuild();
+        }
+    }
+
+    // 임시 키에 모두 집계한 뒤 교체하여 다시 집계하는 동안에도 이전 집계를 조회할 수 있도록 함
+    // DB를 읽은 뒤 교체하기 전까지 이전 집계에만 반영된 변경은 교체 후 해당 회원의 원서를 다시 옮겨 반영
+    private void rebuild() {
+        redisTemplate.delete(CHANGED_MEMBERS_KEY);
+        redisTemplate.opsForValue().set(REBUILDING_KEY, "1", RECONCILE_LOCK_TTL);
+        try {
+            Map<Long, OneseoFacetDto> facets = oneseoFacetJdbcRepository.findAll();
+
+            Map<String, String> members = new HashMap<>();
+            Map<String, Long> counts = new HashMap<>();
+            facets.forEach((memberId, facet) -> {
+                members.put(String.valueOf(memberId), facet.key());
+                counts.merge(facet.key(), 1L, Long::sum);
+            });
+            Map<String, String> countValues = new HashMap<>();
+            counts.forEach((key, count) -> countValues.put(key, String.valueOf(count)));
+
+            writeRebuildKey(MEMBERS_KEY, members);
+            writeRebuildKey(COUNTS_KEY, countValues);
+            redisTemplate.execute(SWAP_SCRIPT, List.of(MEMBERS_KEY, MEMBERS_KEY + REBUILD_KEY_SUFFIX, COUNTS_KEY,
+                    COUNTS_KEY + REBUILD_KEY_SUFFIX));
+        } finally {
+            redisTemplate.delete(REBUILDING_KEY);
+        }
+
+        Set<String> changedMembers = redisTemplate.opsForSet().members(CHANGED_MEMBERS_KEY);
+        redisTemplate.delete(CHANGED_MEMBERS_KEY);
+        if (changedMembers != null) {
+            changedMembers.forEach(memberId -> apply(Long.valueOf(memberId)));
+        }
+    }
+
+    private void writeRebuildKey(String key, Map<String, String> entries) {
+        String rebuildKey = key + REBUILD_KEY_SUFFIX;
+        redisTemplate.delete(rebuildKey);
+        if (!entries.isEmpty()) {
+            redisTemplate.opsForHash().putAll(rebuildKey, entries);
+        }
+    }
+
+    // Redis를 읽을 수 없으면 DB에서 직접 집계
+    private Map<OneseoFacetDto, Long> findCounts() {
+        Optional<Map<OneseoFacetDto, Long>> cached = findCountsFromRedis();
+        return cached.orElseGet(oneseoFacetJdbcRepository::countAll);
+    }
+
+    private Optional<Map<OneseoFacetDto, Long>> findCountsFromRedis() {
+        try {
+            Map<OneseoFacetDto, Long> counts = new HashMap<>();
+            redisTemplate.<String, String>opsForHash().entries(COUNTS_KEY)
+                    .forEach((key, value) -> counts.put(OneseoFacetDto.fromKey(key), Long.parseLong(value)));
+            return Optional.of(counts);
+        } catch (Exception e) {
+            log.warn("Redis에서 원서 검색 집계를 읽지 못했습니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, Long> toKeyCounts(Map<OneseoFacetDto, Long> counts) {
+        Map<String, Long> keyCounts = new HashMap<>();
+        counts.forEach((facet, count) -> keyCounts.put(facet.key(), count));
+        return keyCounts;
+    }
+}
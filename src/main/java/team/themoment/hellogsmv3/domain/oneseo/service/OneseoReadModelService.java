@@ -0,0 +1,60 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.FoundOneseoResDto;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoReadModelRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OneseoReadModelService {
+
+    private final OneseoReadModelRepository oneseoReadModelRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 읽기 모델이 없거나 읽을 수 없다면 빈 값을 반환하여 원서를 다시 조립하도록 합니다. */
+    @Transactional(readOnly = true)
+    public Optional<FoundOneseoResDto> find(Long memberId) {
+        return oneseoReadModelRepository.findById(memberId).flatMap(readModel -> {
+            try {
+                return Optional.of(objectMapper.readValue(readModel.getDocument(), FoundOneseoResDto.class));
+            } catch (JsonProcessingException e) {
+                log.warn("원서 읽기 모델을 읽을 수 없습니다. member ID: {}", memberId, e);
+                return Optional.empty();
+            }
+        });
+    }
+
+    @Transactional
+    public void save(Long memberId, FoundOneseoResDto foundOneseoResDto) {
+        oneseoReadModelRepository.upsert(memberId, foundOneseoResDto.oneseoId(), writeDocument(foundOneseoResDto));
+    }
+
+    @Transactional
+    public void saveIfAbsent(Long memberId, FoundOneseoResDto foundOneseoResDto) {
+        oneseoReadModelRepository.insertIfAbsent(memberId, foundOneseoResDto.oneseoId(),
+                writeDocument(foundOneseoResDto));
+    }
+
+    @Transactional
+    public void delete(Long memberId) {
+        oneseoReadModelRepository.deleteByMemberId(memberId);
+    }
+
+    private String writeDocument(FoundOneseoResDto foundOneseoResDto) {
+        try {
+            return objectMapper.writeValueAsString(foundOneseoResDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("원서 읽기 모델을 만들 수 없습니다. oneseo ID: " + foundOneseoResDto.oneseoId(), e);
+        }
+    }
+}
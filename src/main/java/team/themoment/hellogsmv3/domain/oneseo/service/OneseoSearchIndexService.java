@@ -0,0 +1,35 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoSearchTextJdbcRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OneseoSearchIndexService {
+
+    private final OneseoSearchTextJdbcRepository oneseoSearchTextJdbcRepository;
+
+    // 여러 서버가 동시에 인덱스를 만들다 실패하더라도 다른 서버가 만든 인덱스를 사용하므로 기동은 계속함
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (!oneseoSearchTextJdbcRepository.existsFullTextIndex()) {
+                oneseoSearchTextJdbcRepository.createFullTextIndex();
+                log.info("원서 검색 FULLTEXT 인덱스를 생성했습니다.");
+            }
+            int filledCount = oneseoSearchTextJdbcRepository.fillMissingSearchText();
+            if (filledCount > 0) {
+                log.info("원서 {}건의 검색 컬럼을 채웠습니다.", filledCount);
+            }
+        } catch (DataAccessException e) {
+            log.error("원서 검색 인덱스를 준비하지 못했습니다.", e);
+        }
+    }
+}
@@ -12,7 +12,7 @@ import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
-import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FoundMemberAndOneseoDto;
+import team.themoment.hellogsmv3.domain.member.repository.MemberRepository;
 import team.themoment.hellogsmv3.domain.oneseo.dto.internal.MiddleSchoolAchievementCalcDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.MiddleSchoolAchievementReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoReqDto;
@@ -23,6 +23,7 @@ import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
 import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
 
@@ -35,22 +36,13 @@ public class OneseoService {
     private final OneseoRepository oneseoRepository;
     private final OperationTestResultRepository operationTestResultRepository;
     private final EntranceTestResultRepository entranceTestResultRepository;
+    private final SubmitCodeAllocator submitCodeAllocator;
+    private final MemberRepository memberRepository;
 
     public void assignSubmitCode(Oneseo oneseo, Screening originalScreening) {
         if (oneseo.getWantedScreening() != originalScreening) {
             ScreeningCategory screeningCategory = oneseo.getWantedScreening().getScreeningCategory();
-            Integer maxSubmitCodeNumber = oneseoRepository.findMaxSubmitCodeByScreening(screeningCategory);
-            int newSubmitCodeNumber = (maxSubmitCodeNumber != null ? maxSubmitCodeNumber : 0) + 1;
-
-            String submitCode;
-            switch (screeningCategory) {
-                case GENERAL -> submitCode = "A-" + newSubmitCodeNumber;
-                case SPECIAL -> submitCode = "B-" + newSubmitCodeNumber;
-                case EXTRA -> submitCode = "C-" + newSubmitCodeNumber;
-                default -> throw new IllegalArgumentException("Unexpected value: " + screeningCategory);
-            }
-
-            oneseo.setOneseoSubmitCode(submitCode);
+            oneseo.setOneseoSubmitCode(submitCodeAllocator.allocate(screeningCategory));
         }
     }
 
@@ -177,12 +169,13 @@ public class OneseoService {
         return target == null || target.isBlank();
     }
 
-    public Oneseo findWithMemberByMemberIdOrThrow(Long memberId) {
-        FoundMemberAndOneseoDto queryResult = oneseoRepository.findMemberAndOneseoByMemberId(memberId);
-        if (queryResult.member() == null)
-            throw new ExpectedException("존재하지 않는 지원자입니다. member ID: " + memberId, HttpStatus.NOT_FOUND);
-        if (queryResult.oneseo() == null)
-            throw new ExpectedException("해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId, HttpStatus.NOT_FOUND);
-        return queryResult.oneseo();
+    /** 조회 계획에 포함된 연관 엔티티를 원서와 함께 한 번의 쿼리로 가져옵니다. */
+    public Oneseo findWithMemberByMemberIdOrThrow(Long memberId, OneseoFetchPlan fetchPlan) {
+        return oneseoRepository.findByMemberIdWithFetchPlan(memberId, fetchPlan).orElseThrow(() -> {
+            // 원서가 없을 때만 회원 존재 여부를 조회하여 예외를 구분
+            if (!memberRepository.existsById(memberId))
+                return new ExpectedException("존재하지 않는 지원자입니다. member ID: " + memberId, HttpStatus.NOT_FOUND);
+            return new ExpectedException("해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId, HttpStatus.NOT_FOUND);
+        });
     }
 }
@@ -1,17 +1,24 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
-import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.*;
-
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
 import team.themoment.hellogsmv3.domain.member.service.MemberService;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.OneseoDraftDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.MiddleSchoolAchievementReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoTempReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.DesiredMajorsResDto;
@@ -27,18 +34,57 @@ public class OneseoTempStorageService {
 
     private final MemberService memberService;
     private final OneseoRepository oneseoRepository;
-
-    @CachePut(value = ONESEO_CACHE_VALUE, key = "#memberId")
+    private final OneseoDraftService oneseoDraftService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * 요청에 담긴 내용을 해당 단계의 임시 저장 내용으로 저장합니다. 변경된 단계의 내용만 보내도 되며, null로 보낸 필드는 이전에 저장한
+     * 값을 비웁니다.
+     */
     @Transactional(readOnly = true)
-    public FoundOneseoResDto execute(OneseoTempReqDto reqDto, Integer step, Long memberId) {
+    public void execute(ObjectNode body, Integer step, Long memberId) {
+        OneseoTempReqDto reqDto = readRequest(body);
         Member member = memberService.findByIdOrThrow(memberId);
 
         isNotExistOneseo(member);
 
+        Set<String> sentFields = new HashSet<>();
+        body.fieldNames().forEachRemaining(sentFields::add);
+        oneseoDraftService.save(memberId, step, reqDto, sentFields);
+    }
+
+    // 보내지 않은 필드와 null로 보낸 필드를 구분하기 위해 본문을 JSON 그대로 받으므로, @Valid 대신 직접 변환하고 검증
+    private OneseoTempReqDto readRequest(ObjectNode body) {
+        OneseoTempReqDto reqDto;
+        try {
+            reqDto = objectMapper.treeToValue(body, OneseoTempReqDto.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new ExpectedException("임시 저장할 원서의 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        Set<ConstraintViolation<OneseoTempReqDto>> violations = validator.validate(reqDto);
+        if (!violations.isEmpty()) {
+            throw new ExpectedException(violations.iterator().next().getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        return reqDto;
+    }
+
+    /** 단계별로 임시 저장한 내용을 합쳐 원서 형태로 반환합니다. */
+    @Transactional(readOnly = true)
+    public Optional<FoundOneseoResDto> findDraft(Long memberId) {
+        return oneseoDraftService.find(memberId).map(draft -> buildFoundOneseoResDto(memberId, draft));
+    }
+
+    private FoundOneseoResDto buildFoundOneseoResDto(Long memberId, OneseoDraftDto draft) {
+        Member member = memberService.findByIdOrThrow(memberId);
+        OneseoTempReqDto reqDto = draft.reqDto();
+
         OneseoPrivacyDetailResDto oneseoPrivacyDetailResDto = buildOneseoPrivacyDetailResDto(member, reqDto);
         MiddleSchoolAchievementResDto middleSchoolAchievementResDto = buildMiddleSchoolAchievementResDto(reqDto);
 
-        return buildFoundOneseoResDto(reqDto, oneseoPrivacyDetailResDto, middleSchoolAchievementResDto, step);
+        return buildFoundOneseoResDto(reqDto, oneseoPrivacyDetailResDto, middleSchoolAchievementResDto,
+                draft.step());
     }
 
     private void isNotExistOneseo(Member member) {
@@ -60,6 +106,10 @@ public class OneseoTempStorageService {
 
     private MiddleSchoolAchievementResDto buildMiddleSchoolAchievementResDto(OneseoTempReqDto reqDto) {
         MiddleSchoolAchievementReqDto middleSchoolAchievement = reqDto.middleSchoolAchievement();
+        // 성적 단계를 아직 저장하지 않은 임시 저장 원서
+        if (middleSchoolAchievement == null) {
+            return null;
+        }
 
         List<Integer> absentDays = middleSchoolAchievement.absentDays();
         List<Integer> attendanceDays = middleSchoolAchievement.attendanceDays();
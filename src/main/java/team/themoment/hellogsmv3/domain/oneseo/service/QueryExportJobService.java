@@ -0,0 +1,36 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ExportJobResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ExportJob;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExportJobRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@Service
+@RequiredArgsConstructor
+public class QueryExportJobService {
+
+    private final ExportJobRepository exportJobRepository;
+
+    @Transactional(readOnly = true)
+    public ExportJobResDto execute(Long exportJobId) {
+        return buildExportJobResDto(findExportJob(exportJobRepository, exportJobId));
+    }
+
+    static ExportJob findExportJob(ExportJobRepository exportJobRepository, Long exportJobId) {
+        return exportJobRepository.findById(exportJobId).orElseThrow(
+                () -> new ExpectedException("존재하지 않는 엑셀 내보내기 작업입니다. ID: " + exportJobId, HttpStatus.NOT_FOUND));
+    }
+
+    static ExportJobResDto buildExportJobResDto(ExportJob job) {
+        return ExportJobResDto.builder().exportJobId(job.getId()).status(job.getStatus())
+                .dataVersion(job.getDataVersion()).completedSheetCount(job.getCompletedSheetCount())
+                .sheetCount(DownloadExcelService.SHEET_COUNT).processedRowCount(job.getProcessedRowCount())
+                .lastError(job.getLastError()).createdTime(job.getCreatedTime()).updatedTime(job.getUpdatedTime())
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.ALL;
 import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.ONESEO_CACHE_VALUE;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -15,24 +17,45 @@ import team.themoment.hellogsmv3.domain.oneseo.dto.response.*;
 import team.themoment.hellogsmv3.domain.oneseo.entity.*;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.DesiredMajors;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
-import team.themoment.hellogsmv3.domain.oneseo.repository.MiddleSchoolAchievementRepository;
-import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoPrivacyDetailRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 
 @Service
 @RequiredArgsConstructor
 public class QueryOneseoByIdService {
 
-    private final OneseoPrivacyDetailRepository oneseoPrivacyDetailRepository;
-    private final MiddleSchoolAchievementRepository middleSchoolAchievementRepository;
     private final MemberService memberService;
     private final OneseoService oneseoService;
+    private final OneseoReadModelService oneseoReadModelService;
+    private final OneseoRepository oneseoRepository;
+    private final OneseoTempStorageService oneseoTempStorageService;
 
-    @Cacheable(value = ONESEO_CACHE_VALUE, key = "#memberId")
-    @Transactional(readOnly = true)
+    // 임시 저장 원서는 자주 바뀌므로 캐시하지 않음
+    @Cacheable(value = ONESEO_CACHE_VALUE, key = "#memberId", unless = "#result.oneseoId() == null")
+    @Transactional
     public FoundOneseoResDto execute(Long memberId) {
-        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId);
-        OneseoPrivacyDetail oneseoPrivacyDetail = oneseoPrivacyDetailRepository.findByOneseo(oneseo);
-        MiddleSchoolAchievement middleSchoolAchievement = middleSchoolAchievementRepository.findByOneseo(oneseo);
+        Optional<FoundOneseoResDto> readModel = oneseoReadModelService.find(memberId);
+        if (readModel.isPresent()) {
+            return readModel.get();
+        }
+
+        if (!oneseoRepository.existsByMemberId(memberId)) {
+            Optional<FoundOneseoResDto> draft = oneseoTempStorageService.findDraft(memberId);
+            if (draft.isPresent()) {
+                return draft.get();
+            }
+        }
+
+        // 읽기 모델이 만들어지기 전에 제출된 원서는 조립한 결과를 읽기 모델로 남김
+        FoundOneseoResDto foundOneseoResDto = assemble(memberId);
+        oneseoReadModelService.saveIfAbsent(memberId, foundOneseoResDto);
+        return foundOneseoResDto;
+    }
+
+    /** 원서와 개인정보, 중학교 성취도, 성적을 한 번에 조회하여 조립합니다. 호출하는 쪽의 트랜잭션 안에서 실행해야 합니다. */
+    public FoundOneseoResDto assemble(Long memberId) {
+        Oneseo oneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL);
+        OneseoPrivacyDetail oneseoPrivacyDetail = oneseo.getOneseoPrivacyDetail();
+        MiddleSchoolAchievement middleSchoolAchievement = oneseo.getMiddleSchoolAchievement();
 
         CalculatedScoreResDto calculatedScoreResDto = buildCalculatedScoreResDto(oneseo,
                 oneseoPrivacyDetail.getGraduationType());
@@ -48,6 +71,10 @@ public class QueryOneseoByIdService {
 
     private CalculatedScoreResDto buildCalculatedScoreResDto(Oneseo oneseo, GraduationType graduationType) {
         EntranceTestResult entranceTestResult = oneseo.getEntranceTestResult();
+        // 성적 계산이 아직 끝나지 않은 원서는 점수 없이 반환
+        if (entranceTestResult == null || entranceTestResult.getDocumentEvaluationScore() == null) {
+            return null;
+        }
         EntranceTestFactorsDetail entranceTestFactorsDetail = entranceTestResult.getEntranceTestFactorsDetail();
 
         GeneralSubjectsScoreDetailResDto generalSubjectsScoreDetailResDto = GeneralSubjectsScoreDetailResDto.builder()
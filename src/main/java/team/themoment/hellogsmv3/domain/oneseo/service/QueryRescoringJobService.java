@@ -0,0 +1,51 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.RescoringDiffResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.RescoringJobResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringJob;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringDiffRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJobRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@Service
+@RequiredArgsConstructor
+public class QueryRescoringJobService {
+
+    private final RescoringJobRepository rescoringJobRepository;
+    private final RescoringDiffRepository rescoringDiffRepository;
+
+    @Transactional(readOnly = true)
+    public RescoringJobResDto execute(Long rescoringJobId) {
+        RescoringJob job = rescoringJobRepository.findById(rescoringJobId).orElseThrow(
+                () -> new ExpectedException("존재하지 않는 성적 재계산 작업입니다. ID: " + rescoringJobId, HttpStatus.NOT_FOUND));
+
+        List<RescoringDiffResDto> diffs = rescoringDiffRepository
+                .findTop100ByRescoringJobIdOrderByIdAsc(rescoringJobId).stream()
+                .map(diff -> RescoringDiffResDto.builder().oneseoId(diff.getOneseoId()).memberId(diff.getMemberId())
+                        .beforeScore(diff.getBeforeScore()).afterScore(diff.getAfterScore())
+                        .changedFields(diff.getChangedFields()).build())
+                .toList();
+
+        return buildRescoringJobResDto(job, diffs);
+    }
+
+    static RescoringJobResDto buildRescoringJobResDto(RescoringJob job, List<RescoringDiffResDto> diffs) {
+        Double throughputPerSecond = job.getElapsedMillis() > 0
+                ? job.getProcessedCount() * 1000.0 / job.getElapsedMillis()
+                : null;
+
+        return RescoringJobResDto.builder().rescoringJobId(job.getId()).status(job.getStatus()).dryRun(job.isDryRun())
+                .formulaVersion(job.getFormulaVersion()).lastOneseoId(job.getLastOneseoId())
+                .processedCount(job.getProcessedCount()).changedCount(job.getChangedCount())
+                .failedCount(job.getFailedCount()).skippedCount(job.getSkippedCount())
+                .throughputPerSecond(throughputPerSecond).lastError(job.getLastError())
+                .createdTime(job.getCreatedTime()).updatedTime(job.getUpdatedTime()).diffs(diffs).build();
+    }
+}
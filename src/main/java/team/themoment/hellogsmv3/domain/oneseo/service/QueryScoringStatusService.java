@@ -0,0 +1,32 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ScoringStatusResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ScoringOutbox;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ScoringOutboxRepository;
+
+@Service
+@RequiredArgsConstructor
+public class QueryScoringStatusService {
+
+    private final ScoringOutboxRepository scoringOutboxRepository;
+    private final OneseoService oneseoService;
+
+    @Transactional(readOnly = true)
+    public ScoringStatusResDto execute(Long memberId) {
+        ScoringStatus scoringStatus = scoringOutboxRepository.findByMemberId(memberId).map(ScoringOutbox::getStatus)
+                .orElseGet(() -> {
+                    // outbox 도입 이전에 동기로 계산된 원서는 계산 완료로 취급
+                    oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
+                    return ScoringStatus.DONE;
+                });
+
+        return new ScoringStatusResDto(scoringStatus);
+    }
+}
@@ -0,0 +1,54 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.RescoringJobResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringJob;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.worker.RescoringJobWorker;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@Service
+@RequiredArgsConstructor
+public class ResumeRescoringService {
+
+    private final RescoringJobRepository rescoringJobRepository;
+    private final RescoringJobWorker rescoringJobWorker;
+    private final InstanceIdentifier instanceIdentifier;
+
+    public RescoringJobResDto execute(Long rescoringJobId) {
+        RescoringJob job = findJob(rescoringJobId);
+
+        if (!job.isResumable()) {
+            throw new ExpectedException("중단되거나 실패한 작업만 이어서 실행할 수 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        rescoringJobWorker.interruptStaleJobs();
+        int resumed;
+        try {
+            resumed = rescoringJobRepository.resume(rescoringJobId, instanceIdentifier.getId(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw StartRescoringService.runningJobExists();
+        }
+        // 같은 작업을 동시에 이어서 실행하려는 다른 요청이 먼저 상태를 바꿈
+        if (resumed == 0) {
+            throw StartRescoringService.runningJobExists();
+        }
+
+        rescoringJobWorker.run(rescoringJobId);
+
+        return QueryRescoringJobService.buildRescoringJobResDto(findJob(rescoringJobId), List.of());
+    }
+
+    private RescoringJob findJob(Long rescoringJobId) {
+        return rescoringJobRepository.findById(rescoringJobId).orElseThrow(
+                () -> new ExpectedException("존재하지 않는 성적 재계산 작업입니다. ID: " + rescoringJobId, HttpStatus.NOT_FOUND));
+    }
+}
@@ -0,0 +1,164 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
+
+/**
+ * 성적 계산 요청의 내용으로 만든 해시를 키로 계산 결과를 보관합니다. 서버 메모리(LRU)를 먼저 확인하고, 없으면 Redis를
+ * 확인합니다. 키에 성적 산출 공식 버전과 계산 모드가 포함되어 있어 버전을 올리거나 계산기를 바꾸면 이전 결과는 사용되지
+ * 않습니다.
+ */
+@Slf4j
+@Service
+public class ScoreCalculationMemoService {
+
+    public static final String MEMO_METRIC_NAME = "score.calculator.memo";
+    private static final String KEY_PREFIX = "score-memo:";
+
+    private final ScoreCalculatorEnvironment.Mode mode;
+    private final ScoreCalculatorEnvironment.Memo memoEnv;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, CalculatedScoreResDto> localCache;
+
+    public ScoreCalculationMemoService(ScoreCalculatorEnvironment scoreCalculatorEnv, StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.mode = scoreCalculatorEnv.mode();
+        this.memoEnv = scoreCalculatorEnv.memo();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder().maximumSize(memoEnv.localMaxSize()).build();
+    }
+
+    public String keyOf(LambdaScoreCalculatorReqDto reqDto) {
+        return KEY_PREFIX + memoEnv.formulaVersion() + ":" + mode.name().toLowerCase() + ":"
+                + sha256(canonicalize(reqDto));
+    }
+
+    public Optional<CalculatedScoreResDto> find(String key) {
+        CalculatedScoreResDto localResult = localCache.getIfPresent(key);
+        if (localResult != null) {
+            record("local_hit");
+            return Optional.of(localResult);
+        }
+
+        CalculatedScoreResDto redisResult = findFromRedis(key);
+        if (redisResult != null) {
+            localCache.put(key, redisResult);
+            record("redis_hit");
+            return Optional.of(redisResult);
+        }
+
+        record("miss");
+        return Optional.empty();
+    }
+
+    public void put(String key, CalculatedScoreResDto calculatedScore) {
+        localCache.put(key, calculatedScore);
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(calculatedScore), memoEnv.ttl());
+        } catch (Exception e) {
+            log.warn("성적 계산 결과를 Redis에 저장하지 못했습니다. key: {}", key, e);
+        }
+    }
+
+    // Redis 장애는 계산을 막지 않도록 캐시 미스로 취급
+    private CalculatedScoreResDto findFromRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? objectMapper.readValue(value, CalculatedScoreResDto.class) : null;
+        } catch (Exception e) {
+            log.warn("Redis에서 성적 계산 결과를 읽지 못했습니다. key: {}", key, e);
+            return null;
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(MEMO_METRIC_NAME, "result", result).increment();
+    }
+
+    /**
+     * 계산 결과에 영향을 주지 않는 차이(과목 입력 순서, 공백 문자열, 소수점 자릿수)를 없앤 문자열을 만듭니다. 검정고시는 평균
+     * 점수만으로 계산되므로 나머지 입력은 포함하지 않습니다.
+     */
+    static String canonicalize(LambdaScoreCalculatorReqDto reqDto) {
+        if (reqDto.graduationType() == GraduationType.GED) {
+            return "GED|" + normalize(reqDto.gedAvgScore());
+        }
+
+        List<String> subjects = new ArrayList<>();
+        if (reqDto.generalSubjects() != null) {
+            subjects.addAll(reqDto.generalSubjects());
+        }
+        if (reqDto.newSubjects() != null) {
+            subjects.addAll(reqDto.newSubjects());
+        }
+
+        return String.join("|", String.valueOf(reqDto.graduationType()), normalize(reqDto.liberalSystem()),
+                normalize(reqDto.freeSemester()), achievements(subjects, reqDto.achievement1_1()),
+                achievements(subjects, reqDto.achievement1_2()), achievements(subjects, reqDto.achievement2_1()),
+                achievements(subjects, reqDto.achievement2_2()), achievements(subjects, reqDto.achievement3_1()),
+                achievements(subjects, reqDto.achievement3_2()),
+                achievements(reqDto.artsPhysicalSubjects(), reqDto.artsPhysicalAchievement()),
+                String.valueOf(reqDto.absentDays()), String.valueOf(reqDto.attendanceDays()),
+                String.valueOf(reqDto.volunteerTime()));
+    }
+
+    // 과목명과 성취도를 짝지어 과목명 순으로 정렬, 개수가 맞지 않으면 입력 순서를 그대로 사용
+    private static String achievements(List<String> subjects, List<Integer> achievements) {
+        if (achievements == null) {
+            return "null";
+        }
+        if (subjects == null || subjects.size() != achievements.size()) {
+            return achievements.toString();
+        }
+
+        List<String> pairs = new ArrayList<>();
+        for (int i = 0; i < achievements.size(); i++) {
+            pairs.add(normalize(subjects.get(i)) + "=" + achievements.get(i));
+        }
+        pairs.sort(Comparator.naturalOrder());
+
+        return pairs.toString();
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? "null" : value.strip();
+    }
+
+    private static String normalize(BigDecimal value) {
+        return value == null ? "null" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
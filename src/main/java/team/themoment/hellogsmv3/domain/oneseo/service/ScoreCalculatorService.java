@@ -0,0 +1,138 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.GeneralSubjectsScoreDetailResDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.lambda.LambdaScoreCalculatorClient;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
+
+/**
+ * 설정된 모드(score-calculator.mode)에 따라 Lambda 계산기 또는 내부 계산기로 성적을 계산합니다. SHADOW 모드에서는
+ * 두 결과를 비교해 불일치를 기록하고, Lambda 결과를 반환합니다. 같은 내용의 요청은 이전 계산 결과를 재사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreCalculatorService {
+
+    public static final String SHADOW_METRIC_NAME = "score.calculator.shadow";
+
+    private final ScoreCalculatorEnvironment scoreCalculatorEnv;
+    private final LambdaScoreCalculatorClient lambdaScoreCalculatorClient;
+    private final LocalScoreCalculatorService localScoreCalculatorService;
+    private final ScoreCalculationMemoService scoreCalculationMemoService;
+    private final MeterRegistry meterRegistry;
+
+    public CalculatedScoreResDto execute(LambdaScoreCalculatorReqDto reqDto) {
+        return calculate(reqDto, true);
+    }
+
+    /**
+     * useMemo가 false이면 이전 계산 결과를 사용하지 않고 다시 계산한 뒤 메모를 새 결과로 덮어씁니다. 공식 버전을 올리지 않은 채
+     * 계산기가 수정되었을 때 재계산에 사용합니다.
+     */
+    public CalculatedScoreResDto calculate(LambdaScoreCalculatorReqDto reqDto, boolean useMemo) {
+        if (!scoreCalculatorEnv.memo().enabled()) {
+            return calculateByMode(reqDto);
+        }
+
+        String key = scoreCalculationMemoService.keyOf(reqDto);
+        if (useMemo) {
+            Optional<CalculatedScoreResDto> memoized = scoreCalculationMemoService.find(key);
+            if (memoized.isPresent()) {
+                return memoized.get();
+            }
+        }
+
+        CalculatedScoreResDto calculatedScore = calculateByMode(reqDto);
+        scoreCalculationMemoService.put(key, calculatedScore);
+        return calculatedScore;
+    }
+
+    private CalculatedScoreResDto calculateByMode(LambdaScoreCalculatorReqDto reqDto) {
+        return switch (scoreCalculatorEnv.mode()) {
+            case LAMBDA -> lambdaScoreCalculatorClient.calculateScore(reqDto);
+            case LOCAL -> localScoreCalculatorService.execute(reqDto);
+            case SHADOW -> calculateWithShadow(reqDto);
+        };
+    }
+
+    private CalculatedScoreResDto calculateWithShadow(LambdaScoreCalculatorReqDto reqDto) {
+        CalculatedScoreResDto lambdaResult = lambdaScoreCalculatorClient.calculateScore(reqDto);
+
+        try {
+            CalculatedScoreResDto localResult = localScoreCalculatorService.execute(reqDto);
+            List<String> mismatchedFields = findMismatchedFields(lambdaResult, localResult);
+
+            if (mismatchedFields.isEmpty()) {
+                meterRegistry.counter(SHADOW_METRIC_NAME, "result", "match").increment();
+            } else {
+                meterRegistry.counter(SHADOW_METRIC_NAME, "result", "mismatch").increment();
+                log.warn("내부 성적 계산 결과가 Lambda 결과와 다릅니다. fields: {}, graduationType: {}, lambda: {}, local: {}",
+                        mismatchedFields, reqDto.graduationType(), lambdaResult, localResult);
+            }
+        } catch (Exception e) {
+            meterRegistry.counter(SHADOW_METRIC_NAME, "result", "error").increment();
+            log.warn("내부 성적 계산 중 오류가 발생했습니다. graduationType: {}", reqDto.graduationType(), e);
+        }
+
+        return lambdaResult;
+    }
+
+    public static List<String> findMismatchedFields(CalculatedScoreResDto expected, CalculatedScoreResDto actual) {
+        List<String> mismatchedFields = new ArrayList<>();
+
+        compare(mismatchedFields, "generalSubjectsScore", expected, actual,
+                CalculatedScoreResDto::generalSubjectsScore);
+        compare(mismatchedFields, "artsPhysicalSubjectsScore", expected, actual,
+                CalculatedScoreResDto::artsPhysicalSubjectsScore);
+        compare(mismatchedFields, "totalSubjectsScore", expected, actual, CalculatedScoreResDto::totalSubjectsScore);
+        compare(mismatchedFields, "attendanceScore", expected, actual, CalculatedScoreResDto::attendanceScore);
+        compare(mismatchedFields, "volunteerScore", expected, actual, CalculatedScoreResDto::volunteerScore);
+        compare(mismatchedFields, "totalScore", expected, actual, CalculatedScoreResDto::totalScore);
+
+        GeneralSubjectsScoreDetailResDto expectedDetail = expected.generalSubjectsScoreDetail();
+        GeneralSubjectsScoreDetailResDto actualDetail = actual.generalSubjectsScoreDetail();
+        if (expectedDetail != null && actualDetail != null) {
+            compare(mismatchedFields, "score1_2", expectedDetail, actualDetail,
+                    GeneralSubjectsScoreDetailResDto::score1_2);
+            compare(mismatchedFields, "score2_1", expectedDetail, actualDetail,
+                    GeneralSubjectsScoreDetailResDto::score2_1);
+            compare(mismatchedFields, "score2_2", expectedDetail, actualDetail,
+                    GeneralSubjectsScoreDetailResDto::score2_2);
+            compare(mismatchedFields, "score3_1", expectedDetail, actualDetail,
+                    GeneralSubjectsScoreDetailResDto::score3_1);
+            compare(mismatchedFields, "score3_2", expectedDetail, actualDetail,
+                    GeneralSubjectsScoreDetailResDto::score3_2);
+        } else if (expectedDetail != actualDetail) {
+            mismatchedFields.add("generalSubjectsScoreDetail");
+        }
+
+        return mismatchedFields;
+    }
+
+    // 소수점 자릿수 차이(60 vs 60.000)는 같은 값으로 취급
+    private static <T> void compare(List<String> mismatchedFields, String fieldName, T expected, T actual,
+            Function<T, BigDecimal> getter) {
+        BigDecimal expectedValue = getter.apply(expected);
+        BigDecimal actualValue = getter.apply(actual);
+
+        if (expectedValue == null && actualValue == null) {
+            return;
+        }
+        if (expectedValue == null || actualValue == null || expectedValue.compareTo(actualValue) != 0) {
+            mismatchedFields.add(fieldName);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestFactorsDetail;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
+import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ScoringOutbox;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestFactorsDetailRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ScoringOutboxRepository;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
+
+@Service
+@RequiredArgsConstructor
+public class ScoringOutboxService {
+
+    private final ScoringOutboxRepository scoringOutboxRepository;
+    private final OneseoRepository oneseoRepository;
+    private final EntranceTestResultRepository entranceTestResultRepository;
+    private final EntranceTestFactorsDetailRepository entranceTestFactorsDetailRepository;
+    private final ScoreCalculatorEnvironment scoreCalculatorEnv;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /** 원서 저장 트랜잭션 안에서 호출되어, 커밋과 함께 성적 계산 대기 상태를 기록합니다. */
+    @Transactional
+    public void enqueue(Oneseo oneseo, LambdaScoreCalculatorReqDto reqDto) {
+        String payload = writePayload(reqDto);
+
+        scoringOutboxRepository.findByOneseoId(oneseo.getId()).ifPresentOrElse(outbox -> outbox.requeue(payload),
+                () -> scoringOutboxRepository
+                        .save(ScoringOutbox.pending(oneseo.getId(), oneseo.getMember().getId(), payload)));
+    }
+
+    /**
+     * 마지막으로 기록된 성적 계산 요청과 입력이 같다면 다시 계산하지 않고 false를 반환합니다. 계산에 실패한 요청은 입력이 같아도
+     * 다시 기록합니다.
+     */
+    @Transactional
+    public boolean enqueueIfChanged(Oneseo oneseo, LambdaScoreCalculatorReqDto reqDto) {
+        String payload = writePayload(reqDto);
+        Optional<ScoringOutbox> outbox = scoringOutboxRepository.findByOneseoId(oneseo.getId());
+
+        if (outbox.isPresent() && outbox.get().getStatus() != ScoringStatus.FAILED
+                && payload.equals(outbox.get().getPayload())) {
+            return false;
+        }
+
+        outbox.ifPresentOrElse(found -> found.requeue(payload), () -> scoringOutboxRepository
+                .save(ScoringOutbox.pending(oneseo.getId(), oneseo.getMember().getId(), payload)));
+        return true;
+    }
+
+    @Transactional
+    public List<ScoringOutbox> claim() {
+        ScoreCalculatorEnvironment.Outbox outboxEnv = scoreCalculatorEnv.outbox();
+        LocalDateTime staleBefore = LocalDateTime.now().minus(outboxEnv.staleTimeout());
+
+        List<ScoringOutbox> outboxes = scoringOutboxRepository.findClaimable(staleBefore,
+                PageRequest.of(0, outboxEnv.batchSize()));
+        outboxes.forEach(ScoringOutbox::startProcessing);
+        scoringOutboxRepository.saveAllAndFlush(outboxes);
+
+        return outboxes;
+    }
+
+    /**
+     * 계산된 성적을 저장하고 outbox를 완료 처리합니다. 처리 도중 원서가 다시 수정되었다면(version 불일치) 저장하지 않고
+     * false를 반환합니다.
+     */
+    @Transactional
+    public boolean complete(ScoringOutbox claimed, CalculatedScoreResDto calculatedScore) {
+        Optional<ScoringOutbox> outbox = findIfUnchanged(claimed);
+        if (outbox.isEmpty()) {
+            return false;
+        }
+
+        Optional<Oneseo> oneseo = oneseoRepository.findById(claimed.getOneseoId());
+        if (oneseo.isEmpty()) {
+            scoringOutboxRepository.delete(outbox.get());
+            return false;
+        }
+
+        saveCalculatedScore(calculatedScore, oneseo.get());
+        outbox.get().complete();
+        applicationEventPublisher.publishEvent(new OneseoChangedEvent(claimed.getMemberId()));
+
+        return true;
+    }
+
+    @Transactional
+    public void fail(ScoringOutbox claimed, String error) {
+        findIfUnchanged(claimed)
+                .ifPresent(outbox -> outbox.fail(error, scoreCalculatorEnv.outbox().maxAttempts()));
+    }
+
+    public LambdaScoreCalculatorReqDto readPayload(ScoringOutbox outbox) {
+        try {
+            return objectMapper.readValue(outbox.getPayload(), LambdaScoreCalculatorReqDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("성적 계산 요청을 읽을 수 없습니다. outbox ID: " + outbox.getId(), e);
+        }
+    }
+
+    private Optional<ScoringOutbox> findIfUnchanged(ScoringOutbox claimed) {
+        return scoringOutboxRepository.findById(claimed.getId())
+                .filter(outbox -> outbox.getVersion().equals(claimed.getVersion()));
+    }
+
+    private String writePayload(LambdaScoreCalculatorReqDto reqDto) {
+        try {
+            return objectMapper.writeValueAsString(reqDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("성적 계산 요청을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private void saveCalculatedScore(CalculatedScoreResDto calculatedScore, Oneseo oneseo) {
+        EntranceTestResult findEntranceTestResult = entranceTestResultRepository.findByOneseo(oneseo);
+
+        if (findEntranceTestResult == null) {
+            EntranceTestFactorsDetail entranceTestFactorsDetail = EntranceTestFactorsDetail.builder().build();
+            findEntranceTestResult = new EntranceTestResult(oneseo, entranceTestFactorsDetail, null);
+            entranceTestFactorsDetailRepository.save(entranceTestFactorsDetail);
+        }
+
+        EntranceTestFactorsDetail findEntranceTestFactorsDetail = findEntranceTestResult
+                .getEntranceTestFactorsDetail();
+
+        if (calculatedScore.generalSubjectsScore() != null) {
+            findEntranceTestFactorsDetail.updateGradeEntranceTestFactorsDetail(calculatedScore.generalSubjectsScore(),
+                    calculatedScore.artsPhysicalSubjectsScore(),
+                    calculatedScore.totalSubjectsScore() != null
+                            ? calculatedScore.totalSubjectsScore()
+                            : calculatedScore.generalSubjectsScore().add(calculatedScore.artsPhysicalSubjectsScore()),
+                    calculatedScore.attendanceScore(), calculatedScore.volunteerScore(),
+                    calculatedScore.attendanceScore().add(calculatedScore.volunteerScore()),
+                    calculatedScore.generalSubjectsScoreDetail() != null
+                            ? calculatedScore.generalSubjectsScoreDetail().score1_2()
+                            : null,
+                    calculatedScore.generalSubjectsScoreDetail() != null
+                            ? calculatedScore.generalSubjectsScoreDetail().score2_1()
+                            : null,
+                    calculatedScore.generalSubjectsScoreDetail() != null
+                            ? calculatedScore.generalSubjectsScoreDetail().score2_2()
+                            : null,
+                    calculatedScore.generalSubjectsScoreDetail() != null
+                            ? calculatedScore.generalSubjectsScoreDetail().score3_1()
+                            : null,
+                    calculatedScore.generalSubjectsScoreDetail() != null
+                            ? calculatedScore.generalSubjectsScoreDetail().score3_2()
+                            : null);
+        } else {
+            findEntranceTestFactorsDetail.updateGedEntranceTestFactorsDetail(calculatedScore.attendanceScore(),
+                    calculatedScore.volunteerScore(), calculatedScore.totalSubjectsScore(),
+                    calculatedScore.attendanceScore().add(calculatedScore.volunteerScore()));
+        }
+
+        findEntranceTestResult.modifyDocumentEvaluationScore(calculatedScore.totalScore());
+
+        oneseo.modifyEntranceTestResult(findEntranceTestResult);
+        entranceTestFactorsDetailRepository.save(findEntranceTestFactorsDetail);
+        entranceTestResultRepository.save(findEntranceTestResult);
+    }
+}
@@ -0,0 +1,75 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.SearchOneseoCursorResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.SearchOneseoResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+/**
+ * 마지막으로 읽은 원서의 ID를 커서로 넘겨받아 그 다음 원서부터 검색합니다. 전체 개수는 요청한 경우에만 따로 셉니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchOneseoByCursorService {
+
+    // 한 건 더 읽는 size + 1이 넘치지 않고 한 번에 너무 많이 읽지 않도록 제한
+    public static final int MAX_SIZE = 100;
+    private static final String CURSOR_PREFIX = "oneseo:";
+
+    private final OneseoRepository oneseoRepository;
+
+    @Transactional(readOnly = true)
+    public SearchOneseoCursorResDto execute(String cursor, Integer size, TestResultTag testResultTag,
+            ScreeningCategory screeningTag, YesNo isSubmitted, String keyword, boolean withTotalCount) {
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽음
+        List<SearchOneseoResDto> oneseos = oneseoRepository
+                .findAllByKeywordAndScreeningAndSubmissionStatusAndTestResultBefore(keyword, screeningTag,
+                        isSubmitted, testResultTag, decodeCursor(cursor), size + 1);
+
+        boolean hasNext = oneseos.size() > size;
+        List<SearchOneseoResDto> content = hasNext ? oneseos.subList(0, size) : oneseos;
+        String nextCursor = hasNext ? encodeCursor(content.get(size - 1).oneseoId()) : null;
+
+        Long totalElements = withTotalCount
+                ? oneseoRepository.countByKeywordAndScreeningAndSubmissionStatusAndTestResult(keyword, screeningTag,
+                        isSubmitted, testResultTag)
+                : null;
+
+        return SearchOneseoCursorResDto.builder().oneseos(content).nextCursor(nextCursor)
+                .totalElements(totalElements).build();
+    }
+
+    static String encodeCursor(Long oneseoId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + oneseoId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new ExpectedException("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ExportJobResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ExportJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExportDataVersionJdbcRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExportJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.storage.ExportArtifactStorage;
+import team.themoment.hellogsmv3.domain.oneseo.worker.ExportJobWorker;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@Service
+@RequiredArgsConstructor
+public class StartExportService {
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportDataVersionJdbcRepository exportDataVersionJdbcRepository;
+    private final ExportArtifactStorage exportArtifactStorage;
+    private final ExportJobWorker exportJobWorker;
+    private final InstanceIdentifier instanceIdentifier;
+
+    // 같은 데이터 버전으로 진행 중이거나 완료된 작업이 있으면 새로 만들지 않고 그 작업을 반환
+    // 작업 저장이 커밋된 뒤 워커가 조회할 수 있도록 트랜잭션 없이 실행
+    public ExportJobResDto execute() {
+        String dataVersion = exportDataVersionJdbcRepository.findDataVersion();
+
+        exportJobWorker.interruptStaleJobs();
+        Optional<ExportJob> reusableJob = findReusableJob(dataVersion);
+        if (reusableJob.isPresent()) {
+            return QueryExportJobService.buildExportJobResDto(reusableJob.get());
+        }
+
+        ExportJob job;
+        try {
+            job = exportJobRepository.save(ExportJob.start(dataVersion, instanceIdentifier.getId()));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 시작한 다른 요청이 같은 데이터 버전의 작업을 먼저 저장함 (running_data_version 유니크 제약)
+            return findReusableJob(dataVersion).map(QueryExportJobService::buildExportJobResDto).orElseThrow(() -> e);
+        }
+
+        try {
+            exportJobWorker.run(job.getId());
+        } catch (TaskRejectedException e) {
+            // 실행되지 않을 작업이 진행 중으로 남아 다시 사용되지 않도록 실패로 기록
+            job.fail("내보내기 작업 대기열이 가득 찼습니다.");
+            exportJobRepository.save(job);
+            throw new ExpectedException("진행 중인 엑셀 내보내기 작업이 많습니다. 잠시 후 다시 시도해주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        return QueryExportJobService.buildExportJobResDto(job);
+    }
+
+    private Optional<ExportJob> findReusableJob(String dataVersion) {
+        return exportJobRepository
+                .findFirstByDataVersionAndStatusInOrderByIdDesc(dataVersion,
+                        List.of(ExportJobStatus.RUNNING, ExportJobStatus.COMPLETED))
+                .filter(this::isReusable);
+    }
+
+    private boolean isReusable(ExportJob job) {
+        return job.getStatus() == ExportJobStatus.RUNNING || exportArtifactStorage.exists(job.getArtifactKey());
+    }
+}
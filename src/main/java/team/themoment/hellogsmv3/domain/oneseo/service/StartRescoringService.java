@@ -0,0 +1,51 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.RescoringJobResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.worker.RescoringJobWorker;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
+
+@Service
+@RequiredArgsConstructor
+public class StartRescoringService {
+
+    private final RescoringJobRepository rescoringJobRepository;
+    private final RescoringJobWorker rescoringJobWorker;
+    private final ScoreCalculatorEnvironment scoreCalculatorEnv;
+    private final InstanceIdentifier instanceIdentifier;
+
+    // 작업 저장이 커밋된 뒤 워커가 조회할 수 있도록 트랜잭션 없이 실행
+    public RescoringJobResDto execute(boolean dryRun) {
+        rescoringJobWorker.interruptStaleJobs();
+        if (rescoringJobRepository.existsByStatus(RescoringJobStatus.RUNNING)) {
+            throw runningJobExists();
+        }
+
+        RescoringJob job;
+        try {
+            job = rescoringJobRepository.save(RescoringJob.start(dryRun, scoreCalculatorEnv.memo().formulaVersion(),
+                    instanceIdentifier.getId()));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 시작한 다른 요청이 먼저 실행 중 작업을 저장함 (running_slot 유니크 제약)
+            throw runningJobExists();
+        }
+        rescoringJobWorker.run(job.getId());
+
+        return QueryRescoringJobService.buildRescoringJobResDto(job, List.of());
+    }
+
+    static ExpectedException runningJobExists() {
+        return new ExpectedException("이미 진행 중인 성적 재계산 작업이 있습니다.", HttpStatus.CONFLICT);
+    }
+}
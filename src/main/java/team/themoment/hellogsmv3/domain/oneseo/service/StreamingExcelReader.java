@@ -0,0 +1,100 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.NotOfficeXmlFileException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.http.HttpStatus;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+/**
+ * xlsx 파일의 첫 번째 시트를 SAX 방식으로 읽어 행 단위로 전달합니다. 시트 전체를 메모리에 올리지 않으며, 수식 셀은 파일에 저장된
+ * 계산 결과를 사용합니다.
+ */
+public final class StreamingExcelReader {
+
+    private static final DataFormatter DATA_FORMATTER = new DataFormatter();
+
+    private StreamingExcelReader() {
+    }
+
+    /** 한 행의 셀 값을 열 번호(0부터 시작) 기준으로 담습니다. 값이 없는 셀은 포함하지 않습니다. */
+    public record ExcelRow(int rowIdx, Map<Integer, String> cells) {
+
+        public String get(int columnIdx) {
+            return cells.get(columnIdx);
+        }
+    }
+
+    public static void readFirstSheet(File file, Consumer<ExcelRow> rowConsumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new ExpectedException("엑셀 첫 번째 시트를 찾을 수 없습니다.", HttpStatus.BAD_REQUEST);
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new XSSFSheetXMLHandler(styles, sharedStrings,
+                        new RowCollector(rowConsumer), DATA_FORMATTER, false));
+                xmlReader.parse(new InputSource(sheet));
+            }
+        } catch (NotOfficeXmlFileException e) {
+            throw new ExpectedException("xlsx 형식의 엑셀 파일만 업로드할 수 있습니다.", HttpStatus.BAD_REQUEST);
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 시트를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<ExcelRow> rowConsumer;
+        private Map<Integer, String> cells;
+
+        RowCollector(Consumer<ExcelRow> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new HashMap<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowConsumer.accept(new ExcelRow(rowNum, cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference != null && formattedValue != null) {
+                cells.put((int) new CellReference(cellReference).getCol(), formattedValue);
+            }
+        }
+    }
+}
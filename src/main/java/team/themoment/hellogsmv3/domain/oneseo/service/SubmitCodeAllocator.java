@@ -0,0 +1,47 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+
+/**
+ * 전형 분류별 접수번호를 발급합니다. Redis 시퀀스에서 BLOCK_SIZE개씩 번호를 미리 예약해 두고 서버 메모리에서 나누어 주므로,
+ * 원서 테이블을 조회하지 않고 서버 간에도 번호가 겹치지 않습니다. 서버가 재시작되면 사용하지 않은 예약 번호는 건너뜁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubmitCodeAllocator {
+
+    static final int BLOCK_SIZE = 20;
+
+    private final SubmitCodeSequenceService submitCodeSequenceService;
+    private final Map<ScreeningCategory, Block> blocks = new ConcurrentHashMap<>();
+
+    public String allocate(ScreeningCategory screeningCategory) {
+        Block block = blocks.computeIfAbsent(screeningCategory, category -> new Block());
+
+        long submitCodeNumber;
+        synchronized (block) {
+            if (block.next >= block.end) {
+                block.next = submitCodeSequenceService.reserve(screeningCategory, BLOCK_SIZE);
+                block.end = block.next + BLOCK_SIZE;
+            }
+            submitCodeNumber = block.next++;
+        }
+
+        return switch (screeningCategory) {
+            case GENERAL -> "A-" + submitCodeNumber;
+            case SPECIAL -> "B-" + submitCodeNumber;
+            case EXTRA -> "C-" + submitCodeNumber;
+        };
+    }
+
+    private static class Block {
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,45 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+
+/**
+ * 전형 분류별 접수번호 시퀀스를 Redis 카운터(INCRBY)로 관리합니다. 원서 저장 트랜잭션 안에서 호출되어도 DB 커넥션이나 행 잠금을
+ * 추가로 잡지 않습니다. 카운터에는 마지막으로 예약한 번호가 저장되며, 카운터가 없으면 기존 원서의 최대 접수번호로 한 번만 초기화합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubmitCodeSequenceService {
+
+    static final String KEY_PREFIX = "submit-code-sequence:";
+    // 카운터가 유실되어 다시 초기화할 때, 다른 서버가 아직 나누어 주고 있는 예약 번호와 겹치지 않도록 건너뛰는 번호 수
+    static final long RESEED_GAP = 100L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final OneseoRepository oneseoRepository;
+
+    /** 접수번호 blockSize개를 예약하고 첫 번호를 반환합니다. */
+    public long reserve(ScreeningCategory screeningCategory, int blockSize) {
+        String key = KEY_PREFIX + screeningCategory.name();
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            // 여러 서버가 동시에 초기화해도 먼저 저장한 값만 남음
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seedOf(screeningCategory)));
+        }
+
+        Long reservedEnd = redisTemplate.opsForValue().increment(key, blockSize);
+        if (reservedEnd == null) {
+            throw new IllegalStateException("접수번호 시퀀스를 예약하지 못했습니다. key: " + key);
+        }
+        return reservedEnd - blockSize + 1;
+    }
+
+    private long seedOf(ScreeningCategory screeningCategory) {
+        Integer maxSubmitCodeNumber = oneseoRepository.findMaxSubmitCodeByScreening(screeningCategory);
+
+        return maxSubmitCodeNumber != null ? maxSubmitCodeNumber + RESEED_GAP : 0L;
+    }
+}
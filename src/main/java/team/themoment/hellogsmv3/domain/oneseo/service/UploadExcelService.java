@@ -3,30 +3,35 @@ package team.themoment.hellogsmv3.domain.oneseo.service;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
 
-import org.apache.poi.ss.usermodel.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import team.themoment.hellogsmv3.domain.oneseo.dto.internal.SecondTestResultDto;
-import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
-import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
-import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.SecondTestResultJdbcRepository;
+import team.themoment.hellogsmv3.domain.oneseo.service.StreamingExcelReader.ExcelRow;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 
+/**
+ * 2차 전형 점수 엑셀을 한 행씩 읽어 검증하고, CHUNK_SIZE개씩 모아 수험번호 기준 batch update로 저장합니다. 중복되거나 응시결과가
+ * 없는 수험번호가 있으면 저장한 점수를 모두 롤백합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UploadExcelService {
 
-    private final EntranceTestResultRepository entranceTestResultRepository;
-    private final OneseoRepository oneseoRepository;
+    static final int CHUNK_SIZE = 500;
 
-    private static final DataFormatter DATA_FORMATTER = new DataFormatter();
+    private final SecondTestResultJdbcRepository secondTestResultJdbcRepository;
 
     @Getter
     private enum CellIndex {
@@ -38,81 +43,105 @@ public class UploadExcelService {
         }
     }
 
+    @Transactional
     public void execute(MultipartFile file) {
-        try (Workbook workbook = createWorkbookFromFile(file)) {
-            Sheet sheet = workbook.getNumberOfSheets() == 0 ? null : workbook.getSheetAt(0);
-            if (sheet == null) {
-                throw new ExpectedException("엑셀 첫 번째 시트를 찾을 수 없습니다.", HttpStatus.BAD_REQUEST);
-            }
-            Map<String, SecondTestResultDto> excelResults = getExcelTestResult(sheet, workbook);
-
-            Set<String> examinationNumberToProcess = excelResults.keySet();
-            Map<String, EntranceTestResult> queryResult = oneseoRepository
-                    .findEntranceTestResultByExaminationNumbersIn(examinationNumberToProcess.stream().toList());
+        if (file.isEmpty()) {
+            throw new ExpectedException("엑셀 파일이 비어있습니다.", HttpStatus.BAD_REQUEST);
+        }
 
-            validateNotFoundExaminationNumbers(examinationNumberToProcess, queryResult.keySet());
-            saveAllEntranceTestResults(queryResult, excelResults);
+        ScoreUpload upload = new ScoreUpload();
+        Path tempFile = null;
+        try {
+            // 업로드 파일을 디스크에서 읽어야 압축을 풀 때 전체 내용을 메모리에 올리지 않음
+            tempFile = Files.createTempFile("second-test-result-", ".xlsx");
+            file.transferTo(tempFile);
+            StreamingExcelReader.readFirstSheet(tempFile.toFile(), upload::accept);
         } catch (IOException e) {
             throw new ExpectedException("엑셀 파일을 읽는 데 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            deleteTempFile(tempFile);
         }
+        upload.finish();
     }
 
-    private Map<String, SecondTestResultDto> getExcelTestResult(Sheet sheet, Workbook wb) {
-        Map<String, SecondTestResultDto> excelResults = new HashMap<>();
-        Set<String> seenExaminationNumbers = new HashSet<>();
-        Set<String> duplicateExaminationNumbers = new HashSet<>();
-        FormulaEvaluator evaluator = wb.getCreationHelper().createFormulaEvaluator();
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row == null)
-                continue;
-
-            String examinationNumber = readTextCell(row, CellIndex.EXAMINATION_NUMBER, i, evaluator);
-            BigDecimal competencyEvaluationScore = readScoreCell(row, CellIndex.COMPETENCY_EVALUATION_SCORE, i,
-                    evaluator);
-            BigDecimal interviewScore = readScoreCell(row, CellIndex.INTERVIEW_SCORE, i, evaluator);
+    private class ScoreUpload {
+
+        private final Set<String> seenExaminationNumbers = new HashSet<>();
+        private final Set<String> duplicateExaminationNumbers = new LinkedHashSet<>();
+        private final Set<String> notFoundExaminationNumbers = new LinkedHashSet<>();
+        private final List<SecondTestResultDto> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        void accept(ExcelRow row) {
+            // 첫 번째 행은 머리글
+            if (row.rowIdx() == 0) {
+                return;
+            }
+
+            String examinationNumber = readTextCell(row, CellIndex.EXAMINATION_NUMBER);
+            BigDecimal competencyEvaluationScore = readScoreCell(row, CellIndex.COMPETENCY_EVALUATION_SCORE);
+            BigDecimal interviewScore = readScoreCell(row, CellIndex.INTERVIEW_SCORE);
 
             if (!seenExaminationNumbers.add(examinationNumber)) {
                 duplicateExaminationNumbers.add(examinationNumber);
+                return;
+            }
+
+            chunk.add(new SecondTestResultDto(examinationNumber, competencyEvaluationScore, interviewScore));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
             }
-            excelResults.put(examinationNumber, new SecondTestResultDto(competencyEvaluationScore, interviewScore));
-        }
-        if (!duplicateExaminationNumbers.isEmpty()) {
-            throw new ExpectedException("다음 수험번호가 중복되었습니다: " + String.join(", ", duplicateExaminationNumbers),
-                    HttpStatus.BAD_REQUEST);
         }
-        return excelResults;
-    }
 
-    private void validateNotFoundExaminationNumbers(Set<String> expected, Set<String> found) {
-        Set<String> notFoundExaminationNumbers = expected.stream()
-                .filter(examinationNumber -> !found.contains(examinationNumber)).collect(Collectors.toSet());
-        if (!notFoundExaminationNumbers.isEmpty()) {
-            throw new ExpectedException(
-                    "다음 수험번호에 대한 응시결과(원서)가 존재하지 않습니다: " + String.join(", ", notFoundExaminationNumbers),
-                    HttpStatus.NOT_FOUND);
+        void finish() {
+            if (!duplicateExaminationNumbers.isEmpty()) {
+                throw new ExpectedException("다음 수험번호가 중복되었습니다: " + String.join(", ", duplicateExaminationNumbers),
+                        HttpStatus.BAD_REQUEST);
+            }
+
+            flush();
+            if (!notFoundExaminationNumbers.isEmpty()) {
+                throw new ExpectedException(
+                        "다음 수험번호에 대한 응시결과(원서)가 존재하지 않습니다: " + String.join(", ", notFoundExaminationNumbers),
+                        HttpStatus.NOT_FOUND);
+            }
         }
-    }
 
-    private void saveAllEntranceTestResults(Map<String, EntranceTestResult> resultToModify,
-            Map<String, SecondTestResultDto> excelResults) {
-        resultToModify.forEach((examinationNumber, entranceTestResult) -> {
-            SecondTestResultDto dto = excelResults.get(examinationNumber);
-            entranceTestResult.modifyCompetencyEvaluationScore(dto.competencyEvaluationScore());
-            entranceTestResult.modifyInterviewScore(dto.interviewScore());
-        });
-        entranceTestResultRepository.saveAll(resultToModify.values());
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<String> examinationNumbers = chunk.stream().map(SecondTestResultDto::examinationNumber).toList();
+            Set<String> existingExaminationNumbers = secondTestResultJdbcRepository
+                    .findExistingExaminationNumbers(examinationNumbers);
+            List<SecondTestResultDto> existingResults = new ArrayList<>(chunk.size());
+            for (SecondTestResultDto result : chunk) {
+                if (existingExaminationNumbers.contains(result.examinationNumber())) {
+                    existingResults.add(result);
+                } else {
+                    notFoundExaminationNumbers.add(result.examinationNumber());
+                }
+            }
+
+            secondTestResultJdbcRepository.updateScores(existingResults);
+            chunk.clear();
+        }
     }
 
-    private Workbook createWorkbookFromFile(MultipartFile file) throws IOException {
-        if (file.isEmpty()) {
-            throw new ExpectedException("엑셀 파일이 비어있습니다.", HttpStatus.BAD_REQUEST);
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("업로드한 엑셀 임시 파일을 삭제하지 못했습니다. path: {}", tempFile, e);
         }
-        return WorkbookFactory.create(file.getInputStream());
     }
 
-    private BigDecimal readScoreCell(Row row, CellIndex cellIndex, int rowIdx, FormulaEvaluator evaluator) {
-        String raw = readTextCell(row, cellIndex, rowIdx, evaluator);
+    private BigDecimal readScoreCell(ExcelRow row, CellIndex cellIndex) {
+        String raw = readTextCell(row, cellIndex);
+        int rowIdx = row.rowIdx();
         BigDecimal score;
         try {
             score = new BigDecimal(raw);
@@ -127,26 +156,12 @@ public class UploadExcelService {
         return score;
     }
 
-    private String readTextCell(Row row, CellIndex cellIndex, int rowIdx, FormulaEvaluator evaluator) {
-        Cell cell = row.getCell(cellIndex.getIndex());
-        if (cell == null || cell.getCellType() == CellType.BLANK) {
-            throw new ExpectedException(positionMsg(rowIdx, cellIndex, "필수 셀이 비어있습니다."), HttpStatus.BAD_REQUEST);
-        }
-        String value;
-        if (cell.getCellType() == CellType.FORMULA) {
-            value = DATA_FORMATTER.formatCellValue(cell, evaluator);
-        } else if (cell.getCellType() == CellType.NUMERIC) {
-            value = DATA_FORMATTER.formatCellValue(cell);
-        } else {
-            value = cell.getCellType() == CellType.STRING
-                    ? cell.getStringCellValue()
-                    : DATA_FORMATTER.formatCellValue(cell);
-        }
-        value = value.trim();
-        if (value.isEmpty()) {
-            throw new ExpectedException(positionMsg(rowIdx, cellIndex, "필수 셀이 비어있습니다."), HttpStatus.BAD_REQUEST);
+    private String readTextCell(ExcelRow row, CellIndex cellIndex) {
+        String value = row.get(cellIndex.getIndex());
+        if (value == null || value.isBlank()) {
+            throw new ExpectedException(positionMsg(row.rowIdx(), cellIndex, "필수 셀이 비어있습니다."), HttpStatus.BAD_REQUEST);
         }
-        return value;
+        return value.trim();
     }
 
     private String positionMsg(int rowIdx, CellIndex cellIndex, String msg) {
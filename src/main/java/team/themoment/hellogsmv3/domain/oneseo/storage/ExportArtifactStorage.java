@@ -0,0 +1,16 @@
+package team.themoment.hellogsmv3.domain.oneseo.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.core.io.Resource;
+
+/** 완료된 엑셀 내보내기 파일을 데이터 버전으로 만든 키로 저장하고 읽습니다. */
+public interface ExportArtifactStorage {
+
+    void store(String artifactKey, Path file) throws IOException;
+
+    boolean exists(String artifactKey);
+
+    Resource load(String artifactKey);
+}
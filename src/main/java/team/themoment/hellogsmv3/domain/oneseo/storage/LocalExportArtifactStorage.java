@@ -0,0 +1,49 @@
+package team.themoment.hellogsmv3.domain.oneseo.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import team.themoment.hellogsmv3.domain.oneseo.data.ExcelExportEnvironment;
+
+/** 서버 디스크에 내보내기 파일을 저장합니다. 서버가 한 대일 때 사용합니다. */
+@Component
+@ConditionalOnProperty(prefix = "excel-export", name = "storage", havingValue = "local", matchIfMissing = true)
+public class LocalExportArtifactStorage implements ExportArtifactStorage {
+
+    private final Path directory;
+
+    public LocalExportArtifactStorage(ExcelExportEnvironment excelExportEnv) {
+        this.directory = Path.of(excelExportEnv.localDirectory());
+    }
+
+    // 다운로드 중인 파일이 덮어써지지 않도록 임시 파일에 복사한 뒤 이름을 바꿈
+    @Override
+    public void store(String artifactKey, Path file) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(artifactKey);
+        Path copying = Files.createTempFile(directory, artifactKey, ".tmp");
+        try {
+            Files.copy(file, copying, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(copying, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(copying);
+        }
+    }
+
+    @Override
+    public boolean exists(String artifactKey) {
+        return Files.isRegularFile(directory.resolve(artifactKey));
+    }
+
+    @Override
+    public Resource load(String artifactKey) {
+        return new FileSystemResource(directory.resolve(artifactKey));
+    }
+}
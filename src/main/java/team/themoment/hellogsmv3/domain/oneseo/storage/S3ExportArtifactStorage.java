@@ -0,0 +1,52 @@
+package team.themoment.hellogsmv3.domain.oneseo.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import io.awspring.cloud.s3.ObjectMetadata;
+import io.awspring.cloud.s3.S3Template;
+import team.themoment.hellogsmv3.domain.oneseo.data.ExcelExportEnvironment;
+import team.themoment.hellogsmv3.global.thirdParty.aws.s3.data.S3Environment;
+
+/** S3 버킷에 내보내기 파일을 저장합니다. 서버가 여러 대여도 어느 서버에서든 같은 파일을 내려받을 수 있습니다. */
+@Component
+@ConditionalOnProperty(prefix = "excel-export", name = "storage", havingValue = "s3")
+public class S3ExportArtifactStorage implements ExportArtifactStorage {
+
+    private static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final S3Template s3Template;
+    private final String bucketName;
+    private final String keyPrefix;
+
+    public S3ExportArtifactStorage(S3Template s3Template, S3Environment s3Environment,
+            ExcelExportEnvironment excelExportEnv) {
+        this.s3Template = s3Template;
+        this.bucketName = s3Environment.bucketName();
+        this.keyPrefix = excelExportEnv.s3KeyPrefix();
+    }
+
+    @Override
+    public void store(String artifactKey, Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            s3Template.upload(bucketName, keyPrefix + artifactKey, inputStream,
+                    ObjectMetadata.builder().contentType(CONTENT_TYPE).build());
+        }
+    }
+
+    @Override
+    public boolean exists(String artifactKey) {
+        return s3Template.objectExists(bucketName, keyPrefix + artifactKey);
+    }
+
+    @Override
+    public Resource load(String artifactKey) {
+        return s3Template.download(bucketName, keyPrefix + artifactKey);
+    }
+}
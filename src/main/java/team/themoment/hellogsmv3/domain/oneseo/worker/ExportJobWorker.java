@@ -0,0 +1,107 @@
+package team.themoment.hellogsmv3.domain.oneseo.worker;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ExportJob;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExportJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.service.DownloadExcelService;
+import team.themoment.hellogsmv3.domain.oneseo.storage.ExportArtifactStorage;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+
+/**
+ * 지원자 엑셀을 임시 파일에 만든 뒤 내보내기 저장소로 옮깁니다. 엑셀을 만드는 동안 DB 커서가 연결을 점유하므로, 진행 상황과 생존
+ * 시각은 새 트랜잭션에서 별도 연결로 기록합니다. 생존 시각이 오래되어 다른 서버가 중단으로 처리한 작업은 더 이상 기록하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ExportJobWorker {
+
+    // 진행 상황 기록 간격(1000행)과 파일 업로드 시간보다 충분히 길어야 실행 중인 작업을 중단으로 처리하지 않음
+    public static final Duration HEARTBEAT_TIMEOUT = Duration.ofMinutes(5);
+
+    private final ExportJobRepository exportJobRepository;
+    private final DownloadExcelService downloadExcelService;
+    private final ExportArtifactStorage exportArtifactStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final InstanceIdentifier instanceIdentifier;
+
+    public ExportJobWorker(ExportJobRepository exportJobRepository, DownloadExcelService downloadExcelService,
+            ExportArtifactStorage exportArtifactStorage, TransactionTemplate transactionTemplate,
+            InstanceIdentifier instanceIdentifier) {
+        this.exportJobRepository = exportJobRepository;
+        this.downloadExcelService = downloadExcelService;
+        this.exportArtifactStorage = exportArtifactStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.instanceIdentifier = instanceIdentifier;
+    }
+
+    // 서버가 멈춰 생존 시각이 갱신되지 않는 작업은 다시 사용하지 않도록 중단 상태로 표시
+    @EventListener(ApplicationReadyEvent.class)
+    public void interruptRunningJobs() {
+        interruptStaleJobs();
+    }
+
+    public void interruptStaleJobs() {
+        exportJobRepository.interruptStale(LocalDateTime.now().minus(HEARTBEAT_TIMEOUT));
+    }
+
+    @Async("exportTaskExecutor")
+    public void run(Long exportJobId) {
+        ExportJob job = exportJobRepository.findById(exportJobId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 엑셀 내보내기 작업입니다. ID: " + exportJobId));
+        // 대기하는 동안 다른 서버가 중단으로 처리한 작업
+        if (!job.isOwnedBy(instanceIdentifier.getId())) {
+            log.warn("이 서버에서 실행 중인 엑셀 내보내기 작업이 아니므로 실행하지 않습니다. job ID: {}", exportJobId);
+            return;
+        }
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("excel-export-", ".xlsx");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                downloadExcelService.execute(outputStream,
+                        (completedSheetCount, writtenRowCount) -> updateJob(exportJobId,
+                                runningJob -> runningJob.progress(completedSheetCount, writtenRowCount)));
+            }
+            exportArtifactStorage.store(job.getArtifactKey(), tempFile);
+            updateJob(exportJobId, ExportJob::complete);
+        } catch (Exception e) {
+            log.error("엑셀 내보내기 작업이 실패했습니다. job ID: {}", exportJobId, e);
+            updateJob(exportJobId, failedJob -> failedJob.fail(e.getMessage()));
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private void updateJob(Long exportJobId, Consumer<ExportJob> update) {
+        // 다른 서버가 중단으로 처리한 상태를 덮어쓰지 않도록 잠근 뒤 확인
+        transactionTemplate.executeWithoutResult(status -> exportJobRepository.findByIdForUpdate(exportJobId)
+                .filter(job -> job.isOwnedBy(instanceIdentifier.getId())).ifPresent(update));
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("엑셀 내보내기 임시 파일을 삭제하지 못했습니다. path: {}", tempFile, e);
+        }
+    }
+}
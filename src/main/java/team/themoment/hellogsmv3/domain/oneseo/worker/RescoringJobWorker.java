@@ -0,0 +1,188 @@
+package team.themoment.hellogsmv3.domain.oneseo.worker;
+
+import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.ONESEO_CACHE_VALUE;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.RescoredDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.RescoringTargetDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringJob;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJdbcRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.service.ScoreCalculatorService;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+
+/**
+ * 성적이 계산된 모든 원서를 oneseo_id 순으로 청크 단위로 읽어 다시 계산합니다. 청크 안의 원서는 워커 스레드에서 병렬로
+ * 계산하고, 점수가 달라진 원서만 batch update로 저장한 뒤 같은 트랜잭션에서 진행 지점과 생존 시각을 기록합니다. 생존 시각이
+ * 오래된 작업을 다른 서버가 이어서 실행하면 이 서버는 다음 청크를 저장하기 전에 실행을 멈춥니다. 재계산은 성적 계산 메모를 사용하지
+ * 않고 다시 계산합니다. 점수를 계산한 적이 없거나 성적 계산 outbox가 대기 중인 원서는 읽지 않고, 청크를 읽은 뒤 점수가 바뀐 원서는
+ * 건너뛴 원서로 셉니다.
+ */
+@Slf4j
+@Component
+public class RescoringJobWorker {
+
+    static final int CHUNK_SIZE = 200;
+    // 한 청크 처리 시간보다 충분히 길어야 실행 중인 작업을 중단으로 처리하지 않음
+    public static final Duration HEARTBEAT_TIMEOUT = Duration.ofMinutes(5);
+    private static final String PROCESSED_METRIC_NAME = "score.rescoring.processed";
+    private static final String CHUNK_METRIC_NAME = "score.rescoring.chunk";
+
+    private final RescoringJobRepository rescoringJobRepository;
+    private final RescoringJdbcRepository rescoringJdbcRepository;
+    private final ScoreCalculatorService scoreCalculatorService;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor scoringTaskExecutor;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final InstanceIdentifier instanceIdentifier;
+
+    public RescoringJobWorker(RescoringJobRepository rescoringJobRepository,
+            RescoringJdbcRepository rescoringJdbcRepository, ScoreCalculatorService scoreCalculatorService,
+            CacheManager cacheManager, MeterRegistry meterRegistry, TransactionTemplate transactionTemplate,
+            @Qualifier("scoringTaskExecutor") Executor scoringTaskExecutor,
+            ApplicationEventPublisher applicationEventPublisher, InstanceIdentifier instanceIdentifier) {
+        this.rescoringJobRepository = rescoringJobRepository;
+        this.rescoringJdbcRepository = rescoringJdbcRepository;
+        this.scoreCalculatorService = scoreCalculatorService;
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.scoringTaskExecutor = scoringTaskExecutor;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.instanceIdentifier = instanceIdentifier;
+    }
+
+    // 서버가 멈춰 생존 시각이 갱신되지 않는 작업만 이어서 실행할 수 있도록 중단 상태로 표시
+    @EventListener(ApplicationReadyEvent.class)
+    public void interruptRunningJobs() {
+        interruptStaleJobs();
+    }
+
+    public void interruptStaleJobs() {
+        rescoringJobRepository.interruptStale(LocalDateTime.now().minus(HEARTBEAT_TIMEOUT));
+    }
+
+    @Async("rescoringTaskExecutor")
+    public void run(Long rescoringJobId) {
+        RescoringJob job = rescoringJobRepository.findById(rescoringJobId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 성적 재계산 작업입니다. ID: " + rescoringJobId));
+        long lastOneseoId = job.getLastOneseoId();
+
+        try {
+            List<RescoringTargetDto> targets;
+            while (!(targets = rescoringJdbcRepository.findTargets(lastOneseoId, CHUNK_SIZE)).isEmpty()) {
+                lastOneseoId = processChunk(job, targets);
+            }
+            updateJob(rescoringJobId, RescoringJob::complete);
+        } catch (Exception e) {
+            log.error("성적 재계산 작업이 실패했습니다. job ID: {}, 마지막 oneseo ID: {}", rescoringJobId, lastOneseoId, e);
+            updateJob(rescoringJobId, failedJob -> failedJob.fail(e.getMessage()));
+        }
+    }
+
+    long processChunk(RescoringJob job, List<RescoringTargetDto> targets) {
+        long startNanos = System.nanoTime();
+
+        List<CompletableFuture<RescoredDto>> futures = targets.stream()
+                .map(target -> CompletableFuture.supplyAsync(() -> rescore(target), scoringTaskExecutor)).toList();
+
+        List<RescoredDto> changed = new ArrayList<>();
+        int failed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                RescoredDto rescored = futures.get(i).join();
+                if (!rescored.changedFields().isEmpty()) {
+                    changed.add(rescored);
+                }
+            } catch (CompletionException e) {
+                failed++;
+                log.warn("성적 재계산에 실패했습니다. oneseo ID: {}", targets.get(i).oneseoId(), e.getCause());
+            }
+        }
+
+        long lastOneseoId = targets.get(targets.size() - 1).oneseoId();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        int processed = targets.size();
+        int failedCount = failed;
+
+        List<RescoredDto> applied = transactionTemplate.execute(status -> {
+            RescoringJob managedJob = rescoringJobRepository.findByIdForUpdate(job.getId())
+                    .filter(found -> found.isOwnedBy(instanceIdentifier.getId()))
+                    .orElseThrow(() -> new IllegalStateException("다른 서버가 이어서 실행 중인 작업입니다. ID: " + job.getId()));
+
+            // 청크를 읽은 뒤 성적 계산 outbox가 더 새로운 점수를 저장했거나 저장할 원서는 덮어쓰지 않고 건너뜀
+            List<RescoredDto> toApply = job.isDryRun()
+                    ? changed
+                    : rescoringJdbcRepository.lockUnchangedSinceRead(changed);
+            if (!toApply.isEmpty()) {
+                if (!job.isDryRun()) {
+                    rescoringJdbcRepository.updateScores(toApply);
+                    toApply.forEach(rescored -> applicationEventPublisher
+                            .publishEvent(new OneseoChangedEvent(rescored.target().memberId())));
+                }
+                rescoringJdbcRepository.insertDiffs(job.getId(), toApply);
+            }
+            managedJob.checkpoint(lastOneseoId, processed, toApply.size(), failedCount,
+                    changed.size() - toApply.size(), elapsedMillis);
+            return toApply;
+        });
+        int skipped = changed.size() - applied.size();
+
+        if (!job.isDryRun()) {
+            applied.forEach(rescored -> evictOneseoCache(rescored.target().memberId()));
+        }
+
+        meterRegistry.timer(CHUNK_METRIC_NAME).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "changed").increment(applied.size());
+        meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "unchanged")
+                .increment(processed - changed.size() - failedCount);
+        meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "failed").increment(failedCount);
+        meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "skipped").increment(skipped);
+
+        return lastOneseoId;
+    }
+
+    private RescoredDto rescore(RescoringTargetDto target) {
+        CalculatedScoreResDto calculatedScore = scoreCalculatorService.calculate(target.reqDto(), false);
+        return new RescoredDto(target, calculatedScore,
+                ScoreCalculatorService.findMismatchedFields(target.currentScore(), calculatedScore));
+    }
+
+    // 다른 서버가 이어서 실행 중이라면 그 서버의 상태를 덮어쓰지 않음
+    private void updateJob(Long rescoringJobId, Consumer<RescoringJob> update) {
+        transactionTemplate.executeWithoutResult(status -> rescoringJobRepository.findByIdForUpdate(rescoringJobId)
+                .filter(job -> job.isOwnedBy(instanceIdentifier.getId())).ifPresent(update));
+    }
+
+    private void evictOneseoCache(Long memberId) {
+        Cache cache = cacheManager.getCache(ONESEO_CACHE_VALUE);
+        if (cache != null) {
+            cache.evict(memberId);
+        }
+    }
+}
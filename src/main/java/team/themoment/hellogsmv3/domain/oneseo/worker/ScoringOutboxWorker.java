@@ -0,0 +1,127 @@
+package team.themoment.hellogsmv3.domain.oneseo.worker;
+
+import static team.themoment.hellogsmv3.domain.oneseo.service.OneseoService.ONESEO_CACHE_VALUE;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ScoringOutbox;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScoringStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ScoringOutboxRepository;
+import team.themoment.hellogsmv3.domain.oneseo.service.ScoreCalculatorService;
+import team.themoment.hellogsmv3.domain.oneseo.service.ScoringOutboxService;
+
+/**
+ * 성적 계산 outbox를 주기적으로 가져와 워커 스레드에서 계산하고 결과를 저장합니다. 한 배치가 모두 끝난 뒤 다음 배치를
+ * 가져오므로 같은 서버에서 처리가 겹치지 않고, 여러 서버 간에는 SKIP LOCKED로 나누어 가져갑니다.
+ */
+@Slf4j
+@Component
+public class ScoringOutboxWorker {
+
+    private static final String PROCESSED_METRIC_NAME = "score.outbox.processed";
+
+    private final ScoringOutboxService scoringOutboxService;
+    private final ScoringOutboxRepository scoringOutboxRepository;
+    private final ScoreCalculatorService scoreCalculatorService;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final Executor scoringTaskExecutor;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public ScoringOutboxWorker(ScoringOutboxService scoringOutboxService,
+            ScoringOutboxRepository scoringOutboxRepository, ScoreCalculatorService scoreCalculatorService,
+            CacheManager cacheManager, MeterRegistry meterRegistry,
+            @Qualifier("scoringTaskExecutor") Executor scoringTaskExecutor) {
+        this.scoringOutboxService = scoringOutboxService;
+        this.scoringOutboxRepository = scoringOutboxRepository;
+        this.scoreCalculatorService = scoreCalculatorService;
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.scoringTaskExecutor = scoringTaskExecutor;
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("score.outbox.depth", pendingCount, AtomicLong::get).description("성적 계산 대기 중인 outbox 수")
+                .register(meterRegistry);
+        Gauge.builder("score.outbox.age.seconds", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래 대기 중인 outbox의 대기 시간(초)").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${score-calculator.outbox.poll-delay-millis:500}")
+    public void drain() {
+        List<ScoringOutbox> claimed = scoringOutboxService.claim();
+
+        if (!claimed.isEmpty()) {
+            CompletableFuture<?>[] futures = claimed.stream()
+                    .map(outbox -> CompletableFuture.runAsync(() -> process(outbox), scoringTaskExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        }
+
+        refreshGauges();
+    }
+
+    private void process(ScoringOutbox outbox) {
+        try {
+            CalculatedScoreResDto calculatedScore = scoreCalculatorService
+                    .execute(scoringOutboxService.readPayload(outbox));
+
+            if (scoringOutboxService.complete(outbox, calculatedScore)) {
+                evictOneseoCache(outbox.getMemberId());
+                meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "done").increment();
+            } else {
+                meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "stale").increment();
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 계산 중 원서가 다시 수정되어 새 요청이 대기 중이므로 이번 결과는 버림
+            meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "stale").increment();
+        } catch (Exception e) {
+            log.warn("성적 계산에 실패했습니다. oneseo ID: {}, 시도 횟수: {}", outbox.getOneseoId(), outbox.getAttemptCount(), e);
+            meterRegistry.counter(PROCESSED_METRIC_NAME, "result", "error").increment();
+            try {
+                scoringOutboxService.fail(outbox, e.getMessage());
+            } catch (Exception failException) {
+                log.warn("성적 계산 실패 상태를 저장하지 못했습니다. oneseo ID: {}", outbox.getOneseoId(), failException);
+            }
+        }
+    }
+
+    private void evictOneseoCache(Long memberId) {
+        Cache cache = cacheManager.getCache(ONESEO_CACHE_VALUE);
+        if (cache != null) {
+            cache.evict(memberId);
+        }
+    }
+
+    private void refreshGauges() {
+        pendingCount.set(scoringOutboxRepository.countByStatus(ScoringStatus.PENDING));
+        oldestPendingAgeSeconds.set(scoringOutboxRepository
+                .findFirstByStatusOrderByEnqueuedTimeAscIdAsc(ScoringStatus.PENDING)
+                .map(outbox -> Duration.between(enqueuedTimeOf(outbox), LocalDateTime.now()).toSeconds())
+                .orElse(0L));
+    }
+
+    private LocalDateTime enqueuedTimeOf(ScoringOutbox outbox) {
+        return outbox.getEnqueuedTime() != null ? outbox.getEnqueuedTime() : outbox.getCreatedTime();
+    }
+}
@@ -0,0 +1,5 @@
+package team.themoment.hellogsmv3.global.common.cache;
+
+/** key가 null이면 캐시 전체를 비웁니다. */
+public record CacheInvalidationMessage(String instanceId, String cacheName, String key) {
+}
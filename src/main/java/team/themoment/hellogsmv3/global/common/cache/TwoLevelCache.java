@@ -0,0 +1,139 @@
+package team.themoment.hellogsmv3.global.common.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서버 메모리(L1)에서 먼저 찾고, 없으면 Redis(L2)에서 읽어 L1에 보관합니다. 값을 쓰거나 지우면 L2에 반영한 뒤 L1을 비우고 다른
+ * 서버에도 무효화 메시지를 보냅니다. L1의 키는 Redis 키와 같이 문자열로 바꾸어 사용합니다.
+ */
+public class TwoLevelCache implements Cache {
+
+    static final String L2_METRIC_NAME = "cache.two_level.l2";
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+    private final Cache redisCache;
+    private final BiConsumer<String, String> invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCache(com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache, Cache redisCache,
+            BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            return localValue;
+        }
+
+        ValueWrapper redisValue = redisCache.get(key);
+        meterRegistry.counter(L2_METRIC_NAME, "cache", getName(), "result", redisValue == null ? "miss" : "hit")
+                .increment();
+        if (redisValue != null) {
+            localCache.put(localKey, new SimpleValueWrapper(redisValue.get()));
+        }
+        return redisValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값의 타입이 올바르지 않습니다. cache: %s, type: %s".formatted(getName(),
+                    type.getName()));
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper localValue = localCache.getIfPresent(toLocalKey(key));
+        if (localValue != null) {
+            return (T) localValue.get();
+        }
+
+        T value = redisCache.get(key, valueLoader);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.accept(getName(), toLocalKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        evictLocal(toLocalKey(key));
+        if (existing == null) {
+            invalidationPublisher.accept(getName(), toLocalKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        evictLocal(toLocalKey(key));
+        invalidationPublisher.accept(getName(), toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCache.evictIfPresent(key);
+        evictLocal(toLocalKey(key));
+        invalidationPublisher.accept(getName(), toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        clearLocal();
+        invalidationPublisher.accept(getName(), null);
+    }
+
+    /** 다른 서버에서 받은 무효화 메시지를 반영할 때 사용합니다. */
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,99 @@
+package team.themoment.hellogsmv3.global.common.cache;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.global.common.cache.data.NearCacheEnvironment;
+
+/**
+ * 설정된 캐시 이름에 한해 Redis 캐시 앞에 서버 메모리 캐시를 두는 CacheManager 입니다. 무효화 메시지는 Redis pub/sub으로
+ * 주고받으며, 메시지를 놓치더라도 서버 메모리 캐시의 TTL이 지나면 Redis 값을 다시 읽습니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final CacheManager redisCacheManager;
+    private final NearCacheEnvironment nearCacheEnv;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager, NearCacheEnvironment nearCacheEnv,
+            StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.nearCacheEnv = nearCacheEnv;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!nearCacheEnv.enabled() || !nearCacheEnv.cacheNames().contains(name)) {
+            return redisCacheManager.getCache(name);
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /** 다른 서버가 보낸 무효화 메시지를 서버 메모리 캐시에 반영합니다. 자신이 보낸 메시지는 이미 반영했으므로 무시합니다. */
+    public void handleInvalidation(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 무효화 메시지를 읽을 수 없습니다. payload: {}", payload, e);
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(message.cacheName());
+        if (cache == null || instanceId.equals(message.instanceId())) {
+            return;
+        }
+
+        if (message.key() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.key());
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> localCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheEnv.maxSize()).expireAfterWrite(nearCacheEnv.ttl()).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name + ".local");
+
+        return new TwoLevelCache(localCache, redisCacheManager.getCache(name), this::publishInvalidation,
+                meterRegistry);
+    }
+
+    // 발행에 실패하더라도 캐시 쓰기는 이미 끝났으므로 요청을 실패시키지 않음
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(nearCacheEnv.channel(),
+                    objectMapper.writeValueAsString(new CacheInvalidationMessage(instanceId, cacheName, key)));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지를 보내지 못했습니다. cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package team.themoment.hellogsmv3.global.common.cache.data;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis 캐시 앞에 두는 서버 메모리 캐시 설정입니다.
+ *
+ * @param enabled
+ *            서버 메모리 캐시 사용 여부
+ * @param cacheNames
+ *            서버 메모리 캐시를 함께 사용할 캐시 이름
+ * @param maxSize
+ *            캐시 이름별 최대 항목 수
+ * @param ttl
+ *            서버 메모리에 보관하는 시간. 무효화 메시지를 놓쳤을 때 오래된 값이 남는 최대 시간이기도 함
+ * @param channel
+ *            무효화 메시지를 주고받을 Redis 채널
+ */
+@ConfigurationProperties(prefix = "near-cache")
+public record NearCacheEnvironment(Boolean enabled, Set<String> cacheNames, Integer maxSize, Duration ttl,
+        String channel) {
+
+    public NearCacheEnvironment {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (cacheNames == null) {
+            cacheNames = Set.of("oneseo");
+        }
+        if (maxSize == null) {
+            maxSize = 10_000;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofSeconds(30);
+        }
+        if (channel == null) {
+            channel = "cache:invalidation";
+        }
+    }
+}
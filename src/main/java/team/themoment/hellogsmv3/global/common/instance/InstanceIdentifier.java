@@ -0,0 +1,36 @@
+package team.themoment.hellogsmv3.global.common.instance;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * 실행 중인 서버 인스턴스를 구분하는 ID입니다. 여러 서버가 함께 실행될 때 백그라운드 작업을 어느 서버가 실행 중인지 기록하는 데
+ * 사용합니다. 같은 호스트에서 다시 시작해도 다른 ID가 되도록 임의의 값을 붙입니다.
+ */
+@Getter
+@Component
+public class InstanceIdentifier {
+
+    private final String id;
+
+    public InstanceIdentifier() {
+        this(hostName() + ":" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    public InstanceIdentifier(String id) {
+        this.id = id;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package team.themoment.hellogsmv3.global.common.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 요청·응답 바디가 지나가는 동안 앞에서부터 최대 바이트 수까지만 복사해 둡니다. 바디 전체는 보관하지 않고 전체 크기만 셉니다.
+ */
+class BodyCapture {
+
+    private final byte[] buffer;
+    private int captured;
+    private long totalBytes;
+
+    BodyCapture(int maxBytes) {
+        this.buffer = new byte[Math.max(0, maxBytes)];
+    }
+
+    void write(int b) {
+        if (captured < buffer.length) {
+            buffer[captured++] = (byte) b;
+        }
+        totalBytes++;
+    }
+
+    void write(byte[] b, int off, int len) {
+        int copied = Math.min(len, buffer.length - captured);
+        if (copied > 0) {
+            System.arraycopy(b, off, buffer, captured, copied);
+            captured += copied;
+        }
+        totalBytes += len;
+    }
+
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    // 여러 줄 JSON도 한 줄로 남도록 공백 문자를 제외
+    String toLogString() {
+        if (totalBytes == 0) {
+            return "[empty]";
+        }
+        int length = totalBytes > captured ? completeUtf8Length() : captured;
+        String content = new String(Arrays.copyOf(buffer, length), StandardCharsets.UTF_8);
+        StringBuilder oneLineContent = new StringBuilder(content.length());
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                oneLineContent.append(c);
+            }
+        }
+        if (totalBytes > captured) {
+            oneLineContent.append("...[truncated, ").append(totalBytes).append(" bytes]");
+        }
+        return oneLineContent.isEmpty() ? "[empty]" : oneLineContent.toString();
+    }
+
+    // 최대 바이트 수에서 잘린 마지막 문자가 깨진 문자(U+FFFD)로 남지 않도록 완성된 UTF-8 문자까지만 사용
+    private int completeUtf8Length() {
+        int lead = captured - 1;
+        while (lead >= 0 && captured - lead <= 4 && (buffer[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead < 0) {
+            return captured;
+        }
+        int b = buffer[lead] & 0xFF;
+        int sequenceLength = b < 0x80 ? 1 : b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+        return captured - lead < sequenceLength ? lead : captured;
+    }
+
+    /** 바디 내용을 남길 수 있는 텍스트 형식인지 확인합니다. 형식이 없으면 텍스트로 봅니다. */
+    static boolean isTextContentType(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            String subtype = mediaType.getSubtype();
+            return "text".equals(mediaType.getType()) || subtype.equals("json") || subtype.endsWith("+json")
+                    || subtype.equals("xml") || subtype.endsWith("+xml") || subtype.equals("x-www-form-urlencoded");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
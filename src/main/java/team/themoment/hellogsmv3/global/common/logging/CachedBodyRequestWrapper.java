@@ -1,64 +0,0 @@
-package team.themoment.hellogsmv3.global.common.logging;
-
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-
-import org.springframework.util.StreamUtils;
-
-import jakarta.servlet.ReadListener;
-import jakarta.servlet.ServletInputStream;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletRequestWrapper;
-import lombok.Getter;
-
-/**
- * HttpServletRequest의 바디를 미리 읽어 캐시하고, 이후 여러 번 읽을 수 있도록 재생 가능한
- * InputStream/Reader를 제공하는 래퍼
- */
-@Getter
-public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
-
-    private final byte[] cachedBody;
-
-    public CachedBodyRequestWrapper(HttpServletRequest request) throws IOException {
-        super(request);
-        this.cachedBody = StreamUtils.copyToByteArray(request.getInputStream());
-    }
-
-    @Override
-    public ServletInputStream getInputStream() {
-        final ByteArrayInputStream bais = new ByteArrayInputStream(this.cachedBody);
-        return new ServletInputStream() {
-            @Override
-            public int read() {
-                return bais.read();
-            }
-
-            @Override
-            public boolean isFinished() {
-                return bais.available() == 0;
-            }
-
-            @Override
-            public boolean isReady() {
-                return true;
-            }
-
-            @Override
-            public void setReadListener(ReadListener readListener) {
-            }
-        };
-    }
-
-    @Override
-    public BufferedReader getReader() {
-        Charset charset = getCharacterEncoding() != null
-                ? Charset.forName(getCharacterEncoding())
-                : StandardCharsets.UTF_8;
-        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
-    }
-}
@@ -0,0 +1,93 @@
+package team.themoment.hellogsmv3.global.common.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 애플리케이션이 요청 바디를 읽는 동안 읽은 바이트의 앞부분을 {@link BodyCapture}에 복사하는 래퍼. 바디를 미리 읽어 두지
+ * 않습니다.
+ */
+public class CapturingRequestWrapper extends HttpServletRequestWrapper {
+
+    private final BodyCapture bodyCapture;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    public CapturingRequestWrapper(HttpServletRequest request, int maxBodyBytes) {
+        super(request);
+        this.bodyCapture = new BodyCapture(maxBodyBytes);
+    }
+
+    BodyCapture getBodyCapture() {
+        return bodyCapture;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(super.getInputStream());
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    private class CapturingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        CapturingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                bodyCapture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                bodyCapture.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package team.themoment.hellogsmv3.global.common.logging;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * 응답 바디를 그대로 내보내면서 앞부분만 {@link BodyCapture}에 복사하는 래퍼. ContentCachingResponseWrapper와 달리
+ * 바디 전체를 메모리에 모으지 않습니다. 첫 바이트를 쓸 때 Content-Type이 텍스트 형식이 아니면 복사하지 않습니다.
+ */
+public class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final BodyCapture bodyCapture;
+    private Boolean capturing;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public CapturingResponseWrapper(HttpServletResponse response, int maxBodyBytes) {
+        super(response);
+        this.bodyCapture = new BodyCapture(maxBodyBytes);
+    }
+
+    BodyCapture getBodyCapture() {
+        return bodyCapture;
+    }
+
+    boolean isBinary() {
+        return capturing != null && !capturing;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(
+                    new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    /** getWriter로 쓴 내용 중 PrintWriter에 남아 있는 내용을 응답으로 내보냅니다. */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private boolean isCapturing() {
+        if (capturing == null) {
+            capturing = BodyCapture.isTextContentType(getContentType());
+        }
+        return capturing;
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (isCapturing()) {
+                bodyCapture.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            if (isCapturing()) {
+                bodyCapture.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
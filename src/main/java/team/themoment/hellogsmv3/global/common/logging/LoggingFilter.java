@@ -1,24 +1,31 @@
 package team.themoment.hellogsmv3.global.common.logging;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.global.common.logging.data.HttpLoggingEnvironment;
+import team.themoment.hellogsmv3.global.common.logging.data.HttpLoggingEnvironment.Capture;
+
+/**
+ * 요청·응답 정보를 기록합니다. 경로별 설정에 따라 로그를 남기지 않거나, 헤더만 남기거나, 바디의 앞부분까지 남깁니다. 바디는 표본으로
+ * 뽑힌 요청만, 텍스트 형식일 때만, 지나가는 동안 앞부분만 복사하여 남기므로 큰 응답도 메모리에 한 번 더 쌓지 않습니다.
+ */
 @Component
+@RequiredArgsConstructor
 public class LoggingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
@@ -27,11 +34,19 @@ public class LoggingFilter extends OncePerRequestFilter {
             "/hello-management/prometheus/**"};
 
     private final AntPathMatcher matcher = new AntPathMatcher();
+    private final HttpLoggingEnvironment httpLoggingEnv;
+
+    private record CapturePolicy(Capture capture, int maxBodyBytes) {
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
 
-        if (isNotLoggingURL(request.getRequestURI())) {
+        CapturePolicy policy = isNotLoggingURL(request.getRequestURI())
+                ? new CapturePolicy(Capture.OFF, 0)
+                : resolvePolicy(request);
+
+        if (policy.capture() == Capture.OFF) {
             try {
                 filterChain.doFilter(request, response);
             } catch (Exception e) {
@@ -41,99 +56,126 @@ public class LoggingFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 멀티파트 요청은 바디 로깅/캐싱 생략, 메타데이터만 기록
-        if (isMultipart(request)) {
-            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
-            UUID logId = UUID.randomUUID();
-            long startTime = System.currentTimeMillis();
-            try {
-                requestLoggingMultipart(request, logId);
-                filterChain.doFilter(request, responseWrapper);
-            } catch (Exception e) {
-                log.error("LoggingFilter의 FilterChain에서 예외가 발생했습니다.", e);
-            } finally {
-                responseLogging(responseWrapper, startTime, logId);
-                try {
-                    responseWrapper.copyBodyToResponse();
-                } catch (IOException e) {
-                    log.error("LoggingFilter에서 response body를 출력하는 도중 예외가 발생했습니다.", e);
-                }
-            }
-            return;
-        }
-
-        CachedBodyRequestWrapper cachedRequest;
-        try {
-            cachedRequest = new CachedBodyRequestWrapper(request);
-        } catch (IOException e) {
-            log.error("요청 바디 캐싱 중 예외 발생 - 원본 요청으로 진행합니다.", e);
-            try {
-                filterChain.doFilter(request, response);
-            } catch (Exception ex) {
-                log.error("LoggingFilter의 FilterChain에서 예외가 발생했습니다.", ex);
-            }
-            return;
-        }
-
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean captureBody = policy.capture() == Capture.BODY && isSampled();
+        // 멀티파트나 텍스트가 아닌 요청은 바디를 복사하지 않음
+        CapturingRequestWrapper requestWrapper = captureBody && !isMultipart(request)
+                && BodyCapture.isTextContentType(request.getContentType())
+                        ? new CapturingRequestWrapper(request, policy.maxBodyBytes())
+                        : null;
+        CapturingResponseWrapper responseWrapper = captureBody
+                ? new CapturingResponseWrapper(response, policy.maxBodyBytes())
+                : null;
 
         UUID logId = UUID.randomUUID();
         long startTime = System.currentTimeMillis();
 
+        Runnable completion = () -> {
+            if (responseWrapper != null) {
+                responseWrapper.flushWriter();
+            }
+            responseLogging(response, startTime, logId, getRequestBody(request, requestWrapper, captureBody),
+                    getResponseBody(responseWrapper));
+        };
+
         try {
-            requestLogging(cachedRequest, logId, cachedRequest.getCachedBody());
-            filterChain.doFilter(cachedRequest, responseWrapper);
+            requestLogging(request, logId);
+            filterChain.doFilter(requestWrapper != null ? requestWrapper : request,
+                    responseWrapper != null ? responseWrapper : response);
         } catch (Exception e) {
             log.error("LoggingFilter의 FilterChain에서 예외가 발생했습니다.", e);
         } finally {
-            responseLogging(responseWrapper, startTime, logId);
-            try {
-                responseWrapper.copyBodyToResponse();
-            } catch (IOException e) {
-                log.error("LoggingFilter에서 response body를 출력하는 도중 예외가 발생했습니다.", e);
+            // 비동기 응답은 첫 디스패치가 끝나도 아직 쓰이는 중이므로 비동기 처리가 끝날 때 기록
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(completion));
+            } else {
+                completion.run();
             }
         }
     }
 
+    /** 비동기 처리가 끝나면(타임아웃이나 오류 후에도 호출됨) 응답 로그를 한 번 남깁니다. */
+    private record CompletionListener(Runnable completion) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            completion.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 처리를 다시 시작하면 등록한 리스너가 지워지므로 새 컨텍스트에 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
     private boolean isNotLoggingURL(String requestURI) {
         return Arrays.stream(NOT_LOGGING_URL).anyMatch(pattern -> matcher.match(pattern, requestURI));
     }
 
+    private CapturePolicy resolvePolicy(HttpServletRequest request) {
+        for (HttpLoggingEnvironment.Route route : httpLoggingEnv.routes()) {
+            if ((route.method() == null || route.method().equalsIgnoreCase(request.getMethod()))
+                    && matcher.match(route.path(), request.getRequestURI())) {
+                return new CapturePolicy(route.capture(),
+                        route.maxBodyBytes() != null ? route.maxBodyBytes() : httpLoggingEnv.maxBodyBytes());
+            }
+        }
+        return new CapturePolicy(httpLoggingEnv.defaultCapture(), httpLoggingEnv.maxBodyBytes());
+    }
+
+    private boolean isSampled() {
+        double sampleRate = httpLoggingEnv.sampleRate();
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
     private boolean isMultipart(HttpServletRequest request) {
         String contentType = request.getContentType();
         return contentType != null && contentType.toLowerCase().startsWith("multipart/");
     }
 
-    private void requestLogging(HttpServletRequest request, UUID logId, byte[] cachedBody) {
-        log.info(
-                "Log-ID: {}, IP: {}, URI: {}, Http-Method: {}, Params: {}, Content-Type: {}, User-Cookies: {}, User-Agent: {}, Request-Body: {}",
-                logId, request.getRemoteAddr(), request.getRequestURI(), request.getMethod(), request.getQueryString(),
-                request.getContentType(),
-                request.getCookies() != null ? String.join(", ", getCookiesAsString(request.getCookies())) : "[none]",
-                request.getHeader("User-Agent"), getRequestBody(cachedBody));
-    }
-
-    private void requestLoggingMultipart(HttpServletRequest request, UUID logId) {
+    private void requestLogging(HttpServletRequest request, UUID logId) {
         String contentLength = request.getHeader("Content-Length");
         log.info(
-                "Log-ID: {}, IP: {}, URI: {}, Http-Method: {}, Params: {}, Content-Type: {}, Content-Length: {}, User-Cookies: {}, User-Agent: {}, Request-Body: {}",
+                "Log-ID: {}, IP: {}, URI: {}, Http-Method: {}, Params: {}, Content-Type: {}, Content-Length: {}, User-Cookies: {}, User-Agent: {}",
                 logId, request.getRemoteAddr(), request.getRequestURI(), request.getMethod(), request.getQueryString(),
                 request.getContentType(), contentLength != null ? contentLength : "[unknown]",
                 request.getCookies() != null ? String.join(", ", getCookiesAsString(request.getCookies())) : "[none]",
-                request.getHeader("User-Agent"), "[multipart omitted]");
+                request.getHeader("User-Agent"));
     }
 
-    private void responseLogging(ContentCachingResponseWrapper response, long startTime, UUID logId) {
+    private void responseLogging(HttpServletResponse response, long startTime, UUID logId, String requestBody,
+            String responseBody) {
         long endTime = System.currentTimeMillis();
         long responseTime = endTime - startTime;
-        log.info("Log-ID: {}, Status-Code: {}, Content-Type: {}, Response Time: {}ms, Response-Body: {}", logId,
-                response.getStatus(), response.getContentType(), responseTime,
-                new String(response.getContentAsByteArray(), StandardCharsets.UTF_8));
+        log.info(
+                "Log-ID: {}, Status-Code: {}, Content-Type: {}, Response Time: {}ms, Request-Body: {}, Response-Body: {}",
+                logId, response.getStatus(), response.getContentType(), responseTime, requestBody, responseBody);
     }
 
-    private String getRequestBody(byte[] byteArrayContent) {
-        String oneLineContent = new String(byteArrayContent, StandardCharsets.UTF_8).replaceAll("\\s", "");
-        return StringUtils.hasText(oneLineContent) ? oneLineContent : "[empty]";
+    private String getRequestBody(HttpServletRequest request, CapturingRequestWrapper requestWrapper,
+            boolean captureBody) {
+        if (requestWrapper != null) {
+            return requestWrapper.getBodyCapture().toLogString();
+        }
+        if (captureBody && isMultipart(request)) {
+            return "[multipart omitted]";
+        }
+        return captureBody ? "[binary omitted]" : "[not captured]";
+    }
+
+    private String getResponseBody(CapturingResponseWrapper responseWrapper) {
+        if (responseWrapper == null) {
+            return "[not captured]";
+        }
+        return responseWrapper.isBinary() ? "[binary omitted]" : responseWrapper.getBodyCapture().toLogString();
     }
 
     private String[] getCookiesAsString(Cookie[] cookies) {
@@ -0,0 +1,58 @@
+package team.themoment.hellogsmv3.global.common.logging.data;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청·응답 로그에 바디를 얼마나 남길지 정하는 설정입니다.
+ *
+ * @param defaultCapture
+ *            경로별 설정이 없는 요청에 적용할 기록 방식
+ * @param maxBodyBytes
+ *            바디를 기록할 때 앞에서부터 남기는 최대 바이트 수
+ * @param sampleRate
+ *            바디를 기록할 요청의 비율(0.0 ~ 1.0). 표본에서 빠진 요청은 헤더만 기록합니다.
+ * @param routes
+ *            경로별 기록 방식. 먼저 일치한 설정을 사용합니다.
+ */
+@ConfigurationProperties(prefix = "http-logging")
+public record HttpLoggingEnvironment(Capture defaultCapture, Integer maxBodyBytes, Double sampleRate,
+        List<Route> routes) {
+
+    public HttpLoggingEnvironment {
+        if (defaultCapture == null) {
+            defaultCapture = Capture.BODY;
+        }
+        if (maxBodyBytes == null) {
+            maxBodyBytes = 2_048;
+        }
+        if (sampleRate == null) {
+            sampleRate = 1.0;
+        }
+        if (routes == null) {
+            routes = List.of();
+        }
+    }
+
+    /**
+     * OFF: 로그를 남기지 않습니다. HEADERS: 요청·응답 정보만 남기고 바디는 남기지 않습니다. BODY: 요청·응답 바디의 앞부분을
+     * 함께 남깁니다.
+     */
+    public enum Capture {
+        OFF, HEADERS, BODY
+    }
+
+    /**
+     * @param method
+     *            HTTP 메서드. 비어 있으면 모든 메서드에 적용합니다.
+     * @param path
+     *            Ant 스타일 경로 패턴
+     * @param capture
+     *            기록 방식
+     * @param maxBodyBytes
+     *            바디를 기록할 때 남기는 최대 바이트 수. 비어 있으면 전체 설정을 사용합니다.
+     */
+    public record Route(String method, String path, Capture capture, Integer maxBodyBytes) {
+    }
+}
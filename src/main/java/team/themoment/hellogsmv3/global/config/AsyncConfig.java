@@ -1,6 +1,7 @@
 package team.themoment.hellogsmv3.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +12,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.global.exception.GlobalAsyncExceptionHandler;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
 
 @EnableAsync
 @Configuration
@@ -18,6 +20,7 @@ import team.themoment.hellogsmv3.global.exception.GlobalAsyncExceptionHandler;
 public class AsyncConfig implements AsyncConfigurer {
 
     private final GlobalAsyncExceptionHandler globalAsyncExceptionHandler;
+    private final ScoreCalculatorEnvironment scoreCalculatorEnv;
 
     @Override
     @Bean(name = "discordTaskExecutor")
@@ -31,6 +34,56 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    @Bean(name = "scoringTaskExecutor")
+    public Executor scoringTaskExecutor() {
+        int workerThreads = scoreCalculatorEnv.outbox().workerThreads();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(scoreCalculatorEnv.outbox().batchSize());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("Scoring-Task");
+        executor.initialize();
+        return executor;
+    }
+
+    // 성적 재계산 작업은 한 번에 하나만 실행되며, 실제 계산은 scoringTaskExecutor에서 병렬로 진행
+    @Bean(name = "rescoringTaskExecutor")
+    public Executor rescoringTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("Rescoring-Task");
+        executor.initialize();
+        return executor;
+    }
+
+    // 엑셀 내보내기는 DB 커서와 임시 파일을 점유하므로 한 번에 하나씩 실행
+    @Bean(name = "exportTaskExecutor")
+    public Executor exportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("Export-Task");
+        executor.initialize();
+        return executor;
+    }
+
+    // StreamingResponseBody로 응답 본문을 쓰는 MVC 비동기 요청(엑셀 다운로드 등)용
+    @Bean(name = "mvcTaskExecutor")
+    public ThreadPoolTaskExecutor mvcTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("Mvc-Async");
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return globalAsyncExceptionHandler;
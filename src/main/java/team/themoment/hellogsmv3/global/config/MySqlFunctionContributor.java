@@ -0,0 +1,20 @@
+package team.themoment.hellogsmv3.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * HQL과 QueryDSL에서 MySQL 전용 함수를 쓸 수 있도록 등록합니다. META-INF/services를 통해 Hibernate가 직접 읽어 들입니다.
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST,
+                "match(?1) against(?2 in boolean mode)", functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
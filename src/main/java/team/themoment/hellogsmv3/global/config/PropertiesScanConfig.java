@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @ConfigurationPropertiesScan(basePackages = {"team.themoment.hellogsmv3.global.security.data",
-        "team.themoment.hellogsmv3.global.thirdParty.aws.s3.data"})
+        "team.themoment.hellogsmv3.global.common.cache.data", "team.themoment.hellogsmv3.global.common.logging.data",
+        "team.themoment.hellogsmv3.global.thirdParty.aws.s3.data",
+        "team.themoment.hellogsmv3.global.thirdParty.feign.data", "team.themoment.hellogsmv3.domain.oneseo.data"})
 public class PropertiesScanConfig {
 }
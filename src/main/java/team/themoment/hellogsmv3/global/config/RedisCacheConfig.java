@@ -1,5 +1,6 @@
 package team.themoment.hellogsmv3.global.config;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 import org.springframework.cache.CacheManager;
@@ -9,16 +10,26 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import team.themoment.hellogsmv3.global.common.cache.TwoLevelCacheManager;
+import team.themoment.hellogsmv3.global.common.cache.data.NearCacheEnvironment;
+
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
     @Bean
-    public CacheManager contentCacheManager(RedisConnectionFactory cf) {
+    public TwoLevelCacheManager contentCacheManager(RedisConnectionFactory cf, NearCacheEnvironment nearCacheEnv,
+            StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
@@ -26,7 +37,21 @@ public class RedisCacheConfig {
                         .fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .entryTtl(Duration.ofDays(4L));
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
                 .cacheDefaults(redisCacheConfiguration).build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, nearCacheEnv, redisTemplate, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory cf,
+            TwoLevelCacheManager contentCacheManager, NearCacheEnvironment nearCacheEnv) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener((message, pattern) -> contentCacheManager
+                .handleInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(nearCacheEnv.channel()));
+        return container;
     }
 }
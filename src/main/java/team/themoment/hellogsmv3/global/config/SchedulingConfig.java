@@ -0,0 +1,21 @@
+package team.themoment.hellogsmv3.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+
+    // 성적 계산 outbox 처리처럼 오래 걸리는 주기 작업이 임시 저장 반영, 요청 허용 기간 갱신 등 다른 주기 작업을 지연시키지 않도록
+    // 주기 작업마다 스레드를 하나씩 둘 수 있는 크기로 설정
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(4);
+        taskScheduler.setThreadNamePrefix("Scheduled-Task");
+        return taskScheduler;
+    }
+}
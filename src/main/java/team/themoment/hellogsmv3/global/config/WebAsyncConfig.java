@@ -0,0 +1,22 @@
+package team.themoment.hellogsmv3.global.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor mvcTaskExecutor;
+
+    public WebAsyncConfig(@Qualifier("mvcTaskExecutor") AsyncTaskExecutor mvcTaskExecutor) {
+        this.mvcTaskExecutor = mvcTaskExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcTaskExecutor);
+    }
+}
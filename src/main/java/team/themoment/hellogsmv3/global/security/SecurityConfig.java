@@ -1,6 +1,5 @@
 package team.themoment.hellogsmv3.global.security;
 
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -17,38 +16,50 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
 import team.themoment.hellogsmv3.domain.member.entity.type.Role;
 import team.themoment.hellogsmv3.global.common.logging.LoggingFilter;
+import team.themoment.hellogsmv3.global.security.admission.AdmissionQueue;
+import team.themoment.hellogsmv3.global.security.data.AdmissionControlEnvironment;
 import team.themoment.hellogsmv3.global.security.data.AuthEnvironment;
-import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
+import team.themoment.hellogsmv3.global.security.filter.AdmissionControlFilter;
 import team.themoment.hellogsmv3.global.security.filter.TimeBasedFilter;
 import team.themoment.hellogsmv3.global.security.handler.CustomAccessDeniedHandler;
 import team.themoment.hellogsmv3.global.security.handler.CustomAuthenticationEntryPoint;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindowRegistry;
 
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
-    private final ScheduleEnvironment scheduleEnv;
+    private final ScheduleWindowRegistry scheduleWindowRegistry;
     private final AuthEnvironment authEnv;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final LoggingFilter loggingFilter;
+    private final AdmissionControlEnvironment admissionControlEnv;
+    private final AdmissionQueue admissionQueue;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public Filter timeBasedFilter() {
-        LocalDateTime oneseoSubmissionStart = scheduleEnv.oneseoSubmissionStart();
-        LocalDateTime oneseoSubmissionEnd = scheduleEnv.oneseoSubmissionEnd();
-        LocalDateTime interview = scheduleEnv.interview();
-        LocalDateTime finalResultsAnnouncement = scheduleEnv.finalResultsAnnouncement();
-
-        return new TimeBasedFilter()
-                .addFilter(HttpMethod.POST, "/oneseo/v3/temp-storage", oneseoSubmissionStart, oneseoSubmissionEnd)
-                .addFilter(HttpMethod.POST, "/oneseo/v3/oneseo/me", oneseoSubmissionStart, oneseoSubmissionEnd)
-                .addFilter(HttpMethod.PUT, "/oneseo/v3/oneseo/{memberId}", oneseoSubmissionStart, oneseoSubmissionEnd)
-                .addFilter(HttpMethod.POST, "/oneseo/v3/image", oneseoSubmissionStart, oneseoSubmissionEnd)
-                .addFilter(HttpMethod.POST, "/oneseo/v3/excel", interview, finalResultsAnnouncement);
+        return new TimeBasedFilter(scheduleWindowRegistry)
+                .addFilter(HttpMethod.POST, "/oneseo/v3/temp-storage", ScheduleWindowRegistry.ONESEO_SUBMISSION)
+                .addFilter(HttpMethod.POST, "/oneseo/v3/oneseo/me", ScheduleWindowRegistry.ONESEO_SUBMISSION)
+                .addFilter(HttpMethod.PUT, "/oneseo/v3/oneseo/{memberId}", ScheduleWindowRegistry.ONESEO_SUBMISSION)
+                .addFilter(HttpMethod.POST, "/oneseo/v3/image", ScheduleWindowRegistry.ONESEO_SUBMISSION)
+                .addFilter(HttpMethod.POST, "/oneseo/v3/excel", ScheduleWindowRegistry.EXCEL_UPLOAD);
+    }
+
+    @Bean
+    public Filter admissionControlFilter() {
+        return new AdmissionControlFilter(admissionQueue, admissionControlEnv, meterRegistry)
+                .addRoute(HttpMethod.POST, "/oneseo/v3/temp-storage", "submission")
+                .addRoute(HttpMethod.POST, "/oneseo/v3/oneseo/me", "submission")
+                .addRoute(HttpMethod.POST, "/oneseo/v3/image", "submission")
+                .addRoute(HttpMethod.GET, "/member/v3/first-test-result/me", "result")
+                .addRoute(HttpMethod.GET, "/member/v3/second-test-result/me", "result");
     }
 
     @Configuration
@@ -141,13 +152,24 @@ public class SecurityConfig {
                 .hasAnyAuthority(Role.APPLICANT.name(), Role.ADMIN.name(), Role.ROOT.name())
                 .requestMatchers(HttpMethod.DELETE, "/oneseo/v3/oneseo/me")
                 .hasAnyAuthority(Role.APPLICANT.name(), Role.ROOT.name())
-                .requestMatchers(HttpMethod.GET, "/oneseo/v3/oneseo/search")
+                .requestMatchers(HttpMethod.GET, "/oneseo/v3/oneseo/search", "/oneseo/v3/oneseo/search/cursor",
+                        "/oneseo/v3/oneseo/search/facets")
                 .hasAnyAuthority(Role.ADMIN.name(), Role.ROOT.name())
                 .requestMatchers(HttpMethod.PUT, "/oneseo/v3/final-submit").hasAnyAuthority(Role.APPLICANT.name())
                 .requestMatchers(HttpMethod.POST, "/oneseo/v3/excel").hasAnyAuthority(Role.ADMIN.name())
                 .requestMatchers(HttpMethod.GET, "/oneseo/v3/excel").hasAnyAuthority(Role.ADMIN.name())
+                .requestMatchers("/oneseo/v3/excel/export/**").hasAnyAuthority(Role.ADMIN.name())
+                .requestMatchers(HttpMethod.GET, "/oneseo/v3/applicant-data").hasAnyAuthority(Role.ADMIN.name())
                 .requestMatchers(HttpMethod.GET, "/oneseo/v3/admission-tickets").hasAnyAuthority(Role.ADMIN.name())
                 .requestMatchers(HttpMethod.GET, "/oneseo/v3/editability").hasAnyAuthority(Role.ADMIN.name())
+                .requestMatchers(HttpMethod.GET, "/oneseo/v3/scoring-status/me")
+                .hasAnyAuthority(Role.APPLICANT.name(), Role.ROOT.name())
+                .requestMatchers(HttpMethod.GET, "/oneseo/v3/scoring-status/{memberId}")
+                .hasAnyAuthority(Role.ADMIN.name())
+                .requestMatchers("/oneseo/v3/rescoring/**").hasAnyAuthority(Role.ADMIN.name())
+                .requestMatchers(HttpMethod.POST, "/oneseo/v3/examination-number").hasAnyAuthority(Role.ADMIN.name())
+                .requestMatchers(HttpMethod.POST, "/oneseo/v3/first-test-result").hasAnyAuthority(Role.ADMIN.name())
+                .requestMatchers(HttpMethod.POST, "/oneseo/v3/final-test-result").hasAnyAuthority(Role.ADMIN.name())
 
                 // operation test result api
                 .requestMatchers("/operation/**").hasAnyAuthority(Role.ADMIN.name())
@@ -0,0 +1,30 @@
+package team.themoment.hellogsmv3.global.security.admission;
+
+/**
+ * 대기열에서 차례를 확인한 결과입니다.
+ *
+ * @param status
+ *            처리 가능 여부
+ * @param position
+ *            대기 중일 때 앞에서부터의 순번(1부터 시작). 대기 중이 아니면 0
+ * @param queueDepth
+ *            대기 중인 요청 수
+ * @param activeCount
+ *            처리 중인 요청 수
+ * @param waitMillis
+ *            처리를 시작했을 때 대기표가 처음 대기열에 들어간 뒤로 기다린 시간. 처리를 시작하지 않았으면 0
+ */
+public record AdmissionDecision(Status status, long position, long queueDepth, long activeCount, long waitMillis) {
+
+    public enum Status {
+        ADMITTED, WAITING, REJECTED
+    }
+
+    public boolean isAdmitted() {
+        return status == Status.ADMITTED;
+    }
+
+    public boolean isWaiting() {
+        return status == Status.WAITING;
+    }
+}
@@ -0,0 +1,116 @@
+package team.themoment.hellogsmv3.global.security.admission;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import team.themoment.hellogsmv3.global.security.data.AdmissionControlEnvironment;
+
+/**
+ * 경로 묶음별 대기열과 처리 중인 요청을 Redis에 보관하여 여러 서버가 하나의 동시 처리 수와 선착순 대기열을 나누어 씁니다. 대기표는
+ * 처음 발급된 순서대로 정렬되며, 앞에서부터 비어 있는 자리 수만큼만 처리를 시작합니다. 대기표는 순번을 유지하는 데만 쓰고, 처리 중인
+ * 자리는 서버가 요청마다 만든 ID로 차지하므로 이미 처리를 시작한 대기표를 다시 보내도 자리를 더 차지하지 못합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionQueue {
+
+    private static final String KEY_PREFIX = "admission:";
+
+    // 만료된 자리와 대기표를 정리한 뒤 순번을 확인하는 과정을 한 번에 실행하여 여러 서버가 같은 자리를 동시에 차지하지 않도록 함
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            local stale = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now - tonumber(ARGV[5]))
+            for _, staleTicket in ipairs(stale) do
+                redis.call('ZREM', KEYS[1], staleTicket)
+                redis.call('ZREM', KEYS[3], staleTicket)
+                redis.call('HDEL', KEYS[5], staleTicket)
+            end
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            local enqueuedAt = now
+            if not rank then
+                local depth = redis.call('ZCARD', KEYS[1])
+                if depth >= tonumber(ARGV[4]) then
+                    return {2, 0, depth, redis.call('ZCARD', KEYS[2]), 0}
+                end
+                redis.call('ZADD', KEYS[1], redis.call('INCR', KEYS[4]), ARGV[1])
+                rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            else
+                enqueuedAt = tonumber(redis.call('HGET', KEYS[5], ARGV[1])) or now
+            end
+            local active = redis.call('ZCARD', KEYS[2])
+            if rank < tonumber(ARGV[3]) - active then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                redis.call('HDEL', KEYS[5], ARGV[1])
+                redis.call('ZADD', KEYS[2], now + tonumber(ARGV[6]), ARGV[7])
+                return {1, 0, redis.call('ZCARD', KEYS[1]), active + 1, now - enqueuedAt}
+            end
+            redis.call('HSETNX', KEYS[5], ARGV[1], enqueuedAt)
+            redis.call('ZADD', KEYS[3], now, ARGV[1])
+            return {0, rank + 1, redis.call('ZCARD', KEYS[1]), active, 0}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AdmissionControlEnvironment admissionControlEnv;
+
+    /**
+     * 대기표가 대기열에 없으면 맨 뒤에 추가하고, 차례가 되었으면 대기표를 빼고 leaseId로 처리 중인 자리를 차지합니다. 대기표를 처음
+     * 대기열에 넣은 시각을 함께 보관하여, 처리를 시작할 때 대기열에서 기다린 시간을 반환합니다.
+     */
+    public AdmissionDecision tryAcquire(String group, String ticket, String leaseId) {
+        AdmissionControlEnvironment.Group groupEnv = findGroup(group);
+        List<?> result = redisTemplate.execute(ACQUIRE_SCRIPT, keys(group), ticket,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(groupEnv.maxConcurrency()),
+                String.valueOf(groupEnv.maxQueueLength()), String.valueOf(admissionControlEnv.ticketTtl().toMillis()),
+                String.valueOf(admissionControlEnv.leaseTtl().toMillis()), leaseId);
+
+        AdmissionDecision.Status status = switch (toLong(result.get(0)).intValue()) {
+            case 1 -> AdmissionDecision.Status.ADMITTED;
+            case 2 -> AdmissionDecision.Status.REJECTED;
+            default -> AdmissionDecision.Status.WAITING;
+        };
+        return new AdmissionDecision(status, toLong(result.get(1)), toLong(result.get(2)), toLong(result.get(3)),
+                toLong(result.get(4)));
+    }
+
+    public void release(String group, String leaseId) {
+        redisTemplate.opsForZSet().remove(activeKey(group), leaseId);
+    }
+
+    public boolean hasGroup(String group) {
+        return admissionControlEnv.groups().containsKey(group);
+    }
+
+    private AdmissionControlEnvironment.Group findGroup(String group) {
+        AdmissionControlEnvironment.Group groupEnv = admissionControlEnv.groups().get(group);
+        if (groupEnv == null) {
+            throw new IllegalArgumentException("설정되지 않은 대기열 경로 묶음입니다. : " + group);
+        }
+        return groupEnv;
+    }
+
+    // Redis Cluster에서도 한 스크립트의 키가 같은 슬롯에 놓이도록 경로 묶음 이름을 해시 태그로 사용
+    private static List<String> keys(String group) {
+        return List.of(key(group, "queue"), activeKey(group), key(group, "heartbeat"), key(group, "seq"),
+                key(group, "enqueued"));
+    }
+
+    private static String activeKey(String group) {
+        return key(group, "active");
+    }
+
+    private static String key(String group, String name) {
+        return KEY_PREFIX + "{" + group + "}:" + name;
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+}
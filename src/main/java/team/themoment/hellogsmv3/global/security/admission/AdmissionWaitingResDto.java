@@ -0,0 +1,10 @@
+package team.themoment.hellogsmv3.global.security.admission;
+
+import lombok.Builder;
+
+/**
+ * 차례가 아니어서 503으로 응답하는 경우 함께 내려주는 대기 정보입니다. 클라이언트는 같은 대기표로 다시 요청하여 순번을 유지합니다.
+ */
+@Builder
+public record AdmissionWaitingResDto(String ticket, Long position, Long queueDepth, Long retryAfterSeconds) {
+}
@@ -0,0 +1,55 @@
+package team.themoment.hellogsmv3.global.security.data;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 접수·결과 발표 시간대에 요청이 몰릴 때 경로 묶음별로 동시에 처리하는 요청 수를 제한하는 대기열 설정입니다.
+ *
+ * @param enabled
+ *            대기열 사용 여부
+ * @param retryAfter
+ *            차례가 오지 않은 요청에 503과 함께 알려주는 다시 요청할 때까지의 시간
+ * @param ticketTtl
+ *            순번을 확인하지 않은 대기표를 대기열에서 제거하기까지의 시간. 클라이언트가 다시 요청하는 간격보다 길어야 합니다.
+ * @param leaseTtl
+ *            처리 중인 요청이 반납되지 않았을 때 자리를 회수하기까지의 시간. 서버가 비정상 종료된 경우를 위한 값입니다.
+ * @param groups
+ *            경로 묶음별 최대 동시 처리 수와 최대 대기 인원
+ */
+@ConfigurationProperties(prefix = "admission-control")
+public record AdmissionControlEnvironment(Boolean enabled, Duration retryAfter, Duration ticketTtl, Duration leaseTtl,
+        Map<String, Group> groups) {
+
+    public AdmissionControlEnvironment {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (retryAfter == null) {
+            retryAfter = Duration.ofSeconds(2);
+        }
+        if (ticketTtl == null) {
+            ticketTtl = Duration.ofSeconds(30);
+        }
+        if (leaseTtl == null) {
+            leaseTtl = Duration.ofSeconds(60);
+        }
+        if (groups == null) {
+            groups = Map.of();
+        }
+    }
+
+    public record Group(Integer maxConcurrency, Integer maxQueueLength) {
+
+        public Group {
+            if (maxConcurrency == null) {
+                maxConcurrency = 50;
+            }
+            if (maxQueueLength == null) {
+                maxQueueLength = 5_000;
+            }
+        }
+    }
+}
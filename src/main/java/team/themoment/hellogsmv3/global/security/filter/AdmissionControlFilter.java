@@ -0,0 +1,159 @@
+package team.themoment.hellogsmv3.global.security.filter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.global.common.response.CommonApiResponse;
+import team.themoment.hellogsmv3.global.security.admission.AdmissionDecision;
+import team.themoment.hellogsmv3.global.security.admission.AdmissionQueue;
+import team.themoment.hellogsmv3.global.security.admission.AdmissionWaitingResDto;
+import team.themoment.hellogsmv3.global.security.data.AdmissionControlEnvironment;
+
+/**
+ * 등록된 경로의 요청을 경로 묶음별 대기열에 세워 동시에 처리하는 요청 수를 제한합니다. 차례가 아니면 요청 스레드에서 기다리지 않고
+ * 바로 대기표와 순번을 담아 503을 응답하며, 클라이언트가 같은 대기표로 다시 요청하면 순번을 이어서 기다립니다. Redis 장애 시에는
+ * 요청을 막지 않고 그대로 처리합니다.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String TICKET_HEADER = "X-Admission-Ticket";
+    public static final String POSITION_HEADER = "X-Admission-Position";
+    private static final String ACQUIRE_METRIC_NAME = "admission.acquire";
+    private static final String WAIT_METRIC_NAME = "admission.wait";
+    private static final String QUEUE_DEPTH_METRIC_NAME = "admission.queue.depth";
+    private static final String ACTIVE_METRIC_NAME = "admission.active";
+    private static final Pattern TICKET_PATTERN = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private final RouteTable<String> routeTable = new RouteTable<>();
+    private final Map<String, AtomicLong> queueDepths = new HashMap<>();
+    private final Map<String, AtomicLong> activeCounts = new HashMap<>();
+
+    private final AdmissionQueue admissionQueue;
+    private final AdmissionControlEnvironment admissionControlEnv;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlFilter(AdmissionQueue admissionQueue, AdmissionControlEnvironment admissionControlEnv,
+            MeterRegistry meterRegistry) {
+        this.admissionQueue = admissionQueue;
+        this.admissionControlEnv = admissionControlEnv;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public AdmissionControlFilter addRoute(HttpMethod httpMethod, String uri, String group) {
+        if (!admissionQueue.hasGroup(group)) {
+            throw new IllegalArgumentException("설정되지 않은 대기열 경로 묶음입니다. : " + group);
+        }
+        routeTable.add(httpMethod, uri, group);
+        queueDepths.computeIfAbsent(group, key -> registerGauge(QUEUE_DEPTH_METRIC_NAME, key));
+        activeCounts.computeIfAbsent(group, key -> registerGauge(ACTIVE_METRIC_NAME, key));
+        return this;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String group = routeTable.match(request);
+        if (!admissionControlEnv.enabled() || group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String ticket = resolveTicket(request);
+        String leaseId = UUID.randomUUID().toString();
+        long startNanos = System.nanoTime();
+        AdmissionDecision decision;
+
+        try {
+            decision = admissionQueue.tryAcquire(group, ticket, leaseId);
+        } catch (DataAccessException e) {
+            log.warn("대기열을 확인하지 못해 요청을 그대로 처리합니다. group: {}", group, e);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        queueDepths.get(group).set(decision.queueDepth());
+        activeCounts.get(group).set(decision.activeCount());
+        meterRegistry.timer(ACQUIRE_METRIC_NAME, "group", group, "result", decision.status().name().toLowerCase())
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (!decision.isAdmitted()) {
+            sendWaitingResponse(response, ticket, decision);
+            return;
+        }
+        // 대기표가 처음 대기열에 들어간 뒤 처리를 시작하기까지 기다린 시간
+        meterRegistry.timer(WAIT_METRIC_NAME, "group", group).record(decision.waitMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            release(group, leaseId);
+        }
+    }
+
+    // 반납하지 못한 자리는 leaseTtl이 지나면 대기열 스크립트가 회수함
+    private void release(String group, String leaseId) {
+        try {
+            admissionQueue.release(group, leaseId);
+        } catch (DataAccessException e) {
+            log.warn("처리가 끝난 요청의 자리를 반납하지 못했습니다. group: {}", group, e);
+        }
+    }
+
+    private String resolveTicket(HttpServletRequest request) {
+        String ticket = request.getHeader(TICKET_HEADER);
+        if (ticket != null && TICKET_PATTERN.matcher(ticket).matches()) {
+            return ticket;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private AtomicLong registerGauge(String name, String group) {
+        AtomicLong value = new AtomicLong();
+        Gauge.builder(name, value, AtomicLong::get).tag("group", group).register(meterRegistry);
+        return value;
+    }
+
+    private void sendWaitingResponse(HttpServletResponse response, String ticket, AdmissionDecision decision)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, admissionControlEnv.retryAfter().toSeconds());
+        String message = decision.isWaiting()
+                ? String.format("요청이 많아 대기 중입니다. 현재 대기 순번: %d", decision.position())
+                : "대기 인원이 너무 많아 요청이 거부되었습니다. 잠시 후 다시 시도해주세요.";
+        AdmissionWaitingResDto waitingResDto = AdmissionWaitingResDto.builder()
+                .ticket(decision.isWaiting() ? ticket : null).position(decision.position())
+                .queueDepth(decision.queueDepth()).retryAfterSeconds(retryAfterSeconds).build();
+
+        response.setCharacterEncoding("utf-8");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        if (decision.isWaiting()) {
+            response.setHeader(TICKET_HEADER, ticket);
+            response.setHeader(POSITION_HEADER, String.valueOf(decision.position()));
+        }
+        response.getWriter().write(objectMapper.writeValueAsString(new CommonApiResponse<>(
+                HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE.value(), message, waitingResDto)));
+    }
+}
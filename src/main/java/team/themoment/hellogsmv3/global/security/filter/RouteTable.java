@@ -0,0 +1,90 @@
+package team.themoment.hellogsmv3.global.security.filter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 필터에 등록하는 경로를 미리 {@link PathPattern}으로 해석해 두고 요청 경로와 맞춰봅니다. 변수나 와일드카드가 없는 경로는 문자열로
+ * 비교하고, 그 외 경로는 변수 앞의 고정된 부분이 일치할 때만 요청 경로를 해석하므로 대부분의 요청은 객체를 새로 만들지 않고 비교가
+ * 끝납니다. 요청은 MVC가 핸들러를 찾을 때 쓰는 경로(디코딩하고 ;로 시작하는 경로 변수를 제거한 경로)로 비교하므로, 같은 핸들러로 가는
+ * 요청을 인코딩만 바꾸어 우회할 수 없습니다.
+ */
+public final class RouteTable<T> {
+
+    private static final PathPatternParser PATH_PATTERN_PARSER = new PathPatternParser();
+
+    private record Route<T>(String literalPath, String literalPrefix, PathPattern pattern, T value) {
+
+        boolean matches(String requestUri) {
+            if (literalPath != null) {
+                return literalPath.equals(requestUri);
+            }
+            return requestUri.startsWith(literalPrefix) && pattern.matches(PathContainer.parsePath(requestUri));
+        }
+    }
+
+    private final Map<String, Route<T>[]> routesByMethod = new HashMap<>();
+
+    /** 같은 메서드에 여러 경로가 일치하면 먼저 등록한 경로를 사용합니다. */
+    @SuppressWarnings("unchecked")
+    public RouteTable<T> add(HttpMethod httpMethod, String uri, T value) {
+        PathPattern pattern = PATH_PATTERN_PARSER.parse(uri);
+        int variableIdx = indexOfVariable(uri);
+        Route<T> route = variableIdx < 0
+                ? new Route<>(uri, uri, pattern, value)
+                : new Route<>(null, uri.substring(0, variableIdx), pattern, value);
+
+        Route<T>[] routes = routesByMethod.getOrDefault(httpMethod.name(), new Route[0]);
+        Route<T>[] extended = Arrays.copyOf(routes, routes.length + 1);
+        extended[routes.length] = route;
+        routesByMethod.put(httpMethod.name(), extended);
+        return this;
+    }
+
+    /** 요청의 메서드와 경로로 맞춰봅니다. 일치하는 경로가 없으면 null을 반환합니다. */
+    public T match(HttpServletRequest request) {
+        return match(request.getMethod(), lookupPath(request));
+    }
+
+    /** 일치하는 경로가 없으면 null을 반환합니다. requestUri는 디코딩된 경로여야 합니다. */
+    public T match(String method, String requestUri) {
+        Route<T>[] routes = routesByMethod.get(method);
+        if (routes == null) {
+            return null;
+        }
+        for (Route<T> route : routes) {
+            if (route.matches(requestUri)) {
+                return route.value();
+            }
+        }
+        return null;
+    }
+
+    static String lookupPath(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        // 인코딩된 문자나 경로 변수가 없으면 MVC가 쓰는 경로와 같으므로 새로 만들지 않음
+        if (requestUri.indexOf('%') < 0 && requestUri.indexOf(';') < 0 && request.getContextPath().isEmpty()) {
+            return requestUri;
+        }
+        return UrlPathHelper.defaultInstance.getLookupPathForRequest(request);
+    }
+
+    private static int indexOfVariable(String uri) {
+        for (int i = 0; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c == '{' || c == '*' || c == '?') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
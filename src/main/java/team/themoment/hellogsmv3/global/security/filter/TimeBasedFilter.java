@@ -2,8 +2,6 @@ package team.themoment.hellogsmv3.global.security.filter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -18,22 +16,29 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import team.themoment.hellogsmv3.global.common.response.CommonApiResponse;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindow;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindowRegistry;
 
+/**
+ * 등록된 경로의 요청을 이름별 요청 허용 기간 안에서만 처리합니다. 경로는 등록할 때 미리 해석해 두고, 기간은 요청마다
+ * {@link ScheduleWindowRegistry}에서 읽으므로 운영 중 바뀐 기간이 바로 반영됩니다.
+ */
 @Slf4j
 public class TimeBasedFilter extends OncePerRequestFilter {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private final Map<String, RequestPeriod> urlRequestPeriods = new HashMap<>();
+    private final RouteTable<String> routeTable = new RouteTable<>();
+    private final ScheduleWindowRegistry scheduleWindowRegistry;
 
-    private record RequestPeriod(LocalDateTime startTime, LocalDateTime endTime) {
-        public boolean isWithinRange(LocalDateTime currentTime) {
-            return currentTime.isAfter(startTime) && currentTime.isBefore(endTime);
-        }
+    public TimeBasedFilter(ScheduleWindowRegistry scheduleWindowRegistry) {
+        this.scheduleWindowRegistry = scheduleWindowRegistry;
     }
 
-    public TimeBasedFilter addFilter(HttpMethod httpMethod, String uri, LocalDateTime startTime,
-            LocalDateTime endTime) {
-        urlRequestPeriods.put(uri + ":" + httpMethod, new RequestPeriod(startTime, endTime));
+    public TimeBasedFilter addFilter(HttpMethod httpMethod, String uri, String windowName) {
+        if (!scheduleWindowRegistry.contains(windowName)) {
+            throw new IllegalArgumentException("등록되지 않은 요청 허용 기간 이름입니다. : " + windowName);
+        }
+        routeTable.add(httpMethod, uri, windowName);
         return this;
     }
 
@@ -50,25 +55,18 @@ public class TimeBasedFilter extends OncePerRequestFilter {
             return;
         }
 
-        LocalDateTime currentTime = LocalDateTime.now();
-        String requestPeriodKey = requestUri + ":" + requestMethod;
-
-        if (urlRequestPeriods.containsKey(requestPeriodKey)) {
-            RequestPeriod requestPeriod = urlRequestPeriods.get(requestPeriodKey);
-
-            if (requestPeriod.isWithinRange(currentTime)) {
-                filterChain.doFilter(request, response);
-            } else {
-                String message = String.format("%s 요청이 거부되었습니다. " + "현재 시간: %s, 해당 요청은 %s ~ %s 이내에만 처리 가능합니다.",
-                        requestPeriodKey, currentTime, requestPeriod.startTime, requestPeriod.endTime);
-                log.warn(message);
-                sendErrorResponse(response, message);
-            }
+        String windowName = routeTable.match(request);
+        ScheduleWindow window = windowName == null ? null : scheduleWindowRegistry.find(windowName);
 
+        if (window == null || window.isWithinRange(System.currentTimeMillis())) {
+            filterChain.doFilter(request, response);
             return;
         }
 
-        filterChain.doFilter(request, response);
+        String message = String.format("%s:%s 요청이 거부되었습니다. " + "현재 시간: %s, 해당 요청은 %s ~ %s 이내에만 처리 가능합니다.",
+                requestUri, requestMethod, LocalDateTime.now(), window.startTime(), window.endTime());
+        log.warn(message);
+        sendErrorResponse(response, message);
     }
 
     private void sendErrorResponse(HttpServletResponse response, String message) throws IOException {
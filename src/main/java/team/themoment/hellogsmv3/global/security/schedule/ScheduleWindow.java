@@ -0,0 +1,20 @@
+package team.themoment.hellogsmv3.global.security.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 요청을 허용하는 기간입니다. 요청마다 시각 객체를 만들지 않도록 시작·종료 시각을 epoch milli로도 보관합니다.
+ */
+public record ScheduleWindow(LocalDateTime startTime, LocalDateTime endTime, long startMillis, long endMillis) {
+
+    public static ScheduleWindow of(LocalDateTime startTime, LocalDateTime endTime) {
+        ZoneId zoneId = ZoneId.systemDefault();
+        return new ScheduleWindow(startTime, endTime, startTime.atZone(zoneId).toInstant().toEpochMilli(),
+                endTime.atZone(zoneId).toInstant().toEpochMilli());
+    }
+
+    public boolean isWithinRange(long currentMillis) {
+        return currentMillis > startMillis && currentMillis < endMillis;
+    }
+}
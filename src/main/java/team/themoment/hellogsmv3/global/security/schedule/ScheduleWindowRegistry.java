@@ -0,0 +1,89 @@
+package team.themoment.hellogsmv3.global.security.schedule;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
+
+/**
+ * 이름별 요청 허용 기간을 보관합니다. 기본값은 schedule 설정에서 읽고, Redis 해시(schedule-window)에
+ * {@code 이름 -> 시작|종료} 형식으로 저장된 값이 있으면 덮어씁니다. 주기적으로 Redis를 다시 읽어 새 기간 목록으로 통째로 교체하므로
+ * 재배포 없이 기간을 바꿀 수 있습니다. 원서접수 기간은 요청 필터뿐 아니라 일정 조회 응답과 회원가입 시 기존 회원정보 삭제 기한에도
+ * 같은 값을 사용합니다.
+ */
+@Slf4j
+@Component
+public class ScheduleWindowRegistry {
+
+    public static final String ONESEO_SUBMISSION = "oneseo-submission";
+    public static final String EXCEL_UPLOAD = "excel-upload";
+    static final String OVERRIDES_KEY = "schedule-window";
+    private static final String VALUE_DELIMITER = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, ScheduleWindow> defaults;
+    private volatile Map<String, ScheduleWindow> windows;
+
+    public ScheduleWindowRegistry(StringRedisTemplate redisTemplate, ScheduleEnvironment scheduleEnv) {
+        this.redisTemplate = redisTemplate;
+        this.defaults = Map.of(ONESEO_SUBMISSION,
+                ScheduleWindow.of(scheduleEnv.oneseoSubmissionStart(), scheduleEnv.oneseoSubmissionEnd()),
+                EXCEL_UPLOAD, ScheduleWindow.of(scheduleEnv.interview(), scheduleEnv.finalResultsAnnouncement()));
+        this.windows = defaults;
+    }
+
+    /** 등록되지 않은 이름이면 null을 반환합니다. */
+    public ScheduleWindow find(String name) {
+        return windows.get(name);
+    }
+
+    public boolean contains(String name) {
+        return defaults.containsKey(name);
+    }
+
+    // Redis 장애나 잘못된 값은 기록만 하고 이전 기간을 그대로 사용
+    @Scheduled(fixedDelayString = "${schedule-window.reload-delay-millis:10000}")
+    public void reload() {
+        try {
+            Map<String, ScheduleWindow> reloaded = new HashMap<>(defaults);
+            redisTemplate.<String, String>opsForHash().entries(OVERRIDES_KEY).forEach((name, value) -> {
+                if (!defaults.containsKey(name)) {
+                    log.warn("등록되지 않은 요청 허용 기간 이름입니다. name: {}", name);
+                    return;
+                }
+                try {
+                    reloaded.put(name, parse(value));
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    log.warn("요청 허용 기간 형식이 올바르지 않습니다. name: {}, value: {}", name, value);
+                }
+            });
+
+            if (!reloaded.equals(windows)) {
+                log.info("요청 허용 기간이 변경되었습니다. {}", reloaded);
+            }
+            windows = Map.copyOf(reloaded);
+        } catch (Exception e) {
+            log.warn("요청 허용 기간을 다시 읽지 못했습니다.", e);
+        }
+    }
+
+    static ScheduleWindow parse(String value) {
+        int delimiterIdx = value.indexOf(VALUE_DELIMITER);
+        if (delimiterIdx < 0) {
+            throw new IllegalArgumentException("시작|종료 형식이어야 합니다.");
+        }
+        LocalDateTime startTime = LocalDateTime.parse(value.substring(0, delimiterIdx).trim());
+        LocalDateTime endTime = LocalDateTime.parse(value.substring(delimiterIdx + 1).trim());
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        return ScheduleWindow.of(startTime, endTime);
+    }
+}
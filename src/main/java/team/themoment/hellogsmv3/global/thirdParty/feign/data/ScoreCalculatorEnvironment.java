@@ -0,0 +1,89 @@
+package team.themoment.hellogsmv3.global.thirdParty.feign.data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "score-calculator")
+public record ScoreCalculatorEnvironment(Mode mode, Outbox outbox, Memo memo) {
+
+    public ScoreCalculatorEnvironment {
+        if (mode == null) {
+            mode = Mode.LAMBDA;
+        }
+        if (outbox == null) {
+            outbox = new Outbox(null, null, null, null);
+        }
+        if (memo == null) {
+            memo = new Memo(null, null, null, null);
+        }
+    }
+
+    /**
+     * LAMBDA: 외부 Lambda 계산기만 사용합니다. LOCAL: 서버 내부 계산기만 사용합니다. SHADOW: 둘 다 계산하여
+     * 결과를 비교하고, Lambda 결과를 반환합니다.
+     */
+    public enum Mode {
+        LAMBDA, LOCAL, SHADOW
+    }
+
+    /**
+     * 성적 계산 outbox 워커 설정입니다.
+     *
+     * @param batchSize
+     *            한 번에 가져올 outbox 수
+     * @param workerThreads
+     *            동시에 계산할 워커 스레드 수
+     * @param maxAttempts
+     *            실패로 확정하기 전까지의 최대 시도 횟수
+     * @param staleTimeout
+     *            처리 중 상태로 이 시간 이상 멈춘 outbox는 다시 처리 대상이 됩니다.
+     */
+    public record Outbox(Integer batchSize, Integer workerThreads, Integer maxAttempts, Duration staleTimeout) {
+
+        public Outbox {
+            if (batchSize == null) {
+                batchSize = 50;
+            }
+            if (workerThreads == null) {
+                workerThreads = 8;
+            }
+            if (maxAttempts == null) {
+                maxAttempts = 5;
+            }
+            if (staleTimeout == null) {
+                staleTimeout = Duration.ofMinutes(5);
+            }
+        }
+    }
+
+    /**
+     * 성적 계산 결과 메모이제이션 설정입니다.
+     *
+     * @param enabled
+     *            메모이제이션 사용 여부
+     * @param formulaVersion
+     *            성적 산출 공식 버전. 공식이 바뀌면 값을 올려 이전 계산 결과를 사용하지 않도록 합니다.
+     * @param localMaxSize
+     *            서버 메모리에 보관할 최대 계산 결과 수
+     * @param ttl
+     *            Redis에 보관할 기간
+     */
+    public record Memo(Boolean enabled, String formulaVersion, Integer localMaxSize, Duration ttl) {
+
+        public Memo {
+            if (enabled == null) {
+                enabled = true;
+            }
+            if (formulaVersion == null || formulaVersion.isBlank()) {
+                formulaVersion = "v1";
+            }
+            if (localMaxSize == null) {
+                localMaxSize = 10_000;
+            }
+            if (ttl == null) {
+                ttl = Duration.ofDays(7);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package team.themoment.hellogsmv3.domain.common.date.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import team.themoment.hellogsmv3.domain.common.date.dto.DateResDto;
+import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindowRegistry;
+
+@DisplayName("QueryDateService 클래스의")
+public class QueryDateServiceTest {
+
+    private static final LocalDateTime SUBMISSION_START = LocalDateTime.of(2026, Month.OCTOBER, 1, 9, 0);
+    private static final LocalDateTime SUBMISSION_END = LocalDateTime.of(2026, Month.OCTOBER, 20, 18, 0);
+    private static final LocalDateTime FINAL_RESULTS_ANNOUNCEMENT = LocalDateTime.of(2026, Month.DECEMBER, 1, 10, 0);
+
+    private HashOperations<String, String, String> hashOperations;
+    private ScheduleWindowRegistry scheduleWindowRegistry;
+    private QueryDateService queryDateService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("schedule-window")).willReturn(Map.of());
+
+        ScheduleEnvironment scheduleEnv = new ScheduleEnvironment(SUBMISSION_START, SUBMISSION_END, null, null,
+                SUBMISSION_END.plusDays(20), FINAL_RESULTS_ANNOUNCEMENT);
+        scheduleWindowRegistry = new ScheduleWindowRegistry(redisTemplate, scheduleEnv);
+        queryDateService = new QueryDateService(scheduleEnv, scheduleWindowRegistry);
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("원서접수 기간을 바꾼 값이 없으면")
+        class Context_without_override {
+
+            @Test
+            @DisplayName("설정된 원서접수 기간을 반환한다.")
+            void it_returns_configured_window() {
+                DateResDto result = queryDateService.execute();
+
+                assertEquals(SUBMISSION_START, result.oneseoSubmissionStart());
+                assertEquals(SUBMISSION_END, result.oneseoSubmissionEnd());
+                assertEquals(FINAL_RESULTS_ANNOUNCEMENT, result.finalResultsAnnouncement());
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis에서 원서접수 기간을 연장했다면")
+        class Context_with_extended_window {
+
+            private final LocalDateTime extendedEnd = SUBMISSION_END.plusDays(2);
+
+            @BeforeEach
+            void setUp() {
+                given(hashOperations.entries("schedule-window")).willReturn(
+                        Map.of(ScheduleWindowRegistry.ONESEO_SUBMISSION, SUBMISSION_START + "|" + extendedEnd));
+                scheduleWindowRegistry.reload();
+            }
+
+            @Test
+            @DisplayName("연장된 종료 시각을 반환한다.")
+            void it_returns_extended_end() {
+                DateResDto result = queryDateService.execute();
+
+                assertEquals(SUBMISSION_START, result.oneseoSubmissionStart());
+                assertEquals(extendedEnd, result.oneseoSubmissionEnd());
+            }
+        }
+    }
+}
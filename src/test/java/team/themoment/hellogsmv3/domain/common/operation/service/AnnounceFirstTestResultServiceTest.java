@@ -16,9 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.event.TestResultAnnouncedEvent;
 import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
@@ -33,6 +35,8 @@ class AnnounceFirstTestResultServiceTest {
     private EntranceTestResultRepository entranceTestResultRepository;
     @Mock
     private ScheduleEnvironment scheduleEnv;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private AnnounceFirstTestResultService announceFirstTestResultService;
@@ -135,6 +139,7 @@ class AnnounceFirstTestResultServiceTest {
                 announceFirstTestResultService.execute();
                 verify(testResult).announceFirstTestResult();
                 verify(operationTestResultRepository).save(testResult);
+                verify(applicationEventPublisher).publishEvent(any(TestResultAnnouncedEvent.class));
             }
         }
     }
@@ -2,6 +2,7 @@ package team.themoment.hellogsmv3.domain.common.operation.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -18,9 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.event.TestResultAnnouncedEvent;
 import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
@@ -35,6 +38,8 @@ class AnnounceSecondTestResultServiceTest {
     private EntranceTestResultRepository entranceTestResultRepository;
     @Mock
     private ScheduleEnvironment scheduleEnv;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private AnnounceSecondTestResultService announceSecondTestResultService;
@@ -260,6 +265,7 @@ class AnnounceSecondTestResultServiceTest {
                 announceSecondTestResultService.execute();
                 verify(testResult).announceSecondTestResult();
                 verify(operationTestResultRepository).save(testResult);
+                verify(applicationEventPublisher).publishEvent(any(TestResultAnnouncedEvent.class));
             }
         }
     }
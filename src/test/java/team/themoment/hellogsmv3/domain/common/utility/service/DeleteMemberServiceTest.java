@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import team.themoment.hellogsmv3.domain.member.entity.AuthenticationCode;
@@ -35,6 +36,8 @@ class DeleteMemberServiceTest {
     private OneseoRepository oneseoRepository;
     @Mock
     private CodeRepository codeRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private DeleteMemberService deleteMemberService;
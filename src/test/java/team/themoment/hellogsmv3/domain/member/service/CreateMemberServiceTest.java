@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import team.themoment.hellogsmv3.domain.member.dto.request.CreateMemberReqDto;
@@ -27,10 +28,13 @@ import team.themoment.hellogsmv3.domain.member.entity.type.AuthReferrerType;
 import team.themoment.hellogsmv3.domain.member.entity.type.Role;
 import team.themoment.hellogsmv3.domain.member.entity.type.Sex;
 import team.themoment.hellogsmv3.domain.member.repository.MemberRepository;
+import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
 import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
-import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindow;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindowRegistry;
 
 @DisplayName("CreateMemberService 클래스의")
 class CreateMemberServiceTest {
@@ -40,13 +44,15 @@ class CreateMemberServiceTest {
     @Mock
     private MemberService memberService;
     @Mock
-    private ScheduleEnvironment scheduleEnvironment;
+    private ScheduleWindowRegistry scheduleWindowRegistry;
     @Mock
     private OneseoRepository oneseoRepository;
     @Mock
     private EntranceTestResultRepository entranceTestResultRepository;
     @Mock
     private CommonCodeService commonCodeService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
     @InjectMocks
     private CreateMemberService createMemberService;
 
@@ -75,8 +81,9 @@ class CreateMemberServiceTest {
                         .authReferrerType(AuthReferrerType.GOOGLE).role(Role.UNAUTHENTICATED).build();
 
                 given(memberService.findByIdOrThrow(memberId)).willReturn(existingMember);
-                given(scheduleEnvironment.oneseoSubmissionEnd())
-                        .willReturn(LocalDateTime.of(9999, Month.OCTOBER, 10, 10, 10));
+                given(scheduleWindowRegistry.find(ScheduleWindowRegistry.ONESEO_SUBMISSION))
+                        .willReturn(ScheduleWindow.of(LocalDateTime.of(2000, Month.OCTOBER, 10, 10, 10),
+                                LocalDateTime.of(9999, Month.OCTOBER, 10, 10, 10)));
                 given(memberRepository.findByPhoneNumber(reqDto.phoneNumber())).willReturn(Optional.empty());
                 given(entranceTestResultRepository.existsByFirstTestPassYnIsNotNull()).willReturn(false);
                 willDoNothing().given(commonCodeService).validateAndDelete(memberId, reqDto.code(),
@@ -99,6 +106,45 @@ class CreateMemberServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("같은 전화번호로 가입한 기존 회원의 원서가 있으면")
+        class Context_with_duplicate_member_oneseo {
+
+            private final Long duplicateMemberId = 2L;
+            private Member duplicateMember;
+            private Oneseo duplicateOneseo;
+
+            @BeforeEach
+            void setUp() {
+                Member existingMember = Member.builder().id(memberId).email("jangwooooo@example.com")
+                        .authReferrerType(AuthReferrerType.GOOGLE).role(Role.UNAUTHENTICATED).build();
+                duplicateMember = Member.builder().id(duplicateMemberId).phoneNumber(reqDto.phoneNumber())
+                        .role(Role.APPLICANT).build();
+                duplicateOneseo = Oneseo.builder().member(duplicateMember).build();
+
+                given(memberService.findByIdOrThrow(memberId)).willReturn(existingMember);
+                given(scheduleWindowRegistry.find(ScheduleWindowRegistry.ONESEO_SUBMISSION))
+                        .willReturn(ScheduleWindow.of(LocalDateTime.of(2000, Month.OCTOBER, 10, 10, 10),
+                                LocalDateTime.of(9999, Month.OCTOBER, 10, 10, 10)));
+                given(entranceTestResultRepository.existsByFirstTestPassYnIsNotNull()).willReturn(false);
+                given(memberRepository.findByPhoneNumber(reqDto.phoneNumber()))
+                        .willReturn(Optional.of(duplicateMember));
+                given(oneseoRepository.findByMember(duplicateMember)).willReturn(Optional.of(duplicateOneseo));
+            }
+
+            @Test
+            @DisplayName("원서를 삭제하고 원서 변경 이벤트를 발행한다")
+            void it_deletes_oneseo_and_publishes_event() {
+                createMemberService.execute(reqDto, memberId);
+
+                verify(oneseoRepository).delete(duplicateOneseo);
+                verify(memberRepository).deleteDuplicate(duplicateMember);
+                verify(applicationEventPublisher).publishEvent(org.mockito.ArgumentMatchers.<Object>argThat(
+                        event -> event instanceof OneseoChangedEvent changed
+                                && changed.getMemberId().equals(duplicateMemberId)));
+            }
+        }
+
         @Nested
         @DisplayName("회원 ID가 유효하지 않으면")
         class Context_with_invalid_member_id {
@@ -2,6 +2,11 @@ package team.themoment.hellogsmv3.domain.member.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
+
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,9 +18,12 @@ import org.mockito.MockitoAnnotations;
 
 import team.themoment.hellogsmv3.domain.member.dto.response.FoundMemberFirstTestResDto;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.AnnouncedResultDto;
 import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.service.AnnouncedResultService;
 import team.themoment.hellogsmv3.domain.oneseo.service.OneseoService;
 
 @DisplayName("QueryMyFirstTestResultService 클래스의")
@@ -26,6 +34,9 @@ public class QueryMyFirstTestResultServiceTest {
     @Mock
     private OneseoService oneseoService;
 
+    @Mock
+    private AnnouncedResultService announcedResultService;
+
     @InjectMocks
     private QueryMyFirstTestResultService queryMyFirstTestResultService;
 
@@ -49,7 +60,27 @@ public class QueryMyFirstTestResultServiceTest {
             oneseo = Oneseo.builder().member(member)
                     .entranceTestResult(EntranceTestResult.builder().firstTestPassYn(YesNo.YES).build()).build();
 
-            given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
+            given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT)).willReturn(oneseo);
+        }
+
+        @Nested
+        @DisplayName("발표 결과가 만들어져 있는 경우")
+        class Context_with_published_result {
+
+            @BeforeEach
+            void setUp() {
+                given(announcedResultService.find(AnnouncementRound.FIRST, memberId))
+                        .willReturn(Optional.of(new AnnouncedResultDto(YesNo.NO, null)));
+            }
+
+            @Test
+            @DisplayName("원서를 조회하지 않고 발표 결과를 반환한다")
+            void it_returns_published_result() {
+                FoundMemberFirstTestResDto result = queryMyFirstTestResultService.execute(memberId);
+
+                assertEquals(YesNo.NO, result.firstTestPassYn());
+                verify(oneseoService, never()).findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
+            }
         }
 
         @Nested
@@ -2,6 +2,11 @@ package team.themoment.hellogsmv3.domain.member.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
+
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,10 +18,13 @@ import org.mockito.MockitoAnnotations;
 
 import team.themoment.hellogsmv3.domain.member.dto.response.FoundMemberSecondTestResDto;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.AnnouncedResultDto;
 import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.service.AnnouncedResultService;
 import team.themoment.hellogsmv3.domain.oneseo.service.OneseoService;
 
 @DisplayName("QueryMySecondTestResultService 클래스의")
@@ -27,6 +35,9 @@ public class QueryMySecondTestResultServiceTest {
     @Mock
     private OneseoService oneseoService;
 
+    @Mock
+    private AnnouncedResultService announcedResultService;
+
     @InjectMocks
     private QueryMySecondTestResultService queryMySecondTestResultService;
 
@@ -51,7 +62,28 @@ public class QueryMySecondTestResultServiceTest {
                     .entranceTestResult(EntranceTestResult.builder().secondTestPassYn(YesNo.YES).build())
                     .decidedMajor(Major.SW).build();
 
-            given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
+            given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT)).willReturn(oneseo);
+        }
+
+        @Nested
+        @DisplayName("발표 결과가 만들어져 있는 경우")
+        class Context_with_published_result {
+
+            @BeforeEach
+            void setUp() {
+                given(announcedResultService.find(AnnouncementRound.SECOND, memberId))
+                        .willReturn(Optional.of(new AnnouncedResultDto(YesNo.YES, Major.AI)));
+            }
+
+            @Test
+            @DisplayName("원서를 조회하지 않고 발표 결과를 반환한다")
+            void it_returns_published_result() {
+                FoundMemberSecondTestResDto result = queryMySecondTestResultService.execute(memberId);
+
+                assertEquals(YesNo.YES, result.secondTestPassYn());
+                assertEquals(Major.AI, result.decidedMajor());
+                verify(oneseoService, never()).findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
+            }
         }
 
         @Nested
@@ -0,0 +1,90 @@
+package team.themoment.hellogsmv3.domain.oneseo.event.handler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.FoundOneseoResDto;
+import team.themoment.hellogsmv3.domain.oneseo.event.OneseoChangedEvent;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.domain.oneseo.service.OneseoReadModelService;
+import team.themoment.hellogsmv3.domain.oneseo.service.QueryOneseoByIdService;
+
+@DisplayName("OneseoChangedEventHandler 클래스의")
+public class OneseoChangedEventHandlerTest {
+
+    private OneseoRepository oneseoRepository;
+    private QueryOneseoByIdService queryOneseoByIdService;
+    private OneseoReadModelService oneseoReadModelService;
+    private OneseoChangedEventHandler oneseoChangedEventHandler;
+
+    private final Long memberId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        oneseoRepository = mock(OneseoRepository.class);
+        queryOneseoByIdService = mock(QueryOneseoByIdService.class);
+        oneseoReadModelService = mock(OneseoReadModelService.class);
+        oneseoChangedEventHandler = new OneseoChangedEventHandler(oneseoRepository, queryOneseoByIdService,
+                oneseoReadModelService);
+    }
+
+    @Nested
+    @DisplayName("rebuildReadModel 메소드는")
+    class Describe_rebuildReadModel {
+
+        @Nested
+        @DisplayName("원서가 존재한다면")
+        class Context_with_existing_oneseo {
+
+            private final FoundOneseoResDto foundOneseoResDto = FoundOneseoResDto.builder().oneseoId(10L).build();
+
+            @Test
+            @DisplayName("원서를 다시 조립하여 읽기 모델을 저장한다")
+            void it_saves_read_model() {
+                given(oneseoRepository.existsByMemberId(memberId)).willReturn(true);
+                given(queryOneseoByIdService.assemble(memberId)).willReturn(foundOneseoResDto);
+
+                oneseoChangedEventHandler.rebuildReadModel(new OneseoChangedEvent(memberId));
+
+                verify(oneseoReadModelService).save(memberId, foundOneseoResDto);
+                verify(oneseoReadModelService, never()).delete(anyLong());
+            }
+
+            @Test
+            @DisplayName("원서의 검색 컬럼을 갱신한다")
+            void it_updates_search_text() {
+                given(oneseoRepository.existsByMemberId(memberId)).willReturn(true);
+                given(queryOneseoByIdService.assemble(memberId)).willReturn(foundOneseoResDto);
+
+                oneseoChangedEventHandler.rebuildReadModel(new OneseoChangedEvent(memberId));
+
+                verify(oneseoRepository).updateSearchTextByMemberId(memberId);
+            }
+        }
+
+        @Nested
+        @DisplayName("원서가 삭제되었다면")
+        class Context_with_deleted_oneseo {
+
+            @Test
+            @DisplayName("읽기 모델을 삭제한다")
+            void it_deletes_read_model() {
+                given(oneseoRepository.existsByMemberId(memberId)).willReturn(false);
+
+                oneseoChangedEventHandler.rebuildReadModel(new OneseoChangedEvent(memberId));
+
+                verify(oneseoReadModelService).delete(memberId);
+                verify(oneseoReadModelService, never()).save(anyLong(), any());
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package team.themoment.hellogsmv3.domain.oneseo.repository.custom.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import team.themoment.hellogsmv3.domain.member.entity.Member;
+import team.themoment.hellogsmv3.domain.member.entity.type.AuthReferrerType;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestFactorsDetail;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
+import team.themoment.hellogsmv3.domain.oneseo.entity.MiddleSchoolAchievement;
+import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.OneseoPrivacyDetail;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan;
+
+/**
+ * 조회 계획별로 원서를 한 번의 쿼리로 가져오는지 Hibernate 통계의 실행 쿼리 수로 확인합니다. 각 서비스가 원서를 조회한 뒤 읽는
+ * 연관 엔티티를 같은 순서로 읽어, 지연 로딩이 추가되면 실패하도록 합니다.
+ */
+@DataJpaTest(properties = {"spring.datasource.url=jdbc:h2:mem:oneseo;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver", "spring.datasource.username=sa",
+        "spring.datasource.password=", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop", "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("CustomOneseoRepositoryImpl 클래스의")
+public class CustomOneseoRepositoryImplTest {
+
+    // Redis 세션 등 애플리케이션 전체 설정을 띄우지 않도록 엔티티와 감사 설정만 사용
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan(basePackages = "team.themoment.hellogsmv3.domain")
+    static class Config {
+    }
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private CustomOneseoRepositoryImpl customOneseoRepository;
+    private Statistics statistics;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        customOneseoRepository = new CustomOneseoRepositoryImpl(
+                new JPAQueryFactory(testEntityManager.getEntityManager()));
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+
+        Member member = testEntityManager.persist(Member.builder().email("test@gsm.hs.kr")
+                .authReferrerType(AuthReferrerType.GOOGLE).name("홍길동").phoneNumber("01012345678").build());
+        memberId = member.getId();
+
+        Oneseo oneseo = Oneseo.builder().member(member).oneseoSubmitCode("A-1").realOneseoArrivedYn(YesNo.NO)
+                .wantedScreening(Screening.GENERAL).decidedMajor(Major.SW).build();
+        EntranceTestFactorsDetail factorsDetail = EntranceTestFactorsDetail.builder()
+                .totalSubjectsScore(BigDecimal.valueOf(180)).attendanceScore(BigDecimal.valueOf(30))
+                .volunteerScore(BigDecimal.valueOf(30)).build();
+        oneseo.modifyEntranceTestResult(EntranceTestResult.builder().oneseo(oneseo)
+                .entranceTestFactorsDetail(factorsDetail).documentEvaluationScore(BigDecimal.valueOf(240))
+                .firstTestPassYn(YesNo.YES).build());
+        oneseo.modifyOneseoPrivacyDetail(OneseoPrivacyDetail.builder().oneseo(oneseo)
+                .graduationType(GraduationType.GED).graduationDate("2026-02").address("광주").detailAddress("광산구")
+                .profileImg("profile.png").guardianName("홍아무개").guardianPhoneNumber("01087654321")
+                .relationshipWithGuardian("부").build());
+        oneseo.modifyMiddleSchoolAchievement(MiddleSchoolAchievement.builder().oneseo(oneseo)
+                .gedAvgScore(BigDecimal.valueOf(95)).absentDays(List.of(0, 0, 0)).build());
+        testEntityManager.persist(oneseo);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+    }
+
+    private Oneseo find(OneseoFetchPlan fetchPlan) {
+        return customOneseoRepository.findByMemberIdWithFetchPlan(memberId, fetchPlan).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("findByMemberIdWithFetchPlan 메소드는")
+    class Describe_findByMemberIdWithFetchPlan {
+
+        @Nested
+        @DisplayName("MEMBER_AND_RESULT 계획이라면")
+        class Context_with_member_and_result {
+
+            @Test
+            @DisplayName("원서와 회원, 전형 결과를 한 번의 쿼리로 가져온다.")
+            void it_fetches_in_one_query() {
+                Oneseo oneseo = find(OneseoFetchPlan.MEMBER_AND_RESULT);
+
+                assertEquals("홍길동", oneseo.getMember().getName());
+                assertNotNull(oneseo.getOneseoPrivacyDetail().getGraduationType());
+                assertNotNull(oneseo.getMiddleSchoolAchievement().getGedAvgScore());
+                assertEquals(1L, statistics.getPrepareStatementCount());
+            }
+
+            @Test
+            @DisplayName("1차·2차 결과 조회와 점수, 서류 도착 여부, 입학 의사 수정에서 읽는 값을 추가 쿼리 없이 읽는다.")
+            void it_serves_result_paths_without_extra_query() {
+                Oneseo oneseo = find(OneseoFetchPlan.MEMBER_AND_RESULT);
+
+                // QueryMyFirstTestResultService, QueryMySecondTestResultService, ModifyRealOneseoArrivedYnService,
+                // ModifyCompetencyEvaluationScoreService, ModifyInterviewScoreService
+                EntranceTestResult entranceTestResult = oneseo.getEntranceTestResult();
+                assertEquals(YesNo.YES, entranceTestResult.getFirstTestPassYn());
+                entranceTestResult.getSecondTestPassYn();
+                entranceTestResult.getCompetencyEvaluationScore();
+                entranceTestResult.getInterviewScore();
+                // ModifyEntranceIntentionService
+                assertEquals(Major.SW, oneseo.getDecidedMajor());
+                oneseo.getRealOneseoArrivedYn();
+
+                assertEquals(1L, statistics.getPrepareStatementCount());
+            }
+        }
+
+        @Nested
+        @DisplayName("ALL 계획이라면")
+        class Context_with_all {
+
+            @Test
+            @DisplayName("성적 산출 상세까지 한 번의 쿼리로 가져온다.")
+            void it_fetches_in_one_query() {
+                Oneseo oneseo = find(OneseoFetchPlan.ALL);
+
+                assertEquals(0, BigDecimal.valueOf(180).compareTo(
+                        oneseo.getEntranceTestResult().getEntranceTestFactorsDetail().getTotalSubjectsScore()));
+                assertEquals(1L, statistics.getPrepareStatementCount());
+            }
+
+            @Test
+            @DisplayName("원서 상세 조회와 원서 수정에서 읽는 값을 추가 쿼리 없이 읽는다.")
+            void it_serves_detail_paths_without_extra_query() {
+                Oneseo oneseo = find(OneseoFetchPlan.ALL);
+
+                // QueryOneseoByIdService, ModifyOneseoService
+                assertEquals("홍길동", oneseo.getMember().getName());
+                assertEquals(GraduationType.GED, oneseo.getOneseoPrivacyDetail().getGraduationType());
+                assertEquals(List.of(0, 0, 0), oneseo.getMiddleSchoolAchievement().getAbsentDays());
+                EntranceTestFactorsDetail factorsDetail = oneseo.getEntranceTestResult()
+                        .getEntranceTestFactorsDetail();
+                factorsDetail.getAttendanceScore();
+                factorsDetail.getVolunteerScore();
+                oneseo.getEntranceTestResult().getDocumentEvaluationScore();
+
+                assertEquals(1L, statistics.getPrepareStatementCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.AnnouncedResultDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.AnnouncementRound;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.repository.AnnouncedResultJdbcRepository;
+
+@DisplayName("AnnouncedResultService 클래스의")
+public class AnnouncedResultServiceTest {
+
+    private static final String SECOND_KEY = AnnouncedResultService.KEY_PREFIX + "second";
+
+    private AnnouncedResultJdbcRepository announcedResultJdbcRepository;
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private AnnouncedResultService announcedResultService;
+
+    private final AnnouncedResultDto passed = new AnnouncedResultDto(YesNo.YES, Major.SW);
+    private final AnnouncedResultDto failedAtFirst = new AnnouncedResultDto(null, null);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        announcedResultJdbcRepository = mock(AnnouncedResultJdbcRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+
+        announcedResultService = new AnnouncedResultService(announcedResultJdbcRepository, redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("find 메소드는")
+    class Describe_find {
+
+        @Nested
+        @DisplayName("Redis에 발표 결과가 있다면")
+        class Context_with_published_results {
+
+            @BeforeEach
+            void setUp() {
+                given(hashOperations.entries(SECOND_KEY)).willReturn(
+                        Map.of("1", AnnouncedResultService.encode(passed), "2",
+                                AnnouncedResultService.encode(failedAtFirst)));
+            }
+
+            @Test
+            @DisplayName("한 번만 읽어 메모리에서 회원별 결과를 반환한다")
+            void it_returns_results_from_memory() {
+                assertEquals(Optional.of(passed), announcedResultService.find(AnnouncementRound.SECOND, 1L));
+                assertEquals(Optional.of(failedAtFirst), announcedResultService.find(AnnouncementRound.SECOND, 2L));
+                assertTrue(announcedResultService.find(AnnouncementRound.SECOND, 3L).isEmpty());
+
+                verify(hashOperations, times(1)).entries(SECOND_KEY);
+            }
+        }
+
+        @Nested
+        @DisplayName("아직 발표 결과가 없다면")
+        class Context_without_published_results {
+
+            @Test
+            @DisplayName("빈 값을 반환하고 다음 조회에서 다시 확인한다")
+            void it_returns_empty_without_caching() {
+                given(hashOperations.entries(SECOND_KEY)).willReturn(Map.of());
+
+                assertTrue(announcedResultService.find(AnnouncementRound.SECOND, 1L).isEmpty());
+                assertTrue(announcedResultService.find(AnnouncementRound.SECOND, 1L).isEmpty());
+
+                verify(hashOperations, times(2)).entries(SECOND_KEY);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("publish 메소드는")
+    class Describe_publish {
+
+        @Test
+        @DisplayName("임시 키에 결과를 저장한 뒤 교체하고, 이후 조회는 Redis를 읽지 않는다")
+        void it_replaces_results() {
+            given(announcedResultJdbcRepository.findAll(AnnouncementRound.SECOND)).willReturn(Map.of(1L, passed));
+
+            announcedResultService.publish(AnnouncementRound.SECOND);
+
+            verify(hashOperations).putAll(SECOND_KEY + ":rebuild", Map.of("1", "YES|SW"));
+            verify(redisTemplate).rename(SECOND_KEY + ":rebuild", SECOND_KEY);
+            assertEquals(Optional.of(passed), announcedResultService.find(AnnouncementRound.SECOND, 1L));
+            verify(hashOperations, never()).entries(SECOND_KEY);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.HttpStatus;
+
+import team.themoment.hellogsmv3.domain.oneseo.data.ExaminationNumberEnvironment;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.AssignExaminationNumberResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExaminationNumberJdbcRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@DisplayName("AssignExaminationNumberService 클래스의")
+public class AssignExaminationNumberServiceTest {
+
+    private ExaminationNumberJdbcRepository examinationNumberJdbcRepository;
+    private EntranceTestResultRepository entranceTestResultRepository;
+    private final ExaminationNumberEnvironment examinationNumberEnv = new ExaminationNumberEnvironment(
+            Map.of(ScreeningCategory.EXTRA, "30"));
+    private AssignExaminationNumberService assignExaminationNumberService;
+
+    @BeforeEach
+    void setUp() {
+        examinationNumberJdbcRepository = mock(ExaminationNumberJdbcRepository.class);
+        entranceTestResultRepository = mock(EntranceTestResultRepository.class);
+        assignExaminationNumberService = new AssignExaminationNumberService(examinationNumberJdbcRepository,
+                entranceTestResultRepository, examinationNumberEnv);
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("모든 원서의 1차 전형 결과가 산출되었다면")
+        class Context_with_first_test_results {
+
+            private final Map<ScreeningCategory, Long> counts = Map.of(ScreeningCategory.GENERAL, 120L,
+                    ScreeningCategory.EXTRA, 8L);
+
+            @BeforeEach
+            void setUp() {
+                given(entranceTestResultRepository.existsByFirstTestPassYnIsNull()).willReturn(false);
+                given(examinationNumberJdbcRepository.countFirstPassByScreeningCategory()).willReturn(counts);
+                given(examinationNumberJdbcRepository.assignToFirstPassApplicants(examinationNumberEnv))
+                        .willReturn(128);
+            }
+
+            @Test
+            @DisplayName("기존 수험번호를 지운 뒤 한 번에 다시 발급한다.")
+            void it_clears_and_assigns() {
+                AssignExaminationNumberResDto result = assignExaminationNumberService.execute();
+
+                InOrder inOrder = inOrder(examinationNumberJdbcRepository);
+                inOrder.verify(examinationNumberJdbcRepository).clearAll();
+                inOrder.verify(examinationNumberJdbcRepository).assignToFirstPassApplicants(examinationNumberEnv);
+                assertEquals(128, result.assignedCount());
+                assertEquals(counts, result.assignedCountByScreening());
+            }
+        }
+
+        @Nested
+        @DisplayName("1차 합격자 수가 접두사를 제외한 자릿수로 표현할 수 있는 수를 넘는다면")
+        class Context_with_too_many_applicants {
+
+            @BeforeEach
+            void setUp() {
+                given(entranceTestResultRepository.existsByFirstTestPassYnIsNull()).willReturn(false);
+                given(examinationNumberJdbcRepository.countFirstPassByScreeningCategory())
+                        .willReturn(Map.of(ScreeningCategory.EXTRA, 100L));
+            }
+
+            @Test
+            @DisplayName("ExpectedException을 던지고 수험번호를 바꾸지 않는다.")
+            void it_throws_expected_exception() {
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> assignExaminationNumberService.execute());
+
+                assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+                verify(examinationNumberJdbcRepository, never()).clearAll();
+            }
+        }
+
+        @Nested
+        @DisplayName("1차 전형 결과가 산출되지 않은 원서가 있다면")
+        class Context_without_first_test_results {
+
+            @BeforeEach
+            void setUp() {
+                given(entranceTestResultRepository.existsByFirstTestPassYnIsNull()).willReturn(true);
+            }
+
+            @Test
+            @DisplayName("ExpectedException을 던진다.")
+            void it_throws_expected_exception() {
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> assignExaminationNumberService.execute());
+
+                assertEquals("1차 전형 결과가 산출되지 않은 원서가 있습니다.", exception.getMessage());
+                verify(examinationNumberJdbcRepository, never()).assignToFirstPassApplicants(any());
+            }
+        }
+    }
+}
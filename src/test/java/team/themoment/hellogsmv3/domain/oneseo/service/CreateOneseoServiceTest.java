@@ -1,6 +1,7 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -27,7 +28,8 @@ import team.themoment.hellogsmv3.domain.member.entity.Member;
 import team.themoment.hellogsmv3.domain.member.service.MemberService;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.MiddleSchoolAchievementReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoReqDto;
-import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestFactorsDetail;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
 import team.themoment.hellogsmv3.domain.oneseo.entity.MiddleSchoolAchievement;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
 import team.themoment.hellogsmv3.domain.oneseo.entity.OneseoPrivacyDetail;
@@ -37,7 +39,6 @@ import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
 import team.themoment.hellogsmv3.domain.oneseo.repository.*;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
-import team.themoment.hellogsmv3.global.thirdParty.feign.client.lambda.LambdaScoreCalculatorClient;
 
 @DisplayName("CreateOneseoService 클래스의")
 class CreateOneseoServiceTest {
@@ -59,7 +60,7 @@ class CreateOneseoServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
     @Mock
-    private LambdaScoreCalculatorClient lambdaScoreCalculatorClient;
+    private ScoringOutboxService scoringOutboxService;
 
     @InjectMocks
     private CreateOneseoService createOneseoService;
@@ -124,13 +125,9 @@ class CreateOneseoServiceTest {
             @BeforeEach
             void setUp() {
                 Member existingMember = mock(Member.class);
-                CalculatedScoreResDto mockCalculatedScore = mock(CalculatedScoreResDto.class);
 
                 given(memberService.findByIdForUpdateOrThrow(memberId)).willReturn(existingMember);
                 given(oneseoRepository.existsByMember(existingMember)).willReturn(false);
-                given(lambdaScoreCalculatorClient.calculateScore(any(LambdaScoreCalculatorReqDto.class)))
-                        .willReturn(mockCalculatedScore);
-                given(entranceTestResultRepository.findByOneseo(any(Oneseo.class))).willReturn(null);
             }
 
             @Test
@@ -186,6 +183,21 @@ class CreateOneseoServiceTest {
                 assertEquals(freeSemester, capturedAchievement.getFreeSemester());
                 assertEquals(null, capturedAchievement.getGedAvgScore());
             }
+
+            @Test
+            @DisplayName("성적은 바로 계산하지 않고 빈 결과를 만든 뒤 계산 대기열에 등록한다")
+            void it_enqueues_scoring_without_calculating() {
+                createOneseoService.execute(oneseoReqDto, memberId);
+
+                ArgumentCaptor<EntranceTestResult> entranceTestResultCaptor = ArgumentCaptor
+                        .forClass(EntranceTestResult.class);
+
+                verify(entranceTestFactorsDetailRepository).save(any(EntranceTestFactorsDetail.class));
+                verify(entranceTestResultRepository).save(entranceTestResultCaptor.capture());
+                verify(scoringOutboxService).enqueue(any(Oneseo.class), any(LambdaScoreCalculatorReqDto.class));
+
+                assertNull(entranceTestResultCaptor.getValue().getDocumentEvaluationScore());
+            }
         }
 
         @Nested
@@ -0,0 +1,145 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.data.FinalTestEnvironment;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestAssignmentDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.FinalTestDecisionReqDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.FinalTestDecisionResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.FinalTestJdbcRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@DisplayName("DecideFinalTestResultService 클래스의")
+public class DecideFinalTestResultServiceTest {
+
+    private FinalTestJdbcRepository finalTestJdbcRepository;
+    private EntranceTestResultRepository entranceTestResultRepository;
+    private OperationTestResultRepository operationTestResultRepository;
+    private DecideFinalTestResultService decideFinalTestResultService;
+
+    private final FinalTestEnvironment finalTestEnv = new FinalTestEnvironment(Map.of(Screening.GENERAL, 1),
+            Map.of(Major.SW, 1));
+    private final List<FinalTestCandidateDto> candidates = List.of(candidate(1L, "80"), candidate(2L, "90"));
+
+    @BeforeEach
+    void setUp() {
+        finalTestJdbcRepository = mock(FinalTestJdbcRepository.class);
+        entranceTestResultRepository = mock(EntranceTestResultRepository.class);
+        operationTestResultRepository = mock(OperationTestResultRepository.class);
+        decideFinalTestResultService = new DecideFinalTestResultService(finalTestJdbcRepository,
+                entranceTestResultRepository, operationTestResultRepository, finalTestEnv,
+                mock(ApplicationEventPublisher.class), mock(AnnouncedResultService.class));
+    }
+
+    private FinalTestCandidateDto candidate(long id, String finalScore) {
+        long rankKey = FirstTestDecisionEngine.toRankKey(new BigDecimal(finalScore));
+        return new FinalTestCandidateDto(id, id, Screening.GENERAL, List.of(Major.SW, Major.AI, Major.IOT),
+                new long[]{rankKey, 0, 0, 0});
+    }
+
+    private void givenAnnouncement(YesNo secondTestResultAnnouncementYn) {
+        given(operationTestResultRepository.findTestResult()).willReturn(Optional.of(OperationTestResult.builder()
+                .firstTestResultAnnouncementYn(YesNo.YES).secondTestResultAnnouncementYn(secondTestResultAnnouncementYn)
+                .build()));
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("preview 요청이라면")
+        class Context_with_preview {
+
+            @Test
+            @DisplayName("요청한 인원과 정원으로 배정 현황을 계산하고 저장하지 않는다.")
+            void it_does_not_update() {
+                given(finalTestJdbcRepository.findCandidates()).willReturn(candidates);
+
+                FinalTestDecisionResDto result = decideFinalTestResultService.execute(
+                        new FinalTestDecisionReqDto(Map.of(Screening.GENERAL, 2), Map.of(Major.SW, 1)), true);
+
+                assertTrue(result.preview());
+                assertEquals(2, result.passCount());
+                assertEquals(1, result.unallocatedCount());
+                verify(finalTestJdbcRepository, never()).updateResults(any(), any());
+            }
+        }
+
+        @Nested
+        @DisplayName("2차 결과 발표 전이라면")
+        class Context_before_announcement {
+
+            @BeforeEach
+            void setUp() {
+                givenAnnouncement(YesNo.NO);
+                given(entranceTestResultRepository.existsByFirstTestPassYnIsNull()).willReturn(false);
+            }
+
+            @Test
+            @DisplayName("설정된 인원과 정원으로 최종 합격 여부와 배정 학과를 저장한다.")
+            void it_updates_results() {
+                given(finalTestJdbcRepository.findCandidates()).willReturn(candidates);
+
+                decideFinalTestResultService.execute(null, false);
+
+                verify(finalTestJdbcRepository).updateResults(List.of(new FinalTestAssignmentDto(2L, 2L, Major.SW)),
+                        List.of(new FinalTestAssignmentDto(1L, 1L, null)));
+            }
+
+            @Test
+            @DisplayName("학과를 배정받지 못한 합격자가 있다면 ExpectedException을 던진다.")
+            void it_throws_when_unallocated() {
+                given(finalTestJdbcRepository.findCandidates()).willReturn(candidates);
+
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> decideFinalTestResultService
+                                .execute(new FinalTestDecisionReqDto(Map.of(Screening.GENERAL, 2), null), false));
+
+                assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+                verify(finalTestJdbcRepository, never()).updateResults(any(), any());
+            }
+        }
+
+        @Nested
+        @DisplayName("2차 결과를 이미 발표했다면")
+        class Context_after_announcement {
+
+            @Test
+            @DisplayName("ExpectedException을 던진다.")
+            void it_throws_expected_exception() {
+                givenAnnouncement(YesNo.YES);
+
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> decideFinalTestResultService.execute(null, false));
+
+                assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+                verify(finalTestJdbcRepository, never()).findCandidates();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import team.themoment.hellogsmv3.domain.common.operation.entity.OperationTestResult;
+import team.themoment.hellogsmv3.domain.common.operation.repository.OperationTestResultRepository;
+import team.themoment.hellogsmv3.domain.oneseo.data.FirstTestEnvironment;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.FirstTestDecisionReqDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.FirstTestDecisionResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo;
+import team.themoment.hellogsmv3.domain.oneseo.repository.FirstTestJdbcRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@DisplayName("DecideFirstTestResultService 클래스의")
+public class DecideFirstTestResultServiceTest {
+
+    private FirstTestJdbcRepository firstTestJdbcRepository;
+    private OperationTestResultRepository operationTestResultRepository;
+    private DecideFirstTestResultService decideFirstTestResultService;
+
+    private final FirstTestEnvironment firstTestEnv = new FirstTestEnvironment(Map.of(Screening.GENERAL, 1), null,
+            null);
+    private final List<FirstTestCandidateDto> candidates = List.of(candidate(1L, "150"), candidate(2L, "160"));
+
+    @BeforeEach
+    void setUp() {
+        firstTestJdbcRepository = mock(FirstTestJdbcRepository.class);
+        operationTestResultRepository = mock(OperationTestResultRepository.class);
+        decideFirstTestResultService = new DecideFirstTestResultService(firstTestJdbcRepository,
+                operationTestResultRepository, firstTestEnv, mock(ApplicationEventPublisher.class),
+                mock(AnnouncedResultService.class));
+    }
+
+    private FirstTestCandidateDto candidate(long id, String score) {
+        long rankKey = FirstTestDecisionEngine.toRankKey(score == null ? null : new BigDecimal(score));
+        return new FirstTestCandidateDto(id, Screening.GENERAL, true, new long[]{rankKey});
+    }
+
+    private void givenAnnouncement(YesNo firstTestResultAnnouncementYn) {
+        given(operationTestResultRepository.findTestResult()).willReturn(Optional.of(OperationTestResult.builder()
+                .firstTestResultAnnouncementYn(firstTestResultAnnouncementYn).build()));
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("preview 요청이라면")
+        class Context_with_preview {
+
+            @Test
+            @DisplayName("요청한 모집 인원으로 합격선을 계산하고 저장하지 않는다.")
+            void it_does_not_update() {
+                given(firstTestJdbcRepository.findCandidates(firstTestEnv.tieBreakers())).willReturn(candidates);
+
+                FirstTestDecisionResDto result = decideFirstTestResultService
+                        .execute(new FirstTestDecisionReqDto(Map.of(Screening.GENERAL, 2), null), true);
+
+                assertTrue(result.preview());
+                assertEquals(2, result.passCount());
+                verify(firstTestJdbcRepository, never()).updateFirstTestPassYn(any(), any());
+                verify(operationTestResultRepository, never()).findTestResult();
+            }
+        }
+
+        @Nested
+        @DisplayName("1차 결과 발표 전이라면")
+        class Context_before_announcement {
+
+            @BeforeEach
+            void setUp() {
+                givenAnnouncement(YesNo.NO);
+            }
+
+            @Test
+            @DisplayName("설정된 모집 인원으로 합격 여부를 저장한다.")
+            void it_updates_first_test_pass_yn() {
+                given(firstTestJdbcRepository.findCandidates(firstTestEnv.tieBreakers())).willReturn(candidates);
+
+                FirstTestDecisionResDto result = decideFirstTestResultService.execute(null, false);
+
+                assertEquals(1, result.passCount());
+                assertEquals(1, result.failCount());
+                verify(firstTestJdbcRepository).updateFirstTestPassYn(new long[]{2L}, new long[]{1L});
+            }
+
+            @Test
+            @DisplayName("서류 평가 점수가 없는 원서가 있다면 ExpectedException을 던진다.")
+            void it_throws_when_unscored() {
+                given(firstTestJdbcRepository.findCandidates(firstTestEnv.tieBreakers()))
+                        .willReturn(List.of(candidate(1L, "150"), candidate(2L, null)));
+
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> decideFirstTestResultService.execute(null, false));
+
+                assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+                verify(firstTestJdbcRepository, never()).updateFirstTestPassYn(any(), any());
+            }
+        }
+
+        @Nested
+        @DisplayName("1차 결과를 이미 발표했다면")
+        class Context_after_announcement {
+
+            @Test
+            @DisplayName("ExpectedException을 던진다.")
+            void it_throws_expected_exception() {
+                givenAnnouncement(YesNo.YES);
+
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> decideFirstTestResultService.execute(null, false));
+
+                assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+                verify(firstTestJdbcRepository, never()).updateFirstTestPassYn(any(), any());
+            }
+        }
+    }
+}
@@ -6,15 +6,19 @@ import static org.mockito.BDDMockito.given;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.NO;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +27,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import jakarta.persistence.EntityManager;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
 import team.themoment.hellogsmv3.domain.member.entity.type.Sex;
 import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestFactorsDetail;
@@ -37,6 +42,8 @@ public class DownloadExcelServiceTest {
 
     @Mock
     private OneseoRepository oneseoRepository;
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private DownloadExcelService downloadExcelService;
@@ -50,6 +57,13 @@ public class DownloadExcelServiceTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    // 응답으로 내려간 파일을 다시 읽어 검증
+    private Workbook export() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        downloadExcelService.execute(outputStream);
+        return new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
     @Nested
     @DisplayName("execute 메소드는")
     class Describe_execute {
@@ -69,21 +83,21 @@ public class DownloadExcelServiceTest {
                 oneseoExtra = createOneseoWithAllDetails(3L, Screening.EXTRA_VETERANS, "C-3", YES);
                 oneseoFallen = createOneseoWithAllDetails(4L, Screening.GENERAL, "A-4", NO);
 
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.GENERAL))
-                        .willReturn(List.of(oneseoGeneral));
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.SPECIAL))
-                        .willReturn(List.of(oneseoSpecial));
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS))
-                        .willReturn(List.of(oneseoExtra));
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION))
-                        .willReturn(List.of());
-                given(oneseoRepository.findAllFailedWithAllDetails()).willReturn(List.of(oneseoFallen));
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL, false))
+                        .willReturn(Stream.of(oneseoGeneral));
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL, false))
+                        .willReturn(Stream.of(oneseoSpecial));
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS, false))
+                        .willReturn(Stream.of(oneseoExtra));
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllFailedWithAllDetails()).willReturn(Stream.of(oneseoFallen));
             }
 
             @Test
             @DisplayName("모든 전형의 시트를 생성하고 데이터를 채운다")
             void it_creates_all_sheets_with_data() throws IOException {
-                try (Workbook workbook = downloadExcelService.execute()) {
+                try (Workbook workbook = export()) {
 
                     assertNotNull(workbook);
                     assertEquals(4, workbook.getNumberOfSheets());
@@ -117,19 +131,21 @@ public class DownloadExcelServiceTest {
 
             @BeforeEach
             void setUp() {
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.GENERAL)).willReturn(List.of());
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.SPECIAL)).willReturn(List.of());
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS))
-                        .willReturn(List.of());
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION))
-                        .willReturn(List.of());
-                given(oneseoRepository.findAllFailedWithAllDetails()).willReturn(List.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllFailedWithAllDetails()).willReturn(Stream.of());
             }
 
             @Test
             @DisplayName("헤더만 있는 시트를 생성한다")
             void it_creates_sheets_with_header_only() throws IOException {
-                try (Workbook workbook = downloadExcelService.execute()) {
+                try (Workbook workbook = export()) {
 
                     assertNotNull(workbook);
                     assertEquals(4, workbook.getNumberOfSheets());
@@ -143,6 +159,39 @@ public class DownloadExcelServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("적용되는 전형이 배정된 뒤라면")
+        class Context_with_applied_screening {
+
+            @BeforeEach
+            void setUp() {
+                given(oneseoRepository.existsAppliedScreening()).willReturn(true);
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL, true))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL, true))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS, true))
+                        .willReturn(Stream.of(createOneseoWithAllDetails(3L, Screening.EXTRA_VETERANS, "C-3", YES)));
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION, true))
+                        .willReturn(Stream.of(createOneseoWithAllDetails(5L, Screening.EXTRA_ADMISSION, "C-5", YES)));
+                given(oneseoRepository.streamAllFailedWithAllDetails()).willReturn(Stream.of());
+            }
+
+            @Test
+            @DisplayName("적용되는 전형으로 조회하고 정원외 특별전형 시트의 순번을 이어서 매긴다")
+            void it_continues_index_in_extra_sheet() throws IOException {
+                try (Workbook workbook = export()) {
+                    Sheet extraSheet = workbook.getSheetAt(2);
+
+                    assertEquals(2, extraSheet.getLastRowNum());
+                    assertEquals("1", extraSheet.getRow(1).getCell(0).getStringCellValue());
+                    assertEquals("C-3", extraSheet.getRow(1).getCell(1).getStringCellValue());
+                    assertEquals("2", extraSheet.getRow(2).getCell(0).getStringCellValue());
+                    assertEquals("C-5", extraSheet.getRow(2).getCell(1).getStringCellValue());
+                }
+            }
+        }
+
         private void assertSheetHeader(Sheet sheet) {
             Row headerRow = sheet.getRow(0);
             assertNotNull(headerRow);
@@ -240,15 +289,17 @@ public class DownloadExcelServiceTest {
                 Oneseo oneseo = createOneseoWithScores(BigDecimal.valueOf(90), BigDecimal.valueOf(80),
                         BigDecimal.valueOf(75));
 
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.GENERAL)).willReturn(List.of(oneseo));
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.SPECIAL)).willReturn(List.of());
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS))
-                        .willReturn(List.of());
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION))
-                        .willReturn(List.of());
-                given(oneseoRepository.findAllFailedWithAllDetails()).willReturn(List.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL, false))
+                        .willReturn(Stream.of(oneseo));
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllFailedWithAllDetails()).willReturn(Stream.of());
 
-                try (Workbook workbook = downloadExcelService.execute()) {
+                try (Workbook workbook = export()) {
 
                     Sheet sheet = workbook.getSheetAt(0);
                     Row dataRow = sheet.getRow(1);
@@ -267,15 +318,17 @@ public class DownloadExcelServiceTest {
             void it_returns_empty_string_for_null_scores() throws IOException {
                 Oneseo oneseo = createOneseoWithNullScores();
 
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.GENERAL)).willReturn(List.of(oneseo));
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.SPECIAL)).willReturn(List.of());
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS))
-                        .willReturn(List.of());
-                given(oneseoRepository.findAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION))
-                        .willReturn(List.of());
-                given(oneseoRepository.findAllFailedWithAllDetails()).willReturn(List.of());
-
-                try (Workbook workbook = downloadExcelService.execute()) {
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL, false))
+                        .willReturn(Stream.of(oneseo));
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION, false))
+                        .willReturn(Stream.of());
+                given(oneseoRepository.streamAllFailedWithAllDetails()).willReturn(Stream.of());
+
+                try (Workbook workbook = export()) {
 
                     Sheet sheet = workbook.getSheetAt(0);
                     Row dataRow = sheet.getRow(1);
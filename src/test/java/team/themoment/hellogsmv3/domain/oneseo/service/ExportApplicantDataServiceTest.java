@@ -0,0 +1,209 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.NO;
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import team.themoment.hellogsmv3.domain.member.entity.Member;
+import team.themoment.hellogsmv3.domain.member.entity.type.Sex;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestFactorsDetail;
+import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
+import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
+import team.themoment.hellogsmv3.domain.oneseo.entity.OneseoPrivacyDetail;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.*;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+
+@DisplayName("ExportApplicantDataService 클래스의")
+public class ExportApplicantDataServiceTest {
+
+    @Mock
+    private OneseoRepository oneseoRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ExportApplicantDataService exportApplicantDataService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.GENERAL, false, null))
+                .willReturn(Stream.of(createOneseo(1L, Screening.GENERAL, "A-1", YES)));
+        given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.SPECIAL, false, null))
+                .willReturn(Stream.of(createOneseo(2L, Screening.SPECIAL, "B-2", YES)));
+        given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_VETERANS, false, null))
+                .willReturn(Stream.of(createOneseo(3L, Screening.EXTRA_VETERANS, "C-3", YES)));
+        given(oneseoRepository.streamAllByScreeningWithAllDetails(Screening.EXTRA_ADMISSION, false, null))
+                .willReturn(Stream.of(createOneseo(5L, Screening.EXTRA_ADMISSION, "C-5", YES)));
+        given(oneseoRepository.streamAllFailedWithAllDetails(null))
+                .willReturn(Stream.of(createOneseo(4L, Screening.GENERAL, "A-4", NO)));
+    }
+
+    private byte[] export(ExportFormat format, ExportSheet sheet, boolean gzip) throws IOException {
+        return export(format, sheet, null, gzip);
+    }
+
+    private byte[] export(ExportFormat format, ExportSheet sheet, LocalDateTime changedSince, boolean gzip)
+            throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportApplicantDataService.execute(outputStream, format, sheet, changedSince, gzip);
+        return outputStream.toByteArray();
+    }
+
+    private List<String> lines(byte[] content) {
+        return List.of(new String(content, StandardCharsets.UTF_8).split("\r?\n"));
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("CSV 형식으로 시트를 지정하지 않으면")
+        class Context_with_csv_and_all_sheets {
+
+            @Test
+            @DisplayName("머리글 뒤에 모든 시트의 지원자를 출력 순서대로 순번을 매겨 쓴다.")
+            void it_writes_all_sheets() throws IOException {
+                List<String> lines = lines(export(ExportFormat.CSV, null, false));
+
+                assertEquals(String.join(",", ApplicantExportRowMapper.HEADER_NAMES), lines.get(0));
+                assertEquals(6, lines.size());
+                assertTrue(lines.get(1).startsWith("1,A-1,"));
+                assertTrue(lines.get(3).startsWith("3,C-3,"));
+                assertTrue(lines.get(4).startsWith("4,C-5,"));
+                assertTrue(lines.get(5).startsWith("5,A-4,"));
+            }
+
+            @Test
+            @DisplayName("쉼표가 있는 값은 큰따옴표로 감싼다.")
+            void it_quotes_values_with_comma() throws IOException {
+                List<String> lines = lines(export(ExportFormat.CSV, ExportSheet.GENERAL, false));
+
+                assertTrue(lines.get(1).contains(",\"광주광역시 광산구 상무대로 312 동행관, 3층\","));
+            }
+        }
+
+        @Nested
+        @DisplayName("NDJSON 형식으로 시트를 지정하면")
+        class Context_with_ndjson_and_sheet {
+
+            @Test
+            @DisplayName("해당 시트의 지원자만 한 줄에 하나씩 JSON 객체로 쓴다.")
+            void it_writes_selected_sheet() throws IOException {
+                List<String> lines = lines(export(ExportFormat.NDJSON, ExportSheet.EXTRA, false));
+
+                assertEquals(2, lines.size());
+                JsonNode first = objectMapper.readTree(lines.get(0));
+                JsonNode second = objectMapper.readTree(lines.get(1));
+                assertEquals("1", first.get("순번").asText());
+                assertEquals("C-3", first.get("접수번호").asText());
+                assertEquals("국가보훈대상자", first.get("초기전형").asText());
+                assertEquals("2", second.get("순번").asText());
+                assertEquals("C-5", second.get("접수번호").asText());
+                assertEquals(ApplicantExportRowMapper.HEADER_NAMES.size(), first.size());
+
+                verify(oneseoRepository, never()).streamAllByScreeningWithAllDetails(Screening.GENERAL, false, null);
+                verify(oneseoRepository, never()).streamAllFailedWithAllDetails(null);
+            }
+        }
+
+        @Nested
+        @DisplayName("기준 시각을 지정하면")
+        class Context_with_changed_since {
+
+            private final LocalDateTime changedSince = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+            @BeforeEach
+            void setUp() {
+                given(oneseoRepository.streamAllFailedWithAllDetails(changedSince))
+                        .willReturn(Stream.of(createOneseo(6L, Screening.SPECIAL, "B-6", NO)));
+            }
+
+            @Test
+            @DisplayName("그 시각 이후에 바뀐 지원자만 조회하여 쓴다.")
+            void it_writes_changed_applicants_only() throws IOException {
+                List<String> lines = lines(export(ExportFormat.CSV, ExportSheet.FALLEN, changedSince, false));
+
+                assertEquals(2, lines.size());
+                assertTrue(lines.get(1).startsWith("1,B-6,"));
+                verify(oneseoRepository, never()).streamAllFailedWithAllDetails(null);
+            }
+        }
+
+        @Nested
+        @DisplayName("gzip 압축을 요청하면")
+        class Context_with_gzip {
+
+            @Test
+            @DisplayName("압축을 풀면 같은 CSV가 나오도록 쓴다.")
+            void it_writes_gzip() throws IOException {
+                byte[] content = export(ExportFormat.CSV, ExportSheet.FALLEN, true);
+
+                try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+                    List<String> lines = lines(inputStream.readAllBytes());
+                    assertEquals(2, lines.size());
+                    assertTrue(lines.get(1).startsWith("1,A-4,"));
+                }
+                verify(oneseoRepository, never()).streamAllByScreeningWithAllDetails(any(), anyBoolean(), any());
+            }
+        }
+    }
+
+    private Oneseo createOneseo(Long id, Screening screening, String submitCode, YesNo passYn) {
+        Member member = Member.builder().id(id).name("홍길동").sex(Sex.MALE).birth(LocalDate.of(2024, 7, 31))
+                .phoneNumber("01012345678").build();
+
+        DesiredMajors desiredMajors = DesiredMajors.builder().firstDesiredMajor(Major.AI).secondDesiredMajor(Major.SW)
+                .thirdDesiredMajor(Major.IOT).build();
+
+        EntranceTestFactorsDetail factorsDetail = EntranceTestFactorsDetail.builder().id(id)
+                .generalSubjectsScore(BigDecimal.valueOf(80)).artsPhysicalSubjectsScore(BigDecimal.valueOf(70))
+                .attendanceScore(BigDecimal.valueOf(60)).volunteerScore(BigDecimal.valueOf(50)).build();
+
+        EntranceTestResult entranceTestResult = EntranceTestResult.builder().id(id)
+                .entranceTestFactorsDetail(factorsDetail).documentEvaluationScore(BigDecimal.valueOf(80))
+                .firstTestPassYn(passYn).build();
+
+        OneseoPrivacyDetail privacyDetail = OneseoPrivacyDetail.builder().id(id).schoolName("광주소프트웨어마이스터고등학교")
+                .address("광주광역시 광산구 상무대로 312").schoolAddress("광주광역시 광산구 상무대로 312").detailAddress("동행관, 3층")
+                .guardianPhoneNumber("01087654321").schoolTeacherPhoneNumber("01012344321")
+                .graduationType(GraduationType.GRADUATE).studentNumber("30508").build();
+
+        return Oneseo.builder().id(id).member(member).oneseoSubmitCode(submitCode)
+                .examinationNumber(String.format("0%d%02d", id, id)).desiredMajors(desiredMajors)
+                .wantedScreening(screening).entranceTestResult(entranceTestResult).oneseoPrivacyDetail(privacyDetail)
+                .build();
+    }
+}
@@ -0,0 +1,212 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestAssignmentDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FinalTestDecisionDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.MajorAllocationResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+@DisplayName("FinalTestDecisionEngine 클래스의")
+public class FinalTestDecisionEngineTest {
+
+    private FinalTestCandidateDto candidate(long id, Screening screening, String finalScore, Major... desiredMajors) {
+        long rankKey = FirstTestDecisionEngine.toRankKey(finalScore == null ? null : new BigDecimal(finalScore));
+        return new FinalTestCandidateDto(id, id + 1000, screening, List.of(desiredMajors),
+                new long[]{rankKey, 0, 0, 0});
+    }
+
+    private Map<Long, Major> decidedMajors(FinalTestDecisionDto decision) {
+        Map<Long, Major> decidedMajors = new HashMap<>();
+        decision.passed().forEach(assignment -> decidedMajors.put(assignment.oneseoId(), assignment.decidedMajor()));
+        return decidedMajors;
+    }
+
+    private MajorAllocationResDto majorOf(FinalTestDecisionDto decision, Major major) {
+        return decision.majors().stream().filter(allocation -> allocation.major() == major).findFirst().orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("calculateFinalScore 메소드는")
+    class Describe_calculateFinalScore {
+
+        @Test
+        @DisplayName("서류 평가 1/3의 50%, 역량 평가 30%, 면접 20%를 더한 점수를 반환한다.")
+        void it_returns_weighted_score() {
+            BigDecimal finalScore = FinalTestDecisionEngine.calculateFinalScore(new BigDecimal("270"),
+                    new BigDecimal("80"), new BigDecimal("90"));
+
+            assertEquals(new BigDecimal("87.000"), finalScore);
+        }
+
+        @Test
+        @DisplayName("점수가 하나라도 없다면 null을 반환한다.")
+        void it_returns_null_without_score() {
+            assertNull(FinalTestDecisionEngine.calculateFinalScore(new BigDecimal("270"), null, BigDecimal.TEN));
+        }
+    }
+
+    @Nested
+    @DisplayName("decide 메소드는")
+    class Describe_decide {
+
+        @Nested
+        @DisplayName("전형별 합격 인원과 학과 정원이 주어지면")
+        class Context_with_quotas_and_capacities {
+
+            @Test
+            @DisplayName("전형별로 최종 점수가 높은 순으로 합격시킨다.")
+            void it_passes_top_candidates_per_screening() {
+                List<FinalTestCandidateDto> candidates = List.of(
+                        candidate(1L, Screening.GENERAL, "90", Major.SW, Major.AI, Major.IOT),
+                        candidate(2L, Screening.GENERAL, "80", Major.SW, Major.AI, Major.IOT),
+                        candidate(3L, Screening.SPECIAL, "70", Major.SW, Major.AI, Major.IOT));
+
+                FinalTestDecisionDto decision = FinalTestDecisionEngine.decide(candidates,
+                        Map.of(Screening.GENERAL, 1, Screening.SPECIAL, 1), Map.of(Major.SW, 2));
+
+                assertEquals(Map.of(1L, Major.SW, 3L, Major.SW), decidedMajors(decision));
+                assertEquals(List.of(2L), decision.failed().stream().map(FinalTestAssignmentDto::oneseoId).toList());
+            }
+
+            @Test
+            @DisplayName("최종 점수 순으로 1지망부터 정원이 남은 학과에 배정한다.")
+            void it_allocates_majors_in_score_order() {
+                List<FinalTestCandidateDto> candidates = List.of(
+                        candidate(1L, Screening.GENERAL, "70", Major.SW, Major.AI, Major.IOT),
+                        candidate(2L, Screening.GENERAL, "90", Major.SW, Major.IOT, Major.AI),
+                        candidate(3L, Screening.SPECIAL, "80", Major.SW, Major.AI, Major.IOT),
+                        candidate(4L, Screening.GENERAL, "60", Major.AI, Major.SW, Major.IOT));
+
+                FinalTestDecisionDto decision = FinalTestDecisionEngine.decide(candidates,
+                        Map.of(Screening.GENERAL, 3, Screening.SPECIAL, 1),
+                        Map.of(Major.SW, 2, Major.AI, 1, Major.IOT, 1));
+
+                assertEquals(Map.of(2L, Major.SW, 3L, Major.SW, 1L, Major.AI, 4L, Major.IOT), decidedMajors(decision));
+                assertEquals(2, majorOf(decision, Major.SW).firstChoiceCount());
+                assertEquals(0, majorOf(decision, Major.AI).firstChoiceCount());
+                assertEquals(new BigDecimal("80.000"), majorOf(decision, Major.SW).lowestFinalScore());
+                assertEquals(0, decision.unallocatedCount());
+            }
+        }
+
+        @Nested
+        @DisplayName("합격자 수가 학과 정원의 합보다 많다면")
+        class Context_with_insufficient_capacity {
+
+            @Test
+            @DisplayName("최종 점수가 가장 낮은 합격자를 학과 미배정으로 남긴다.")
+            void it_leaves_lowest_candidate_unallocated() {
+                List<FinalTestCandidateDto> candidates = List.of(
+                        candidate(1L, Screening.GENERAL, "90", Major.SW, Major.AI, Major.IOT),
+                        candidate(2L, Screening.GENERAL, "80", Major.SW, Major.AI, Major.IOT));
+
+                FinalTestDecisionDto decision = FinalTestDecisionEngine.decide(candidates,
+                        Map.of(Screening.GENERAL, 2), Map.of(Major.SW, 1));
+
+                assertEquals(1, decision.unallocatedCount());
+                assertNull(decidedMajors(decision).get(2L));
+            }
+        }
+
+        @Nested
+        @DisplayName("점수가 없는 1차 합격자가 있다면")
+        class Context_with_unscored_candidate {
+
+            @Test
+            @DisplayName("불합격시킨다.")
+            void it_fails_unscored_candidate() {
+                FinalTestDecisionDto decision = FinalTestDecisionEngine.decide(
+                        List.of(candidate(1L, Screening.GENERAL, null, Major.SW, Major.AI, Major.IOT)),
+                        Map.of(Screening.GENERAL, 1), Map.of(Major.SW, 1));
+
+                assertTrue(decision.passed().isEmpty());
+                assertEquals(1, decision.failed().size());
+            }
+        }
+
+        @Nested
+        @DisplayName("만 명의 지원자가 주어지면")
+        class Context_with_ten_thousand_candidates {
+
+            private static final int CANDIDATE_COUNT = 10_000;
+
+            private List<FinalTestCandidateDto> syntheticCandidates() {
+                Random random = new Random(25);
+                List<List<Major>> preferences = List.of(List.of(Major.SW, Major.AI, Major.IOT),
+                        List.of(Major.SW, Major.IOT, Major.AI), List.of(Major.AI, Major.SW, Major.IOT),
+                        List.of(Major.AI, Major.IOT, Major.SW), List.of(Major.IOT, Major.SW, Major.AI),
+                        List.of(Major.IOT, Major.AI, Major.SW));
+                Screening[] screenings = Screening.values();
+
+                List<FinalTestCandidateDto> candidates = new ArrayList<>(CANDIDATE_COUNT);
+                for (long id = 1; id <= CANDIDATE_COUNT; id++) {
+                    long[] rankKeys = {random.nextInt(100_000), random.nextInt(300_000), random.nextInt(100_000),
+                            random.nextInt(100_000)};
+                    candidates.add(new FinalTestCandidateDto(id, id, screenings[random.nextInt(screenings.length)],
+                            preferences.get(random.nextInt(preferences.size())), rankKeys));
+                }
+                return candidates;
+            }
+
+            @Test
+            @DisplayName("1초 안에 정원을 넘지 않고 점수가 높은 지원자가 원하는 학과를 빼앗기지 않도록 배정한다.")
+            void it_allocates_stably_within_time_limit() {
+                List<FinalTestCandidateDto> candidates = syntheticCandidates();
+                Map<Screening, Integer> quotas = Map.of(Screening.GENERAL, 2_000, Screening.SPECIAL, 1_000,
+                        Screening.EXTRA_VETERANS, 500, Screening.EXTRA_ADMISSION, 500);
+                Map<Major, Integer> capacities = Map.of(Major.SW, 2_000, Major.AI, 1_000, Major.IOT, 1_000);
+
+                FinalTestDecisionDto decision = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                        () -> FinalTestDecisionEngine.decide(candidates, quotas, capacities));
+
+                assertEquals(CANDIDATE_COUNT, decision.passed().size() + decision.failed().size());
+                assertEquals(0, decision.unallocatedCount());
+                decision.majors()
+                        .forEach(allocation -> assertTrue(allocation.allocatedCount() <= allocation.capacity()));
+                assertStable(candidates, decision, capacities);
+            }
+
+            // 더 원하는 학과에 자신보다 점수가 낮은 합격자가 배정되어 있다면 안정적인 배정이 아님
+            private void assertStable(List<FinalTestCandidateDto> candidates, FinalTestDecisionDto decision,
+                    Map<Major, Integer> capacities) {
+                Map<Long, FinalTestCandidateDto> byId = new HashMap<>();
+                candidates.forEach(candidate -> byId.put(candidate.oneseoId(), candidate));
+
+                Map<Major, long[]> lowestKeys = new EnumMap<>(Major.class);
+                for (FinalTestAssignmentDto assignment : decision.passed()) {
+                    long[] keys = byId.get(assignment.oneseoId()).rankKeys();
+                    lowestKeys.merge(assignment.decidedMajor(), keys,
+                            (current, next) -> Arrays.compare(current, next) <= 0 ? current : next);
+                }
+
+                for (FinalTestAssignmentDto assignment : decision.passed()) {
+                    FinalTestCandidateDto candidate = byId.get(assignment.oneseoId());
+                    for (Major preferred : candidate.desiredMajors()) {
+                        if (preferred == assignment.decidedMajor()) {
+                            break;
+                        }
+                        assertEquals(capacities.get(preferred), majorOf(decision, preferred).allocatedCount());
+                        assertTrue(Arrays.compare(lowestKeys.get(preferred), candidate.rankKeys()) >= 0);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestCandidateDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FirstTestDecisionDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ScreeningCutoffResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
+
+@DisplayName("FirstTestDecisionEngine 클래스의")
+public class FirstTestDecisionEngineTest {
+
+    private FirstTestCandidateDto candidate(long id, Screening screening, boolean arrived, String... scores) {
+        long[] rankKeys = Arrays.stream(scores)
+                .mapToLong(score -> FirstTestDecisionEngine.toRankKey(score == null ? null : new BigDecimal(score)))
+                .toArray();
+        return new FirstTestCandidateDto(id, screening, arrived, rankKeys);
+    }
+
+    private ScreeningCutoffResDto cutoffOf(FirstTestDecisionDto decision, Screening screening) {
+        return decision.cutoffs().stream().filter(cutoff -> cutoff.screening() == screening).findFirst().orElseThrow();
+    }
+
+    private List<Long> sorted(long[] ids) {
+        return Arrays.stream(ids).sorted().boxed().toList();
+    }
+
+    @Nested
+    @DisplayName("decide 메소드는")
+    class Describe_decide {
+
+        @Nested
+        @DisplayName("전형별 모집 인원이 주어지면")
+        class Context_with_quotas {
+
+            @Test
+            @DisplayName("전형마다 서류 평가 점수가 높은 순으로 모집 인원만큼 합격시킨다.")
+            void it_passes_top_candidates_per_screening() {
+                List<FirstTestCandidateDto> candidates = List.of(candidate(1L, Screening.GENERAL, true, "150.5"),
+                        candidate(2L, Screening.GENERAL, true, "170.25"), candidate(3L, Screening.GENERAL, true, "160"),
+                        candidate(4L, Screening.SPECIAL, true, "120"), candidate(5L, Screening.SPECIAL, true, "130"));
+
+                FirstTestDecisionDto decision = FirstTestDecisionEngine.decide(candidates,
+                        Map.of(Screening.GENERAL, 2, Screening.SPECIAL, 1), true);
+
+                assertEquals(List.of(2L, 3L, 5L), sorted(decision.passedIds()));
+                assertEquals(List.of(1L, 4L), sorted(decision.failedIds()));
+                assertEquals(new BigDecimal("160.000"), cutoffOf(decision, Screening.GENERAL).cutoffScore());
+                assertEquals(3, cutoffOf(decision, Screening.GENERAL).applicantCount());
+            }
+
+            @Test
+            @DisplayName("모집 인원이 없는 전형의 지원자는 모두 불합격시킨다.")
+            void it_fails_screening_without_quota() {
+                FirstTestDecisionDto decision = FirstTestDecisionEngine.decide(
+                        List.of(candidate(1L, Screening.EXTRA_VETERANS, true, "100")), Map.of(), true);
+
+                assertEquals(0, decision.passedIds().length);
+                assertNull(cutoffOf(decision, Screening.EXTRA_VETERANS).cutoffScore());
+            }
+        }
+
+        @Nested
+        @DisplayName("서류 평가 점수가 같은 지원자가 모집 인원 경계에 있다면")
+        class Context_with_tie_at_cutoff {
+
+            @Test
+            @DisplayName("동점 비교 점수가 높은 지원자를 합격시킨다.")
+            void it_breaks_tie_with_tie_breakers() {
+                List<FirstTestCandidateDto> candidates = List.of(candidate(1L, Screening.GENERAL, true, "150", "90"),
+                        candidate(2L, Screening.GENERAL, true, "150", "95"));
+
+                FirstTestDecisionDto decision = FirstTestDecisionEngine.decide(candidates,
+                        Map.of(Screening.GENERAL, 1), true);
+
+                assertEquals(List.of(2L), sorted(decision.passedIds()));
+                assertEquals(1, cutoffOf(decision, Screening.GENERAL).tiedAtCutoffCount());
+            }
+
+            @Test
+            @DisplayName("모든 점수가 같다면 모집 인원을 넘더라도 모두 합격시킨다.")
+            void it_passes_all_fully_tied_candidates() {
+                List<FirstTestCandidateDto> candidates = List.of(candidate(1L, Screening.GENERAL, true, "160", "90"),
+                        candidate(2L, Screening.GENERAL, true, "150", "90"),
+                        candidate(3L, Screening.GENERAL, true, "150", "90"),
+                        candidate(4L, Screening.GENERAL, true, "140", "90"));
+
+                FirstTestDecisionDto decision = FirstTestDecisionEngine.decide(candidates,
+                        Map.of(Screening.GENERAL, 2), true);
+
+                ScreeningCutoffResDto cutoff = cutoffOf(decision, Screening.GENERAL);
+                assertEquals(List.of(1L, 2L, 3L), sorted(decision.passedIds()));
+                assertEquals(3, cutoff.passCount());
+                assertEquals(2, cutoff.tiedAtCutoffCount());
+            }
+        }
+
+        @Nested
+        @DisplayName("실물 원서가 도착하지 않은 지원자가 있다면")
+        class Context_with_not_arrived_candidate {
+
+            @Test
+            @DisplayName("점수와 관계없이 불합격시키고 모집 인원에서 제외한다.")
+            void it_fails_not_arrived_candidate() {
+                List<FirstTestCandidateDto> candidates = List.of(candidate(1L, Screening.GENERAL, false, "190"),
+                        candidate(2L, Screening.GENERAL, true, "150"));
+
+                FirstTestDecisionDto decision = FirstTestDecisionEngine.decide(candidates,
+                        Map.of(Screening.GENERAL, 1), true);
+
+                assertEquals(List.of(2L), sorted(decision.passedIds()));
+                assertEquals(List.of(1L), sorted(decision.failedIds()));
+                assertEquals(1, cutoffOf(decision, Screening.GENERAL).applicantCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+
+@DisplayName("LocalScoreCalculatorService 클래스의")
+public class LocalScoreCalculatorServiceTest {
+
+    private final LocalScoreCalculatorService localScoreCalculatorService = new LocalScoreCalculatorService();
+
+    private LambdaScoreCalculatorReqDto buildReqDto(GraduationType graduationType, List<Integer> absentDays,
+            List<Integer> attendanceDays, BigDecimal gedAvgScore) {
+        return new LambdaScoreCalculatorReqDto(null, List.of(5, 5, 5, 5), List.of(4, 4, 4, 4), List.of(5, 0, 5),
+                List.of(3, 3), null, List.of("국어", "수학"), List.of(), List.of(5, 4, 3), List.of("체육", "미술", "음악"),
+                absentDays, attendanceDays, List.of(7, 6, 1), "자유학기제", null, gedAvgScore, graduationType);
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("자유학기제 졸업예정자의 성적이 주어지면")
+        class Context_with_candidate {
+
+            @Test
+            @DisplayName("학기별 배점과 출결, 봉사 점수를 환산해 반환한다.")
+            void it_returns_calculated_score() {
+                CalculatedScoreResDto result = localScoreCalculatorService.execute(buildReqDto(
+                        GraduationType.CANDIDATE, List.of(1, 0, 0), List.of(3, 0, 0, 0, 0, 0, 0, 0, 0), null));
+
+                assertEquals(new BigDecimal("18.000"), result.generalSubjectsScoreDetail().score1_2());
+                assertEquals(new BigDecimal("36.000"), result.generalSubjectsScoreDetail().score2_1());
+                assertEquals(new BigDecimal("45.000"), result.generalSubjectsScoreDetail().score2_2());
+                assertEquals(new BigDecimal("43.200"), result.generalSubjectsScoreDetail().score3_1());
+                assertEquals(new BigDecimal("0.000"), result.generalSubjectsScoreDetail().score3_2());
+                assertEquals(new BigDecimal("142.200"), result.generalSubjectsScore());
+                assertEquals(new BigDecimal("48.000"), result.artsPhysicalSubjectsScore());
+                assertEquals(new BigDecimal("190.200"), result.totalSubjectsScore());
+                assertEquals(new BigDecimal("24.000"), result.attendanceScore());
+                assertEquals(new BigDecimal("20.000"), result.volunteerScore());
+                assertEquals(new BigDecimal("234.200"), result.totalScore());
+            }
+        }
+
+        @Nested
+        @DisplayName("환산 결석일이 10일 이상이면")
+        class Context_with_too_many_absent_days {
+
+            @Test
+            @DisplayName("출결 점수를 0점으로 계산한다.")
+            void it_returns_zero_attendance_score() {
+                CalculatedScoreResDto result = localScoreCalculatorService.execute(buildReqDto(
+                        GraduationType.CANDIDATE, List.of(4, 4, 0), List.of(3, 3, 0, 0, 0, 0, 0, 0, 0), null));
+
+                assertEquals(new BigDecimal("0.000"), result.attendanceScore());
+            }
+        }
+
+        @Nested
+        @DisplayName("검정고시 지원자의 평균 점수가 주어지면")
+        class Context_with_ged {
+
+            @Test
+            @DisplayName("평균 점수로 교과, 봉사 점수를 환산하고 교과 상세 점수는 비워둔다.")
+            void it_returns_ged_score() {
+                CalculatedScoreResDto result = localScoreCalculatorService
+                        .execute(buildReqDto(GraduationType.GED, null, null, BigDecimal.valueOf(90)));
+
+                assertNull(result.generalSubjectsScore());
+                assertNull(result.generalSubjectsScoreDetail());
+                assertEquals(new BigDecimal("192.000"), result.totalSubjectsScore());
+                assertEquals(new BigDecimal("30.000"), result.attendanceScore());
+                assertEquals(new BigDecimal("24.000"), result.volunteerScore());
+                assertEquals(new BigDecimal("246.000"), result.totalScore());
+            }
+        }
+
+        @Nested
+        @DisplayName("검정고시 평균 점수가 없다면")
+        class Context_without_ged_avg_score {
+
+            @Test
+            @DisplayName("ExpectedException을 던진다.")
+            void it_throws_expected_exception() {
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> localScoreCalculatorService.execute(buildReqDto(GraduationType.GED, null, null, null)));
+
+                assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
 
 import java.math.BigDecimal;
 
@@ -62,7 +63,7 @@ public class ModifyCompetencyEvaluationScoreServiceTest {
 
                 Oneseo oneseo = Oneseo.builder().member(member).entranceTestResult(entranceTestResult).build();
 
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT)).willReturn(oneseo);
             }
 
             @Test
@@ -84,7 +85,7 @@ public class ModifyCompetencyEvaluationScoreServiceTest {
 
             @BeforeEach
             void setUp() {
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId))
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT))
                         .willThrow(new ExpectedException("존재하지 않는 지원자입니다. member ID: ", HttpStatus.NOT_FOUND));
             }
 
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -76,7 +77,8 @@ public class ModifyEntranceIntentionServiceTest {
                         oneseo = Oneseo.builder().member(member).decidedMajor(Major.SW).entranceIntentionYn(defaultYn)
                                 .build();
 
-                        given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
+                        given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT))
+                                .willReturn(oneseo);
                     }
 
                     @Test
@@ -104,7 +106,8 @@ public class ModifyEntranceIntentionServiceTest {
                         Oneseo oneseo = Oneseo.builder().member(member).decidedMajor(null) // 최종 합격하지 않은 상태
                                 .build();
 
-                        given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
+                        given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT))
+                                .willReturn(oneseo);
                     }
 
                     @Test
@@ -127,8 +130,9 @@ public class ModifyEntranceIntentionServiceTest {
 
                 @BeforeEach
                 void setUp() {
-                    given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willThrow(new ExpectedException(
-                            "해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId, HttpStatus.NOT_FOUND));
+                    given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT))
+                            .willThrow(new ExpectedException("해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId,
+                                    HttpStatus.NOT_FOUND));
                 }
 
                 @Test
@@ -151,7 +155,7 @@ public class ModifyEntranceIntentionServiceTest {
 
             @BeforeEach
             void setUp() {
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willThrow(
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT)).willThrow(
                         new ExpectedException("존재하지 않는 지원자입니다. member ID: " + memberId, HttpStatus.NOT_FOUND));
             }
 
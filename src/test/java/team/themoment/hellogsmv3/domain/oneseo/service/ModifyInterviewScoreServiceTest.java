@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
 
 import java.math.BigDecimal;
 
@@ -65,7 +66,7 @@ public class ModifyInterviewScoreServiceTest {
 
                 Oneseo oneseo = Oneseo.builder().member(member).entranceTestResult(entranceTestResult).build();
 
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT)).willReturn(oneseo);
             }
 
             @Test
@@ -91,7 +92,7 @@ public class ModifyInterviewScoreServiceTest {
 
             @BeforeEach
             void setUp() {
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId))
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT))
                         .willThrow(new ExpectedException("존재하지 않는 지원자입니다. member ID: ", HttpStatus.NOT_FOUND));
             }
 
@@ -114,7 +115,7 @@ public class ModifyInterviewScoreServiceTest {
 
             @BeforeEach
             void setUp() {
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willThrow(
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT)).willThrow(
                         new ExpectedException("해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId, HttpStatus.NOT_FOUND));
             }
 
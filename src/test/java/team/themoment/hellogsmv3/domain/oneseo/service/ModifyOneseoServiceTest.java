@@ -8,6 +8,7 @@ import static team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.Major.*;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening.GENERAL;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening.SPECIAL;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.ALL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -18,27 +19,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
 import team.themoment.hellogsmv3.domain.member.service.MemberService;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.MiddleSchoolAchievementReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoReqDto;
-import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.FoundOneseoResDto;
 import team.themoment.hellogsmv3.domain.oneseo.entity.*;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.DesiredMajors;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
-import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestFactorsDetailRepository;
-import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.MiddleSchoolAchievementRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoPrivacyDetailRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 import team.themoment.hellogsmv3.domain.oneseo.repository.ScreeningChangeHistoryRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
-import team.themoment.hellogsmv3.global.thirdParty.feign.client.lambda.LambdaScoreCalculatorClient;
 
 @DisplayName("ModifyOneseoService 클래스의")
 class ModifyOneseoServiceTest {
@@ -52,15 +52,15 @@ class ModifyOneseoServiceTest {
     @Mock
     private ScreeningChangeHistoryRepository screeningChangeHistoryRepository;
     @Mock
-    private EntranceTestResultRepository entranceTestResultRepository;
-    @Mock
-    private EntranceTestFactorsDetailRepository entranceTestFactorsDetailRepository;
-    @Mock
     private OneseoService oneseoService;
     @Mock
     private MemberService memberService;
     @Mock
-    private LambdaScoreCalculatorClient lambdaScoreCalculatorClient;
+    private ScoringOutboxService scoringOutboxService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private ModifyOneseoService modifyOneseoService;
@@ -128,24 +128,17 @@ class ModifyOneseoServiceTest {
             void it_modifies_and_saves_existing_entities() {
                 Member existingMember = mock(Member.class);
 
+                OneseoPrivacyDetail oneseoPrivacyDetail = OneseoPrivacyDetail.builder().id(1L).graduationType(CANDIDATE)
+                        .build();
+
+                MiddleSchoolAchievement middleSchoolAchievement = MiddleSchoolAchievement.builder().id(1L).build();
+
                 Oneseo oneseo = Oneseo.builder().id(1L).member(existingMember).desiredMajors(desiredMajors)
                         .entranceTestResult(EntranceTestResult.builder().firstTestPassYn(null).build())
+                        .oneseoPrivacyDetail(oneseoPrivacyDetail).middleSchoolAchievement(middleSchoolAchievement)
                         .wantedScreeningChangeHistory(new ArrayList<>()).build();
 
-                OneseoPrivacyDetail oneseoPrivacyDetail = OneseoPrivacyDetail.builder().id(1L).oneseo(oneseo)
-                        .graduationType(CANDIDATE).build();
-
-                MiddleSchoolAchievement middleSchoolAchievement = MiddleSchoolAchievement.builder().id(1L)
-                        .oneseo(oneseo).build();
-
-                CalculatedScoreResDto mockCalculatedScore = mock(CalculatedScoreResDto.class);
-
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
-                given(oneseoPrivacyDetailRepository.findByOneseo(oneseo)).willReturn(oneseoPrivacyDetail);
-                given(middleSchoolAchievementRepository.findByOneseo(oneseo)).willReturn(middleSchoolAchievement);
-                given(lambdaScoreCalculatorClient.calculateScore(any(LambdaScoreCalculatorReqDto.class)))
-                        .willReturn(mockCalculatedScore);
-                given(entranceTestResultRepository.findByOneseo(any(Oneseo.class))).willReturn(null);
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL)).willReturn(oneseo);
 
                 modifyOneseoService.execute(oneseoReqDto, memberId);
                 ArgumentCaptor<Oneseo> oneseoCaptor = ArgumentCaptor.forClass(Oneseo.class);
@@ -157,9 +150,8 @@ class ModifyOneseoServiceTest {
                 verify(oneseoRepository).save(oneseoCaptor.capture());
                 verify(oneseoPrivacyDetailRepository).save(oneseoPrivacyDetailCaptor.capture());
                 verify(middleSchoolAchievementRepository).save(middleSchoolAchievementCaptor.capture());
-                verify(lambdaScoreCalculatorClient).calculateScore(any(LambdaScoreCalculatorReqDto.class));
-                verify(entranceTestFactorsDetailRepository).save(any(EntranceTestFactorsDetail.class));
-                verify(entranceTestResultRepository).save(any(EntranceTestResult.class));
+                verify(scoringOutboxService).enqueueIfChanged(any(Oneseo.class),
+                        any(LambdaScoreCalculatorReqDto.class));
 
                 Oneseo capturedOneseo = oneseoCaptor.getValue();
                 OneseoPrivacyDetail capturedPrivacyDetail = oneseoPrivacyDetailCaptor.getValue();
@@ -172,7 +164,7 @@ class ModifyOneseoServiceTest {
                 assertEquals(screening, capturedOneseo.getWantedScreening());
 
                 assertEquals(oneseoPrivacyDetail.getId(), capturedPrivacyDetail.getId());
-                assertEquals(oneseoPrivacyDetail.getOneseo().getId(), capturedPrivacyDetail.getOneseo().getId());
+                assertEquals(oneseo.getId(), capturedPrivacyDetail.getOneseo().getId());
                 assertEquals(graduationType, capturedPrivacyDetail.getGraduationType());
                 assertEquals(graduationDate, capturedPrivacyDetail.getGraduationDate());
                 assertEquals(address, capturedPrivacyDetail.getAddress());
@@ -187,7 +179,7 @@ class ModifyOneseoServiceTest {
                 assertEquals(schoolTeacherPhoneNumber, capturedPrivacyDetail.getSchoolTeacherPhoneNumber());
 
                 assertEquals(middleSchoolAchievement.getId(), capturedAchievement.getId());
-                assertEquals(middleSchoolAchievement.getOneseo().getId(), capturedAchievement.getOneseo().getId());
+                assertEquals(oneseo.getId(), capturedAchievement.getOneseo().getId());
                 assertEquals(achievement, capturedAchievement.getAchievement1_2());
                 assertEquals(achievement, capturedAchievement.getAchievement2_1());
                 assertEquals(achievement, capturedAchievement.getAchievement2_2());
@@ -211,28 +203,24 @@ class ModifyOneseoServiceTest {
                 Screening beforeScreening = SPECIAL;
                 Screening afterScreening = GENERAL;
                 Member existingMember = mock(Member.class);
+                OneseoPrivacyDetail existingPrivacyDetail = mock(OneseoPrivacyDetail.class);
+                MiddleSchoolAchievement existingAchievement = mock(MiddleSchoolAchievement.class);
+
                 Oneseo oneseo = Oneseo.builder().id(1L).member(existingMember).wantedScreening(beforeScreening)
                         .desiredMajors(desiredMajors)
                         .entranceTestResult(EntranceTestResult.builder().firstTestPassYn(null).build())
+                        .oneseoPrivacyDetail(existingPrivacyDetail).middleSchoolAchievement(existingAchievement)
                         .wantedScreeningChangeHistory(new ArrayList<>()).build();
 
-                OneseoPrivacyDetail existingPrivacyDetail = mock(OneseoPrivacyDetail.class);
-                MiddleSchoolAchievement existingAchievement = mock(MiddleSchoolAchievement.class);
-
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
-                given(oneseoPrivacyDetailRepository.findByOneseo(oneseo)).willReturn(existingPrivacyDetail);
-                given(middleSchoolAchievementRepository.findByOneseo(oneseo)).willReturn(existingAchievement);
-                given(entranceTestResultRepository.findByOneseo(any(Oneseo.class))).willReturn(null);
-                CalculatedScoreResDto mockCalculatedScore = mock(CalculatedScoreResDto.class);
-                given(lambdaScoreCalculatorClient.calculateScore(any(LambdaScoreCalculatorReqDto.class)))
-                        .willReturn(mockCalculatedScore);
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL)).willReturn(oneseo);
 
                 modifyOneseoService.execute(oneseoReqDto, memberId);
                 ArgumentCaptor<WantedScreeningChangeHistory> screeningChangeHistoryArgumentCaptor = ArgumentCaptor
                         .forClass(WantedScreeningChangeHistory.class);
 
                 verify(screeningChangeHistoryRepository).save(screeningChangeHistoryArgumentCaptor.capture());
-                verify(lambdaScoreCalculatorClient).calculateScore(any(LambdaScoreCalculatorReqDto.class));
+                verify(scoringOutboxService).enqueueIfChanged(any(Oneseo.class),
+                        any(LambdaScoreCalculatorReqDto.class));
 
                 WantedScreeningChangeHistory capturedScreeningChangeHistory = screeningChangeHistoryArgumentCaptor
                         .getValue();
@@ -242,6 +230,69 @@ class ModifyOneseoServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("저장된 원서와 같은 내용으로 수정을 요청하면")
+        class Context_with_unchanged_request {
+
+            @BeforeEach
+            void setUp() {
+                // 한 번 수정하여 저장된 원서를 다시 조회한 것처럼 사용
+                Oneseo oneseo = Oneseo.builder().id(1L).member(mock(Member.class)).desiredMajors(desiredMajors)
+                        .entranceTestResult(EntranceTestResult.builder().firstTestPassYn(null).build())
+                        .oneseoPrivacyDetail(OneseoPrivacyDetail.builder().id(1L).build())
+                        .middleSchoolAchievement(MiddleSchoolAchievement.builder().id(1L).build())
+                        .wantedScreeningChangeHistory(new ArrayList<>()).build();
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL)).willReturn(oneseo);
+                modifyOneseoService.execute(oneseoReqDto, memberId);
+
+                ArgumentCaptor<Oneseo> oneseoCaptor = ArgumentCaptor.forClass(Oneseo.class);
+                verify(oneseoRepository).save(oneseoCaptor.capture());
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL))
+                        .willReturn(oneseoCaptor.getValue());
+
+                clearInvocations(oneseoRepository, oneseoPrivacyDetailRepository, middleSchoolAchievementRepository,
+                        screeningChangeHistoryRepository, oneseoService, applicationEventPublisher);
+            }
+
+            @Test
+            @DisplayName("엔티티를 저장하지 않고 변경 이벤트도 발행하지 않는다.")
+            void it_skips_saving_entities() {
+                FoundOneseoResDto result = modifyOneseoService.execute(oneseoReqDto, memberId);
+
+                verify(oneseoRepository, never()).save(any(Oneseo.class));
+                verify(oneseoPrivacyDetailRepository, never()).save(any(OneseoPrivacyDetail.class));
+                verify(middleSchoolAchievementRepository, never()).save(any(MiddleSchoolAchievement.class));
+                verify(oneseoService, never()).assignSubmitCode(any(Oneseo.class), any());
+                verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+
+                assertEquals(address, result.privacyDetail().address());
+                assertEquals(1.0, meterRegistry.counter(ModifyOneseoService.MODIFY_METRIC_NAME, "result", "unchanged")
+                        .count());
+            }
+
+            @Test
+            @DisplayName("인적 사항만 달라졌다면 인적 사항만 저장하고 성적 계산은 다시 요청하지 않는다.")
+            void it_saves_only_privacy_detail() {
+                String modifiedAddress = "광주광역시 광산구 송정동 상무대로 313";
+                OneseoReqDto modifiedReqDto = new OneseoReqDto(guardianName, guardianPhoneNumber,
+                        relationshipWithGuardian, profileImg, modifiedAddress, detailAddress, graduationType,
+                        schoolTeacherName, schoolTeacherPhoneNumber, firstDesiredMajor, secondDesiredMajor,
+                        thirdDesiredMajor, middleSchoolAchievementReqDto, schoolName, schoolAddress, screening,
+                        graduationDate, studentNumber);
+
+                FoundOneseoResDto result = modifyOneseoService.execute(modifiedReqDto, memberId);
+
+                verify(oneseoPrivacyDetailRepository).save(any(OneseoPrivacyDetail.class));
+                verify(oneseoRepository, never()).save(any(Oneseo.class));
+                verify(middleSchoolAchievementRepository, never()).save(any(MiddleSchoolAchievement.class));
+                verify(applicationEventPublisher).publishEvent(any(Object.class));
+
+                assertEquals(modifiedAddress, result.privacyDetail().address());
+                assertEquals(1.0, meterRegistry
+                        .counter(ModifyOneseoService.MODIFY_METRIC_NAME, "result", "scoring_skipped").count());
+            }
+        }
+
         @Nested
         @DisplayName("회원 ID가 유효하지 않으면")
         class Context_with_invalid_member_id {
@@ -249,7 +300,7 @@ class ModifyOneseoServiceTest {
             @BeforeEach
             void setUp() {
                 doThrow(new ExpectedException("해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId, HttpStatus.BAD_REQUEST))
-                        .when(oneseoService).findWithMemberByMemberIdOrThrow(memberId);
+                        .when(oneseoService).findWithMemberByMemberIdOrThrow(memberId, ALL);
             }
 
             @Test
@@ -269,7 +320,7 @@ class ModifyOneseoServiceTest {
             @BeforeEach
             void setUp() {
                 doThrow(new ExpectedException("해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId, HttpStatus.BAD_REQUEST))
-                        .when(oneseoService).findWithMemberByMemberIdOrThrow(memberId);
+                        .when(oneseoService).findWithMemberByMemberIdOrThrow(memberId, ALL);
             }
 
             @Test
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import team.themoment.hellogsmv3.domain.member.entity.Member;
@@ -36,6 +38,9 @@ public class ModifyRealOneseoArrivedYnServiceTest {
     @Mock
     private OneseoRepository oneseoRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private ModifyRealOneseoArrivedYnService modifyRealOneseoArrivedYnService;
 
@@ -63,7 +68,7 @@ public class ModifyRealOneseoArrivedYnServiceTest {
                 oneseo = Oneseo.builder().member(member).realOneseoArrivedYn(YesNo.NO)
                         .wantedScreening(Screening.GENERAL).entranceTestResult(entranceTestResult).build();
 
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT)).willReturn(oneseo);
                 given(oneseoRepository.save(oneseo)).willReturn(oneseo);
             }
 
@@ -85,7 +90,7 @@ public class ModifyRealOneseoArrivedYnServiceTest {
 
             @BeforeEach
             void setUp() {
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId))
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT))
                         .willThrow(new ExpectedException("존재하지 않는 지원자입니다. member ID: ", HttpStatus.NOT_FOUND));
             }
 
@@ -0,0 +1,290 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.OneseoDraftDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoTempReqDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
+
+@DisplayName("OneseoDraftService 클래스의")
+public class OneseoDraftServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String KEY = OneseoDraftService.KEY_PREFIX + MEMBER_ID;
+    private static final String GENERATION_KEY = OneseoDraftService.GENERATION_KEY_PREFIX + MEMBER_ID;
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private Cache oneseoCache;
+    private OneseoDraftService oneseoDraftService;
+
+    // Redis 해시와 세대 번호, 반영 스크립트를 흉내냄
+    private final Map<Object, Object> storedFields = new HashMap<>();
+    private final Map<String, String> generations = new HashMap<>();
+    private int flushScriptCalls;
+    private boolean redisDown;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class, withSettings().defaultAnswer(this::answerFlushScript));
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        oneseoCache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(hashOperations.entries(KEY)).willReturn(storedFields);
+        given(valueOperations.get(GENERATION_KEY)).willAnswer(invocation -> generations.get(GENERATION_KEY));
+        given(valueOperations.increment(GENERATION_KEY)).willAnswer(invocation -> {
+            long next = Long.parseLong(generations.getOrDefault(GENERATION_KEY, "0")) + 1;
+            generations.put(GENERATION_KEY, String.valueOf(next));
+            return next;
+        });
+        given(cacheManager.getCache(OneseoService.ONESEO_CACHE_VALUE)).willReturn(oneseoCache);
+
+        oneseoDraftService = new OneseoDraftService(redisTemplate, cacheManager, new ObjectMapper());
+    }
+
+    // execute(RedisScript, List, Object...)의 가변 인자는 펼쳐진 채로 전달됨
+    private Object answerFlushScript(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        if (!"execute".equals(invocation.getMethod().getName()) || args.length < 2
+                || !(args[0] instanceof RedisScript)) {
+            return RETURNS_DEFAULTS.answer(invocation);
+        }
+        flushScriptCalls++;
+        if (redisDown) {
+            throw new RedisConnectionFailureException("down");
+        }
+        List<?> keys = (List<?>) args[1];
+        String generation = generations.getOrDefault((String) keys.get(1), (String) args[4]);
+        if (!generation.equals(args[2])) {
+            return 0L;
+        }
+        for (int i = 5; i < args.length; i += 2) {
+            storedFields.put(args[i], args[i + 1]);
+        }
+        return 1L;
+    }
+
+    private void save(Integer step, OneseoTempReqDto reqDto, String... sentFields) {
+        oneseoDraftService.save(MEMBER_ID, step, reqDto, Set.of(sentFields));
+    }
+
+    private void saveGuardianSection(String guardianName) {
+        save(1, OneseoTempReqDto.builder().guardianName(guardianName).relationshipWithGuardian("모").build(),
+                "guardianName", "relationshipWithGuardian");
+    }
+
+    private void saveMajorSection(Major firstDesiredMajor) {
+        save(2, OneseoTempReqDto.builder().firstDesiredMajor(firstDesiredMajor).build(), "firstDesiredMajor");
+    }
+
+    @Nested
+    @DisplayName("save 메소드는")
+    class Describe_save {
+
+        @Nested
+        @DisplayName("짧은 시간 동안 여러 번 임시 저장하면")
+        class Context_with_bursty_autosaves {
+
+            @Test
+            @DisplayName("Redis에 바로 쓰지 않고 반영 주기에 한 번만 쓴다.")
+            void it_coalesces_writes() {
+                saveGuardianSection("김보호");
+                saveGuardianSection("이보호");
+                saveMajorSection(Major.AI);
+                assertEquals(0, flushScriptCalls);
+
+                oneseoDraftService.flush();
+                oneseoDraftService.flush();
+
+                assertEquals(1, flushScriptCalls);
+                verify(oneseoCache).evict(MEMBER_ID);
+                assertEquals("2", storedFields.get(OneseoDraftService.STEP_FIELD));
+                assertFalse(((String) storedFields.get("1")).contains("firstDesiredMajor"));
+                assertTrue(((String) storedFields.get("1")).contains("이보호"));
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis 반영이 실패하면")
+        class Context_with_redis_failure {
+
+            @Test
+            @DisplayName("다음 반영 주기에 다시 시도한다.")
+            void it_retries_on_next_flush() {
+                redisDown = true;
+                saveGuardianSection("김보호");
+
+                oneseoDraftService.flush();
+                oneseoDraftService.flush();
+
+                assertEquals(2, flushScriptCalls);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("delete 메소드는")
+    class Describe_delete {
+
+        @Nested
+        @DisplayName("아직 반영하지 않은 임시 저장 내용이 있으면")
+        class Context_with_pending_draft {
+
+            @Test
+            @DisplayName("Redis 해시와 함께 삭제하여 이후 반영 주기에 다시 쓰지 않는다.")
+            void it_deletes_pending_and_stored_draft() {
+                saveGuardianSection("김보호");
+
+                oneseoDraftService.delete(MEMBER_ID);
+                oneseoDraftService.flush();
+
+                verify(redisTemplate).delete(KEY);
+                assertEquals(0, flushScriptCalls);
+            }
+        }
+
+        @Nested
+        @DisplayName("다른 서버에 삭제 전에 모인 임시 저장 내용이 있으면")
+        class Context_with_pending_draft_on_other_server {
+
+            @Test
+            @DisplayName("세대 번호가 바뀌었으므로 그 서버가 나중에 반영해도 다시 쓰지 않는다.")
+            void it_discards_stale_flush() {
+                OneseoDraftService otherServer = new OneseoDraftService(redisTemplate, mock(CacheManager.class),
+                        new ObjectMapper());
+                otherServer.save(MEMBER_ID, 1, OneseoTempReqDto.builder().guardianName("김보호").build(),
+                        Set.of("guardianName"));
+
+                oneseoDraftService.delete(MEMBER_ID);
+                otherServer.flush();
+
+                assertEquals(1, flushScriptCalls);
+                assertTrue(storedFields.isEmpty());
+                verify(redisTemplate).expire(GENERATION_KEY, Duration.ofDays(4L));
+            }
+        }
+
+        @Nested
+        @DisplayName("삭제한 뒤 다시 임시 저장하면")
+        class Context_with_save_after_delete {
+
+            @Test
+            @DisplayName("새 세대 번호로 반영한다.")
+            void it_flushes_with_new_generation() {
+                oneseoDraftService.delete(MEMBER_ID);
+                saveGuardianSection("김보호");
+
+                oneseoDraftService.flush();
+
+                assertTrue(((String) storedFields.get("1")).contains("김보호"));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("find 메소드는")
+    class Describe_find {
+
+        @Nested
+        @DisplayName("단계별로 임시 저장한 내용이 있다면")
+        class Context_with_draft_steps {
+
+            @Test
+            @DisplayName("Redis와 아직 반영하지 않은 내용을 합쳐 반환한다.")
+            void it_merges_steps() throws Exception {
+                ObjectMapper objectMapper = new ObjectMapper();
+                storedFields.put("1", objectMapper.writeValueAsString(
+                        OneseoTempReqDto.builder().guardianName("김보호").relationshipWithGuardian("모").build()));
+                storedFields.put(OneseoDraftService.STEP_FIELD, "1");
+                saveMajorSection(Major.IOT);
+
+                OneseoDraftDto draft = oneseoDraftService.find(MEMBER_ID).orElseThrow();
+
+                assertEquals("김보호", draft.reqDto().guardianName());
+                assertEquals(Major.IOT, draft.reqDto().firstDesiredMajor());
+                assertEquals(2, draft.step());
+            }
+        }
+
+        @Nested
+        @DisplayName("이전 단계로 돌아가 전체 내용을 다시 저장했다면")
+        class Context_with_revisited_step {
+
+            @Test
+            @DisplayName("마지막으로 저장한 단계의 내용을 우선한다.")
+            void it_applies_last_step_last() {
+                save(2, OneseoTempReqDto.builder().guardianName("김보호").firstDesiredMajor(Major.SW).build(),
+                        "guardianName", "firstDesiredMajor");
+                saveGuardianSection("이보호");
+
+                OneseoDraftDto draft = oneseoDraftService.find(MEMBER_ID).orElseThrow();
+
+                assertEquals("이보호", draft.reqDto().guardianName());
+                assertEquals(Major.SW, draft.reqDto().firstDesiredMajor());
+                assertEquals(1, draft.step());
+            }
+        }
+
+        @Nested
+        @DisplayName("나중 단계에서 앞 단계의 값을 null로 보냈다면")
+        class Context_with_explicit_null {
+
+            @Test
+            @DisplayName("앞 단계에서 저장한 값을 비운다.")
+            void it_clears_field() {
+                saveGuardianSection("김보호");
+                save(2, OneseoTempReqDto.builder().firstDesiredMajor(Major.AI).build(), "firstDesiredMajor",
+                        "guardianName");
+                oneseoDraftService.flush();
+
+                OneseoDraftDto draft = oneseoDraftService.find(MEMBER_ID).orElseThrow();
+
+                assertNull(draft.reqDto().guardianName());
+                assertEquals("모", draft.reqDto().relationshipWithGuardian());
+                assertEquals(Major.AI, draft.reqDto().firstDesiredMajor());
+            }
+        }
+
+        @Nested
+        @DisplayName("임시 저장한 내용이 없다면")
+        class Context_without_draft {
+
+            @Test
+            @DisplayName("빈 결과를 반환한다.")
+            void it_returns_empty() {
+                assertTrue(oneseoDraftService.find(MEMBER_ID).isEmpty());
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.NO;
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.OneseoFacetDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.OneseoFacetCountResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.OneseoFacetCountsResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoFacetJdbcRepository;
+
+@DisplayName("OneseoFacetCountService 클래스의")
+public class OneseoFacetCountServiceTest {
+
+    private OneseoFacetJdbcRepository oneseoFacetJdbcRepository;
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private ValueOperations<String, String> valueOperations;
+    private SetOperations<String, String> setOperations;
+    private OneseoFacetCountService oneseoFacetCountService;
+
+    private final OneseoFacetDto firstPassed = new OneseoFacetDto(ScreeningCategory.GENERAL, YES, YES, NO);
+    private final OneseoFacetDto firstFailed = new OneseoFacetDto(ScreeningCategory.GENERAL, YES, NO, null);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        oneseoFacetJdbcRepository = mock(OneseoFacetJdbcRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        setOperations = mock(SetOperations.class);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+
+        oneseoFacetCountService = new OneseoFacetCountService(oneseoFacetJdbcRepository, redisTemplate,
+                new SimpleMeterRegistry());
+    }
+
+    private long countOf(OneseoFacetCountsResDto result, TestResultTag testResultTag) {
+        return result.facets().stream()
+                .filter(facet -> facet.screeningCategory() == ScreeningCategory.GENERAL
+                        && facet.realOneseoArrivedYn() == YES && facet.testResultTag() == testResultTag)
+                .mapToLong(OneseoFacetCountResDto::count).sum();
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @BeforeEach
+        void setUp() {
+            given(hashOperations.entries(OneseoFacetCountService.COUNTS_KEY))
+                    .willReturn(Map.of(firstPassed.key(), "3", firstFailed.key(), "2"));
+        }
+
+        @Test
+        @DisplayName("Redis에 저장된 집계로 합격 여부 태그별 원서 수를 합산한다")
+        void it_sums_counts_by_test_result_tag() {
+            OneseoFacetCountsResDto result = oneseoFacetCountService.execute();
+
+            assertEquals(ScreeningCategory.values().length * 2 * TestResultTag.values().length,
+                    result.facets().size());
+            assertEquals(5L, countOf(result, TestResultTag.ALL));
+            assertEquals(3L, countOf(result, TestResultTag.FIRST_PASS));
+            assertEquals(0L, countOf(result, TestResultTag.FINAL_PASS));
+            assertEquals(5L, countOf(result, TestResultTag.FALL));
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile 메소드는")
+    class Describe_reconcile {
+
+        @BeforeEach
+        void setUp() {
+            given(oneseoFacetJdbcRepository.countAll()).willReturn(Map.of(firstPassed, 1L));
+            given(oneseoFacetJdbcRepository.findAll()).willReturn(Map.of(1L, firstPassed));
+            given(valueOperations.setIfAbsent(eq(OneseoFacetCountService.RECONCILE_LOCK_KEY), anyString(),
+                    any(Duration.class))).willReturn(true);
+        }
+
+        @Nested
+        @DisplayName("Redis 집계가 DB와 같다면")
+        class Context_with_matching_counts {
+
+            @Test
+            @DisplayName("다시 집계하지 않는다")
+            void it_keeps_counts() {
+                given(hashOperations.entries(OneseoFacetCountService.COUNTS_KEY))
+                        .willReturn(Map.of(firstPassed.key(), "1", firstFailed.key(), "0"));
+
+                oneseoFacetCountService.reconcile();
+
+                verify(oneseoFacetJdbcRepository, never()).findAll();
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis 집계가 DB와 다르다면")
+        class Context_with_mismatched_counts {
+
+            @Test
+            @DisplayName("임시 키에 다시 집계한 뒤 교체한다")
+            void it_rebuilds_counts() {
+                given(hashOperations.entries(OneseoFacetCountService.COUNTS_KEY))
+                        .willReturn(Map.of(firstFailed.key(), "1"));
+
+                oneseoFacetCountService.reconcile();
+
+                verify(hashOperations).putAll(eq(OneseoFacetCountService.MEMBERS_KEY + ":rebuild"), anyMap());
+                verify(hashOperations).putAll(eq(OneseoFacetCountService.COUNTS_KEY + ":rebuild"), anyMap());
+                verify(redisTemplate).execute(any(RedisScript.class),
+                        eq(List.of(OneseoFacetCountService.MEMBERS_KEY,
+                                OneseoFacetCountService.MEMBERS_KEY + ":rebuild", OneseoFacetCountService.COUNTS_KEY,
+                                OneseoFacetCountService.COUNTS_KEY + ":rebuild")));
+                verify(redisTemplate).delete(OneseoFacetCountService.REBUILDING_KEY);
+            }
+        }
+
+        @Nested
+        @DisplayName("다시 집계하는 동안 원서가 바뀐 회원이 있다면")
+        class Context_with_members_changed_during_rebuild {
+
+            @Test
+            @DisplayName("교체한 뒤 해당 회원의 원서를 다시 옮긴다")
+            void it_reapplies_changed_members() {
+                given(hashOperations.entries(OneseoFacetCountService.COUNTS_KEY))
+                        .willReturn(Map.of(firstFailed.key(), "1"));
+                given(setOperations.members(OneseoFacetCountService.CHANGED_MEMBERS_KEY)).willReturn(Set.of("2"));
+                given(oneseoFacetJdbcRepository.findByMemberId(2L)).willReturn(Optional.of(firstFailed));
+
+                oneseoFacetCountService.reconcile();
+
+                verify(redisTemplate).execute(any(RedisScript.class),
+                        eq(List.of(OneseoFacetCountService.COUNTS_KEY, OneseoFacetCountService.MEMBERS_KEY,
+                                OneseoFacetCountService.REBUILDING_KEY, OneseoFacetCountService.CHANGED_MEMBERS_KEY)),
+                        eq("2"), eq(firstFailed.key()));
+            }
+        }
+
+        @Nested
+        @DisplayName("다른 서버가 비교하는 중이라면")
+        class Context_with_lock_held_by_other_server {
+
+            @Test
+            @DisplayName("DB와 비교하지 않는다")
+            void it_skips_reconcile() {
+                given(valueOperations.setIfAbsent(eq(OneseoFacetCountService.RECONCILE_LOCK_KEY), anyString(),
+                        any(Duration.class))).willReturn(false);
+
+                oneseoFacetCountService.reconcile();
+
+                verify(oneseoFacetJdbcRepository, never()).countAll();
+                verify(oneseoFacetJdbcRepository, never()).findAll();
+            }
+        }
+
+        @Nested
+        @DisplayName("비교하는 동안 다른 서버가 비교를 요청했다면")
+        class Context_with_reconcile_requested_during_compare {
+
+            @Test
+            @DisplayName("잠금을 놓지 않고 다시 비교한다")
+            void it_compares_again() {
+                given(hashOperations.entries(OneseoFacetCountService.COUNTS_KEY))
+                        .willReturn(Map.of(firstPassed.key(), "1"));
+                given(redisTemplate.execute(any(RedisScript.class),
+                        eq(List.of(OneseoFacetCountService.RECONCILE_LOCK_KEY,
+                                OneseoFacetCountService.RECONCILE_REQUESTED_KEY)),
+                        anyString(), anyString())).willReturn(-1L, 1L);
+
+                oneseoFacetCountService.reconcile();
+
+                verify(oneseoFacetJdbcRepository, times(2)).countAll();
+                verify(redisTemplate, times(2)).delete(OneseoFacetCountService.RECONCILE_REQUESTED_KEY);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("requestReconcile 메소드는")
+    class Describe_requestReconcile {
+
+        @Nested
+        @DisplayName("다른 서버가 비교하는 중이라면")
+        class Context_with_lock_held_by_other_server {
+
+            @Test
+            @DisplayName("그 서버가 다시 비교하도록 요청을 남긴다")
+            void it_leaves_request() {
+                given(valueOperations.setIfAbsent(eq(OneseoFacetCountService.RECONCILE_LOCK_KEY), anyString(),
+                        any(Duration.class))).willReturn(false);
+
+                oneseoFacetCountService.requestReconcile();
+
+                verify(valueOperations).set(OneseoFacetCountService.RECONCILE_REQUESTED_KEY, "1");
+                verify(oneseoFacetJdbcRepository, never()).countAll();
+            }
+        }
+    }
+}
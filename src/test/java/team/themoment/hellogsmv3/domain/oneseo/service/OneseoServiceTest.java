@@ -1,17 +1,21 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType.CANDIDATE;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType.GED;
 import static team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening.*;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.MEMBER_AND_RESULT;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,12 +27,13 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 
 import team.themoment.hellogsmv3.domain.member.entity.Member;
-import team.themoment.hellogsmv3.domain.oneseo.dto.internal.FoundMemberAndOneseoDto;
+import team.themoment.hellogsmv3.domain.member.repository.MemberRepository;
 import team.themoment.hellogsmv3.domain.oneseo.dto.internal.MiddleSchoolAchievementCalcDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.MiddleSchoolAchievementReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.entity.Oneseo;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
 import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 
@@ -38,6 +43,12 @@ public class OneseoServiceTest {
     @Mock
     private OneseoRepository oneseoRepository;
 
+    @Mock
+    private SubmitCodeAllocator submitCodeAllocator;
+
+    @Mock
+    private MemberRepository memberRepository;
+
     @InjectMocks
     private OneseoService oneseoService;
 
@@ -60,15 +71,16 @@ public class OneseoServiceTest {
 
             @BeforeEach
             void setUp() {
-                FoundMemberAndOneseoDto queryResult = new FoundMemberAndOneseoDto(member, oneseo);
-                given(oneseoRepository.findMemberAndOneseoByMemberId(memberId)).willReturn(queryResult);
+                given(oneseoRepository.findByMemberIdWithFetchPlan(memberId, MEMBER_AND_RESULT))
+                        .willReturn(Optional.of(oneseo));
             }
 
             @Test
-            @DisplayName("Oneseo 객체를 반환한다.")
+            @DisplayName("회원 존재 여부를 따로 조회하지 않고 Oneseo 객체를 반환한다.")
             void it_returns_oneseo() {
-                Oneseo foundOneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId);
+                Oneseo foundOneseo = oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT);
                 assertEquals(oneseo, foundOneseo);
+                verify(memberRepository, never()).existsById(memberId);
             }
         }
 
@@ -78,15 +90,16 @@ public class OneseoServiceTest {
 
             @BeforeEach
             void setUp() {
-                FoundMemberAndOneseoDto queryResult = new FoundMemberAndOneseoDto(null, null);
-                given(oneseoRepository.findMemberAndOneseoByMemberId(memberId)).willReturn(queryResult);
+                given(oneseoRepository.findByMemberIdWithFetchPlan(memberId, MEMBER_AND_RESULT))
+                        .willReturn(Optional.empty());
+                given(memberRepository.existsById(memberId)).willReturn(false);
             }
 
             @Test
             @DisplayName("ExpectedException을 던진다.")
             void it_throws_expected_exception_for_non_existing_member() {
                 ExpectedException exception = assertThrows(ExpectedException.class,
-                        () -> oneseoService.findWithMemberByMemberIdOrThrow(memberId));
+                        () -> oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT));
 
                 assertEquals("존재하지 않는 지원자입니다. member ID: " + memberId, exception.getMessage());
                 assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
@@ -99,15 +112,16 @@ public class OneseoServiceTest {
 
             @BeforeEach
             void setUp() {
-                FoundMemberAndOneseoDto queryResult = new FoundMemberAndOneseoDto(member, null);
-                given(oneseoRepository.findMemberAndOneseoByMemberId(memberId)).willReturn(queryResult);
+                given(oneseoRepository.findByMemberIdWithFetchPlan(memberId, MEMBER_AND_RESULT))
+                        .willReturn(Optional.empty());
+                given(memberRepository.existsById(memberId)).willReturn(true);
             }
 
             @Test
             @DisplayName("ExpectedException을 던진다.")
             void it_throws_expected_exception_for_non_existing_oneseo() {
                 ExpectedException exception = assertThrows(ExpectedException.class,
-                        () -> oneseoService.findWithMemberByMemberIdOrThrow(memberId));
+                        () -> oneseoService.findWithMemberByMemberIdOrThrow(memberId, MEMBER_AND_RESULT));
 
                 assertEquals("해당 지원자의 원서를 찾을 수 없습니다. member ID: " + memberId, exception.getMessage());
                 assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
@@ -224,7 +238,6 @@ public class OneseoServiceTest {
     @DisplayName("assignSubmitCode 메소드는")
     class Describe_assignSubmitCode {
 
-        private final int maxSubmitCodeNumber = 10;
         private final Oneseo oneseo = mock(Oneseo.class);
 
         @Nested
@@ -234,15 +247,31 @@ public class OneseoServiceTest {
             @BeforeEach
             void setUp() {
                 given(oneseo.getWantedScreening()).willReturn(GENERAL);
-                given(oneseoRepository.findMaxSubmitCodeByScreening(oneseo.getWantedScreening().getScreeningCategory()))
-                        .willReturn(maxSubmitCodeNumber);
+                given(submitCodeAllocator.allocate(ScreeningCategory.GENERAL)).willReturn("A-11");
             }
 
             @Test
-            @DisplayName("A-N 번대의 접수번호가 생성된다.")
+            @DisplayName("일반전형 분류로 발급한 접수번호가 지정된다.")
             void it_returns_oneseo() {
                 oneseoService.assignSubmitCode(oneseo, null);
-                verify(oneseo).setOneseoSubmitCode("A-" + (maxSubmitCodeNumber + 1));
+                verify(oneseo).setOneseoSubmitCode("A-11");
+            }
+        }
+
+        @Nested
+        @DisplayName("지원 전형이 바뀌지 않은 원서가 주어지면")
+        class Context_with_same_screening {
+
+            @BeforeEach
+            void setUp() {
+                given(oneseo.getWantedScreening()).willReturn(GENERAL);
+            }
+
+            @Test
+            @DisplayName("접수번호를 새로 발급하지 않는다.")
+            void it_keeps_submit_code() {
+                oneseoService.assignSubmitCode(oneseo, GENERAL);
+                verify(submitCodeAllocator, never()).allocate(any(ScreeningCategory.class));
             }
         }
     }
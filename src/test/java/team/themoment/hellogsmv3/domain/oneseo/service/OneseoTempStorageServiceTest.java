@@ -1,23 +1,34 @@
 package team.themoment.hellogsmv3.domain.oneseo.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.validation.Validation;
 import team.themoment.hellogsmv3.domain.member.entity.Member;
 import team.themoment.hellogsmv3.domain.member.entity.type.Sex;
 import team.themoment.hellogsmv3.domain.member.service.MemberService;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.OneseoDraftDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.MiddleSchoolAchievementReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.request.OneseoTempReqDto;
 import team.themoment.hellogsmv3.domain.oneseo.dto.response.FoundOneseoResDto;
@@ -33,38 +44,47 @@ public class OneseoTempStorageServiceTest {
     private MemberService memberService;
     @Mock
     private OneseoRepository oneseoRepository;
-    @InjectMocks
+    @Mock
+    private OneseoDraftService oneseoDraftService;
     private OneseoTempStorageService oneseoTempStorageService;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Long memberId = 1L;
+    private final Integer step = 1;
+    private final OneseoTempReqDto reqDto = OneseoTempReqDto.builder()
+            // 필요한 필드를 설정
+            .graduationType(GraduationType.GRADUATE).graduationDate("2024-01").address("광주광역시 광산구 송정동 상무대로 312")
+            .detailAddress("101동 1001호").guardianName("김보호").guardianPhoneNumber("01012345678")
+            .relationshipWithGuardian("모").schoolName("금호중앙중학교").schoolAddress("광주광역시 북구 운암2동 금호로 100")
+            .schoolTeacherName("김선생").schoolTeacherPhoneNumber("01012345678")
+            .profileImg("https://example.com/image.jpg")
+            .middleSchoolAchievement(MiddleSchoolAchievementReqDto.builder().achievement1_2(null)
+                    .achievement2_1(List.of(4, 5, 3, 5, 4, 5, 3, 5, 2))
+                    .achievement2_2(List.of(5, 2, 5, 5, 4, 1, 5, 5, 0))
+                    .achievement3_1(List.of(3, 5, 3, 5, 1, 3, 5, 2, 0)).achievement3_2(null)
+                    .generalSubjects(List.of("국어", "도덕", "사회", "역사", "수학", "과학", "기술가정", "영어"))
+                    .newSubjects(List.of("프로그래밍")).artsPhysicalAchievement(List.of(5, 4, 5, 3, 5, 0, 5, 3, 5))
+                    .artsPhysicalSubjects(List.of("체육", "미술", "음악")).absentDays(List.of(2, 0, 0))
+                    .attendanceDays(List.of(0, 4, 0, 0, 0, 0, 0, 0, 0)).volunteerTime(List.of(7, 3, 4))
+                    .liberalSystem("자유학년제").freeSemester(null).gedAvgScore(null).build())
+            .firstDesiredMajor(Major.SW).secondDesiredMajor(Major.AI).thirdDesiredMajor(Major.IOT).build();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        oneseoTempStorageService = new OneseoTempStorageService(memberService, oneseoRepository, oneseoDraftService,
+                objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    private ObjectNode body(OneseoTempReqDto reqDto) {
+        return objectMapper.valueToTree(reqDto);
     }
 
     @Nested
     @DisplayName("execute 메소드는")
     class Describe_execute {
 
-        private final Long memberId = 1L;
-        private final Integer step = 1;
-        private final OneseoTempReqDto reqDto = OneseoTempReqDto.builder()
-                // 필요한 필드를 설정
-                .graduationType(GraduationType.GRADUATE).graduationDate("2024-01").address("광주광역시 광산구 송정동 상무대로 312")
-                .detailAddress("101동 1001호").guardianName("김보호").guardianPhoneNumber("01012345678")
-                .relationshipWithGuardian("모").schoolName("금호중앙중학교").schoolAddress("광주광역시 북구 운암2동 금호로 100")
-                .schoolTeacherName("김선생").schoolTeacherPhoneNumber("01012345678")
-                .profileImg("https://example.com/image.jpg")
-                .middleSchoolAchievement(MiddleSchoolAchievementReqDto.builder().achievement1_2(null)
-                        .achievement2_1(List.of(4, 5, 3, 5, 4, 5, 3, 5, 2))
-                        .achievement2_2(List.of(5, 2, 5, 5, 4, 1, 5, 5, 0))
-                        .achievement3_1(List.of(3, 5, 3, 5, 1, 3, 5, 2, 0)).achievement3_2(null)
-                        .generalSubjects(List.of("국어", "도덕", "사회", "역사", "수학", "과학", "기술가정", "영어"))
-                        .newSubjects(List.of("프로그래밍")).artsPhysicalAchievement(List.of(5, 4, 5, 3, 5, 0, 5, 3, 5))
-                        .artsPhysicalSubjects(List.of("체육", "미술", "음악")).absentDays(List.of(2, 0, 0))
-                        .attendanceDays(List.of(0, 4, 0, 0, 0, 0, 0, 0, 0)).volunteerTime(List.of(7, 3, 4))
-                        .liberalSystem("자유학년제").freeSemester(null).gedAvgScore(null).build())
-                .firstDesiredMajor(Major.SW).secondDesiredMajor(Major.AI).thirdDesiredMajor(Major.IOT).build();
-
         @Nested
         @DisplayName("존재하는 회원 ID가 주어지고")
         class Context_with_existing_member_id {
@@ -87,63 +107,36 @@ public class OneseoTempStorageServiceTest {
                 }
 
                 @Test
-                @DisplayName("FoundOneseoResDto를 반환한다.")
-                void it_returns_found_oneseo_res_dto() {
-                    FoundOneseoResDto result = oneseoTempStorageService.execute(reqDto, step, memberId);
-                    assertDto(result);
+                @DisplayName("요청 내용을 해당 단계의 임시 저장 내용으로 저장한다.")
+                void it_saves_draft_step() {
+                    oneseoTempStorageService.execute(body(reqDto), step, memberId);
+
+                    verify(oneseoDraftService).save(eq(memberId), eq(step), eq(reqDto), anySet());
                 }
 
-                private void assertDto(FoundOneseoResDto resDto) {
-                    assertNull(resDto.oneseoId());
-                    assertNull(resDto.submitCode());
-                    assertEquals(reqDto.screening(), resDto.wantedScreening());
-                    assertEquals(reqDto.firstDesiredMajor(), resDto.desiredMajors().firstDesiredMajor());
-                    assertEquals(reqDto.secondDesiredMajor(), resDto.desiredMajors().secondDesiredMajor());
-                    assertEquals(reqDto.thirdDesiredMajor(), resDto.desiredMajors().thirdDesiredMajor());
-                    assertEquals(reqDto.graduationType(), resDto.privacyDetail().graduationType());
-                    assertEquals(reqDto.graduationDate(), resDto.privacyDetail().graduationDate());
-                    assertEquals(reqDto.address(), resDto.privacyDetail().address());
-                    assertEquals(reqDto.detailAddress(), resDto.privacyDetail().detailAddress());
-                    assertEquals(reqDto.guardianName(), resDto.privacyDetail().guardianName());
-                    assertEquals(reqDto.guardianPhoneNumber(), resDto.privacyDetail().guardianPhoneNumber());
-                    assertEquals(reqDto.relationshipWithGuardian(), resDto.privacyDetail().relationshipWithGuardian());
-                    assertEquals(reqDto.schoolName(), resDto.privacyDetail().schoolName());
-                    assertEquals(reqDto.schoolAddress(), resDto.privacyDetail().schoolAddress());
-                    assertEquals(reqDto.schoolTeacherName(), resDto.privacyDetail().schoolTeacherName());
-                    assertEquals(reqDto.schoolTeacherPhoneNumber(), resDto.privacyDetail().schoolTeacherPhoneNumber());
-                    assertEquals(reqDto.profileImg(), resDto.privacyDetail().profileImg());
-                    assertEquals(reqDto.studentNumber(), resDto.privacyDetail().studentNumber());
-                    assertEquals(reqDto.middleSchoolAchievement().achievement1_2(),
-                            resDto.middleSchoolAchievement().achievement1_2());
-                    assertEquals(reqDto.middleSchoolAchievement().achievement2_1(),
-                            resDto.middleSchoolAchievement().achievement2_1());
-                    assertEquals(reqDto.middleSchoolAchievement().achievement2_2(),
-                            resDto.middleSchoolAchievement().achievement2_2());
-                    assertEquals(reqDto.middleSchoolAchievement().achievement3_1(),
-                            resDto.middleSchoolAchievement().achievement3_1());
-                    assertEquals(reqDto.middleSchoolAchievement().achievement3_2(),
-                            resDto.middleSchoolAchievement().achievement3_2());
-                    assertEquals(reqDto.middleSchoolAchievement().generalSubjects(),
-                            resDto.middleSchoolAchievement().generalSubjects());
-                    assertEquals(reqDto.middleSchoolAchievement().newSubjects(),
-                            resDto.middleSchoolAchievement().newSubjects());
-                    assertEquals(reqDto.middleSchoolAchievement().artsPhysicalAchievement(),
-                            resDto.middleSchoolAchievement().artsPhysicalAchievement());
-                    assertEquals(reqDto.middleSchoolAchievement().artsPhysicalSubjects(),
-                            resDto.middleSchoolAchievement().artsPhysicalSubjects());
-                    assertEquals(reqDto.middleSchoolAchievement().absentDays(),
-                            resDto.middleSchoolAchievement().absentDays());
-                    assertEquals(reqDto.middleSchoolAchievement().attendanceDays(),
-                            resDto.middleSchoolAchievement().attendanceDays());
-                    assertEquals(reqDto.middleSchoolAchievement().volunteerTime(),
-                            resDto.middleSchoolAchievement().volunteerTime());
-                    assertEquals(reqDto.middleSchoolAchievement().liberalSystem(),
-                            resDto.middleSchoolAchievement().liberalSystem());
-                    assertEquals(reqDto.middleSchoolAchievement().freeSemester(),
-                            resDto.middleSchoolAchievement().freeSemester());
-                    assertEquals(reqDto.middleSchoolAchievement().gedAvgScore(),
-                            resDto.middleSchoolAchievement().gedAvgScore());
-                    assertEquals(step, resDto.step());
+                @Test
+                @DisplayName("요청 본문에 담긴 필드 이름을 null로 보낸 필드까지 함께 넘긴다.")
+                void it_passes_sent_fields() {
+                    ObjectNode body = objectMapper.createObjectNode().put("guardianName", "김보호");
+                    body.putNull("schoolName");
+
+                    oneseoTempStorageService.execute(body, step, memberId);
+
+                    verify(oneseoDraftService).save(memberId, step,
+                            OneseoTempReqDto.builder().guardianName("김보호").build(),
+                            Set.of("guardianName", "schoolName"));
+                }
+
+                @Test
+                @DisplayName("형식이 올바르지 않은 값이 있으면 ExpectedException을 던진다.")
+                void it_throws_on_invalid_value() {
+                    ObjectNode body = objectMapper.createObjectNode().put("guardianPhoneNumber", "123");
+
+                    ExpectedException exception = assertThrows(ExpectedException.class,
+                            () -> oneseoTempStorageService.execute(body, step, memberId));
+
+                    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+                    verify(oneseoDraftService, never()).save(any(), any(), any(), anySet());
                 }
             }
 
@@ -159,10 +152,11 @@ public class OneseoTempStorageServiceTest {
                 @DisplayName("ExpectedException을 던진다.")
                 void it_throws_expected_exception() {
                     ExpectedException exception = assertThrows(ExpectedException.class,
-                            () -> oneseoTempStorageService.execute(reqDto, step, memberId));
+                            () -> oneseoTempStorageService.execute(body(reqDto), step, memberId));
 
                     assertEquals("이미 원서 제출을 하였습니다.", exception.getMessage());
                     assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+                    verify(oneseoDraftService, never()).save(any(), any(), any(), anySet());
                 }
             }
         }
@@ -181,10 +175,105 @@ public class OneseoTempStorageServiceTest {
             @DisplayName("ExpectedException을 던진다.")
             void it_throws_expected_exception() {
                 ExpectedException exception = assertThrows(ExpectedException.class,
-                        () -> oneseoTempStorageService.execute(reqDto, step, memberId));
+                        () -> oneseoTempStorageService.execute(body(reqDto), step, memberId));
 
                 assertEquals("존재하지 않는 회원입니다. member ID: " + memberId, exception.getMessage());
             }
         }
     }
+
+    @Nested
+    @DisplayName("findDraft 메소드는")
+    class Describe_findDraft {
+
+        @Nested
+        @DisplayName("임시 저장한 원서가 있다면")
+        class Context_with_draft {
+
+            @BeforeEach
+            void setUp() {
+                Member member = Member.builder().id(memberId).name("홍길동").sex(Sex.MALE)
+                        .birth(LocalDate.of(2009, 1, 1)).phoneNumber("01012345678").build();
+
+                given(memberService.findByIdOrThrow(memberId)).willReturn(member);
+                given(oneseoDraftService.find(memberId)).willReturn(Optional.of(new OneseoDraftDto(reqDto, step)));
+            }
+
+            @Test
+            @DisplayName("FoundOneseoResDto를 반환한다.")
+            void it_returns_found_oneseo_res_dto() {
+                FoundOneseoResDto result = oneseoTempStorageService.findDraft(memberId).orElseThrow();
+                assertDto(result);
+            }
+
+            private void assertDto(FoundOneseoResDto resDto) {
+                assertNull(resDto.oneseoId());
+                assertNull(resDto.submitCode());
+                assertEquals(reqDto.screening(), resDto.wantedScreening());
+                assertEquals(reqDto.firstDesiredMajor(), resDto.desiredMajors().firstDesiredMajor());
+                assertEquals(reqDto.secondDesiredMajor(), resDto.desiredMajors().secondDesiredMajor());
+                assertEquals(reqDto.thirdDesiredMajor(), resDto.desiredMajors().thirdDesiredMajor());
+                assertEquals(reqDto.graduationType(), resDto.privacyDetail().graduationType());
+                assertEquals(reqDto.graduationDate(), resDto.privacyDetail().graduationDate());
+                assertEquals(reqDto.address(), resDto.privacyDetail().address());
+                assertEquals(reqDto.detailAddress(), resDto.privacyDetail().detailAddress());
+                assertEquals(reqDto.guardianName(), resDto.privacyDetail().guardianName());
+                assertEquals(reqDto.guardianPhoneNumber(), resDto.privacyDetail().guardianPhoneNumber());
+                assertEquals(reqDto.relationshipWithGuardian(), resDto.privacyDetail().relationshipWithGuardian());
+                assertEquals(reqDto.schoolName(), resDto.privacyDetail().schoolName());
+                assertEquals(reqDto.schoolAddress(), resDto.privacyDetail().schoolAddress());
+                assertEquals(reqDto.schoolTeacherName(), resDto.privacyDetail().schoolTeacherName());
+                assertEquals(reqDto.schoolTeacherPhoneNumber(), resDto.privacyDetail().schoolTeacherPhoneNumber());
+                assertEquals(reqDto.profileImg(), resDto.privacyDetail().profileImg());
+                assertEquals(reqDto.studentNumber(), resDto.privacyDetail().studentNumber());
+                assertEquals(reqDto.middleSchoolAchievement().achievement1_2(),
+                        resDto.middleSchoolAchievement().achievement1_2());
+                assertEquals(reqDto.middleSchoolAchievement().achievement2_1(),
+                        resDto.middleSchoolAchievement().achievement2_1());
+                assertEquals(reqDto.middleSchoolAchievement().achievement2_2(),
+                        resDto.middleSchoolAchievement().achievement2_2());
+                assertEquals(reqDto.middleSchoolAchievement().achievement3_1(),
+                        resDto.middleSchoolAchievement().achievement3_1());
+                assertEquals(reqDto.middleSchoolAchievement().achievement3_2(),
+                        resDto.middleSchoolAchievement().achievement3_2());
+                assertEquals(reqDto.middleSchoolAchievement().generalSubjects(),
+                        resDto.middleSchoolAchievement().generalSubjects());
+                assertEquals(reqDto.middleSchoolAchievement().newSubjects(),
+                        resDto.middleSchoolAchievement().newSubjects());
+                assertEquals(reqDto.middleSchoolAchievement().artsPhysicalAchievement(),
+                        resDto.middleSchoolAchievement().artsPhysicalAchievement());
+                assertEquals(reqDto.middleSchoolAchievement().artsPhysicalSubjects(),
+                        resDto.middleSchoolAchievement().artsPhysicalSubjects());
+                assertEquals(reqDto.middleSchoolAchievement().absentDays(),
+                        resDto.middleSchoolAchievement().absentDays());
+                assertEquals(reqDto.middleSchoolAchievement().attendanceDays(),
+                        resDto.middleSchoolAchievement().attendanceDays());
+                assertEquals(reqDto.middleSchoolAchievement().volunteerTime(),
+                        resDto.middleSchoolAchievement().volunteerTime());
+                assertEquals(reqDto.middleSchoolAchievement().liberalSystem(),
+                        resDto.middleSchoolAchievement().liberalSystem());
+                assertEquals(reqDto.middleSchoolAchievement().freeSemester(),
+                        resDto.middleSchoolAchievement().freeSemester());
+                assertEquals(reqDto.middleSchoolAchievement().gedAvgScore(),
+                        resDto.middleSchoolAchievement().gedAvgScore());
+                assertEquals(step, resDto.step());
+            }
+        }
+
+        @Nested
+        @DisplayName("임시 저장한 원서가 없다면")
+        class Context_without_draft {
+
+            @BeforeEach
+            void setUp() {
+                given(oneseoDraftService.find(memberId)).willReturn(Optional.empty());
+            }
+
+            @Test
+            @DisplayName("빈 결과를 반환한다.")
+            void it_returns_empty() {
+                assertTrue(oneseoTempStorageService.findDraft(memberId).isEmpty());
+            }
+        }
+    }
 }
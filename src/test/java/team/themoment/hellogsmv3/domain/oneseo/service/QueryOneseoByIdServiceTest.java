@@ -3,12 +3,16 @@ package team.themoment.hellogsmv3.domain.oneseo.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static team.themoment.hellogsmv3.domain.oneseo.repository.custom.OneseoFetchPlan.ALL;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,8 +32,7 @@ import team.themoment.hellogsmv3.domain.oneseo.entity.type.DesiredMajors;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Major;
 import team.themoment.hellogsmv3.domain.oneseo.entity.type.Screening;
-import team.themoment.hellogsmv3.domain.oneseo.repository.MiddleSchoolAchievementRepository;
-import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoPrivacyDetailRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 
 @DisplayName("QueryOneseoByIdService 클래스의")
@@ -42,10 +45,13 @@ class QueryOneseoByIdServiceTest {
     private MemberService memberService;
 
     @Mock
-    private OneseoPrivacyDetailRepository oneseoPrivacyDetailRepository;
+    private OneseoReadModelService oneseoReadModelService;
 
     @Mock
-    private MiddleSchoolAchievementRepository middleSchoolAchievementRepository;
+    private OneseoRepository oneseoRepository;
+
+    @Mock
+    private OneseoTempStorageService oneseoTempStorageService;
 
     @InjectMocks
     private QueryOneseoByIdService queryOneseoByIdService;
@@ -76,9 +82,8 @@ class QueryOneseoByIdServiceTest {
                 middleSchoolAchievement = buildMiddleSchoolAchievement();
                 oneseo = buildOneseo(member, middleSchoolAchievement, oneseoPrivacyDetail);
 
-                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).willReturn(oneseo);
-                given(oneseoPrivacyDetailRepository.findByOneseo(oneseo)).willReturn(oneseoPrivacyDetail);
-                given(middleSchoolAchievementRepository.findByOneseo(oneseo)).willReturn(middleSchoolAchievement);
+                given(oneseoRepository.existsByMemberId(memberId)).willReturn(true);
+                given(oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL)).willReturn(oneseo);
             }
 
             @Test
@@ -145,12 +150,14 @@ class QueryOneseoByIdServiceTest {
                 assertEquals(middleSchoolAchievement.getLiberalSystem(), middleSchoolAchievementResDto.liberalSystem());
                 assertEquals(middleSchoolAchievement.getFreeSemester(), middleSchoolAchievementResDto.freeSemester());
                 assertEquals(middleSchoolAchievement.getGedAvgScore(), middleSchoolAchievementResDto.gedAvgScore());
+
+                verify(oneseoReadModelService).saveIfAbsent(memberId, result);
             }
 
             void setUp_it_throws_expected_exception() {
                 member = buildMember(memberId);
 
-                when(oneseoService.findWithMemberByMemberIdOrThrow(memberId)).thenThrow(
+                when(oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL)).thenThrow(
                         new ExpectedException("원서를 찾을 수 없습니다. member ID: " + memberId, HttpStatus.NOT_FOUND));
             }
 
@@ -168,13 +175,59 @@ class QueryOneseoByIdServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("원서 읽기 모델이 있다면")
+        class Context_with_read_model {
+
+            private final FoundOneseoResDto readModel = FoundOneseoResDto.builder().oneseoId(1L)
+                    .submitCode("submitCode").wantedScreening(Screening.GENERAL).build();
+
+            @BeforeEach
+            void setUp() {
+                given(oneseoReadModelService.find(memberId)).willReturn(Optional.of(readModel));
+            }
+
+            @Test
+            @DisplayName("원서를 다시 조립하지 않고 읽기 모델을 반환한다")
+            void it_returns_read_model() {
+                FoundOneseoResDto result = queryOneseoByIdService.execute(memberId);
+
+                assertEquals(readModel, result);
+                verify(oneseoService, never()).findWithMemberByMemberIdOrThrow(memberId, ALL);
+            }
+        }
+
+        @Nested
+        @DisplayName("원서를 제출하지 않고 임시 저장한 원서가 있다면")
+        class Context_with_draft {
+
+            private final FoundOneseoResDto draft = FoundOneseoResDto.builder().wantedScreening(Screening.GENERAL)
+                    .step(2).build();
+
+            @BeforeEach
+            void setUp() {
+                given(oneseoRepository.existsByMemberId(memberId)).willReturn(false);
+                given(oneseoTempStorageService.findDraft(memberId)).willReturn(Optional.of(draft));
+            }
+
+            @Test
+            @DisplayName("임시 저장한 원서를 반환하고 읽기 모델로 남기지 않는다")
+            void it_returns_draft() {
+                FoundOneseoResDto result = queryOneseoByIdService.execute(memberId);
+
+                assertEquals(draft, result);
+                verify(oneseoService, never()).findWithMemberByMemberIdOrThrow(memberId, ALL);
+                verify(oneseoReadModelService, never()).saveIfAbsent(memberId, draft);
+            }
+        }
+
         @Nested
         @DisplayName("존재하지 않는 회원 ID가 주어지면")
         class Context_with_non_existing_member_id {
 
             @BeforeEach
             void setUp() {
-                when(oneseoService.findWithMemberByMemberIdOrThrow(memberId))
+                when(oneseoService.findWithMemberByMemberIdOrThrow(memberId, ALL))
                     .thenThrow(
                         new ExpectedException(
                             "존재하지 않는 지원자입니다. member ID: " + memberId, HttpStatus.NOT_FOUND));
@@ -0,0 +1,220 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
+
+@DisplayName("ScoreCalculationMemoService 클래스의")
+public class ScoreCalculationMemoServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final CalculatedScoreResDto calculatedScore = CalculatedScoreResDto.builder()
+            .attendanceScore(BigDecimal.valueOf(30)).volunteerScore(BigDecimal.valueOf(30))
+            .totalScore(BigDecimal.valueOf(250)).build();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    private ScoreCalculationMemoService memoService(String formulaVersion) {
+        return memoService(ScoreCalculatorEnvironment.Mode.LAMBDA, formulaVersion);
+    }
+
+    private ScoreCalculationMemoService memoService(ScoreCalculatorEnvironment.Mode mode, String formulaVersion) {
+        ScoreCalculatorEnvironment env = new ScoreCalculatorEnvironment(mode, null,
+                new ScoreCalculatorEnvironment.Memo(true, formulaVersion, 100, Duration.ofDays(1)));
+        return new ScoreCalculationMemoService(env, redisTemplate, objectMapper, meterRegistry);
+    }
+
+    private double memoCount(String result) {
+        return meterRegistry.counter(ScoreCalculationMemoService.MEMO_METRIC_NAME, "result", result).count();
+    }
+
+    private LambdaScoreCalculatorReqDto candidateReqDto(List<String> generalSubjects, List<Integer> achievement,
+            String liberalSystem) {
+        return new LambdaScoreCalculatorReqDto(null, achievement, achievement, achievement, achievement, null,
+                generalSubjects, List.of(), List.of(5, 4), List.of("체육", "음악"), List.of(0, 0, 0), List.of(0, 0, 0),
+                List.of(10, 0, 2), liberalSystem, null, null, GraduationType.CANDIDATE);
+    }
+
+    private LambdaScoreCalculatorReqDto gedReqDto(BigDecimal gedAvgScore, List<Integer> volunteerTime) {
+        return new LambdaScoreCalculatorReqDto(null, null, null, null, null, null, null, null, null, null, null, null,
+                volunteerTime, null, null, gedAvgScore, GraduationType.GED);
+    }
+
+    @Nested
+    @DisplayName("keyOf 메소드는")
+    class Describe_keyOf {
+
+        @Nested
+        @DisplayName("과목 입력 순서와 공백 문자열만 다른 요청이라면")
+        class Context_with_reordered_subjects {
+
+            @Test
+            @DisplayName("같은 키를 반환한다.")
+            void it_returns_same_key() {
+                ScoreCalculationMemoService memoService = memoService("v1");
+
+                String key = memoService.keyOf(candidateReqDto(List.of("국어", "수학"), List.of(5, 3), null));
+                String reorderedKey = memoService.keyOf(candidateReqDto(List.of("수학", "국어"), List.of(3, 5), " "));
+
+                assertEquals(key, reorderedKey);
+            }
+        }
+
+        @Nested
+        @DisplayName("과목별 성취도가 다른 요청이라면")
+        class Context_with_different_achievement {
+
+            @Test
+            @DisplayName("다른 키를 반환한다.")
+            void it_returns_different_key() {
+                ScoreCalculationMemoService memoService = memoService("v1");
+
+                String key = memoService.keyOf(candidateReqDto(List.of("국어", "수학"), List.of(5, 3), null));
+                String otherKey = memoService.keyOf(candidateReqDto(List.of("국어", "수학"), List.of(3, 5), null));
+
+                assertNotEquals(key, otherKey);
+            }
+        }
+
+        @Nested
+        @DisplayName("검정고시 평균 점수가 같은 요청이라면")
+        class Context_with_same_ged_avg_score {
+
+            @Test
+            @DisplayName("소수점 자릿수와 다른 입력에 관계없이 같은 키를 반환한다.")
+            void it_returns_same_key() {
+                ScoreCalculationMemoService memoService = memoService("v1");
+
+                String key = memoService.keyOf(gedReqDto(new BigDecimal("80"), null));
+                String otherKey = memoService.keyOf(gedReqDto(new BigDecimal("80.00"), List.of(1, 2, 3)));
+
+                assertEquals(key, otherKey);
+            }
+        }
+
+        @Nested
+        @DisplayName("성적 산출 공식 버전이 다르다면")
+        class Context_with_different_formula_version {
+
+            @Test
+            @DisplayName("다른 키를 반환한다.")
+            void it_returns_different_key() {
+                LambdaScoreCalculatorReqDto reqDto = gedReqDto(new BigDecimal("80"), null);
+
+                assertNotEquals(memoService("v1").keyOf(reqDto), memoService("v2").keyOf(reqDto));
+            }
+        }
+
+        @Nested
+        @DisplayName("계산 모드가 다르다면")
+        class Context_with_different_mode {
+
+            @Test
+            @DisplayName("다른 키를 반환한다.")
+            void it_returns_different_key() {
+                LambdaScoreCalculatorReqDto reqDto = gedReqDto(new BigDecimal("80"), null);
+
+                assertNotEquals(memoService(ScoreCalculatorEnvironment.Mode.LAMBDA, "v1").keyOf(reqDto),
+                        memoService(ScoreCalculatorEnvironment.Mode.LOCAL, "v1").keyOf(reqDto));
+                assertNotEquals(memoService(ScoreCalculatorEnvironment.Mode.LAMBDA, "v1").keyOf(reqDto),
+                        memoService(ScoreCalculatorEnvironment.Mode.SHADOW, "v1").keyOf(reqDto));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("find 메소드는")
+    class Describe_find {
+
+        @Nested
+        @DisplayName("서버 메모리에 결과가 있다면")
+        class Context_with_local_entry {
+
+            @Test
+            @DisplayName("Redis를 조회하지 않고 결과를 반환한다.")
+            void it_returns_local_entry() {
+                ScoreCalculationMemoService memoService = memoService("v1");
+                memoService.put("key", calculatedScore);
+
+                Optional<CalculatedScoreResDto> result = memoService.find("key");
+
+                assertEquals(Optional.of(calculatedScore), result);
+                assertEquals(1.0, memoCount("local_hit"));
+                verify(valueOperations, never()).get(anyString());
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis에만 결과가 있다면")
+        class Context_with_redis_entry {
+
+            @Test
+            @DisplayName("Redis 결과를 반환하고 서버 메모리에도 보관한다.")
+            void it_returns_redis_entry() throws Exception {
+                ScoreCalculationMemoService memoService = memoService("v1");
+                given(valueOperations.get("key")).willReturn(objectMapper.writeValueAsString(calculatedScore));
+
+                Optional<CalculatedScoreResDto> result = memoService.find("key");
+                memoService.find("key");
+
+                assertEquals(Optional.of(calculatedScore), result);
+                assertEquals(1.0, memoCount("redis_hit"));
+                assertEquals(1.0, memoCount("local_hit"));
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis 조회가 실패한다면")
+        class Context_with_redis_failure {
+
+            @Test
+            @DisplayName("캐시 미스로 처리한다.")
+            void it_returns_empty() {
+                ScoreCalculationMemoService memoService = memoService("v1");
+                given(valueOperations.get("key")).willThrow(new RedisConnectionFailureException("down"));
+
+                Optional<CalculatedScoreResDto> result = memoService.find("key");
+
+                assertTrue(result.isEmpty());
+                assertEquals(1.0, memoCount("miss"));
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.lambda.LambdaScoreCalculatorClient;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment.Mode;
+
+@DisplayName("ScoreCalculatorService 클래스의")
+public class ScoreCalculatorServiceTest {
+
+    private LambdaScoreCalculatorClient lambdaScoreCalculatorClient;
+    private LocalScoreCalculatorService localScoreCalculatorService;
+    private ScoreCalculationMemoService scoreCalculationMemoService;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final LambdaScoreCalculatorReqDto reqDto = new LambdaScoreCalculatorReqDto(null, null, null, null, null,
+            null, null, null, null, null, null, null, null, null, null, null, null);
+    private final CalculatedScoreResDto lambdaResult = CalculatedScoreResDto.builder()
+            .attendanceScore(BigDecimal.valueOf(30)).volunteerScore(BigDecimal.valueOf(30))
+            .totalScore(BigDecimal.valueOf(250)).build();
+
+    @BeforeEach
+    void setUp() {
+        lambdaScoreCalculatorClient = mock(LambdaScoreCalculatorClient.class);
+        localScoreCalculatorService = mock(LocalScoreCalculatorService.class);
+        scoreCalculationMemoService = mock(ScoreCalculationMemoService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ScoreCalculatorService scoreCalculatorService(Mode mode) {
+        return new ScoreCalculatorService(new ScoreCalculatorEnvironment(mode, null, null), lambdaScoreCalculatorClient,
+                localScoreCalculatorService, scoreCalculationMemoService, meterRegistry);
+    }
+
+    private double shadowCount(String result) {
+        return meterRegistry.counter(ScoreCalculatorService.SHADOW_METRIC_NAME, "result", result).count();
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("LOCAL 모드라면")
+        class Context_with_local_mode {
+
+            @Test
+            @DisplayName("Lambda를 호출하지 않고 내부 계산 결과를 반환한다.")
+            void it_returns_local_result() {
+                given(localScoreCalculatorService.execute(reqDto)).willReturn(lambdaResult);
+
+                CalculatedScoreResDto result = scoreCalculatorService(Mode.LOCAL).execute(reqDto);
+
+                assertSame(lambdaResult, result);
+                verify(lambdaScoreCalculatorClient, never()).calculateScore(any(LambdaScoreCalculatorReqDto.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("같은 내용으로 계산한 결과가 있다면")
+        class Context_with_memoized_result {
+
+            @Test
+            @DisplayName("계산기를 호출하지 않고 이전 결과를 반환한다.")
+            void it_returns_memoized_result() {
+                given(scoreCalculationMemoService.keyOf(reqDto)).willReturn("key");
+                given(scoreCalculationMemoService.find("key")).willReturn(Optional.of(lambdaResult));
+
+                CalculatedScoreResDto result = scoreCalculatorService(Mode.LAMBDA).execute(reqDto);
+
+                assertSame(lambdaResult, result);
+                verify(lambdaScoreCalculatorClient, never()).calculateScore(any(LambdaScoreCalculatorReqDto.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("같은 내용으로 계산한 결과가 없다면")
+        class Context_without_memoized_result {
+
+            @Test
+            @DisplayName("계산한 결과를 저장하고 반환한다.")
+            void it_memoizes_result() {
+                given(scoreCalculationMemoService.keyOf(reqDto)).willReturn("key");
+                given(scoreCalculationMemoService.find("key")).willReturn(Optional.empty());
+                given(lambdaScoreCalculatorClient.calculateScore(reqDto)).willReturn(lambdaResult);
+
+                CalculatedScoreResDto result = scoreCalculatorService(Mode.LAMBDA).execute(reqDto);
+
+                assertSame(lambdaResult, result);
+                verify(scoreCalculationMemoService).put("key", lambdaResult);
+            }
+        }
+
+        @Nested
+        @DisplayName("SHADOW 모드에서 두 결과가 소수점 자릿수만 다르다면")
+        class Context_with_shadow_mode_and_same_result {
+
+            @Test
+            @DisplayName("일치로 기록하고 Lambda 결과를 반환한다.")
+            void it_records_match() {
+                given(lambdaScoreCalculatorClient.calculateScore(reqDto)).willReturn(lambdaResult);
+                given(localScoreCalculatorService.execute(reqDto)).willReturn(CalculatedScoreResDto.builder()
+                        .attendanceScore(new BigDecimal("30.000")).volunteerScore(new BigDecimal("30.000"))
+                        .totalScore(new BigDecimal("250.000")).build());
+
+                CalculatedScoreResDto result = scoreCalculatorService(Mode.SHADOW).execute(reqDto);
+
+                assertSame(lambdaResult, result);
+                assertEquals(1.0, shadowCount("match"));
+                assertEquals(0.0, shadowCount("mismatch"));
+            }
+        }
+
+        @Nested
+        @DisplayName("SHADOW 모드에서 두 결과가 다르다면")
+        class Context_with_shadow_mode_and_different_result {
+
+            @Test
+            @DisplayName("불일치로 기록하고 Lambda 결과를 반환한다.")
+            void it_records_mismatch() {
+                given(lambdaScoreCalculatorClient.calculateScore(reqDto)).willReturn(lambdaResult);
+                given(localScoreCalculatorService.execute(reqDto)).willReturn(CalculatedScoreResDto.builder()
+                        .attendanceScore(BigDecimal.valueOf(27)).volunteerScore(BigDecimal.valueOf(30))
+                        .totalScore(BigDecimal.valueOf(247)).build());
+
+                CalculatedScoreResDto result = scoreCalculatorService(Mode.SHADOW).execute(reqDto);
+
+                assertSame(lambdaResult, result);
+                assertEquals(1.0, shadowCount("mismatch"));
+            }
+        }
+
+        @Nested
+        @DisplayName("SHADOW 모드에서 내부 계산이 실패하면")
+        class Context_with_shadow_mode_and_local_failure {
+
+            @Test
+            @DisplayName("오류로 기록하고 Lambda 결과를 반환한다.")
+            void it_records_error() {
+                given(lambdaScoreCalculatorClient.calculateScore(reqDto)).willReturn(lambdaResult);
+                given(localScoreCalculatorService.execute(reqDto)).willThrow(new IllegalStateException());
+
+                CalculatedScoreResDto result = scoreCalculatorService(Mode.SHADOW).execute(reqDto);
+
+                assertSame(lambdaResult, result);
+                assertEquals(1.0, shadowCount("error"));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("calculate 메소드는")
+    class Describe_calculate {
+
+        @Nested
+        @DisplayName("메모를 사용하지 않도록 요청하면")
+        class Context_without_memo {
+
+            @Test
+            @DisplayName("이전 결과가 있어도 다시 계산하고 메모를 새 결과로 덮어쓴다.")
+            void it_recalculates_and_overwrites_memo() {
+                given(scoreCalculationMemoService.keyOf(reqDto)).willReturn("key");
+                given(lambdaScoreCalculatorClient.calculateScore(reqDto)).willReturn(lambdaResult);
+
+                CalculatedScoreResDto result = scoreCalculatorService(Mode.LAMBDA).calculate(reqDto, false);
+
+                assertSame(lambdaResult, result);
+                verify(scoreCalculationMemoService, never()).find("key");
+                verify(scoreCalculationMemoService).put("key", lambdaResult);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static team.themoment.hellogsmv3.domain.oneseo.entity.type.YesNo.YES;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.request.TestResultTag;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.SearchOneseoCursorResDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.SearchOneseoResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@DisplayName("SearchOneseoByCursorService 클래스의")
+class SearchOneseoByCursorServiceTest {
+
+    @Mock
+    private OneseoRepository oneseoRepository;
+
+    @InjectMocks
+    private SearchOneseoByCursorService searchOneseoByCursorService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private List<SearchOneseoResDto> oneseos(long fromId, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> SearchOneseoResDto.builder().oneseoId(fromId - i).memberId(fromId - i).build())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        private final int size = 3;
+        private final TestResultTag testResultTag = TestResultTag.ALL;
+        private final ScreeningCategory screeningTag = ScreeningCategory.GENERAL;
+        private final String keyword = "최장우";
+
+        @Nested
+        @DisplayName("다음 원서가 남아 있다면")
+        class Context_with_next_page {
+
+            @BeforeEach
+            void setUp() {
+                given(oneseoRepository.findAllByKeywordAndScreeningAndSubmissionStatusAndTestResultBefore(keyword,
+                        screeningTag, YES, testResultTag, null, size + 1)).willReturn(oneseos(10L, size + 1));
+            }
+
+            @Test
+            @DisplayName("size만큼 반환하고 마지막 원서로 다음 커서를 만든다")
+            void it_returns_next_cursor() {
+                SearchOneseoCursorResDto result = searchOneseoByCursorService.execute(null, size, testResultTag,
+                        screeningTag, YES, keyword, false);
+
+                assertEquals(size, result.oneseos().size());
+                assertEquals(8L, SearchOneseoByCursorService.decodeCursor(result.nextCursor()));
+                assertNull(result.totalElements());
+                verify(oneseoRepository, never()).countByKeywordAndScreeningAndSubmissionStatusAndTestResult(any(),
+                        any(), any(), any());
+            }
+        }
+
+        @Nested
+        @DisplayName("커서와 함께 전체 개수를 요청하면")
+        class Context_with_cursor_and_total_count {
+
+            @BeforeEach
+            void setUp() {
+                given(oneseoRepository.findAllByKeywordAndScreeningAndSubmissionStatusAndTestResultBefore(keyword,
+                        screeningTag, YES, testResultTag, 8L, size + 1)).willReturn(oneseos(7L, 2));
+                given(oneseoRepository.countByKeywordAndScreeningAndSubmissionStatusAndTestResult(keyword,
+                        screeningTag, YES, testResultTag)).willReturn(5L);
+            }
+
+            @Test
+            @DisplayName("커서 다음 원서를 반환하고 마지막 페이지이면 다음 커서를 비운다")
+            void it_returns_last_page() {
+                SearchOneseoCursorResDto result = searchOneseoByCursorService.execute(
+                        SearchOneseoByCursorService.encodeCursor(8L), size, testResultTag, screeningTag, YES, keyword,
+                        true);
+
+                assertEquals(2, result.oneseos().size());
+                assertNull(result.nextCursor());
+                assertEquals(5L, result.totalElements());
+            }
+        }
+
+        @Nested
+        @DisplayName("유효하지 않은 커서가 주어지면")
+        class Context_with_invalid_cursor {
+
+            @Test
+            @DisplayName("ExpectedException을 던진다")
+            void it_throws_expected_exception() {
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> searchOneseoByCursorService.execute("not-a-cursor", size, testResultTag, screeningTag,
+                                YES, keyword, false));
+
+                assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            }
+        }
+    }
+}
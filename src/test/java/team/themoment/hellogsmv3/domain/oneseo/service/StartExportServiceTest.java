@@ -0,0 +1,217 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.ExportJobResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.ExportJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ExportJobStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExportDataVersionJdbcRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.ExportJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.storage.ExportArtifactStorage;
+import team.themoment.hellogsmv3.domain.oneseo.worker.ExportJobWorker;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+
+@DisplayName("StartExportService 클래스의")
+public class StartExportServiceTest {
+
+    private static final String DATA_VERSION = "0123456789abcdef0123456789abcdef";
+
+    @Mock
+    private ExportJobRepository exportJobRepository;
+
+    @Mock
+    private ExportDataVersionJdbcRepository exportDataVersionJdbcRepository;
+
+    @Mock
+    private ExportArtifactStorage exportArtifactStorage;
+
+    @Mock
+    private ExportJobWorker exportJobWorker;
+
+    @Mock
+    private InstanceIdentifier instanceIdentifier;
+
+    @InjectMocks
+    private StartExportService startExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        given(exportDataVersionJdbcRepository.findDataVersion()).willReturn(DATA_VERSION);
+        given(instanceIdentifier.getId()).willReturn("server-a");
+        given(exportJobRepository.save(any(ExportJob.class))).willAnswer(invocation -> {
+            ExportJob job = invocation.getArgument(0);
+            return ExportJob.builder().id(2L).status(job.getStatus()).dataVersion(job.getDataVersion())
+                    .artifactKey(job.getArtifactKey()).ownerId(job.getOwnerId())
+                    .runningDataVersion(job.getRunningDataVersion()).build();
+        });
+    }
+
+    private ExportJob existingJob(ExportJobStatus status) {
+        return ExportJob.builder().id(1L).status(status).dataVersion(DATA_VERSION)
+                .artifactKey(DATA_VERSION + ".xlsx").completedSheetCount(4).processedRowCount(300L).build();
+    }
+
+    private void givenExistingJob(ExportJob job) {
+        given(exportJobRepository.findFirstByDataVersionAndStatusInOrderByIdDesc(any(), anyCollection()))
+                .willReturn(Optional.ofNullable(job));
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("같은 데이터 버전으로 완료된 작업의 파일이 남아 있다면")
+        class Context_with_stored_artifact {
+
+            @BeforeEach
+            void setUp() {
+                givenExistingJob(existingJob(ExportJobStatus.COMPLETED));
+                given(exportArtifactStorage.exists(DATA_VERSION + ".xlsx")).willReturn(true);
+            }
+
+            @Test
+            @DisplayName("새 작업을 만들지 않고 완료된 작업을 반환한다.")
+            void it_returns_completed_job() {
+                ExportJobResDto result = startExportService.execute();
+
+                assertEquals(1L, result.exportJobId());
+                assertEquals(ExportJobStatus.COMPLETED, result.status());
+                assertEquals(300L, result.processedRowCount());
+                verify(exportJobRepository, never()).save(any(ExportJob.class));
+                verify(exportJobWorker, never()).run(anyLong());
+            }
+        }
+
+        @Nested
+        @DisplayName("같은 데이터 버전으로 진행 중인 작업이 있다면")
+        class Context_with_running_job {
+
+            @BeforeEach
+            void setUp() {
+                givenExistingJob(existingJob(ExportJobStatus.RUNNING));
+            }
+
+            @Test
+            @DisplayName("진행 중인 작업을 반환한다.")
+            void it_returns_running_job() {
+                ExportJobResDto result = startExportService.execute();
+
+                assertEquals(1L, result.exportJobId());
+                assertEquals(ExportJobStatus.RUNNING, result.status());
+                verify(exportJobWorker, never()).run(anyLong());
+            }
+        }
+
+        @Nested
+        @DisplayName("완료된 작업의 파일이 저장소에서 사라졌다면")
+        class Context_with_missing_artifact {
+
+            @BeforeEach
+            void setUp() {
+                givenExistingJob(existingJob(ExportJobStatus.COMPLETED));
+                given(exportArtifactStorage.exists(DATA_VERSION + ".xlsx")).willReturn(false);
+            }
+
+            @Test
+            @DisplayName("새 작업을 저장하고 워커에서 실행한다.")
+            void it_starts_new_job() {
+                ExportJobResDto result = startExportService.execute();
+
+                assertEquals(2L, result.exportJobId());
+                assertEquals(ExportJobStatus.RUNNING, result.status());
+                verify(exportJobWorker).run(2L);
+            }
+        }
+
+        @Nested
+        @DisplayName("같은 데이터 버전의 작업이 없다면")
+        class Context_without_job {
+
+            @BeforeEach
+            void setUp() {
+                givenExistingJob(null);
+            }
+
+            @Test
+            @DisplayName("데이터 버전을 기록한 작업을 저장하고 워커에서 실행한다.")
+            void it_starts_new_job() {
+                ExportJobResDto result = startExportService.execute();
+
+                assertEquals(2L, result.exportJobId());
+                assertEquals(DATA_VERSION, result.dataVersion());
+                assertEquals(0, result.completedSheetCount());
+                assertEquals(DownloadExcelService.SHEET_COUNT, result.sheetCount());
+                verify(exportJobWorker).run(2L);
+            }
+        }
+
+        @Nested
+        @DisplayName("동시에 시작한 다른 요청이 같은 데이터 버전의 작업을 먼저 저장했다면")
+        class Context_with_concurrent_start {
+
+            @BeforeEach
+            void setUp() {
+                given(exportJobRepository.findFirstByDataVersionAndStatusInOrderByIdDesc(any(), anyCollection()))
+                        .willReturn(Optional.empty()).willReturn(Optional.of(existingJob(ExportJobStatus.RUNNING)));
+                given(exportJobRepository.save(any(ExportJob.class)))
+                        .willThrow(new DataIntegrityViolationException("uk_export_job_running_data_version"));
+            }
+
+            @Test
+            @DisplayName("먼저 저장된 작업을 반환한다.")
+            void it_returns_concurrent_job() {
+                ExportJobResDto result = startExportService.execute();
+
+                assertEquals(1L, result.exportJobId());
+                assertEquals(ExportJobStatus.RUNNING, result.status());
+                verify(exportJobWorker, never()).run(anyLong());
+            }
+        }
+
+        @Nested
+        @DisplayName("내보내기 작업 대기열이 가득 찼다면")
+        class Context_with_rejected_task {
+
+            @BeforeEach
+            void setUp() {
+                givenExistingJob(null);
+                willThrow(new TaskRejectedException("queue full")).given(exportJobWorker).run(2L);
+            }
+
+            @Test
+            @DisplayName("작업을 실패로 기록하고 503 상태의 ExpectedException을 던진다.")
+            void it_fails_job_and_throws() {
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> startExportService.execute());
+
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+                verify(exportJobRepository).save(org.mockito.ArgumentMatchers.<ExportJob>argThat(
+                        job -> job.getId() != null && job.getStatus() == ExportJobStatus.FAILED
+                                && job.getRunningDataVersion() == null));
+            }
+        }
+    }
+}
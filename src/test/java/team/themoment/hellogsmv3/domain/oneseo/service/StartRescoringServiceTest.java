@@ -0,0 +1,128 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.RescoringJobResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.worker.RescoringJobWorker;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
+import team.themoment.hellogsmv3.global.thirdParty.feign.data.ScoreCalculatorEnvironment;
+
+@DisplayName("StartRescoringService 클래스의")
+public class StartRescoringServiceTest {
+
+    @Mock
+    private RescoringJobRepository rescoringJobRepository;
+
+    @Mock
+    private RescoringJobWorker rescoringJobWorker;
+
+    @Mock
+    private ScoreCalculatorEnvironment scoreCalculatorEnv;
+
+    @Mock
+    private InstanceIdentifier instanceIdentifier;
+
+    @InjectMocks
+    private StartRescoringService startRescoringService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        given(scoreCalculatorEnv.memo()).willReturn(new ScoreCalculatorEnvironment.Memo(true, "v2", null, null));
+        given(instanceIdentifier.getId()).willReturn("server-1");
+    }
+
+    @Nested
+    @DisplayName("execute 메소드는")
+    class Describe_execute {
+
+        @Nested
+        @DisplayName("진행 중인 작업이 없다면")
+        class Context_without_running_job {
+
+            @BeforeEach
+            void setUp() {
+                given(rescoringJobRepository.existsByStatus(RescoringJobStatus.RUNNING)).willReturn(false);
+                given(rescoringJobRepository.save(any(RescoringJob.class))).willAnswer(invocation -> {
+                    RescoringJob job = invocation.getArgument(0);
+                    return RescoringJob.builder().id(1L).status(job.getStatus()).dryRun(job.isDryRun())
+                            .formulaVersion(job.getFormulaVersion()).build();
+                });
+            }
+
+            @Test
+            @DisplayName("현재 공식 버전으로 작업을 저장하고 워커에서 실행한다.")
+            void it_starts_job() {
+                RescoringJobResDto result = startRescoringService.execute(true);
+
+                assertEquals(1L, result.rescoringJobId());
+                assertEquals(RescoringJobStatus.RUNNING, result.status());
+                assertTrue(result.dryRun());
+                assertEquals("v2", result.formulaVersion());
+                verify(rescoringJobWorker).run(1L);
+            }
+        }
+
+        @Nested
+        @DisplayName("진행 중인 작업이 있다면")
+        class Context_with_running_job {
+
+            @BeforeEach
+            void setUp() {
+                given(rescoringJobRepository.existsByStatus(RescoringJobStatus.RUNNING)).willReturn(true);
+            }
+
+            @Test
+            @DisplayName("ExpectedException을 던지고 작업을 실행하지 않는다.")
+            void it_throws_expected_exception() {
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> startRescoringService.execute(false));
+
+                assertEquals("이미 진행 중인 성적 재계산 작업이 있습니다.", exception.getMessage());
+                assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+                verify(rescoringJobWorker, never()).run(anyLong());
+            }
+        }
+
+        @Nested
+        @DisplayName("다른 요청이 동시에 작업을 먼저 시작했다면")
+        class Context_with_concurrent_start {
+
+            @BeforeEach
+            void setUp() {
+                given(rescoringJobRepository.existsByStatus(RescoringJobStatus.RUNNING)).willReturn(false);
+                given(rescoringJobRepository.save(any(RescoringJob.class)))
+                        .willThrow(new DataIntegrityViolationException("uk_rescoring_job_running_slot"));
+            }
+
+            @Test
+            @DisplayName("ExpectedException을 던지고 작업을 실행하지 않는다.")
+            void it_throws_expected_exception() {
+                ExpectedException exception = assertThrows(ExpectedException.class,
+                        () -> startRescoringService.execute(false));
+
+                assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+                verify(rescoringJobWorker, never()).run(anyLong());
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+
+@DisplayName("SubmitCodeAllocator 클래스의")
+public class SubmitCodeAllocatorTest {
+
+    private SubmitCodeSequenceService submitCodeSequenceService;
+    private SubmitCodeAllocator submitCodeAllocator;
+
+    // INCRBY로 예약하는 Redis 시퀀스를 흉내내며, 서버 두 대가 같은 시퀀스를 나누어 쓰는 상황을 만듦
+    private final Map<ScreeningCategory, Long> sequences = new EnumMap<>(ScreeningCategory.class);
+
+    @BeforeEach
+    void setUp() {
+        submitCodeSequenceService = mock(SubmitCodeSequenceService.class);
+        given(submitCodeSequenceService.reserve(any(ScreeningCategory.class), anyInt())).willAnswer(invocation -> {
+            ScreeningCategory category = invocation.getArgument(0);
+            int blockSize = invocation.getArgument(1);
+            synchronized (sequences) {
+                long reserved = sequences.getOrDefault(category, 1L);
+                sequences.put(category, reserved + blockSize);
+                return reserved;
+            }
+        });
+        submitCodeAllocator = new SubmitCodeAllocator(submitCodeSequenceService);
+    }
+
+    @Nested
+    @DisplayName("allocate 메소드는")
+    class Describe_allocate {
+
+        @Nested
+        @DisplayName("전형 분류가 주어지면")
+        class Context_with_screening_category {
+
+            @Test
+            @DisplayName("전형 분류 접두사와 순서대로 증가하는 번호로 접수번호를 발급한다.")
+            void it_allocates_sequential_codes() {
+                assertEquals("A-1", submitCodeAllocator.allocate(ScreeningCategory.GENERAL));
+                assertEquals("A-2", submitCodeAllocator.allocate(ScreeningCategory.GENERAL));
+                assertEquals("B-1", submitCodeAllocator.allocate(ScreeningCategory.SPECIAL));
+                assertEquals("C-1", submitCodeAllocator.allocate(ScreeningCategory.EXTRA));
+            }
+
+            @Test
+            @DisplayName("예약한 번호를 모두 사용한 뒤에만 시퀀스를 다시 예약한다.")
+            void it_reserves_block_once_per_block_size() {
+                for (int i = 0; i < SubmitCodeAllocator.BLOCK_SIZE + 1; i++) {
+                    submitCodeAllocator.allocate(ScreeningCategory.GENERAL);
+                }
+
+                verify(submitCodeSequenceService, times(2)).reserve(ScreeningCategory.GENERAL,
+                        SubmitCodeAllocator.BLOCK_SIZE);
+            }
+        }
+
+        @Nested
+        @DisplayName("여러 서버에서 동시에 많은 원서가 생성되면")
+        class Context_with_heavy_parallel_creation {
+
+            private static final int THREAD_COUNT = 32;
+            private static final int ALLOCATIONS_PER_THREAD = 500;
+
+            @Test
+            @DisplayName("중복 없이 접수번호를 발급한다.")
+            void it_allocates_unique_codes() throws Exception {
+                List<SubmitCodeAllocator> nodes = List.of(submitCodeAllocator,
+                        new SubmitCodeAllocator(submitCodeSequenceService));
+                ScreeningCategory[] categories = ScreeningCategory.values();
+                Set<String> submitCodes = ConcurrentHashMap.newKeySet();
+                CountDownLatch startLatch = new CountDownLatch(1);
+
+                ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int thread = 0; thread < THREAD_COUNT; thread++) {
+                    SubmitCodeAllocator node = nodes.get(thread % nodes.size());
+                    int offset = thread;
+                    futures.add(executor.submit(() -> {
+                        startLatch.await();
+                        for (int i = 0; i < ALLOCATIONS_PER_THREAD; i++) {
+                            submitCodes.add(node.allocate(categories[(offset + i) % categories.length]));
+                        }
+                        return null;
+                    }));
+                }
+
+                startLatch.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                executor.shutdown();
+
+                assertEquals(THREAD_COUNT * ALLOCATIONS_PER_THREAD, submitCodes.size());
+            }
+        }
+
+        @Nested
+        @DisplayName("시퀀스 예약에 실패하면")
+        class Context_with_reservation_failure {
+
+            @BeforeEach
+            void setUp() {
+                given(submitCodeSequenceService.reserve(ScreeningCategory.EXTRA, SubmitCodeAllocator.BLOCK_SIZE))
+                        .willThrow(new RedisConnectionFailureException("connection refused")).willReturn(41L);
+            }
+
+            @Test
+            @DisplayName("예외를 전파하고 다음 발급 때 다시 예약한다.")
+            void it_reserves_again_on_next_allocation() {
+                assertThrows(RedisConnectionFailureException.class,
+                        () -> submitCodeAllocator.allocate(ScreeningCategory.EXTRA));
+                assertEquals("C-41", submitCodeAllocator.allocate(ScreeningCategory.EXTRA));
+            }
+        }
+    }
+}
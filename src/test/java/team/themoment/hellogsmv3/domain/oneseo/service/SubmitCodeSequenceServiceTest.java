@@ -0,0 +1,106 @@
+package team.themoment.hellogsmv3.domain.oneseo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.ScreeningCategory;
+import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+
+@DisplayName("SubmitCodeSequenceService 클래스의")
+public class SubmitCodeSequenceServiceTest {
+
+    private static final String KEY = SubmitCodeSequenceService.KEY_PREFIX + "GENERAL";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private OneseoRepository oneseoRepository;
+    private SubmitCodeSequenceService submitCodeSequenceService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        oneseoRepository = mock(OneseoRepository.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        submitCodeSequenceService = new SubmitCodeSequenceService(redisTemplate, oneseoRepository);
+    }
+
+    @Nested
+    @DisplayName("reserve 메소드는")
+    class Describe_reserve {
+
+        @Nested
+        @DisplayName("시퀀스 카운터가 이미 있으면")
+        class Context_with_existing_counter {
+
+            @BeforeEach
+            void setUp() {
+                given(redisTemplate.hasKey(KEY)).willReturn(true);
+                given(valueOperations.increment(KEY, 20L)).willReturn(60L);
+            }
+
+            @Test
+            @DisplayName("원서를 조회하지 않고 예약한 구간의 첫 번호를 반환한다.")
+            void it_returns_first_number_of_block() {
+                assertEquals(41L, submitCodeSequenceService.reserve(ScreeningCategory.GENERAL, 20));
+
+                verify(oneseoRepository, never()).findMaxSubmitCodeByScreening(ScreeningCategory.GENERAL);
+                verify(valueOperations, never()).setIfAbsent(anyString(), anyString());
+            }
+        }
+
+        @Nested
+        @DisplayName("시퀀스 카운터가 없고 원서도 없으면")
+        class Context_without_counter_and_oneseo {
+
+            @BeforeEach
+            void setUp() {
+                given(redisTemplate.hasKey(KEY)).willReturn(false);
+                given(oneseoRepository.findMaxSubmitCodeByScreening(ScreeningCategory.GENERAL)).willReturn(null);
+                given(valueOperations.increment(KEY, 20L)).willReturn(20L);
+            }
+
+            @Test
+            @DisplayName("1번부터 예약한다.")
+            void it_reserves_from_one() {
+                assertEquals(1L, submitCodeSequenceService.reserve(ScreeningCategory.GENERAL, 20));
+
+                verify(valueOperations).setIfAbsent(KEY, "0");
+            }
+        }
+
+        @Nested
+        @DisplayName("시퀀스 카운터가 없고 기존 원서가 있으면")
+        class Context_without_counter_with_oneseo {
+
+            @BeforeEach
+            void setUp() {
+                given(redisTemplate.hasKey(KEY)).willReturn(false);
+                given(oneseoRepository.findMaxSubmitCodeByScreening(ScreeningCategory.GENERAL)).willReturn(57);
+            }
+
+            @Test
+            @DisplayName("최대 접수번호에서 일정 간격을 건너뛰어 초기화한다.")
+            void it_seeds_after_gap() {
+                given(valueOperations.increment(KEY, 20L)).willReturn(57L + SubmitCodeSequenceService.RESEED_GAP + 20);
+
+                assertEquals(57L + SubmitCodeSequenceService.RESEED_GAP + 1,
+                        submitCodeSequenceService.reserve(ScreeningCategory.GENERAL, 20));
+
+                verify(valueOperations).setIfAbsent(KEY, String.valueOf(57L + SubmitCodeSequenceService.RESEED_GAP));
+            }
+        }
+    }
+}
@@ -14,7 +14,6 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.*;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -22,24 +21,24 @@ import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
-import team.themoment.hellogsmv3.domain.oneseo.entity.EntranceTestResult;
-import team.themoment.hellogsmv3.domain.oneseo.repository.EntranceTestResultRepository;
-import team.themoment.hellogsmv3.domain.oneseo.repository.OneseoRepository;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.SecondTestResultDto;
+import team.themoment.hellogsmv3.domain.oneseo.repository.SecondTestResultJdbcRepository;
 import team.themoment.hellogsmv3.global.exception.error.ExpectedException;
 
 @DisplayName("UploadExcelService 클래스의")
 class UploadExcelServiceTest {
 
     @Mock
-    private EntranceTestResultRepository entranceTestResultRepository;
-    @Mock
-    private OneseoRepository oneseoRepository;
+    private SecondTestResultJdbcRepository secondTestResultJdbcRepository;
 
     @InjectMocks
     private UploadExcelService uploadExcelService;
 
     private AutoCloseable mocks;
 
+    // updateScores에 전달된 청크 (서비스가 청크를 재사용하므로 복사해서 보관)
+    private final List<List<SecondTestResultDto>> updatedChunks = new ArrayList<>();
+
     @BeforeEach
     void setUp() {
         mocks = MockitoAnnotations.openMocks(this);
@@ -64,18 +63,7 @@ class UploadExcelServiceTest {
                 String exam1 = "1001";
                 String exam2 = "1002";
 
-                EntranceTestResult r1 = mockEntranceResult(new BigDecimal("10"), new BigDecimal("11"));
-                EntranceTestResult r2 = mockEntranceResult(new BigDecimal("20"), new BigDecimal("21"));
-                Map<String, EntranceTestResult> map = new HashMap<>();
-                map.put(exam1, r1);
-                map.put(exam2, r2);
-                when(oneseoRepository.findEntranceTestResultByExaminationNumbersIn(any())).thenReturn(map);
-                when(entranceTestResultRepository.saveAll(any())).thenAnswer(inv -> {
-                    Iterable<EntranceTestResult> it = inv.getArgument(0);
-                    List<EntranceTestResult> list = new ArrayList<>();
-                    it.forEach(list::add);
-                    return list;
-                });
+                mockExistingExaminationNumbers(exam1, exam2);
 
                 MultipartFile file = buildWorkbook(wb -> {
                     Sheet sheet = wb.createSheet();
@@ -98,14 +86,45 @@ class UploadExcelServiceTest {
                 uploadExcelService.execute(file);
 
                 // then
-                ArgumentCaptor<Collection<EntranceTestResult>> captor = ArgumentCaptor.forClass(Collection.class);
-                verify(entranceTestResultRepository, times(1)).saveAll(captor.capture());
-                List<EntranceTestResult> saved = new ArrayList<>(captor.getValue());
+                assertEquals(1, updatedChunks.size());
+                List<SecondTestResultDto> saved = updatedChunks.get(0);
                 assertEquals(2, saved.size());
-                assertEquals(new BigDecimal("70.20"), r1.getCompetencyEvaluationScore());
-                assertEquals(new BigDecimal("60.00"), r1.getInterviewScore());
-                assertEquals(new BigDecimal("60.26"), r2.getCompetencyEvaluationScore());
-                assertEquals(new BigDecimal("65.24"), r2.getInterviewScore());
+                assertEquals(new SecondTestResultDto(exam1, new BigDecimal("70.20"), new BigDecimal("60.00")),
+                        saved.get(0));
+                assertEquals(new SecondTestResultDto(exam2, new BigDecimal("60.26"), new BigDecimal("65.24")),
+                        saved.get(1));
+            }
+        }
+
+        @Nested
+        @DisplayName("청크 크기보다 많은 행이 있을 때")
+        class Context_with_rows_exceeding_chunk_size {
+            @Test
+            @DisplayName("청크 단위로 나누어 저장한다")
+            void it_saves_in_chunks() throws Exception {
+                int rowCount = UploadExcelService.CHUNK_SIZE + 1;
+                String[] exams = new String[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    exams[i] = String.valueOf(1000 + i);
+                }
+                mockExistingExaminationNumbers(exams);
+
+                MultipartFile file = buildWorkbook(wb -> {
+                    Sheet sheet = wb.createSheet();
+                    sheet.createRow(0).createCell(0).setCellValue("수험번호");
+                    for (int i = 0; i < rowCount; i++) {
+                        Row row = sheet.createRow(i + 1);
+                        row.createCell(0).setCellValue(exams[i]);
+                        row.createCell(3).setCellValue(50);
+                        row.createCell(4).setCellValue(50);
+                    }
+                });
+
+                uploadExcelService.execute(file);
+
+                assertEquals(2, updatedChunks.size());
+                assertEquals(UploadExcelService.CHUNK_SIZE, updatedChunks.get(0).size());
+                assertEquals(1, updatedChunks.get(1).size());
             }
         }
 
@@ -142,7 +161,7 @@ class UploadExcelServiceTest {
             @Test
             @DisplayName("ExpectedException을 던진다")
             void it_throws_out_of_range_exception() throws Exception {
-                mockFindEntranceResults("1001");
+                mockExistingExaminationNumbers("1001");
                 MultipartFile file = buildWorkbook(wb -> {
                     Sheet sheet = wb.createSheet();
                     Row header = sheet.createRow(0);
@@ -166,7 +185,7 @@ class UploadExcelServiceTest {
             @Test
             @DisplayName("ExpectedException을 던진다")
             void it_throws_number_format_exception() throws Exception {
-                mockFindEntranceResults("1001");
+                mockExistingExaminationNumbers("1001");
                 MultipartFile file = buildWorkbook(wb -> {
                     Sheet sheet = wb.createSheet();
                     Row header = sheet.createRow(0);
@@ -210,69 +229,84 @@ class UploadExcelServiceTest {
         @Nested
         @DisplayName("DB에 존재하지 않는 수험번호만 포함되면")
         class Context_with_not_found_examination_number {
-        @Test
-      @DisplayName("ExpectedException을 던진다")
-      void it_throws_not_found_exception() throws Exception {
-        when(oneseoRepository.findEntranceTestResultByExaminationNumbersIn(any()))
-            .thenReturn(Collections.emptyMap());
-        MultipartFile file =
-            buildWorkbook(
-                wb -> {
-                  Sheet sheet = wb.createSheet();
-                  Row header = sheet.createRow(0);
-                  header.createCell(0).setCellValue("수험번호");
-                  header.createCell(3).setCellValue("역검점수");
-                  header.createCell(4).setCellValue("면접점수");
-                  Row r1 = sheet.createRow(1);
-                  r1.createCell(0).setCellValue("9999");
-                  r1.createCell(3).setCellValue(10);
-                  r1.createCell(4).setCellValue(20);
+            @Test
+            @DisplayName("ExpectedException을 던진다")
+            void it_throws_not_found_exception() throws Exception {
+                mockExistingExaminationNumbers();
+                MultipartFile file = buildWorkbook(wb -> {
+                    Sheet sheet = wb.createSheet();
+                    Row header = sheet.createRow(0);
+                    header.createCell(0).setCellValue("수험번호");
+                    header.createCell(3).setCellValue("역검점수");
+                    header.createCell(4).setCellValue("면접점수");
+                    Row r1 = sheet.createRow(1);
+                    r1.createCell(0).setCellValue("9999");
+                    r1.createCell(3).setCellValue(10);
+                    r1.createCell(4).setCellValue(20);
                 });
-        ExpectedException ex =
-            assertThrows(ExpectedException.class, () -> uploadExcelService.execute(file));
-        assertTrue(ex.getMessage().contains("존재하지 않습니다"));
-        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
-      }
+                ExpectedException ex = assertThrows(ExpectedException.class, () -> uploadExcelService.execute(file));
+                assertTrue(ex.getMessage().contains("존재하지 않습니다"));
+                assertTrue(ex.getMessage().contains("9999"));
+                assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+            }
+        }
+
+        @Nested
+        @DisplayName("존재하는 수험번호와 존재하지 않는 수험번호가 섞여 있으면")
+        class Context_with_partially_found_examination_numbers {
+            @Test
+            @DisplayName("존재하는 수험번호만 저장하고 존재하지 않는 수험번호로 ExpectedException을 던진다")
+            void it_updates_existing_and_throws_not_found_exception() throws Exception {
+                mockExistingExaminationNumbers("1001");
+                MultipartFile file = buildWorkbook(wb -> {
+                    Sheet sheet = wb.createSheet();
+                    Row header = sheet.createRow(0);
+                    header.createCell(0).setCellValue("수험번호");
+                    header.createCell(3).setCellValue("역검점수");
+                    header.createCell(4).setCellValue("면접점수");
+                    Row r1 = sheet.createRow(1);
+                    r1.createCell(0).setCellValue("1001");
+                    r1.createCell(3).setCellValue(10);
+                    r1.createCell(4).setCellValue(20);
+                    Row r2 = sheet.createRow(2);
+                    r2.createCell(0).setCellValue("9999");
+                    r2.createCell(3).setCellValue(10);
+                    r2.createCell(4).setCellValue(20);
+                });
+                ExpectedException ex = assertThrows(ExpectedException.class, () -> uploadExcelService.execute(file));
+                assertTrue(ex.getMessage().contains("9999"));
+                assertFalse(ex.getMessage().contains("1001"));
+                assertEquals(1, updatedChunks.size());
+                assertEquals(List.of("1001"),
+                        updatedChunks.get(0).stream().map(SecondTestResultDto::examinationNumber).toList());
+            }
         }
     }
 
+    // 엑셀에서 저장한 파일처럼 수식 셀에 계산 결과를 함께 기록
     private MultipartFile buildWorkbook(WorkbookConsumer consumer) throws IOException {
         try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
             consumer.accept(wb);
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
             wb.write(bos);
             return new MockMultipartFile("file", "test.xlsx",
                     "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", bos.toByteArray());
         }
     }
 
-    private EntranceTestResult mockEntranceResult(BigDecimal competency, BigDecimal interview) {
-        EntranceTestResult result = mock(EntranceTestResult.class);
-        final BigDecimal[] compHolder = {competency};
-        final BigDecimal[] interHolder = {interview};
-        when(result.getCompetencyEvaluationScore()).thenAnswer(a -> compHolder[0]);
-        when(result.getInterviewScore()).thenAnswer(a -> interHolder[0]);
-        doAnswer(a -> {
-            compHolder[0] = a.getArgument(0);
-            return null;
-        }).when(result).modifyCompetencyEvaluationScore(any(BigDecimal.class));
-        doAnswer(a -> {
-            interHolder[0] = a.getArgument(0);
-            return null;
-        }).when(result).modifyInterviewScore(any(BigDecimal.class));
-        return result;
-    }
-
-    private void mockFindEntranceResults(String exam) {
-        EntranceTestResult r = mockEntranceResult(BigDecimal.ZERO, BigDecimal.ZERO);
-        Map<String, EntranceTestResult> map = new HashMap<>();
-        map.put(exam, r);
-        when(oneseoRepository.findEntranceTestResultByExaminationNumbersIn(any())).thenReturn(map);
-        when(entranceTestResultRepository.saveAll(any())).thenAnswer(inv -> {
-            Iterable<EntranceTestResult> it = inv.getArgument(0);
-            List<EntranceTestResult> list = new ArrayList<>();
-            it.forEach(list::add);
-            return list;
+    private void mockExistingExaminationNumbers(String... examinationNumbers) {
+        Set<String> existing = Set.of(examinationNumbers);
+        when(secondTestResultJdbcRepository.findExistingExaminationNumbers(any())).thenAnswer(inv -> {
+            List<String> chunk = inv.getArgument(0);
+            Set<String> found = new HashSet<>(chunk);
+            found.retainAll(existing);
+            return found;
         });
+        doAnswer(inv -> {
+            List<SecondTestResultDto> chunk = inv.getArgument(0);
+            updatedChunks.add(List.copyOf(chunk));
+            return null;
+        }).when(secondTestResultJdbcRepository).updateScores(any());
     }
 
     @FunctionalInterface
@@ -0,0 +1,190 @@
+package team.themoment.hellogsmv3.domain.oneseo.worker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.RescoredDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.internal.RescoringTargetDto;
+import team.themoment.hellogsmv3.domain.oneseo.dto.response.CalculatedScoreResDto;
+import team.themoment.hellogsmv3.domain.oneseo.entity.RescoringJob;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.GraduationType;
+import team.themoment.hellogsmv3.domain.oneseo.entity.type.RescoringJobStatus;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJdbcRepository;
+import team.themoment.hellogsmv3.domain.oneseo.repository.RescoringJobRepository;
+import team.themoment.hellogsmv3.domain.oneseo.service.ScoreCalculatorService;
+import team.themoment.hellogsmv3.global.common.instance.InstanceIdentifier;
+import team.themoment.hellogsmv3.global.thirdParty.feign.client.dto.request.LambdaScoreCalculatorReqDto;
+
+@DisplayName("RescoringJobWorker 클래스의")
+public class RescoringJobWorkerTest {
+
+    private RescoringJobRepository rescoringJobRepository;
+    private RescoringJdbcRepository rescoringJdbcRepository;
+    private ScoreCalculatorService scoreCalculatorService;
+    private RescoringJobWorker rescoringJobWorker;
+
+    private static final String INSTANCE_ID = "server-1";
+
+    @BeforeEach
+    void setUp() {
+        rescoringJobRepository = mock(RescoringJobRepository.class);
+        rescoringJdbcRepository = mock(RescoringJdbcRepository.class);
+        scoreCalculatorService = mock(ScoreCalculatorService.class);
+
+        rescoringJobWorker = new RescoringJobWorker(rescoringJobRepository, rescoringJdbcRepository,
+                scoreCalculatorService, mock(CacheManager.class), new SimpleMeterRegistry(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), Runnable::run,
+                mock(ApplicationEventPublisher.class), new InstanceIdentifier(INSTANCE_ID));
+    }
+
+    private RescoringTargetDto gedTarget(long oneseoId, BigDecimal gedAvgScore, BigDecimal currentTotalScore) {
+        LambdaScoreCalculatorReqDto reqDto = new LambdaScoreCalculatorReqDto(null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, gedAvgScore, GraduationType.GED);
+        return new RescoringTargetDto(oneseoId, oneseoId + 100, oneseoId, oneseoId, reqDto,
+                gedScore(currentTotalScore));
+    }
+
+    private CalculatedScoreResDto gedScore(BigDecimal totalScore) {
+        return CalculatedScoreResDto.builder().totalSubjectsScore(totalScore.subtract(BigDecimal.valueOf(60)))
+                .attendanceScore(BigDecimal.valueOf(30)).volunteerScore(BigDecimal.valueOf(30)).totalScore(totalScore)
+                .build();
+    }
+
+    private RescoringJob job(boolean dryRun) {
+        return job(dryRun, INSTANCE_ID);
+    }
+
+    private RescoringJob job(boolean dryRun, String ownerId) {
+        return RescoringJob.builder().id(1L).status(RescoringJobStatus.RUNNING).dryRun(dryRun).formulaVersion("v1")
+                .ownerId(ownerId).runningSlot(RescoringJob.RUNNING_SLOT).build();
+    }
+
+    @Nested
+    @DisplayName("processChunk 메소드는")
+    class Describe_processChunk {
+
+        private final RescoringTargetDto unchangedTarget = gedTarget(1L, BigDecimal.valueOf(100),
+                BigDecimal.valueOf(300));
+        private final RescoringTargetDto changedTarget = gedTarget(2L, BigDecimal.valueOf(90), BigDecimal.valueOf(280));
+        private final RescoringTargetDto failedTarget = gedTarget(3L, BigDecimal.valueOf(80), BigDecimal.valueOf(260));
+
+        @BeforeEach
+        void setUp() {
+            given(scoreCalculatorService.calculate(unchangedTarget.reqDto(), false))
+                    .willReturn(gedScore(new BigDecimal("300.000")));
+            given(scoreCalculatorService.calculate(changedTarget.reqDto(), false))
+                    .willReturn(gedScore(BigDecimal.valueOf(270)));
+            given(scoreCalculatorService.calculate(failedTarget.reqDto(), false))
+                    .willThrow(new IllegalStateException());
+        }
+
+        @Nested
+        @DisplayName("dry-run 작업이라면")
+        class Context_with_dry_run {
+
+            @Test
+            @DisplayName("점수를 저장하지 않고 달라진 원서만 기록한다.")
+            void it_records_diffs_only() {
+                RescoringJob job = job(true);
+                given(rescoringJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+
+                long lastOneseoId = rescoringJobWorker.processChunk(job,
+                        List.of(unchangedTarget, changedTarget, failedTarget));
+
+                assertEquals(3L, lastOneseoId);
+                verify(rescoringJdbcRepository, never()).lockUnchangedSinceRead(anyList());
+                verify(rescoringJdbcRepository, never()).updateScores(anyList());
+                verify(rescoringJdbcRepository).insertDiffs(eq(1L), any());
+                assertEquals(3L, job.getLastOneseoId());
+                assertEquals(3L, job.getProcessedCount());
+                assertEquals(1L, job.getChangedCount());
+                assertEquals(1L, job.getFailedCount());
+            }
+        }
+
+        @Nested
+        @DisplayName("dry-run 작업이 아니라면")
+        class Context_without_dry_run {
+
+            @Test
+            @DisplayName("점수가 달라진 원서만 저장한다.")
+            @SuppressWarnings("unchecked")
+            void it_updates_changed_scores() {
+                RescoringJob job = job(false);
+                given(rescoringJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+                given(rescoringJdbcRepository.lockUnchangedSinceRead(anyList()))
+                        .willAnswer(invocation -> invocation.getArgument(0));
+
+                rescoringJobWorker.processChunk(job, List.of(unchangedTarget, changedTarget, failedTarget));
+
+                ArgumentCaptor<List<RescoredDto>> captor = ArgumentCaptor.forClass(List.class);
+                verify(rescoringJdbcRepository).updateScores(captor.capture());
+                assertEquals(1, captor.getValue().size());
+                assertEquals(2L, captor.getValue().get(0).target().oneseoId());
+                assertEquals(List.of("totalSubjectsScore", "totalScore"), captor.getValue().get(0).changedFields());
+                assertEquals(0L, job.getSkippedCount());
+            }
+        }
+
+        @Nested
+        @DisplayName("청크를 읽은 뒤 성적 계산 outbox가 점수를 먼저 바꾸었다면")
+        class Context_with_score_changed_after_read {
+
+            @Test
+            @DisplayName("그 원서는 저장하지 않고 건너뛴 원서로 센다.")
+            void it_skips_changed_scores() {
+                RescoringJob job = job(false);
+                given(rescoringJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+                given(rescoringJdbcRepository.lockUnchangedSinceRead(anyList())).willReturn(List.of());
+
+                rescoringJobWorker.processChunk(job, List.of(unchangedTarget, changedTarget, failedTarget));
+
+                verify(rescoringJdbcRepository, never()).updateScores(anyList());
+                verify(rescoringJdbcRepository, never()).insertDiffs(eq(1L), any());
+                assertEquals(3L, job.getProcessedCount());
+                assertEquals(0L, job.getChangedCount());
+                assertEquals(1L, job.getSkippedCount());
+            }
+        }
+
+        @Nested
+        @DisplayName("다른 서버가 작업을 이어서 실행 중이라면")
+        class Context_with_job_taken_over {
+
+            @Test
+            @DisplayName("점수와 진행 지점을 저장하지 않고 실행을 멈춘다.")
+            void it_stops_without_saving() {
+                RescoringJob job = job(false);
+                given(rescoringJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job(false, "server-2")));
+
+                assertThrows(IllegalStateException.class,
+                        () -> rescoringJobWorker.processChunk(job, List.of(unchangedTarget, changedTarget)));
+
+                verify(rescoringJdbcRepository, never()).updateScores(anyList());
+                assertEquals(0L, job.getProcessedCount());
+            }
+        }
+    }
+}
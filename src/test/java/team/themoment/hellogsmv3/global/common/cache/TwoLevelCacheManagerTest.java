@@ -0,0 +1,175 @@
+package team.themoment.hellogsmv3.global.common.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import team.themoment.hellogsmv3.global.common.cache.data.NearCacheEnvironment;
+
+@DisplayName("TwoLevelCacheManager 클래스의")
+public class TwoLevelCacheManagerTest {
+
+    private static final String CHANNEL = "cache:invalidation";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CacheManager redisCacheManager;
+    private Cache redisCache;
+    private StringRedisTemplate redisTemplate;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        redisCacheManager = mock(CacheManager.class);
+        redisCache = mock(Cache.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        given(redisCache.getName()).willReturn("oneseo");
+        given(redisCacheManager.getCache("oneseo")).willReturn(redisCache);
+
+        NearCacheEnvironment env = new NearCacheEnvironment(true, Set.of("oneseo"), 100, Duration.ofMinutes(1),
+                CHANNEL);
+        cacheManager = new TwoLevelCacheManager(redisCacheManager, env, redisTemplate, objectMapper,
+                new SimpleMeterRegistry());
+    }
+
+    private String sentMessage() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("getCache 메소드는")
+    class Describe_getCache {
+
+        @Nested
+        @DisplayName("서버 메모리 캐시를 사용하지 않는 캐시 이름이라면")
+        class Context_with_redis_only_cache {
+
+            @Test
+            @DisplayName("Redis 캐시를 그대로 반환한다.")
+            void it_returns_redis_cache() {
+                Cache otherCache = new ConcurrentMapCache("other");
+                given(redisCacheManager.getCache("other")).willReturn(otherCache);
+
+                assertSame(otherCache, cacheManager.getCache("other"));
+            }
+        }
+
+        @Nested
+        @DisplayName("서버 메모리에 값이 있다면")
+        class Context_with_local_entry {
+
+            @Test
+            @DisplayName("Redis를 조회하지 않고 값을 반환한다.")
+            void it_returns_local_entry() {
+                given(redisCache.get(1L)).willReturn(() -> "원서");
+                Cache cache = cacheManager.getCache("oneseo");
+
+                cache.get(1L);
+                Cache.ValueWrapper value = cache.get(1L);
+
+                assertEquals("원서", value.get());
+                verify(redisCache, times(1)).get(1L);
+            }
+        }
+
+        @Nested
+        @DisplayName("값을 지우면")
+        class Context_with_evict {
+
+            @Test
+            @DisplayName("Redis와 서버 메모리에서 지우고 무효화 메시지를 보낸다.")
+            void it_publishes_invalidation() throws Exception {
+                given(redisCache.get(1L)).willReturn(() -> "원서");
+                Cache cache = cacheManager.getCache("oneseo");
+                cache.get(1L);
+
+                cache.evict(1L);
+                cache.get(1L);
+
+                verify(redisCache).evict(1L);
+                verify(redisCache, times(2)).get(1L);
+                CacheInvalidationMessage message = objectMapper.readValue(sentMessage(),
+                        CacheInvalidationMessage.class);
+                assertEquals("oneseo", message.cacheName());
+                assertEquals("1", message.key());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("handleInvalidation 메소드는")
+    class Describe_handleInvalidation {
+
+        @Nested
+        @DisplayName("다른 서버가 보낸 메시지라면")
+        class Context_with_remote_message {
+
+            @Test
+            @DisplayName("서버 메모리의 값을 지워 다음 조회 때 Redis를 읽는다.")
+            void it_evicts_local_entry() throws Exception {
+                given(redisCache.get(1L)).willReturn(() -> "원서");
+                Cache cache = cacheManager.getCache("oneseo");
+                cache.get(1L);
+
+                cacheManager.handleInvalidation(
+                        objectMapper.writeValueAsString(new CacheInvalidationMessage("other-server", "oneseo", "1")));
+                cache.get(1L);
+
+                verify(redisCache, times(2)).get(1L);
+            }
+        }
+
+        @Nested
+        @DisplayName("자신이 보낸 메시지라면")
+        class Context_with_own_message {
+
+            @Test
+            @DisplayName("서버 메모리의 값을 유지한다.")
+            void it_ignores_message() {
+                Cache cache = cacheManager.getCache("oneseo");
+                cache.put(1L, "원서");
+
+                cacheManager.handleInvalidation(sentMessage());
+                cache.get(1L);
+
+                verify(redisCache, never()).get(1L);
+            }
+        }
+
+        @Nested
+        @DisplayName("메시지를 읽을 수 없다면")
+        class Context_with_invalid_message {
+
+            @Test
+            @DisplayName("예외 없이 무시한다.")
+            void it_ignores_message() {
+                cacheManager.getCache("oneseo");
+
+                assertDoesNotThrow(() -> cacheManager.handleInvalidation("not-json"));
+                verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package team.themoment.hellogsmv3.global.common.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import team.themoment.hellogsmv3.global.common.logging.data.HttpLoggingEnvironment;
+import team.themoment.hellogsmv3.global.common.logging.data.HttpLoggingEnvironment.Capture;
+
+@DisplayName("LoggingFilter 클래스의")
+public class LoggingFilterTest {
+
+    private static final int MAX_BODY_BYTES = 8;
+
+    private final AtomicReference<ServletResponse> passedResponse = new AtomicReference<>();
+
+    private LoggingFilter loggingFilter(HttpLoggingEnvironment.Route... routes) {
+        return new LoggingFilter(new HttpLoggingEnvironment(Capture.BODY, MAX_BODY_BYTES, 1.0, List.of(routes)));
+    }
+
+    private FilterChain writingChain(String contentType, byte[] body) {
+        return (request, response) -> {
+            passedResponse.set(response);
+            response.setContentType(contentType);
+            response.getOutputStream().write(body);
+        };
+    }
+
+    @Nested
+    @DisplayName("doFilter 메소드는")
+    class Describe_doFilter {
+
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Nested
+        @DisplayName("텍스트 응답의 바디를 기록하면")
+        class Context_with_text_body {
+
+            @Test
+            @DisplayName("응답 전체를 그대로 내보내고 앞부분만 복사한다.")
+            void it_streams_and_captures_prefix() throws Exception {
+                byte[] body = "{\"message\":\"long response body\"}".getBytes(StandardCharsets.UTF_8);
+
+                loggingFilter().doFilter(new MockHttpServletRequest("GET", "/member/v3/member/me"), response,
+                        writingChain("application/json", body));
+
+                CapturingResponseWrapper responseWrapper = (CapturingResponseWrapper) passedResponse.get();
+                assertArrayEquals(body, response.getContentAsByteArray());
+                assertEquals("{\"messag...[truncated, " + body.length + " bytes]",
+                        responseWrapper.getBodyCapture().toLogString());
+            }
+        }
+
+        @Nested
+        @DisplayName("텍스트가 아닌 응답이라면")
+        class Context_with_binary_body {
+
+            @Test
+            @DisplayName("바디를 복사하지 않는다.")
+            void it_skips_binary_body() throws Exception {
+                byte[] body = new byte[1024];
+
+                loggingFilter().doFilter(new MockHttpServletRequest("GET", "/oneseo/v3/excel"), response,
+                        writingChain("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", body));
+
+                CapturingResponseWrapper responseWrapper = (CapturingResponseWrapper) passedResponse.get();
+                assertEquals(body.length, response.getContentAsByteArray().length);
+                assertTrue(responseWrapper.isBinary());
+                assertEquals(0, responseWrapper.getBodyCapture().getTotalBytes());
+            }
+        }
+
+        @Nested
+        @DisplayName("헤더만 기록하는 경로라면")
+        class Context_with_headers_only_route {
+
+            @Test
+            @DisplayName("응답을 감싸지 않는다.")
+            void it_does_not_wrap_response() throws Exception {
+                loggingFilter(new HttpLoggingEnvironment.Route("GET", "/oneseo/v3/excel", Capture.HEADERS, null))
+                        .doFilter(new MockHttpServletRequest("GET", "/oneseo/v3/excel"), response,
+                                writingChain("text/plain", new byte[16]));
+
+                assertSame(response, passedResponse.get());
+            }
+        }
+
+        @Nested
+        @DisplayName("요청 바디를 기록하면")
+        class Context_with_request_body {
+
+            @Test
+            @DisplayName("애플리케이션이 읽은 바디의 앞부분을 공백 없이 복사한다.")
+            void it_captures_request_body() throws Exception {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", "/oneseo/v3/oneseo/me");
+                request.setContentType("application/json");
+                request.setContent("{ \"a\": 1 }".getBytes(StandardCharsets.UTF_8));
+                AtomicReference<CapturingRequestWrapper> passedRequest = new AtomicReference<>();
+
+                loggingFilter().doFilter(request, response, (req, res) -> {
+                    passedRequest.set((CapturingRequestWrapper) req);
+                    req.getInputStream().readAllBytes();
+                });
+
+                assertEquals("{\"a\":1...[truncated, 10 bytes]", passedRequest.get().getBodyCapture().toLogString());
+            }
+        }
+
+        @Nested
+        @DisplayName("여러 바이트 문자의 중간에서 바디가 잘렸다면")
+        class Context_with_multibyte_char_cut {
+
+            @Test
+            @DisplayName("깨진 문자 없이 완성된 문자까지만 남긴다.")
+            void it_drops_incomplete_char() throws Exception {
+                byte[] body = "{\"a\":\"한글\"}".getBytes(StandardCharsets.UTF_8);
+
+                loggingFilter().doFilter(new MockHttpServletRequest("GET", "/member/v3/member/me"), response,
+                        writingChain("application/json", body));
+
+                CapturingResponseWrapper responseWrapper = (CapturingResponseWrapper) passedResponse.get();
+                assertEquals("{\"a\":\"...[truncated, " + body.length + " bytes]",
+                        responseWrapper.getBodyCapture().toLogString());
+            }
+        }
+
+        @Nested
+        @DisplayName("비동기 처리를 시작한 요청이라면")
+        class Context_with_async_started {
+
+            private final ListAppender<ILoggingEvent> logAppender = new ListAppender<>();
+            private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingFilter.class);
+
+            @BeforeEach
+            void setUp() {
+                logAppender.start();
+                logger.addAppender(logAppender);
+            }
+
+            @AfterEach
+            void tearDown() {
+                logger.detachAppender(logAppender);
+            }
+
+            private List<String> responseLogs() {
+                return logAppender.list.stream().map(ILoggingEvent::getFormattedMessage)
+                        .filter(message -> message.contains("Status-Code")).toList();
+            }
+
+            @Test
+            @DisplayName("첫 디스패치가 끝난 뒤가 아니라 비동기 처리가 끝날 때 응답을 기록한다.")
+            void it_defers_logging_to_async_completion() throws Exception {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/oneseo/v3/applicant-data");
+                request.setAsyncSupported(true);
+
+                loggingFilter().doFilter(request, response, (req, res) -> {
+                    passedResponse.set(res);
+                    req.startAsync(req, res);
+                });
+
+                MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+                assertEquals(1, asyncContext.getListeners().size());
+                assertTrue(responseLogs().isEmpty());
+
+                // 비동기 스레드가 첫 디스패치 이후에 응답을 씀
+                ServletResponse asyncResponse = passedResponse.get();
+                asyncResponse.setContentType("text/plain");
+                asyncResponse.getOutputStream().write("done".getBytes(StandardCharsets.UTF_8));
+                asyncContext.complete();
+
+                List<String> responseLogs = responseLogs();
+                assertEquals(1, responseLogs.size());
+                assertTrue(responseLogs.get(0).contains("Response-Body: done"));
+            }
+        }
+    }
+}
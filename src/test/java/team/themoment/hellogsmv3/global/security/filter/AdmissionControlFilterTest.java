@@ -0,0 +1,196 @@
+package team.themoment.hellogsmv3.global.security.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import team.themoment.hellogsmv3.global.security.admission.AdmissionDecision;
+import team.themoment.hellogsmv3.global.security.admission.AdmissionQueue;
+import team.themoment.hellogsmv3.global.security.data.AdmissionControlEnvironment;
+
+@DisplayName("AdmissionControlFilter 클래스의")
+public class AdmissionControlFilterTest {
+
+    private static final String GROUP = "submission";
+    private static final String URI = "/oneseo/v3/oneseo/me";
+
+    private AdmissionQueue admissionQueue;
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControlFilter admissionControlFilter;
+
+    private final AdmissionDecision admitted = new AdmissionDecision(AdmissionDecision.Status.ADMITTED, 0, 0, 1, 1500);
+    private final AdmissionDecision waiting = new AdmissionDecision(AdmissionDecision.Status.WAITING, 3, 10, 50, 0);
+    private final AdmissionDecision rejected = new AdmissionDecision(AdmissionDecision.Status.REJECTED, 0, 5000, 50, 0);
+
+    @BeforeEach
+    void setUp() {
+        admissionQueue = mock(AdmissionQueue.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(admissionQueue.hasGroup(GROUP)).willReturn(true);
+
+        AdmissionControlEnvironment admissionControlEnv = new AdmissionControlEnvironment(true, Duration.ofSeconds(2),
+                null, null, Map.of(GROUP, new AdmissionControlEnvironment.Group(1, 10)));
+        admissionControlFilter = new AdmissionControlFilter(admissionQueue, admissionControlEnv, meterRegistry)
+                .addRoute(HttpMethod.POST, URI, GROUP);
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    @Nested
+    @DisplayName("doFilter 메소드는")
+    class Describe_doFilter {
+
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+        private final MockFilterChain filterChain = new MockFilterChain();
+
+        @Nested
+        @DisplayName("등록되지 않은 경로라면")
+        class Context_with_unregistered_route {
+
+            @Test
+            @DisplayName("대기열을 거치지 않고 요청을 처리한다.")
+            void it_passes_through() throws Exception {
+                admissionControlFilter.doFilter(request("GET", URI), response, filterChain);
+
+                assertNotNull(filterChain.getRequest());
+                verify(admissionQueue, never()).tryAcquire(anyString(), anyString(), anyString());
+            }
+        }
+
+        @Nested
+        @DisplayName("차례가 되었다면")
+        class Context_with_admitted {
+
+            @BeforeEach
+            void setUp() {
+                given(admissionQueue.tryAcquire(eq(GROUP), anyString(), anyString())).willReturn(admitted);
+            }
+
+            @Test
+            @DisplayName("요청을 처리한 뒤 자리를 반납한다.")
+            void it_processes_and_releases() throws Exception {
+                admissionControlFilter.doFilter(request("POST", URI), response, filterChain);
+
+                assertNotNull(filterChain.getRequest());
+                verify(admissionQueue).release(eq(GROUP), anyString());
+                assertEquals(1, meterRegistry.get("admission.acquire").tag("result", "admitted").timer().count());
+            }
+
+            @Test
+            @DisplayName("대기열에 들어간 뒤 처리를 시작하기까지 기다린 시간을 기록한다.")
+            void it_records_queue_wait_time() throws Exception {
+                admissionControlFilter.doFilter(request("POST", URI), response, filterChain);
+
+                Timer waitTimer = meterRegistry.get("admission.wait").tag("group", GROUP).timer();
+                assertEquals(1, waitTimer.count());
+                assertEquals(1500.0, waitTimer.totalTime(TimeUnit.MILLISECONDS));
+            }
+
+            @Test
+            @DisplayName("대기표가 아닌 서버가 만든 ID로 자리를 차지하고 반납한다.")
+            void it_leases_with_server_generated_id() throws Exception {
+                MockHttpServletRequest request = request("POST", URI);
+                request.addHeader(AdmissionControlFilter.TICKET_HEADER, "ticket-1");
+
+                admissionControlFilter.doFilter(request, response, filterChain);
+
+                ArgumentCaptor<String> leaseId = ArgumentCaptor.forClass(String.class);
+                verify(admissionQueue).tryAcquire(eq(GROUP), eq("ticket-1"), leaseId.capture());
+                assertNotEquals("ticket-1", leaseId.getValue());
+                verify(admissionQueue).release(GROUP, leaseId.getValue());
+            }
+        }
+
+        @Nested
+        @DisplayName("차례가 아니라면")
+        class Context_with_waiting {
+
+            @BeforeEach
+            void setUp() {
+                given(admissionQueue.tryAcquire(eq(GROUP), anyString(), anyString())).willReturn(waiting);
+            }
+
+            @Test
+            @DisplayName("기다리지 않고 바로 대기표와 순번을 담아 503을 응답한다.")
+            void it_returns_position() throws Exception {
+                MockHttpServletRequest request = request("POST", URI);
+                request.addHeader(AdmissionControlFilter.TICKET_HEADER, "ticket-1");
+
+                admissionControlFilter.doFilter(request, response, filterChain);
+
+                assertNull(filterChain.getRequest());
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+                assertEquals("ticket-1", response.getHeader(AdmissionControlFilter.TICKET_HEADER));
+                assertEquals("3", response.getHeader(AdmissionControlFilter.POSITION_HEADER));
+                assertEquals(10, meterRegistry.get("admission.queue.depth").tag("group", GROUP).gauge().value());
+                assertNull(meterRegistry.find("admission.wait").timer());
+                verify(admissionQueue, times(1)).tryAcquire(eq(GROUP), eq("ticket-1"), anyString());
+                verify(admissionQueue, never()).release(anyString(), anyString());
+            }
+        }
+
+        @Nested
+        @DisplayName("대기 인원이 가득 찼다면")
+        class Context_with_full_queue {
+
+            @BeforeEach
+            void setUp() {
+                given(admissionQueue.tryAcquire(eq(GROUP), anyString(), anyString())).willReturn(rejected);
+            }
+
+            @Test
+            @DisplayName("대기표 없이 503을 응답한다.")
+            void it_rejects() throws Exception {
+                admissionControlFilter.doFilter(request("POST", URI), response, filterChain);
+
+                assertNull(filterChain.getRequest());
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+                assertNull(response.getHeader(AdmissionControlFilter.TICKET_HEADER));
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis에 접근할 수 없다면")
+        class Context_with_redis_failure {
+
+            @BeforeEach
+            void setUp() {
+                given(admissionQueue.tryAcquire(any(), any(), any())).willThrow(new QueryTimeoutException("timeout"));
+            }
+
+            @Test
+            @DisplayName("요청을 막지 않고 그대로 처리한다.")
+            void it_fails_open() throws Exception {
+                admissionControlFilter.doFilter(request("POST", URI), response, filterChain);
+
+                assertNotNull(filterChain.getRequest());
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package team.themoment.hellogsmv3.global.security.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.sun.management.ThreadMXBean;
+
+@DisplayName("RouteTable 클래스의")
+public class RouteTableTest {
+
+    private RouteTable<String> routeTable;
+
+    @BeforeEach
+    void setUp() {
+        routeTable = new RouteTable<String>().add(HttpMethod.POST, "/oneseo/v3/temp-storage", "submission")
+                .add(HttpMethod.POST, "/oneseo/v3/oneseo/me", "submission")
+                .add(HttpMethod.PUT, "/oneseo/v3/oneseo/{memberId}", "modification")
+                .add(HttpMethod.POST, "/oneseo/v3/excel", "excel");
+    }
+
+    @Nested
+    @DisplayName("match 메소드는")
+    class Describe_match {
+
+        @Nested
+        @DisplayName("고정된 경로가 일치하면")
+        class Context_with_literal_route {
+
+            @Test
+            @DisplayName("등록한 값을 반환한다.")
+            void it_returns_value() {
+                assertEquals("submission", routeTable.match("POST", "/oneseo/v3/oneseo/me"));
+                assertEquals("excel", routeTable.match("POST", "/oneseo/v3/excel"));
+            }
+        }
+
+        @Nested
+        @DisplayName("변수가 있는 경로가 일치하면")
+        class Context_with_templated_route {
+
+            @Test
+            @DisplayName("등록한 값을 반환한다.")
+            void it_returns_value() {
+                assertEquals("modification", routeTable.match("PUT", "/oneseo/v3/oneseo/42"));
+            }
+
+            @Test
+            @DisplayName("경로 구간 수가 다르면 null을 반환한다.")
+            void it_returns_null_for_other_depth() {
+                assertNull(routeTable.match("PUT", "/oneseo/v3/oneseo/42/extra"));
+                assertNull(routeTable.match("PUT", "/oneseo/v3/oneseo/"));
+            }
+        }
+
+        @Nested
+        @DisplayName("메서드나 경로가 다르면")
+        class Context_with_unregistered_route {
+
+            @Test
+            @DisplayName("null을 반환한다.")
+            void it_returns_null() {
+                assertNull(routeTable.match("GET", "/oneseo/v3/oneseo/me"));
+                assertNull(routeTable.match("POST", "/oneseo/v3/oneseo/you"));
+            }
+        }
+
+        @Nested
+        @DisplayName("요청 경로를 인코딩하거나 경로 변수를 붙여 보내면")
+        class Context_with_encoded_request_uri {
+
+            @Test
+            @DisplayName("MVC가 핸들러를 찾는 경로로 비교하여 등록한 값을 반환한다.")
+            void it_matches_lookup_path() {
+                assertEquals("submission",
+                        routeTable.match(new MockHttpServletRequest("POST", "/oneseo/v3/temp%2Dstorage")));
+                assertEquals("submission",
+                        routeTable.match(new MockHttpServletRequest("POST", "/oneseo/v3/temp-storage;x=1")));
+                assertEquals("modification",
+                        routeTable.match(new MockHttpServletRequest("PUT", "/oneseo/v3/oneseo;x=1/4%32")));
+            }
+
+            @Test
+            @DisplayName("컨텍스트 경로를 제외하고 비교한다.")
+            void it_strips_context_path() {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/oneseo/v3/excel");
+                request.setContextPath("/api");
+
+                assertEquals("excel", routeTable.match(request));
+            }
+        }
+
+        @Nested
+        @DisplayName("고정된 경로나 일치하지 않는 경로를 반복해서 비교하면")
+        class Context_with_hot_path {
+
+            private static final int WARM_UP_ITERATIONS = 200_000;
+            private static final int ITERATIONS = 1_000_000;
+
+            private final String[][] requests = {{"POST", "/oneseo/v3/oneseo/me"}, {"POST", "/oneseo/v3/excel"},
+                    {"GET", "/member/v3/member/me"}, {"PUT", "/member/v3/member/me"},
+                    {"POST", "/oneseo/v3/oneseo/calculate-mock-score"}};
+
+            // ThreadMXBean으로 반복 비교 전후 현재 스레드의 할당량을 비교하는 간단한 마이크로벤치마크
+            @Test
+            @DisplayName("객체를 새로 만들지 않는다.")
+            void it_does_not_allocate() {
+                ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+                int matched = run(WARM_UP_ITERATIONS);
+
+                long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+                long startNanos = System.nanoTime();
+                matched += run(ITERATIONS);
+                long elapsedNanos = System.nanoTime() - startNanos;
+                long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+                assertTrue(matched > 0);
+                assertTrue(allocated < ITERATIONS, String.format("요청당 %.3f bytes 할당, 요청당 %.1f ns",
+                        (double) allocated / ITERATIONS, (double) elapsedNanos / ITERATIONS));
+            }
+
+            private int run(int iterations) {
+                int matched = 0;
+                for (int i = 0; i < iterations; i++) {
+                    String[] request = requests[i % requests.length];
+                    if (routeTable.match(request[0], request[1]) != null) {
+                        matched++;
+                    }
+                }
+                return matched;
+            }
+        }
+    }
+}
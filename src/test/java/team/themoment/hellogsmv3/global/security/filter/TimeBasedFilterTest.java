@@ -0,0 +1,148 @@
+package team.themoment.hellogsmv3.global.security.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import team.themoment.hellogsmv3.global.security.data.ScheduleEnvironment;
+import team.themoment.hellogsmv3.global.security.schedule.ScheduleWindowRegistry;
+
+@DisplayName("TimeBasedFilter 클래스의")
+public class TimeBasedFilterTest {
+
+    private static final String MODIFY_URI = "/oneseo/v3/oneseo/{memberId}";
+
+    private HashOperations<String, String, String> hashOperations;
+    private ScheduleWindowRegistry scheduleWindowRegistry;
+    private TimeBasedFilter timeBasedFilter;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final MockFilterChain filterChain = new MockFilterChain();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("schedule-window")).willReturn(Map.of());
+
+        LocalDateTime now = LocalDateTime.now();
+        ScheduleEnvironment scheduleEnv = new ScheduleEnvironment(now.minusDays(1), now.plusDays(1), null, null,
+                now.plusDays(10), now.plusDays(20));
+        scheduleWindowRegistry = new ScheduleWindowRegistry(redisTemplate, scheduleEnv);
+        timeBasedFilter = new TimeBasedFilter(scheduleWindowRegistry)
+                .addFilter(HttpMethod.PUT, MODIFY_URI, ScheduleWindowRegistry.ONESEO_SUBMISSION)
+                .addFilter(HttpMethod.POST, "/oneseo/v3/excel", ScheduleWindowRegistry.EXCEL_UPLOAD);
+    }
+
+    @Nested
+    @DisplayName("doFilter 메소드는")
+    class Describe_doFilter {
+
+        @Nested
+        @DisplayName("변수가 있는 경로가 허용 기간 밖이라면")
+        class Context_with_templated_route_out_of_range {
+
+            @BeforeEach
+            void setUp() {
+                LocalDateTime now = LocalDateTime.now();
+                given(hashOperations.entries("schedule-window")).willReturn(Map.of(
+                        ScheduleWindowRegistry.ONESEO_SUBMISSION, now.minusDays(3) + "|" + now.minusDays(2)));
+                scheduleWindowRegistry.reload();
+            }
+
+            @Test
+            @DisplayName("요청을 거부한다.")
+            void it_rejects() throws Exception {
+                timeBasedFilter.doFilter(new MockHttpServletRequest("PUT", "/oneseo/v3/oneseo/42"), response,
+                        filterChain);
+
+                assertNull(filterChain.getRequest());
+                assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatus());
+            }
+
+            @Test
+            @DisplayName("경로를 인코딩하거나 경로 변수를 붙여도 요청을 거부한다.")
+            void it_rejects_encoded_uri() throws Exception {
+                timeBasedFilter.doFilter(new MockHttpServletRequest("PUT", "/oneseo/v3/oneseo;x=1/4%32"), response,
+                        filterChain);
+
+                assertNull(filterChain.getRequest());
+                assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatus());
+            }
+        }
+
+        @Nested
+        @DisplayName("변수가 있는 경로가 허용 기간 안이라면")
+        class Context_with_templated_route_in_range {
+
+            @Test
+            @DisplayName("요청을 처리한다.")
+            void it_passes() throws Exception {
+                timeBasedFilter.doFilter(new MockHttpServletRequest("PUT", "/oneseo/v3/oneseo/42"), response,
+                        filterChain);
+
+                assertNotNull(filterChain.getRequest());
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis에 저장된 기간이 바뀌면")
+        class Context_with_reloaded_window {
+
+            @BeforeEach
+            void setUp() {
+                LocalDateTime now = LocalDateTime.now();
+                given(hashOperations.entries("schedule-window")).willReturn(
+                        Map.of(ScheduleWindowRegistry.EXCEL_UPLOAD, now.minusHours(1) + "|" + now.plusHours(1)));
+                scheduleWindowRegistry.reload();
+            }
+
+            @Test
+            @DisplayName("재시작 없이 바뀐 기간을 적용한다.")
+            void it_applies_reloaded_window() throws Exception {
+                timeBasedFilter.doFilter(new MockHttpServletRequest("POST", "/oneseo/v3/excel"), response,
+                        filterChain);
+
+                assertNotNull(filterChain.getRequest());
+            }
+        }
+
+        @Nested
+        @DisplayName("Redis에 저장된 기간의 형식이 올바르지 않으면")
+        class Context_with_invalid_window {
+
+            @BeforeEach
+            void setUp() {
+                given(hashOperations.entries("schedule-window"))
+                        .willReturn(Map.of(ScheduleWindowRegistry.EXCEL_UPLOAD, "invalid"));
+                scheduleWindowRegistry.reload();
+            }
+
+            @Test
+            @DisplayName("설정 파일의 기간을 그대로 사용한다.")
+            void it_keeps_default_window() throws Exception {
+                timeBasedFilter.doFilter(new MockHttpServletRequest("POST", "/oneseo/v3/excel"), response,
+                        filterChain);
+
+                assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatus());
+            }
+        }
+    }
+}